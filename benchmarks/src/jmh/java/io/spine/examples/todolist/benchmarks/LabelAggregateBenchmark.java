@@ -0,0 +1,86 @@
+/*
+ * Copyright 2021, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.todolist.benchmarks;
+
+import io.spine.examples.todolist.tasks.LabelColor;
+import io.spine.examples.todolist.tasks.LabelDetails;
+import io.spine.examples.todolist.tasks.LabelId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import static io.spine.examples.todolist.tasks.LabelColor.BLUE;
+import static io.spine.examples.todolist.tasks.LabelColor.GRAY;
+import static io.spine.examples.todolist.tasks.LabelColor.GREEN;
+import static io.spine.examples.todolist.testdata.TestLabelCommandFactory.LABEL_TITLE;
+import static io.spine.examples.todolist.testdata.TestLabelCommandFactory.createLabelInstance;
+import static io.spine.examples.todolist.testdata.TestLabelCommandFactory.updateLabelDetailsInstance;
+
+/**
+ * Measures the command handlers of the {@code LabelAggregate}.
+ */
+public class LabelAggregateBenchmark {
+
+    @Benchmark
+    public void createBasicLabel(TasksContextState context) {
+        context.post(createLabelInstance(LabelId.generate()));
+    }
+
+    @Benchmark
+    public void updateLabelDetails(ExistingLabel label) {
+        LabelColor newColor = label.details.getColor() == GREEN ? BLUE : GREEN;
+        LabelDetails newDetails = label.details
+                .toBuilder()
+                .setColor(newColor)
+                .vBuild();
+        label.post(updateLabelDetailsInstance(label.labelId, label.details, newDetails));
+        label.details = newDetails;
+    }
+
+    /**
+     * A context with a single basic label.
+     */
+    @State(Scope.Thread)
+    public static class ExistingLabel extends TasksContextState {
+
+        LabelId labelId;
+        LabelDetails details;
+
+        @Setup(Level.Trial)
+        public void createLabel() {
+            labelId = LabelId.generate();
+            details = LabelDetails
+                    .newBuilder()
+                    .setTitle(LABEL_TITLE)
+                    .setColor(GRAY)
+                    .vBuild();
+            post(createLabelInstance(labelId));
+        }
+    }
+}
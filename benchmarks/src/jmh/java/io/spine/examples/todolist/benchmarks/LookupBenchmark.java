@@ -0,0 +1,143 @@
+/*
+ * Copyright 2021, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.todolist.benchmarks;
+
+import com.google.common.collect.ImmutableList;
+import io.spine.base.Environment;
+import io.spine.examples.todolist.client.TodoClient;
+import io.spine.examples.todolist.server.Server;
+import io.spine.examples.todolist.server.tasks.TasksContextFactory;
+import io.spine.examples.todolist.tasks.LabelId;
+import io.spine.examples.todolist.tasks.command.CreateBasicLabel;
+import io.spine.examples.todolist.tasks.view.LabelView;
+import io.spine.server.BoundedContext;
+import io.spine.server.ServerEnvironment;
+import io.spine.server.storage.memory.InMemoryStorageFactory;
+import io.spine.server.transport.memory.InMemoryTransportFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.Map;
+
+import static com.google.common.collect.ImmutableList.toImmutableList;
+import static io.spine.examples.todolist.client.TodoClient.HOST;
+import static io.spine.examples.todolist.server.Server.newServer;
+import static io.spine.examples.todolist.testdata.TestLabelCommandFactory.createLabelInstance;
+import static io.spine.util.Exceptions.illegalStateWithCauseOf;
+import static java.util.stream.IntStream.range;
+
+/**
+ * Compares reading the views of {@code labelCount} labels one by one and in a single request.
+ *
+ * <p>This is what rendering a task with many labels takes: {@code perIdLookups} makes a query
+ * call per label, and {@code batchLookup} makes one query call for all of them.
+ */
+public class LookupBenchmark {
+
+    @Benchmark
+    public void perIdLookups(Labels labels, Blackhole blackhole) {
+        for (LabelId id : labels.ids) {
+            blackhole.consume(labels.client.labelView(id));
+        }
+    }
+
+    @Benchmark
+    public Map<LabelId, LabelView> batchLookup(Labels labels) {
+        return labels.client.labelViews(labels.ids);
+    }
+
+    /**
+     * A server running the Tasks context with {@code labelCount} labels, and a client connected
+     * to it.
+     */
+    @State(Scope.Benchmark)
+    public static class Labels {
+
+        private static final int PORT = 50_152;
+
+        /**
+         * The time given to the server to bind the port.
+         */
+        private static final long START_DELAY_MILLIS = 1_000;
+
+        static {
+            ServerEnvironment
+                    .when(Environment.instance()
+                                     .type())
+                    .use(InMemoryStorageFactory.newInstance())
+                    .use(InMemoryTransportFactory.newInstance());
+        }
+
+        @Param({"1", "20", "100"})
+        public int labelCount;
+
+        private BoundedContext context;
+        private Server server;
+        private TodoClient client;
+        private ImmutableList<LabelId> ids;
+
+        @Setup(Level.Trial)
+        public void start() throws InterruptedException {
+            context = TasksContextFactory.create();
+            server = newServer(PORT, context);
+            Thread serverThread = new Thread(() -> {
+                try {
+                    server.start();
+                } catch (IOException e) {
+                    throw illegalStateWithCauseOf(e);
+                }
+            });
+            serverThread.setDaemon(true);
+            serverThread.start();
+            Thread.sleep(START_DELAY_MILLIS);
+
+            client = TodoClient.instance(HOST, PORT);
+            ImmutableList<CreateBasicLabel> commands =
+                    range(0, labelCount)
+                            .mapToObj(i -> createLabelInstance(LabelId.generate()))
+                            .collect(toImmutableList());
+            client.postCommands(commands);
+            ids = commands.stream()
+                          .map(CreateBasicLabel::getLabelId)
+                          .collect(toImmutableList());
+        }
+
+        @TearDown(Level.Trial)
+        public void stop() throws Exception {
+            client.shutdown();
+            server.shutdownNowAndWait();
+            context.close();
+        }
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2021, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.todolist.benchmarks;
+
+import io.spine.examples.todolist.tasks.LabelId;
+import io.spine.examples.todolist.tasks.TaskId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import static io.spine.examples.todolist.testdata.TestLabelCommandFactory.createLabelInstance;
+import static io.spine.examples.todolist.testdata.TestTaskCommandFactory.createTaskInstance;
+import static io.spine.examples.todolist.testdata.TestTaskLabelsCommandFactory.assignLabelToTaskInstance;
+import static io.spine.examples.todolist.testdata.TestTaskLabelsCommandFactory.removeLabelFromTaskInstance;
+
+/**
+ * Measures assigning and removing a label of a task which already has many labels.
+ *
+ * <p>Each invocation assigns one more label to the task and removes it, so the task keeps
+ * {@code labelCount} labels between the invocations. The label membership checks and
+ * the changes of the label list of both the {@code TaskLabelsPart} and the task view
+ * should not grow with {@code labelCount}.
+ */
+public class ManyLabelsBenchmark {
+
+    @Benchmark
+    public void assignAndRemoveLabel(ManyLabelsTask task) {
+        task.post(assignLabelToTaskInstance(task.taskId, task.extraLabel));
+        task.post(removeLabelFromTaskInstance(task.taskId, task.extraLabel));
+    }
+
+    /**
+     * A context with a single task that has {@code labelCount} labels assigned.
+     */
+    @State(Scope.Thread)
+    public static class ManyLabelsTask extends TasksContextState {
+
+        @Param({"10", "100", "500"})
+        public int labelCount;
+
+        private TaskId taskId;
+        private LabelId extraLabel;
+
+        @Setup(Level.Trial)
+        public void assignLabels() {
+            taskId = TaskId.generate();
+            post(createTaskInstance(taskId));
+            for (int i = 0; i < labelCount; i++) {
+                LabelId labelId = LabelId.generate();
+                post(createLabelInstance(labelId));
+                post(assignLabelToTaskInstance(taskId, labelId));
+            }
+            extraLabel = LabelId.generate();
+            post(createLabelInstance(extraLabel));
+        }
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2021, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.todolist.benchmarks;
+
+import io.spine.examples.todolist.server.tasks.TasksContextConfig;
+import io.spine.examples.todolist.tasks.TaskId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import static io.spine.examples.todolist.testdata.TestTaskCommandFactory.completeTaskInstance;
+import static io.spine.examples.todolist.testdata.TestTaskCommandFactory.createTaskInstance;
+import static io.spine.examples.todolist.testdata.TestTaskCommandFactory.updateTaskPriorityInstance;
+
+/**
+ * Measures the throughput of the rejected commands with and without the stack traces of
+ * the rejections.
+ *
+ * <p>Every measured command is sent to a completed task and thus is rejected, the same way
+ * the retried stale commands of a misbehaving client are.
+ */
+public class RejectionBenchmark {
+
+    @Benchmark
+    public void completeCompletedTask(CompletedTask task) {
+        task.post(completeTaskInstance(task.taskId));
+    }
+
+    @Benchmark
+    public void updatePriorityOfCompletedTask(CompletedTask task) {
+        task.post(updateTaskPriorityInstance(task.taskId));
+    }
+
+    /**
+     * A context with a single completed task.
+     */
+    @State(Scope.Thread)
+    public static class CompletedTask extends TasksContextState {
+
+        @Param({"false", "true"})
+        public boolean lightweightRejections;
+
+        private TaskId taskId;
+
+        @Override
+        protected TasksContextConfig config() {
+            return TasksContextConfig
+                    .newBuilder()
+                    .setLightweightRejections(lightweightRejections)
+                    .build();
+        }
+
+        @Setup(Level.Trial)
+        public void completeTask() {
+            taskId = TaskId.generate();
+            post(createTaskInstance(taskId));
+            post(completeTaskInstance(taskId));
+        }
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2021, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.todolist.benchmarks;
+
+import io.spine.base.Environment;
+import io.spine.examples.todolist.client.TodoClient;
+import io.spine.examples.todolist.server.Server;
+import io.spine.examples.todolist.server.ServerConfig;
+import io.spine.examples.todolist.server.ServerConfig.RequestExecutor;
+import io.spine.examples.todolist.server.tasks.TasksContextFactory;
+import io.spine.examples.todolist.tasks.TaskId;
+import io.spine.examples.todolist.tasks.view.TaskView;
+import io.spine.server.BoundedContext;
+import io.spine.server.ServerEnvironment;
+import io.spine.server.storage.memory.InMemoryStorageFactory;
+import io.spine.server.transport.memory.InMemoryTransportFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.io.IOException;
+import java.util.Optional;
+
+import static io.spine.examples.todolist.client.TodoClient.HOST;
+import static io.spine.examples.todolist.server.Server.newServer;
+import static io.spine.examples.todolist.testdata.TestTaskCommandFactory.createTaskInstance;
+import static io.spine.util.Exceptions.illegalStateWithCauseOf;
+
+/**
+ * Measures the gRPC server under the command and query mix of the {@code TodoClient} for
+ * each {@linkplain RequestExecutor executor of the calls}.
+ *
+ * <p>Each invocation creates a task and reads its view back, so every operation makes
+ * a command call and a query call over the loopback network. Several client threads call
+ * the server concurrently, each through its own connection.
+ *
+ * <p>The {@code VIRTUAL} executor requires running the benchmarks on Java 21 or newer.
+ */
+@Threads(8)
+public class ServerBenchmark {
+
+    @Benchmark
+    public Optional<TaskView> createAndReadTask(ClientConnection connection) {
+        TaskId taskId = TaskId.generate();
+        connection.client.postCommand(createTaskInstance(taskId));
+        return connection.client.taskView(taskId);
+    }
+
+    /**
+     * A server running the Tasks context with the given executor of the calls.
+     */
+    @State(Scope.Benchmark)
+    public static class RunningServer {
+
+        private static final int PORT = 50_151;
+
+        /**
+         * The time given to the server to bind the port.
+         */
+        private static final long START_DELAY_MILLIS = 1_000;
+
+        static {
+            ServerEnvironment
+                    .when(Environment.instance()
+                                     .type())
+                    .use(InMemoryStorageFactory.newInstance())
+                    .use(InMemoryTransportFactory.newInstance());
+        }
+
+        @Param({"CACHED", "BOUNDED", "VIRTUAL"})
+        public RequestExecutor executor;
+
+        private BoundedContext context;
+        private Server server;
+
+        @Setup(Level.Trial)
+        public void start() throws InterruptedException {
+            context = TasksContextFactory.create();
+            ServerConfig config = ServerConfig
+                    .newBuilder()
+                    .setRequestExecutor(executor)
+                    .build();
+            server = newServer(PORT, context, config);
+            Thread serverThread = new Thread(() -> {
+                try {
+                    server.start();
+                } catch (IOException e) {
+                    throw illegalStateWithCauseOf(e);
+                }
+            });
+            serverThread.setDaemon(true);
+            serverThread.start();
+            Thread.sleep(START_DELAY_MILLIS);
+        }
+
+        @TearDown(Level.Trial)
+        public void stop() throws Exception {
+            server.shutdownNowAndWait();
+            context.close();
+        }
+    }
+
+    /**
+     * A client connected to the running server.
+     */
+    @State(Scope.Thread)
+    public static class ClientConnection {
+
+        private TodoClient client;
+
+        @Setup(Level.Trial)
+        public void connect(@SuppressWarnings("unused") RunningServer server) {
+            client = TodoClient.instance(HOST, RunningServer.PORT);
+        }
+
+        @TearDown(Level.Trial)
+        public void disconnect() {
+            client.shutdown();
+        }
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2021, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.todolist.benchmarks;
+
+import io.spine.examples.todolist.server.tasks.TasksContextConfig;
+import io.spine.examples.todolist.tasks.TaskId;
+import io.spine.examples.todolist.tasks.TaskPriority;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import static io.spine.examples.todolist.tasks.TaskPriority.HIGH;
+import static io.spine.examples.todolist.tasks.TaskPriority.LOW;
+import static io.spine.examples.todolist.tasks.TaskPriority.NORMAL;
+import static io.spine.examples.todolist.testdata.TestTaskCommandFactory.createTaskInstance;
+import static io.spine.examples.todolist.testdata.TestTaskCommandFactory.updateTaskPriorityInstance;
+
+/**
+ * Measures the cost of loading a long-lived task depending on the snapshot trigger.
+ *
+ * <p>Each measured command is handled by a task which already has {@code historySize} events.
+ * Before handling the command, the aggregate part is restored from the last snapshot and
+ * the events stored after it. Compare the results across the {@code snapshotTrigger} values
+ * to choose the trigger for a particular deployment.
+ */
+public class SnapshotBenchmark {
+
+    @Benchmark
+    public void updateLongLivedTask(LongLivedTask task) {
+        task.togglePriority();
+    }
+
+    /**
+     * A context with a single task that has a long history of priority changes.
+     */
+    @State(Scope.Thread)
+    public static class LongLivedTask extends TasksContextState {
+
+        @Param({"10", "100", "1000"})
+        public int historySize;
+
+        @Param({"10", "100", "1000"})
+        public int snapshotTrigger;
+
+        private TaskId taskId;
+        private TaskPriority priority;
+
+        @Override
+        protected TasksContextConfig config() {
+            return TasksContextConfig
+                    .newBuilder()
+                    .setSnapshotTrigger(snapshotTrigger)
+                    .build();
+        }
+
+        @Setup(Level.Trial)
+        public void createHistory() {
+            taskId = TaskId.generate();
+            priority = NORMAL;
+            post(createTaskInstance(taskId));
+            for (int i = 0; i < historySize; i++) {
+                togglePriority();
+            }
+        }
+
+        void togglePriority() {
+            TaskPriority newPriority = priority == HIGH ? LOW : HIGH;
+            post(updateTaskPriorityInstance(taskId, priority, newPriority));
+            priority = newPriority;
+        }
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2021, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.todolist.benchmarks;
+
+import io.spine.examples.todolist.tasks.LabelColor;
+import io.spine.examples.todolist.tasks.LabelId;
+import io.spine.examples.todolist.tasks.LabelIdsList;
+import io.spine.examples.todolist.tasks.TaskDescription;
+import io.spine.examples.todolist.tasks.TaskId;
+import io.spine.examples.todolist.tasks.subscription.TaskViewDelta;
+import io.spine.examples.todolist.tasks.view.LabelView;
+import io.spine.examples.todolist.tasks.view.TaskView;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static io.spine.examples.todolist.server.subscription.TaskViewDiff.diff;
+
+/**
+ * Measures the bytes sent to a subscriber of the task views for a burst of edits of a task.
+ *
+ * <p>Each invocation sends the states of a task view edited {@code edits} times in a row:
+ * <ul>
+ *     <li>{@code fullStates} — the whole state after each edit, as the {@code SubscriptionService}
+ *         does;
+ *     <li>{@code perEditDeltas} — the changed fields after each edit, as
+ *         the {@code TaskViewSubscriptionService} does with no coalescing window;
+ *     <li>{@code coalescedDelta} — a single delta of the fields changed by the whole burst,
+ *         as the {@code TaskViewSubscriptionService} does when the burst fits the window.
+ * </ul>
+ *
+ * <p>The {@code bytesPerBurst} counter shows the number of the serialized bytes sent per burst.
+ */
+public class SubscriptionBenchmark {
+
+    @Benchmark
+    public void fullStates(EditBurst burst, SentBytes sent) {
+        long bytes = 0;
+        for (TaskView state : burst.states.subList(1, burst.states.size())) {
+            bytes += state.getSerializedSize();
+        }
+        sent.bytesPerBurst = bytes;
+    }
+
+    @Benchmark
+    public void perEditDeltas(EditBurst burst, SentBytes sent) {
+        long bytes = 0;
+        for (int i = 1; i < burst.states.size(); i++) {
+            bytes += diff(burst.states.get(i - 1), burst.states.get(i))
+                    .map(TaskViewDelta::getSerializedSize)
+                    .orElse(0);
+        }
+        sent.bytesPerBurst = bytes;
+    }
+
+    @Benchmark
+    public void coalescedDelta(EditBurst burst, SentBytes sent) {
+        TaskView first = burst.states.get(0);
+        TaskView last = burst.states.get(burst.states.size() - 1);
+        sent.bytesPerBurst = diff(first, last)
+                .map(TaskViewDelta::getSerializedSize)
+                .orElse(0);
+    }
+
+    /**
+     * The states of a task view with {@code labelCount} labels, starting with the state known
+     * to the subscriber and followed by the state after each of {@code edits} edits of
+     * the task description.
+     */
+    @State(Scope.Thread)
+    public static class EditBurst {
+
+        @Param({"1", "10", "100"})
+        public int edits;
+
+        @Param({"0", "50"})
+        public int labelCount;
+
+        private List<TaskView> states;
+
+        @Setup(Level.Trial)
+        public void edit() {
+            TaskView.Builder view = TaskView
+                    .newBuilder()
+                    .setId(TaskId.generate())
+                    .setDescription(description(0));
+            LabelIdsList.Builder labelIds = view.getLabelIdsListBuilder();
+            for (int i = 0; i < labelCount; i++) {
+                LabelId labelId = LabelId.generate();
+                labelIds.addIds(labelId);
+                view.addLabel(LabelView.newBuilder()
+                                       .setId(labelId)
+                                       .setTitle("Label #" + i)
+                                       .setColor(LabelColor.BLUE));
+            }
+            states = new ArrayList<>(edits + 1);
+            states.add(view.build());
+            for (int i = 1; i <= edits; i++) {
+                states.add(view.setDescription(description(i))
+                               .build());
+            }
+        }
+
+        private static TaskDescription description(int edit) {
+            return TaskDescription
+                    .newBuilder()
+                    .setValue("Task description, edit #" + edit)
+                    .build();
+        }
+    }
+
+    /**
+     * The bytes sent per burst of edits.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class SentBytes {
+
+        public long bytesPerBurst;
+    }
+}
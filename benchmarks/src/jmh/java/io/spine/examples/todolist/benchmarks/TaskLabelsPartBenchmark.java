@@ -0,0 +1,107 @@
+/*
+ * Copyright 2021, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.todolist.benchmarks;
+
+import io.spine.examples.todolist.tasks.LabelId;
+import io.spine.examples.todolist.tasks.TaskId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import static io.spine.examples.todolist.testdata.TestLabelCommandFactory.createLabelInstance;
+import static io.spine.examples.todolist.testdata.TestTaskCommandFactory.createTaskInstance;
+import static io.spine.examples.todolist.testdata.TestTaskLabelsCommandFactory.assignLabelToTaskInstance;
+import static io.spine.examples.todolist.testdata.TestTaskLabelsCommandFactory.removeLabelFromTaskInstance;
+
+/**
+ * Measures the command handlers of the {@code TaskLabelsPart} aggregate part.
+ */
+public class TaskLabelsPartBenchmark {
+
+    @Benchmark
+    public void assignLabelToTask(UnlabelledTask task) {
+        task.post(assignLabelToTaskInstance(task.taskId, task.labelId));
+        task.assigned = true;
+    }
+
+    @Benchmark
+    public void removeLabelFromTask(LabelledTask task) {
+        task.post(removeLabelFromTaskInstance(task.taskId, task.labelId));
+        task.assigned = false;
+    }
+
+    /**
+     * A context with a single task and a single label.
+     */
+    @State(Scope.Thread)
+    public static class TaskAndLabel extends TasksContextState {
+
+        TaskId taskId;
+        LabelId labelId;
+        boolean assigned;
+
+        @Setup(Level.Trial)
+        public void createTaskAndLabel() {
+            taskId = TaskId.generate();
+            labelId = LabelId.generate();
+            post(createTaskInstance(taskId));
+            post(createLabelInstance(labelId));
+        }
+    }
+
+    /**
+     * A task which does not have the label assigned before each invocation.
+     */
+    @State(Scope.Thread)
+    public static class UnlabelledTask extends TaskAndLabel {
+
+        @Setup(Level.Invocation)
+        public void removeLabel() {
+            if (assigned) {
+                post(removeLabelFromTaskInstance(taskId, labelId));
+                assigned = false;
+            }
+        }
+    }
+
+    /**
+     * A task which has the label assigned before each invocation.
+     */
+    @State(Scope.Thread)
+    public static class LabelledTask extends TaskAndLabel {
+
+        @Setup(Level.Invocation)
+        public void assignLabel() {
+            if (!assigned) {
+                post(assignLabelToTaskInstance(taskId, labelId));
+                assigned = true;
+            }
+        }
+    }
+}
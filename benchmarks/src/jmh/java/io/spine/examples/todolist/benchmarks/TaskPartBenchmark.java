@@ -0,0 +1,222 @@
+/*
+ * Copyright 2021, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.todolist.benchmarks;
+
+import com.google.protobuf.Timestamp;
+import io.spine.examples.todolist.tasks.TaskId;
+import io.spine.examples.todolist.tasks.TaskPriority;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import static io.spine.base.Time.currentTime;
+import static io.spine.examples.todolist.tasks.TaskPriority.HIGH;
+import static io.spine.examples.todolist.tasks.TaskPriority.LOW;
+import static io.spine.examples.todolist.tasks.TaskPriority.NORMAL;
+import static io.spine.examples.todolist.testdata.TestTaskCommandFactory.DESCRIPTION;
+import static io.spine.examples.todolist.testdata.TestTaskCommandFactory.completeTaskInstance;
+import static io.spine.examples.todolist.testdata.TestTaskCommandFactory.createDraftInstance;
+import static io.spine.examples.todolist.testdata.TestTaskCommandFactory.createTaskInstance;
+import static io.spine.examples.todolist.testdata.TestTaskCommandFactory.deleteTaskInstance;
+import static io.spine.examples.todolist.testdata.TestTaskCommandFactory.finalizeDraftInstance;
+import static io.spine.examples.todolist.testdata.TestTaskCommandFactory.reopenTaskInstance;
+import static io.spine.examples.todolist.testdata.TestTaskCommandFactory.restoreDeletedTaskInstance;
+import static io.spine.examples.todolist.testdata.TestTaskCommandFactory.updateTaskDescriptionInstance;
+import static io.spine.examples.todolist.testdata.TestTaskCommandFactory.updateTaskDueDateInstance;
+import static io.spine.examples.todolist.testdata.TestTaskCommandFactory.updateTaskPriorityInstance;
+
+/**
+ * Measures the command handlers of the {@code TaskPart} aggregate part.
+ *
+ * <p>Commands that require the task to be in a certain status bring it there in
+ * an {@linkplain Level#Invocation invocation-level} setup, so that only the measured command
+ * is timed. Such commands toggle the status of a single long-lived task, which is the typical
+ * pattern in production: a handful of tasks receive most of the edits.
+ */
+public class TaskPartBenchmark {
+
+    @Benchmark
+    public void createBasicTask(TasksContextState context) {
+        context.post(createTaskInstance(TaskId.generate()));
+    }
+
+    @Benchmark
+    public void createDraft(TasksContextState context) {
+        context.post(createDraftInstance(TaskId.generate()));
+    }
+
+    @Benchmark
+    public void finalizeDraft(Draft draft) {
+        draft.post(finalizeDraftInstance(draft.taskId));
+    }
+
+    @Benchmark
+    public void updateTaskDescription(ExistingTask task) {
+        String newDescription = DESCRIPTION + ' ' + task.editCount++;
+        task.post(updateTaskDescriptionInstance(task.taskId, task.description, newDescription));
+        task.description = newDescription;
+    }
+
+    @Benchmark
+    public void updateTaskDueDate(ExistingTask task) {
+        Timestamp newDueDate = currentTime();
+        task.post(updateTaskDueDateInstance(task.taskId, task.dueDate, newDueDate));
+        task.dueDate = newDueDate;
+    }
+
+    @Benchmark
+    public void updateTaskPriority(ExistingTask task) {
+        TaskPriority newPriority = task.priority == HIGH ? LOW : HIGH;
+        task.post(updateTaskPriorityInstance(task.taskId, task.priority, newPriority));
+        task.priority = newPriority;
+    }
+
+    @Benchmark
+    public void completeTask(OpenTask task) {
+        task.post(completeTaskInstance(task.taskId));
+        task.completed = true;
+    }
+
+    @Benchmark
+    public void reopenTask(CompletedTask task) {
+        task.post(reopenTaskInstance(task.taskId));
+        task.completed = false;
+    }
+
+    @Benchmark
+    public void deleteTask(UndeletedTask task) {
+        task.post(deleteTaskInstance(task.taskId));
+        task.deleted = true;
+    }
+
+    @Benchmark
+    public void restoreDeletedTask(DeletedTask task) {
+        task.post(restoreDeletedTaskInstance(task.taskId));
+        task.deleted = false;
+    }
+
+    /**
+     * A context with a single finalized task.
+     */
+    @State(Scope.Thread)
+    public static class ExistingTask extends TasksContextState {
+
+        TaskId taskId;
+        String description;
+        Timestamp dueDate;
+        TaskPriority priority;
+        int editCount;
+        boolean completed;
+        boolean deleted;
+
+        @Setup(Level.Trial)
+        public void createTask() {
+            taskId = TaskId.generate();
+            description = DESCRIPTION;
+            dueDate = Timestamp.getDefaultInstance();
+            priority = NORMAL;
+            post(createTaskInstance(taskId, description));
+        }
+    }
+
+    /**
+     * A task which is open before each invocation.
+     */
+    @State(Scope.Thread)
+    public static class OpenTask extends ExistingTask {
+
+        @Setup(Level.Invocation)
+        public void reopen() {
+            if (completed) {
+                post(reopenTaskInstance(taskId));
+                completed = false;
+            }
+        }
+    }
+
+    /**
+     * A task which is completed before each invocation.
+     */
+    @State(Scope.Thread)
+    public static class CompletedTask extends ExistingTask {
+
+        @Setup(Level.Invocation)
+        public void complete() {
+            if (!completed) {
+                post(completeTaskInstance(taskId));
+                completed = true;
+            }
+        }
+    }
+
+    /**
+     * A task which is not deleted before each invocation.
+     */
+    @State(Scope.Thread)
+    public static class UndeletedTask extends ExistingTask {
+
+        @Setup(Level.Invocation)
+        public void restore() {
+            if (deleted) {
+                post(restoreDeletedTaskInstance(taskId));
+                deleted = false;
+            }
+        }
+    }
+
+    /**
+     * A task which is deleted before each invocation.
+     */
+    @State(Scope.Thread)
+    public static class DeletedTask extends ExistingTask {
+
+        @Setup(Level.Invocation)
+        public void delete() {
+            if (!deleted) {
+                post(deleteTaskInstance(taskId));
+                deleted = true;
+            }
+        }
+    }
+
+    /**
+     * A new draft created before each invocation.
+     */
+    @State(Scope.Thread)
+    public static class Draft extends TasksContextState {
+
+        TaskId taskId;
+
+        @Setup(Level.Invocation)
+        public void createDraft() {
+            taskId = TaskId.generate();
+            post(createDraftInstance(taskId));
+        }
+    }
+}
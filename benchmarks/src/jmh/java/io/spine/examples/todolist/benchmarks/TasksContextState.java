@@ -0,0 +1,146 @@
+/*
+ * Copyright 2021, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.todolist.benchmarks;
+
+import io.grpc.stub.StreamObserver;
+import io.spine.base.CommandMessage;
+import io.spine.base.Environment;
+import io.spine.client.ActorRequestFactory;
+import io.spine.core.Ack;
+import io.spine.core.Command;
+import io.spine.core.UserId;
+import io.spine.examples.todolist.server.tasks.TasksContextConfig;
+import io.spine.examples.todolist.server.tasks.TasksContextFactory;
+import io.spine.server.BoundedContext;
+import io.spine.server.CommandService;
+import io.spine.server.ServerEnvironment;
+import io.spine.server.storage.memory.InMemoryStorageFactory;
+import io.spine.server.transport.memory.InMemoryTransportFactory;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import static com.google.common.base.Preconditions.checkState;
+import static io.spine.util.Exceptions.illegalStateWithCauseOf;
+
+/**
+ * A JMH state holding an instance of the Tasks bounded context.
+ *
+ * <p>The context is created via {@link TasksContextFactory#create(TasksContextConfig)} on top of
+ * the {@link InMemoryStorageFactory}, so the measurements do not include any I/O.
+ *
+ * <p>Commands are posted through the {@link CommandService}, i.e. the same way the gRPC clients
+ * post them, minus the network round trip. Each command is handled synchronously, so the time
+ * spent in {@link #post(CommandMessage)} covers the command handler, the event appliers,
+ * storing the aggregate and updating the projections.
+ *
+ * <p>Subclasses add the entities required by a particular command.
+ */
+@State(Scope.Thread)
+public class TasksContextState {
+
+    static {
+        ServerEnvironment
+                .when(Environment.instance()
+                                 .type())
+                .use(InMemoryStorageFactory.newInstance())
+                .use(InMemoryTransportFactory.newInstance());
+    }
+
+    private final StreamObserver<Ack> ackObserver = new AckObserver();
+    private BoundedContext context;
+    private CommandService commandService;
+    private ActorRequestFactory requestFactory;
+
+    @Setup(Level.Trial)
+    public void createContext() {
+        context = TasksContextFactory.create(config());
+        commandService = CommandService
+                .newBuilder()
+                .add(context)
+                .build();
+        UserId actor = UserId
+                .newBuilder()
+                .setValue(getClass().getSimpleName())
+                .vBuild();
+        requestFactory = ActorRequestFactory
+                .newBuilder()
+                .setActor(actor)
+                .build();
+    }
+
+    /**
+     * Returns the configuration of the created context.
+     *
+     * <p>Subclasses override this method to measure non-default configurations.
+     */
+    protected TasksContextConfig config() {
+        return TasksContextConfig.defaults();
+    }
+
+    @TearDown(Level.Trial)
+    public void closeContext() throws Exception {
+        context.close();
+    }
+
+    /**
+     * Posts the given command message to the context.
+     *
+     * <p>Fails if the command is not acknowledged, so that a benchmark never silently measures
+     * the validation errors instead of the command handling.
+     */
+    public void post(CommandMessage message) {
+        Command command = requestFactory.command()
+                                        .create(message);
+        commandService.post(command, ackObserver);
+    }
+
+    /**
+     * Checks that every posted command is acknowledged without an error.
+     */
+    private static final class AckObserver implements StreamObserver<Ack> {
+
+        @Override
+        public void onNext(Ack ack) {
+            checkState(!ack.getStatus()
+                           .hasError(),
+                       "The command was not acknowledged: %s", ack.getStatus());
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            throw illegalStateWithCauseOf(t);
+        }
+
+        @Override
+        public void onCompleted() {
+            // Nothing to do.
+        }
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2021, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.todolist.benchmarks.load;
+
+import io.spine.base.Production;
+import io.spine.examples.todolist.server.capture.CommandReplayer;
+import io.spine.examples.todolist.server.capture.ReplayReport;
+import io.spine.examples.todolist.server.tasks.TasksContextConfig;
+import io.spine.examples.todolist.server.tasks.TasksContextFactory;
+import io.spine.server.BoundedContext;
+import io.spine.server.ServerEnvironment;
+import io.spine.server.storage.memory.InMemoryStorageFactory;
+import io.spine.server.transport.memory.InMemoryTransportFactory;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import static io.spine.util.Exceptions.newIllegalArgumentException;
+
+/**
+ * Replays the commands captured by a server against a fresh in-memory Tasks context.
+ *
+ * <p>The log is set with the {@code -Dtodolist.replay.file=<path>} Java option, and the speed
+ * of the replay with the {@code -Dtodolist.replay.speed=<factor>} option. The speed of
+ * {@code 1}, which is the default, keeps the original intervals between the commands.
+ * The speed of {@code 0} posts the commands without pauses.
+ *
+ * <p>The context is configured by the {@code -Dtodolist.*} options of the
+ * {@link TasksContextConfig}, so the same traffic can be replayed against different
+ * configurations.
+ *
+ * @see io.spine.examples.todolist.server.ServerConfig.Builder#setCaptureFile(Path)
+ */
+public final class CommandReplay {
+
+    static final String FILE = "todolist.replay.file";
+    static final String SPEED = "todolist.replay.speed";
+
+    /** Prevents instantiation of this class. */
+    private CommandReplay() {
+    }
+
+    @SuppressWarnings("AccessOfSystemProperties")
+    public static void main(String[] args) throws Exception {
+        String file = System.getProperty(FILE);
+        if (file == null) {
+            throw newIllegalArgumentException("Specify the command log with `-D%s=<path>`.",
+                                              FILE);
+        }
+        Path log = Paths.get(file);
+        double speed = Double.parseDouble(System.getProperty(SPEED, "1"));
+        ServerEnvironment
+                .when(Production.class)
+                .use(InMemoryStorageFactory.newInstance())
+                .use(InMemoryTransportFactory.newInstance());
+        TasksContextConfig config = TasksContextConfig.fromSystemProperties();
+        try (BoundedContext context = TasksContextFactory.create(config)) {
+            ReplayReport report = CommandReplayer.newInstance(context, speed)
+                                                 .replay(log);
+            System.out.println("Replayed `" + log + "` with " + config + ": " + report);
+        }
+    }
+}
@@ -0,0 +1,438 @@
+/*
+ * Copyright 2021, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.todolist.benchmarks.load;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Splitter;
+import com.google.common.collect.ImmutableMap;
+import io.spine.examples.todolist.client.TodoClient;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+import static io.spine.client.ConnectionConstants.DEFAULT_CLIENT_SERVICE_PORT;
+
+/**
+ * The configuration of the {@link LoadGenerator}.
+ *
+ * <p>Use {@link #fromSystemProperties()} to read the values specified with the {@code -D} Java
+ * option, or {@link #newBuilder()} to compose the configuration manually.
+ */
+public final class LoadConfig {
+
+    static final String HOST = "todolist.load.host";
+    static final String PORT = "todolist.load.port";
+    static final String RATE = "todolist.load.rate";
+    static final String DURATION = "todolist.load.duration";
+    static final String WARMUP = "todolist.load.warmup";
+    static final String CLIENTS = "todolist.load.clients";
+    static final String TASKS = "todolist.load.tasks";
+    static final String LABELS = "todolist.load.labels";
+    static final String SKEW = "todolist.load.skew";
+    static final String SEED = "todolist.load.seed";
+    static final String MIX = "todolist.load.mix";
+
+    private final String host;
+    private final int port;
+    private final int rate;
+    private final Duration duration;
+    private final Duration warmup;
+    private final int clients;
+    private final int tasks;
+    private final int labels;
+    private final double skew;
+    private final long seed;
+    private final ImmutableMap<Operation, Integer> mix;
+
+    private LoadConfig(Builder builder) {
+        this.host = builder.host;
+        this.port = builder.port;
+        this.rate = builder.rate;
+        this.duration = builder.duration;
+        this.warmup = builder.warmup;
+        this.clients = builder.clients;
+        this.tasks = builder.tasks;
+        this.labels = builder.labels;
+        this.skew = builder.skew;
+        this.seed = builder.seed;
+        this.mix = ImmutableMap.copyOf(builder.mix);
+    }
+
+    /**
+     * Assembles the configuration from the system properties, specified with the {@code -D}
+     * Java option.
+     *
+     * <p>The values which are not specified are set to their defaults. The durations are
+     * specified in milliseconds. The mix is specified as the comma-separated shares of
+     * the operations, e.g. {@code create=15,update=35,label=20,complete=15,delete=5,wizard=10}.
+     *
+     * @return the configuration assembled from the system properties
+     * @see System#getProperty(String)
+     */
+    public static LoadConfig fromSystemProperties() {
+        Builder builder = newBuilder();
+        systemOption(HOST)
+                .ifPresent(builder::setHost);
+        systemOption(PORT)
+                .map(Integer::parseInt)
+                .ifPresent(builder::setPort);
+        systemOption(RATE)
+                .map(Integer::parseInt)
+                .ifPresent(builder::setRate);
+        systemOption(DURATION)
+                .map(Long::parseLong)
+                .map(Duration::ofMillis)
+                .ifPresent(builder::setDuration);
+        systemOption(WARMUP)
+                .map(Long::parseLong)
+                .map(Duration::ofMillis)
+                .ifPresent(builder::setWarmup);
+        systemOption(CLIENTS)
+                .map(Integer::parseInt)
+                .ifPresent(builder::setClients);
+        systemOption(TASKS)
+                .map(Integer::parseInt)
+                .ifPresent(builder::setTasks);
+        systemOption(LABELS)
+                .map(Integer::parseInt)
+                .ifPresent(builder::setLabels);
+        systemOption(SKEW)
+                .map(Double::parseDouble)
+                .ifPresent(builder::setSkew);
+        systemOption(SEED)
+                .map(Long::parseLong)
+                .ifPresent(builder::setSeed);
+        systemOption(MIX)
+                .ifPresent(mix -> parseMix(mix, builder));
+        return builder.build();
+    }
+
+    private static void parseMix(String mix, Builder builder) {
+        Map<String, String> shares = Splitter.on(',')
+                                             .trimResults()
+                                             .omitEmptyStrings()
+                                             .withKeyValueSeparator('=')
+                                             .split(mix);
+        for (Operation operation : Operation.values()) {
+            builder.setShare(operation, 0);
+        }
+        shares.forEach((operation, share) -> builder.setShare(
+                Operation.valueOf(operation.trim()
+                                           .toUpperCase(Locale.ROOT)),
+                Integer.parseInt(share.trim())));
+    }
+
+    /**
+     * Returns a new builder for manual composition of the configuration.
+     */
+    public static Builder newBuilder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns the host of the server.
+     */
+    public String host() {
+        return host;
+    }
+
+    /**
+     * Returns the port of the server.
+     */
+    public int port() {
+        return port;
+    }
+
+    /**
+     * Returns the target number of the operations started per second.
+     *
+     * <p>The operations are started on schedule regardless of how fast the server responds.
+     */
+    public int rate() {
+        return rate;
+    }
+
+    /**
+     * Returns the time of the measured load.
+     */
+    public Duration duration() {
+        return duration;
+    }
+
+    /**
+     * Returns the time of the load which precedes the measurement.
+     */
+    public Duration warmup() {
+        return warmup;
+    }
+
+    /**
+     * Returns the number of the client connections to the server.
+     */
+    public int clients() {
+        return clients;
+    }
+
+    /**
+     * Returns the number of the tasks created before the load starts.
+     */
+    public int tasks() {
+        return tasks;
+    }
+
+    /**
+     * Returns the number of the labels created before the load starts.
+     */
+    public int labels() {
+        return labels;
+    }
+
+    /**
+     * Returns the exponent of the Zipf distribution of the operations among the tasks.
+     *
+     * <p>Zero means that every task is equally likely to be changed. The greater is the value,
+     * the more operations go to the few most popular tasks.
+     */
+    public double skew() {
+        return skew;
+    }
+
+    /**
+     * Returns the seed of the generated workload.
+     *
+     * <p>The same seed produces the same sequence of operations.
+     */
+    public long seed() {
+        return seed;
+    }
+
+    /**
+     * Returns the relative shares of the operations in the workload.
+     */
+    public ImmutableMap<Operation, Integer> mix() {
+        return mix;
+    }
+
+    @SuppressWarnings("AccessOfSystemProperties")
+    private static Optional<String> systemOption(String optionKey) {
+        Optional<String> result = Optional.ofNullable(System.getProperty(optionKey));
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                          .add("host", host)
+                          .add("port", port)
+                          .add("rate", rate)
+                          .add("duration", duration)
+                          .add("warmup", warmup)
+                          .add("clients", clients)
+                          .add("tasks", tasks)
+                          .add("labels", labels)
+                          .add("skew", skew)
+                          .add("seed", seed)
+                          .add("mix", mix)
+                          .toString();
+    }
+
+    /**
+     * A builder of the load generator configuration.
+     */
+    public static final class Builder {
+
+        private String host = TodoClient.HOST;
+        private int port = DEFAULT_CLIENT_SERVICE_PORT;
+        private int rate = 100;
+        private Duration duration = Duration.ofMinutes(1);
+        private Duration warmup = Duration.ofSeconds(10);
+        private int clients = 8;
+        private int tasks = 1_000;
+        private int labels = 20;
+        private double skew = 1.0;
+        private long seed = 42;
+        private final Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+
+        private Builder() {
+            mix.put(Operation.CREATE, 15);
+            mix.put(Operation.UPDATE, 35);
+            mix.put(Operation.LABEL, 20);
+            mix.put(Operation.COMPLETE, 15);
+            mix.put(Operation.DELETE, 5);
+            mix.put(Operation.WIZARD, 10);
+        }
+
+        /**
+         * Sets the host of the server.
+         *
+         * <p>By default, the load is sent to {@code localhost}.
+         */
+        public Builder setHost(String host) {
+            this.host = checkNotNull(host);
+            return this;
+        }
+
+        /**
+         * Sets the port of the server.
+         *
+         * <p>By default, the {@linkplain io.spine.client.ConnectionConstants#DEFAULT_CLIENT_SERVICE_PORT
+         * default port} of the server is used.
+         */
+        public Builder setPort(int port) {
+            checkArgument(port > 0, "The port must be positive, but was %s.", port);
+            this.port = port;
+            return this;
+        }
+
+        /**
+         * Sets the target number of the operations started per second.
+         *
+         * <p>By default, 100 operations are started per second.
+         */
+        public Builder setRate(int rate) {
+            checkArgument(rate > 0, "The rate must be positive, but was %s.", rate);
+            this.rate = rate;
+            return this;
+        }
+
+        /**
+         * Sets the time of the measured load.
+         *
+         * <p>By default, the load is measured for a minute.
+         */
+        public Builder setDuration(Duration duration) {
+            checkNotNull(duration);
+            checkArgument(!duration.isNegative() && !duration.isZero(),
+                          "The duration must be positive, but was %s.", duration);
+            this.duration = duration;
+            return this;
+        }
+
+        /**
+         * Sets the time of the load which precedes the measurement.
+         *
+         * <p>By default, the server is warmed up for 10 seconds.
+         */
+        public Builder setWarmup(Duration warmup) {
+            checkNotNull(warmup);
+            checkArgument(!warmup.isNegative(),
+                          "The warm-up must not be negative, but was %s.", warmup);
+            this.warmup = warmup;
+            return this;
+        }
+
+        /**
+         * Sets the number of the client connections to the server.
+         *
+         * <p>The operations on the same task always go through the same connection, so they
+         * reach the server in the generated order. By default, 8 connections are used.
+         */
+        public Builder setClients(int clients) {
+            checkArgument(clients > 0,
+                          "The number of clients must be positive, but was %s.", clients);
+            this.clients = clients;
+            return this;
+        }
+
+        /**
+         * Sets the number of the tasks created before the load starts.
+         *
+         * <p>By default, 1000 tasks are created.
+         */
+        public Builder setTasks(int tasks) {
+            checkArgument(tasks >= 0,
+                          "The number of tasks must not be negative, but was %s.", tasks);
+            this.tasks = tasks;
+            return this;
+        }
+
+        /**
+         * Sets the number of the labels created before the load starts.
+         *
+         * <p>By default, 20 labels are created.
+         */
+        public Builder setLabels(int labels) {
+            checkArgument(labels > 0,
+                          "The number of labels must be positive, but was %s.", labels);
+            this.labels = labels;
+            return this;
+        }
+
+        /**
+         * Sets the exponent of the Zipf distribution of the operations among the tasks.
+         *
+         * <p>By default, the exponent is 1, i.e. the second most popular task gets half of
+         * the operations of the most popular one.
+         */
+        public Builder setSkew(double skew) {
+            checkArgument(skew >= 0, "The skew must not be negative, but was %s.", skew);
+            this.skew = skew;
+            return this;
+        }
+
+        /**
+         * Sets the seed of the generated workload.
+         */
+        public Builder setSeed(long seed) {
+            this.seed = seed;
+            return this;
+        }
+
+        /**
+         * Sets the relative share of the operation in the workload.
+         *
+         * <p>By default, the shares are: {@code CREATE} 15, {@code UPDATE} 35, {@code LABEL} 20,
+         * {@code COMPLETE} 15, {@code DELETE} 5 and {@code WIZARD} 10.
+         */
+        public Builder setShare(Operation operation, int share) {
+            checkNotNull(operation);
+            checkArgument(share >= 0,
+                          "The share of %s must not be negative, but was %s.",
+                          operation, share);
+            mix.put(operation, share);
+            return this;
+        }
+
+        /**
+         * Creates a new instance of {@code LoadConfig}.
+         */
+        public LoadConfig build() {
+            int total = mix.values()
+                           .stream()
+                           .mapToInt(Integer::intValue)
+                           .sum();
+            checkState(total > 0, "At least one operation must have a positive share.");
+            return new LoadConfig(this);
+        }
+    }
+}
@@ -0,0 +1,210 @@
+/*
+ * Copyright 2021, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.todolist.benchmarks.load;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import io.spine.base.CommandMessage;
+import io.spine.examples.todolist.client.TodoClient;
+import io.spine.examples.todolist.tasks.TaskId;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.locks.LockSupport;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+/**
+ * Drives a running server with the generated workload at the target rate.
+ *
+ * <p>Before the load starts, the generator creates the configured number of the labels and
+ * the tasks. Then it starts the {@linkplain Operation operations} on the fixed schedule
+ * defined by the rate, regardless of how fast the server responds. The operations are sent
+ * through several client connections; all the operations on the same task go through the same
+ * connection in order.
+ *
+ * <p>The operations scheduled during the warm-up are sent, but not measured. Once the load
+ * is over, the generator waits for all the sent operations and returns the {@link LoadReport}.
+ *
+ * <p>To run the generator against a server listening on the default port, use:
+ * <pre>
+ * ./gradlew :benchmarks:runLoad -Dtodolist.load.rate=500 -Dtodolist.load.duration=120000
+ * </pre>
+ *
+ * @see LoadConfig
+ */
+public final class LoadGenerator {
+
+    /**
+     * The number of the commands posted at once when creating the initial tasks.
+     */
+    private static final int SETUP_BATCH_SIZE = 100;
+
+    private final LoadConfig config;
+
+    /**
+     * Creates a new generator with the given configuration.
+     */
+    public LoadGenerator(LoadConfig config) {
+        this.config = checkNotNull(config);
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        LoadConfig config = LoadConfig.fromSystemProperties();
+        System.out.println("Running the load: " + config);
+        LoadReport report = new LoadGenerator(config).run();
+        report.print(System.out);
+    }
+
+    /**
+     * Runs the load and waits until all the sent operations are complete.
+     *
+     * @return the measured throughput and latencies
+     * @throws InterruptedException
+     *         if interrupted while waiting for the operations
+     */
+    public LoadReport run() throws InterruptedException {
+        Workload workload = new Workload(config);
+        setUp(workload.setup(config.tasks()));
+
+        long nanosPerSecond = SECONDS.toNanos(1);
+        long startNanos = System.nanoTime();
+        long measuredFromNanos = startNanos + config.warmup()
+                                                    .toNanos();
+        long endNanos = measuredFromNanos + config.duration()
+                                                  .toNanos();
+        LoadReport report = new LoadReport(config.rate(), measuredFromNanos);
+        List<Connection> connections = new ArrayList<>(config.clients());
+        for (int i = 0; i < config.clients(); i++) {
+            connections.add(new Connection(report));
+        }
+        for (long i = 0; ; i++) {
+            long intendedNanos = startNanos + i * nanosPerSecond / config.rate();
+            if (intendedNanos >= endNanos) {
+                break;
+            }
+            waitUntil(intendedNanos);
+            Request request = workload.next(intendedNanos);
+            connectionOf(request.target(), connections).send(request);
+        }
+        for (Connection connection : connections) {
+            connection.close();
+        }
+        for (Connection connection : connections) {
+            connection.await();
+        }
+        return report;
+    }
+
+    private void setUp(ImmutableList<CommandMessage> commands) {
+        TodoClient client = TodoClient.instance(config.host(), config.port());
+        try {
+            for (List<CommandMessage> batch : Lists.partition(commands, SETUP_BATCH_SIZE)) {
+                client.postCommands(batch);
+            }
+        } finally {
+            client.shutdown();
+        }
+    }
+
+    private static Connection connectionOf(TaskId task, List<Connection> connections) {
+        int index = Math.floorMod(task.hashCode(), connections.size());
+        return connections.get(index);
+    }
+
+    /**
+     * Parks the current thread until the given {@link System#nanoTime()}.
+     */
+    private static void waitUntil(long nanoTime) {
+        long remaining = nanoTime - System.nanoTime();
+        while (remaining > 0) {
+            LockSupport.parkNanos(remaining);
+            remaining = nanoTime - System.nanoTime();
+        }
+    }
+
+    /**
+     * A client connection, which sends the operations one after another from its own thread.
+     */
+    private final class Connection {
+
+        /**
+         * Marks the end of the operations sent through the connection.
+         */
+        private final Request endOfLoad =
+                new Request(Operation.CREATE, TaskId.getDefaultInstance(), ImmutableList.of(), 0);
+
+        private final BlockingQueue<Request> queue = new LinkedBlockingQueue<>();
+        private final LoadReport report;
+        private final TodoClient client;
+        private final Thread thread;
+
+        private Connection(LoadReport report) {
+            this.report = report;
+            this.client = TodoClient.instance(config.host(), config.port());
+            this.thread = new Thread(this::sendAll, "load-connection");
+            thread.start();
+        }
+
+        private void send(Request request) {
+            queue.add(request);
+        }
+
+        private void close() {
+            queue.add(endOfLoad);
+        }
+
+        private void await() throws InterruptedException {
+            thread.join();
+            client.shutdown();
+        }
+
+        private void sendAll() {
+            try {
+                Request request = queue.take();
+                while (request != endOfLoad) {
+                    boolean failed = false;
+                    try {
+                        for (CommandMessage command : request.commands()) {
+                            client.postCommand(command);
+                        }
+                    } catch (RuntimeException e) {
+                        failed = true;
+                    }
+                    report.record(request, System.nanoTime(), failed);
+                    request = queue.take();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread()
+                      .interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2021, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.todolist.benchmarks.load;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.io.PrintStream;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+/**
+ * The throughput and the latencies of the measured operations.
+ *
+ * <p>The latency of an operation is the time from its {@linkplain Request#intendedNanos()
+ * scheduled start} to the acknowledgement of its last command. Since the operations are
+ * scheduled at the fixed rate regardless of the responses, the latencies include the time
+ * the operations wait behind the slow ones, which a closed-loop benchmark would omit.
+ */
+public final class LoadReport {
+
+    /**
+     * The number of significant decimal digits kept by the histograms.
+     */
+    private static final int PRECISION = 3;
+
+    private static final double NANOS_PER_MILLI = NANOSECONDS.convert(1, MILLISECONDS);
+
+    private final int targetRate;
+    private final long measuredFromNanos;
+    private final Map<Operation, Recorder> latencies = new EnumMap<>(Operation.class);
+    private final Map<Operation, LongAdder> errors = new EnumMap<>(Operation.class);
+    private final LongAccumulator lastCompletedNanos;
+
+    LoadReport(int targetRate, long measuredFromNanos) {
+        this.targetRate = targetRate;
+        this.measuredFromNanos = measuredFromNanos;
+        this.lastCompletedNanos = new LongAccumulator(Math::max, measuredFromNanos);
+        for (Operation operation : Operation.values()) {
+            latencies.put(operation, new Recorder(PRECISION));
+            errors.put(operation, new LongAdder());
+        }
+    }
+
+    /**
+     * Records a completed operation, unless it was scheduled during the warm-up.
+     */
+    void record(Request request, long completedNanos, boolean failed) {
+        if (request.intendedNanos() < measuredFromNanos) {
+            return;
+        }
+        Operation operation = request.operation();
+        latencies.get(operation)
+                 .recordValue(completedNanos - request.intendedNanos());
+        if (failed) {
+            errors.get(operation)
+                  .increment();
+        }
+        lastCompletedNanos.accumulate(completedNanos);
+    }
+
+    /**
+     * Prints the throughput and the latency percentiles of each operation and of all
+     * the operations together.
+     *
+     * <p>Should be called once all the operations are complete.
+     */
+    public void print(PrintStream out) {
+        Histogram total = new Histogram(PRECISION);
+        long totalErrors = 0;
+        out.printf("%-10s %10s %8s %10s %10s %10s %10s %10s%n",
+                   "operation", "count", "errors", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms",
+                   "max ms");
+        for (Operation operation : Operation.values()) {
+            Histogram histogram = latencies.get(operation)
+                                           .getIntervalHistogram();
+            long operationErrors = errors.get(operation)
+                                         .sum();
+            if (histogram.getTotalCount() > 0) {
+                printRow(out, operation.name(), histogram, operationErrors);
+            }
+            total.add(histogram);
+            totalErrors += operationErrors;
+        }
+        printRow(out, "TOTAL", total, totalErrors);
+        long elapsedNanos = lastCompletedNanos.get() - measuredFromNanos;
+        double throughput = elapsedNanos == 0
+                            ? 0
+                            : total.getTotalCount() * (double) SECONDS.toNanos(1) / elapsedNanos;
+        out.printf("Throughput: %.1f ops/s, target: %d ops/s.%n", throughput, targetRate);
+    }
+
+    private static void printRow(PrintStream out, String name, Histogram histogram, long errors) {
+        out.printf("%-10s %10d %8d %10.2f %10.2f %10.2f %10.2f %10.2f%n",
+                   name,
+                   histogram.getTotalCount(),
+                   errors,
+                   millis(histogram.getValueAtPercentile(50)),
+                   millis(histogram.getValueAtPercentile(90)),
+                   millis(histogram.getValueAtPercentile(99)),
+                   millis(histogram.getValueAtPercentile(99.9)),
+                   millis(histogram.getMaxValue()));
+    }
+
+    private static double millis(long nanos) {
+        return nanos / NANOS_PER_MILLI;
+    }
+}
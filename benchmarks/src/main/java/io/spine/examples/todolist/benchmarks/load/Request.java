@@ -0,0 +1,85 @@
+/*
+ * Copyright 2021, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.todolist.benchmarks.load;
+
+import com.google.common.collect.ImmutableList;
+import io.spine.base.CommandMessage;
+import io.spine.examples.todolist.tasks.TaskId;
+
+/**
+ * An operation scheduled by the load generator.
+ */
+final class Request {
+
+    private final Operation operation;
+    private final TaskId target;
+    private final ImmutableList<CommandMessage> commands;
+    private final long intendedNanos;
+
+    Request(Operation operation,
+            TaskId target,
+            ImmutableList<CommandMessage> commands,
+            long intendedNanos) {
+        this.operation = operation;
+        this.target = target;
+        this.commands = commands;
+        this.intendedNanos = intendedNanos;
+    }
+
+    /**
+     * Returns the performed operation.
+     */
+    Operation operation() {
+        return operation;
+    }
+
+    /**
+     * Returns the ID of the task targeted by the operation.
+     *
+     * <p>The requests with the same target are sent through the same client in order.
+     */
+    TaskId target() {
+        return target;
+    }
+
+    /**
+     * Returns the commands to post one after another.
+     */
+    ImmutableList<CommandMessage> commands() {
+        return commands;
+    }
+
+    /**
+     * Returns the {@link System#nanoTime()} at which the operation is scheduled to start.
+     *
+     * <p>The latency is measured from this moment rather than from the moment the command is
+     * actually sent, so that the time spent waiting for a busy client is not omitted.
+     */
+    long intendedNanos() {
+        return intendedNanos;
+    }
+}
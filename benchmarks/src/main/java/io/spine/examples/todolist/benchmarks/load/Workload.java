@@ -0,0 +1,311 @@
+/*
+ * Copyright 2021, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.todolist.benchmarks.load;
+
+import com.google.common.collect.ImmutableList;
+import io.spine.base.CommandMessage;
+import io.spine.examples.todolist.tasks.DescriptionChange;
+import io.spine.examples.todolist.tasks.LabelId;
+import io.spine.examples.todolist.tasks.TaskCreationId;
+import io.spine.examples.todolist.tasks.TaskDescription;
+import io.spine.examples.todolist.tasks.TaskId;
+import io.spine.examples.todolist.tasks.command.AddLabels;
+import io.spine.examples.todolist.tasks.command.CompleteTaskCreation;
+import io.spine.examples.todolist.tasks.command.StartTaskCreation;
+import io.spine.examples.todolist.tasks.command.UpdateTaskDetails;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+
+import static io.spine.examples.todolist.testdata.TestLabelCommandFactory.createLabelInstance;
+import static io.spine.examples.todolist.testdata.TestTaskCommandFactory.completeTaskInstance;
+import static io.spine.examples.todolist.testdata.TestTaskCommandFactory.createTaskInstance;
+import static io.spine.examples.todolist.testdata.TestTaskCommandFactory.deleteTaskInstance;
+import static io.spine.examples.todolist.testdata.TestTaskCommandFactory.reopenTaskInstance;
+import static io.spine.examples.todolist.testdata.TestTaskCommandFactory.updateTaskDescriptionInstance;
+import static io.spine.examples.todolist.testdata.TestTaskLabelsCommandFactory.assignLabelToTaskInstance;
+import static io.spine.examples.todolist.testdata.TestTaskLabelsCommandFactory.removeLabelFromTaskInstance;
+
+/**
+ * Generates the sequence of the operations of the load.
+ *
+ * <p>The generator tracks the state of every task it has created, so that each operation is
+ * valid for the task it targets: a completed task is reopened before it is changed, a label is
+ * removed if it is already assigned, and a deleted task is never targeted again. Therefore,
+ * the server handles the commands rather than rejecting them.
+ *
+ * <p>All the IDs and the choices are taken from the random generator with the configured seed,
+ * so the same configuration always produces the same sequence of commands.
+ *
+ * <p>The generator is not thread-safe.
+ */
+final class Workload {
+
+    private final Random random;
+    private final double skew;
+    private final Operation[] operations;
+    private final int[] cumulativeShares;
+    private final List<LabelId> labels = new ArrayList<>();
+    private final List<Task> tasks = new ArrayList<>();
+    private long edits;
+
+    Workload(LoadConfig config) {
+        this.random = new Random(config.seed());
+        this.skew = config.skew();
+        Map<Operation, Integer> mix = config.mix();
+        this.operations = mix.keySet()
+                             .toArray(new Operation[0]);
+        this.cumulativeShares = new int[operations.length];
+        int total = 0;
+        for (int i = 0; i < operations.length; i++) {
+            total += mix.get(operations[i]);
+            cumulativeShares[i] = total;
+        }
+        for (int i = 0; i < config.labels(); i++) {
+            labels.add(LabelId.newBuilder()
+                              .setUuid(newUuid())
+                              .vBuild());
+        }
+    }
+
+    /**
+     * Returns the commands which create the labels and the given number of the tasks.
+     *
+     * <p>These commands are posted before the load starts.
+     */
+    ImmutableList<CommandMessage> setup(int taskCount) {
+        ImmutableList.Builder<CommandMessage> result = ImmutableList.builder();
+        for (LabelId label : labels) {
+            result.add(createLabelInstance(label));
+        }
+        for (int i = 0; i < taskCount; i++) {
+            Task task = newTask();
+            result.add(createTaskInstance(task.id, task.description));
+        }
+        return result.build();
+    }
+
+    /**
+     * Generates the next operation.
+     *
+     * @param intendedNanos
+     *         the {@link System#nanoTime()} at which the operation is scheduled to start
+     */
+    Request next(long intendedNanos) {
+        Operation operation = nextOperation();
+        if (tasks.isEmpty() && operation != Operation.WIZARD) {
+            operation = Operation.CREATE;
+        }
+        ImmutableList.Builder<CommandMessage> commands = ImmutableList.builder();
+        Task task;
+        switch (operation) {
+            case CREATE:
+                task = newTask();
+                commands.add(createTaskInstance(task.id, task.description));
+                break;
+            case UPDATE:
+                task = pickTask();
+                reopenIfCompleted(task, commands);
+                String description = description(task.id);
+                commands.add(updateTaskDescriptionInstance(task.id,
+                                                           task.description,
+                                                           description));
+                task.description = description;
+                break;
+            case LABEL:
+                task = pickTask();
+                reopenIfCompleted(task, commands);
+                LabelId label = pickLabel();
+                if (task.labels.remove(label)) {
+                    commands.add(removeLabelFromTaskInstance(task.id, label));
+                } else {
+                    task.labels.add(label);
+                    commands.add(assignLabelToTaskInstance(task.id, label));
+                }
+                break;
+            case COMPLETE:
+                task = pickTask();
+                commands.add(task.completed
+                             ? reopenTaskInstance(task.id)
+                             : completeTaskInstance(task.id));
+                task.completed = !task.completed;
+                break;
+            case DELETE:
+                task = removeTask();
+                commands.add(deleteTaskInstance(task.id));
+                break;
+            case WIZARD:
+                task = newTask();
+                wizard(task, commands);
+                break;
+            default:
+                throw new IllegalStateException("Unknown operation: " + operation);
+        }
+        return new Request(operation, task.id, commands.build(), intendedNanos);
+    }
+
+    private Operation nextOperation() {
+        int share = random.nextInt(cumulativeShares[cumulativeShares.length - 1]);
+        int i = 0;
+        while (share >= cumulativeShares[i]) {
+            i++;
+        }
+        return operations[i];
+    }
+
+    /**
+     * Adds the commands of passing all the steps of the task creation wizard.
+     */
+    private void wizard(Task task, ImmutableList.Builder<CommandMessage> commands) {
+        TaskCreationId process = TaskCreationId
+                .newBuilder()
+                .setUuid(newUuid())
+                .vBuild();
+        TaskDescription description = TaskDescription
+                .newBuilder()
+                .setValue(task.description)
+                .vBuild();
+        DescriptionChange descriptionChange = DescriptionChange
+                .newBuilder()
+                .setNewValue(description)
+                .vBuild();
+        LabelId label = pickLabel();
+        task.labels.add(label);
+        commands.add(StartTaskCreation
+                             .newBuilder()
+                             .setId(process)
+                             .setTaskId(task.id)
+                             .vBuild())
+                .add(UpdateTaskDetails
+                             .newBuilder()
+                             .setId(process)
+                             .setDescriptionChange(descriptionChange)
+                             .vBuild())
+                .add(AddLabels
+                             .newBuilder()
+                             .setId(process)
+                             .addExistingLabels(label)
+                             .vBuild())
+                .add(CompleteTaskCreation
+                             .newBuilder()
+                             .setId(process)
+                             .vBuild());
+    }
+
+    private static void reopenIfCompleted(Task task,
+                                          ImmutableList.Builder<CommandMessage> commands) {
+        if (task.completed) {
+            commands.add(reopenTaskInstance(task.id));
+            task.completed = false;
+        }
+    }
+
+    private Task newTask() {
+        TaskId id = TaskId
+                .newBuilder()
+                .setUuid(newUuid())
+                .vBuild();
+        Task result = new Task(id, description(id));
+        tasks.add(result);
+        return result;
+    }
+
+    private Task pickTask() {
+        return tasks.get(zipfIndex(tasks.size()));
+    }
+
+    /**
+     * Removes a task from the tracked ones, moving the last task into its place.
+     */
+    private Task removeTask() {
+        int index = zipfIndex(tasks.size());
+        Task result = tasks.get(index);
+        Task last = tasks.remove(tasks.size() - 1);
+        if (index < tasks.size()) {
+            tasks.set(index, last);
+        }
+        return result;
+    }
+
+    private LabelId pickLabel() {
+        return labels.get(random.nextInt(labels.size()));
+    }
+
+    /**
+     * Picks an index in {@code [0, size)}, where the lower indexes are the more likely ones
+     * according to the configured skew.
+     *
+     * <p>Uses the inverse of the continuous approximation of the Zipf distribution, which is
+     * cheap to compute for the number of tasks changing over time.
+     */
+    private int zipfIndex(int size) {
+        if (skew == 0) {
+            return random.nextInt(size);
+        }
+        double u = random.nextDouble();
+        double rank;
+        if (skew == 1) {
+            rank = Math.pow(size + 1, u);
+        } else {
+            double exponent = 1 - skew;
+            rank = Math.pow((Math.pow(size + 1, exponent) - 1) * u + 1, 1 / exponent);
+        }
+        int result = (int) rank - 1;
+        return Math.min(Math.max(result, 0), size - 1);
+    }
+
+    private String description(TaskId task) {
+        edits++;
+        return "Task " + task.getUuid()
+                             .substring(0, 8) + ", edit #" + edits;
+    }
+
+    private String newUuid() {
+        return new UUID(random.nextLong(), random.nextLong()).toString();
+    }
+
+    /**
+     * The state of a task as known to the generator.
+     */
+    private static final class Task {
+
+        private final TaskId id;
+        private final Set<LabelId> labels = new HashSet<>();
+        private String description;
+        private boolean completed;
+
+        private Task(TaskId id, String description) {
+            this.id = id;
+            this.description = description;
+        }
+    }
+}
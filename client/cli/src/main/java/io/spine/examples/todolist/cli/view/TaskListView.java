@@ -31,6 +31,8 @@ import io.spine.examples.todolist.cli.Screen;
 import io.spine.examples.todolist.cli.action.Shortcut;
 import io.spine.examples.todolist.cli.action.TransitionAction;
 import io.spine.examples.todolist.cli.action.TransitionAction.TransitionActionProducer;
+import io.spine.examples.todolist.client.TaskViewPage;
+import io.spine.examples.todolist.client.TaskViewQuery;
 import io.spine.examples.todolist.tasks.view.TaskView;
 
 import java.util.Collection;
@@ -46,35 +48,60 @@ import static io.spine.examples.todolist.cli.action.TransitionAction.transitionP
  * <p>Mainly consists of
  * {@linkplain TransitionAction transition actions}.
  * The action gives short info about the task and leads to a {@link ViewOfTask}.
+ *
+ * <p>The tasks are shown page by page. Only the descriptions of the tasks of the current
+ * page are loaded. The next page is loaded only when the user navigates to it.
  */
 public final class TaskListView extends ActionListView {
 
     private static final String EMPTY_TASKS_LIST_MSG = "<no tasks>";
+    private static final String DESCRIPTION_FIELD = "description";
+    private static final String NEXT_PAGE_NAME = "Next page";
+    private static final Shortcut NEXT_PAGE_SHORTCUT = new Shortcut("n");
+
+    private final TaskViewQuery query;
 
     @VisibleForTesting
     TaskListView() {
+        this(TaskViewQuery.newBuilder()
+                          .withMask(DESCRIPTION_FIELD)
+                          .build());
+    }
+
+    private TaskListView(TaskViewQuery query) {
         super("My tasks list");
+        this.query = query;
     }
 
     /**
-     * Refreshes the tasks list and renders the view.
+     * Refreshes the current page of the tasks list and renders the view.
      */
     @Override
     public void render(Screen screen) {
         clearActions();
 
-        List<TaskView> views = getClient().taskViews();
+        TaskViewPage page = getClient().taskViews(query);
         Collection<TransitionActionProducer<TaskListView, ViewOfTask>> producers =
-                taskActionProducersFor(views);
+                taskActionProducersFor(page.taskViews());
 
         if (producers.isEmpty()) {
             screen.println(EMPTY_TASKS_LIST_MSG);
         } else {
             producers.forEach(this::addAction);
         }
+        page.nextCursor()
+            .ifPresent(cursor -> addAction(nextPageProducer(cursor)));
         super.render(screen);
     }
 
+    private TransitionActionProducer<TaskListView, TaskListView>
+    nextPageProducer(String cursor) {
+        TaskViewQuery nextPage = query.toBuilder()
+                                      .setCursor(cursor)
+                                      .build();
+        return transitionProducer(NEXT_PAGE_NAME, NEXT_PAGE_SHORTCUT, new TaskListView(nextPage));
+    }
+
     /**
      * Creates {@link TransitionActionProducer} with {@code TaskListView} destination.
      *
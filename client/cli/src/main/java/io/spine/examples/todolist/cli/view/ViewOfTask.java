@@ -29,7 +29,6 @@ package io.spine.examples.todolist.cli.view;
 import io.spine.examples.todolist.tasks.TaskId;
 import io.spine.examples.todolist.tasks.view.TaskView;
 
-import java.util.List;
 import java.util.Optional;
 
 import static io.spine.examples.todolist.cli.AppConfig.getClient;
@@ -54,12 +53,7 @@ final class ViewOfTask extends EntityView<TaskId, TaskView> {
 
     @Override
     protected TaskView load(TaskId id) {
-        //TODO:2017-07-19:dmytro.grankin: Allow to specify the source projection of task items.
-        List<TaskView> tasks = getClient().taskViews();
-        Optional<TaskView> task = tasks.stream()
-                                       .filter(view -> view.getId()
-                                                           .equals(id))
-                                       .findFirst();
+        Optional<TaskView> task = getClient().taskView(id);
         return task
                 .orElseThrow(() -> newIllegalStateException("There is no task with ID `%s`.", id));
     }
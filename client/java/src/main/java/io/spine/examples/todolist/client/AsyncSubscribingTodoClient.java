@@ -0,0 +1,87 @@
+/*
+ * Copyright 2021, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.todolist.client;
+
+import io.grpc.stub.StreamObserver;
+import io.spine.client.Subscription;
+import io.spine.examples.todolist.tasks.subscription.TaskViewDelta;
+import io.spine.examples.todolist.tasks.view.TaskView;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A non-blocking TodoList gRPC client able to make calls to the {@code SubscriptionService}.
+ *
+ * @see SubscribingTodoClient
+ */
+public interface AsyncSubscribingTodoClient extends AsyncTodoClient {
+
+    /**
+     * Subscribes the given {@code observer} onto the updates of the {@link TaskView} entity.
+     *
+     * @param observer
+     *         the result observer
+     * @return the subscription, once it is activated
+     */
+    CompletableFuture<Subscription> subscribeToTasks(StreamObserver<TaskView> observer);
+
+    /**
+     * Subscribes the given {@code observer} onto the changes of the {@link TaskView} entities.
+     *
+     * @param window
+     *         the period over which the updates of a task view are coalesced
+     * @param observer
+     *         the observer of the deltas
+     * @return the new subscription
+     * @see SubscribingTodoClient#subscribeToTaskChanges(Duration, StreamObserver)
+     */
+    TaskChangesSubscription subscribeToTaskChanges(Duration window,
+                                                   StreamObserver<TaskViewDelta> observer);
+
+    /**
+     * Cancels the given {@code subscription}.
+     *
+     * @param subscription
+     *         the subscription to cancel
+     * @return the future completed once the subscription is cancelled
+     */
+    CompletableFuture<Void> unSubscribe(Subscription subscription);
+
+    /**
+     * Creates a new instance of {@code AsyncSubscribingTodoClient}.
+     *
+     * @param host
+     *         the host of the server to connect to
+     * @param port
+     *         the port of the server to connect to
+     * @return new non-blocking subscribing TodoList client
+     */
+    static AsyncSubscribingTodoClient instance(String host, int port) {
+        return new AsyncTodoClientImpl(host, port);
+    }
+}
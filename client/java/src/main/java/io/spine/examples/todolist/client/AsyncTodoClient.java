@@ -0,0 +1,192 @@
+/*
+ * Copyright 2021, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.todolist.client;
+
+import io.spine.base.CommandMessage;
+import io.spine.core.Ack;
+import io.spine.examples.todolist.tasks.LabelId;
+import io.spine.examples.todolist.tasks.Task;
+import io.spine.examples.todolist.tasks.TaskId;
+import io.spine.examples.todolist.tasks.TaskLabel;
+import io.spine.examples.todolist.tasks.TaskLabels;
+import io.spine.examples.todolist.tasks.view.LabelView;
+import io.spine.examples.todolist.tasks.view.TaskView;
+
+import javax.annotation.Nullable;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A non-blocking client interface.
+ *
+ * <p>Provides the same methods as the {@link TodoClient}, but returns the results as
+ * the {@link CompletableFuture}s instead of waiting for them. All the calls go through a single
+ * connection to the server, so one thread may keep many calls in flight.
+ *
+ * <p>The futures are completed by the threads of the gRPC channel. Do not block these threads
+ * in the dependent actions; use the {@code *Async} methods of the futures with an executor for
+ * the long-running ones.
+ */
+public interface AsyncTodoClient {
+
+    /**
+     * Posts the given command to the {@code CommandService}.
+     *
+     * @param commandMessage
+     *         the command to post
+     * @return the acknowledgement of the command
+     */
+    CompletableFuture<Ack> postCommand(CommandMessage commandMessage);
+
+    /**
+     * Posts the given commands to the server in a single request.
+     *
+     * @param commandMessages
+     *         the commands to post
+     * @return the acknowledgements of the posted commands in the order of the commands
+     * @see TodoClient#postCommands(List)
+     */
+    CompletableFuture<List<Ack>> postCommands(List<? extends CommandMessage> commandMessages);
+
+    /**
+     * Obtains all {@linkplain TaskView task views}.
+     */
+    CompletableFuture<List<TaskView>> taskViews();
+
+    /**
+     * Obtains the {@linkplain TaskView task views} matching the given filter.
+     *
+     * @param filter
+     *         the criteria of the tasks to obtain
+     */
+    CompletableFuture<List<TaskView>> taskViews(TaskViewFilter filter);
+
+    /**
+     * Obtains a single page of the {@linkplain TaskView task views}.
+     *
+     * @param query
+     *         the query of the page
+     */
+    CompletableFuture<TaskViewPage> taskViews(TaskViewQuery query);
+
+    /**
+     * Obtains the view of the task with the given ID, or an empty {@code Optional} if there is
+     * no such task.
+     *
+     * @param id
+     *         the ID of the task
+     */
+    CompletableFuture<Optional<TaskView>> taskView(TaskId id);
+
+    /**
+     * Obtains the views of the tasks with the given IDs in a single request.
+     *
+     * @param ids
+     *         the IDs of the tasks
+     * @see TodoClient#taskViews(Collection)
+     */
+    CompletableFuture<Map<TaskId, TaskView>> taskViews(Collection<TaskId> ids);
+
+    /**
+     * Obtains all {@linkplain Task tasks} in the system.
+     */
+    CompletableFuture<List<Task>> tasks();
+
+    /**
+     * Obtains all {@linkplain TaskLabel labels} in the system.
+     */
+    CompletableFuture<List<TaskLabel>> labels();
+
+    /**
+     * Obtains the {@linkplain TaskLabel labels} with the given IDs in a single request.
+     *
+     * @param ids
+     *         the IDs of the labels
+     * @see TodoClient#labels(Collection)
+     */
+    CompletableFuture<Map<LabelId, TaskLabel>> labels(Collection<LabelId> ids);
+
+    /**
+     * Obtains the labels assigned to the task with the given ID.
+     *
+     * @param taskId
+     *         the task ID to search by
+     */
+    CompletableFuture<TaskLabels> labelsOf(TaskId taskId);
+
+    /**
+     * Obtains the view of the label with the specified ID, or an empty {@code Optional} if there
+     * is no such label.
+     *
+     * @param id
+     *         ID of the label to obtain
+     */
+    CompletableFuture<Optional<LabelView>> labelView(LabelId id);
+
+    /**
+     * Obtains the views of the labels with the given IDs in a single request.
+     *
+     * @param ids
+     *         the IDs of the labels
+     * @see TodoClient#labelViews(Collection)
+     */
+    CompletableFuture<Map<LabelId, LabelView>> labelViews(Collection<LabelId> ids);
+
+    /**
+     * Obtains a single {@link TaskLabel} by its ID.
+     *
+     * <p>If the system contains no label with such ID, the future is completed with
+     * the {@code other} value.
+     *
+     * @param id
+     *         the label ID to search by
+     * @param other
+     *         the default value of the label
+     */
+    CompletableFuture<TaskLabel> labelOr(LabelId id, @Nullable TaskLabel other);
+
+    /**
+     * Shutdown the connection channel.
+     */
+    void shutdown();
+
+    /**
+     * Creates a new instance of {@code AsyncTodoClient}.
+     *
+     * @param host
+     *         the host of the server to connect to
+     * @param port
+     *         the port of the server to connect to
+     * @return new non-blocking TodoList client
+     */
+    static AsyncTodoClient instance(String host, int port) {
+        return new AsyncTodoClientImpl(host, port);
+    }
+}
@@ -0,0 +1,403 @@
+/*
+ * Copyright 2021, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.todolist.client;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.protobuf.Message;
+import io.grpc.ManagedChannel;
+import io.grpc.ManagedChannelBuilder;
+import io.grpc.stub.StreamObserver;
+import io.spine.base.CommandMessage;
+import io.spine.base.EntityState;
+import io.spine.client.ActorRequestFactory;
+import io.spine.client.CommandFactory;
+import io.spine.client.EntityStateUpdate;
+import io.spine.client.EntityStateWithVersion;
+import io.spine.client.Filter;
+import io.spine.client.Query;
+import io.spine.client.QueryBuilder;
+import io.spine.client.QueryResponse;
+import io.spine.client.Subscription;
+import io.spine.client.SubscriptionUpdate;
+import io.spine.client.Topic;
+import io.spine.client.grpc.CommandServiceGrpc;
+import io.spine.client.grpc.CommandServiceGrpc.CommandServiceStub;
+import io.spine.client.grpc.QueryServiceGrpc;
+import io.spine.client.grpc.QueryServiceGrpc.QueryServiceStub;
+import io.spine.client.grpc.SubscriptionServiceGrpc;
+import io.spine.client.grpc.SubscriptionServiceGrpc.SubscriptionServiceStub;
+import io.spine.core.Ack;
+import io.spine.core.Command;
+import io.spine.core.Response;
+import io.spine.examples.todolist.tasks.LabelId;
+import io.spine.examples.todolist.tasks.Task;
+import io.spine.examples.todolist.tasks.TaskId;
+import io.spine.examples.todolist.tasks.TaskLabel;
+import io.spine.examples.todolist.tasks.TaskLabels;
+import io.spine.examples.todolist.tasks.batch.BatchCommandServiceGrpc;
+import io.spine.examples.todolist.tasks.batch.BatchCommandServiceGrpc.BatchCommandServiceStub;
+import io.spine.examples.todolist.tasks.batch.CommandBatch;
+import io.spine.examples.todolist.tasks.subscription.TaskViewDelta;
+import io.spine.examples.todolist.tasks.subscription.TaskViewSubscriptionServiceGrpc;
+import io.spine.examples.todolist.tasks.subscription.TaskViewSubscriptionServiceGrpc.TaskViewSubscriptionServiceStub;
+import io.spine.examples.todolist.tasks.view.LabelView;
+import io.spine.examples.todolist.tasks.view.LabelledTasks;
+import io.spine.examples.todolist.tasks.view.TaskView;
+
+import javax.annotation.Nullable;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import static com.google.common.collect.ImmutableList.toImmutableList;
+import static io.spine.examples.todolist.client.ClientRequests.TIMEOUT;
+import static io.spine.examples.todolist.client.ClientRequests.byId;
+import static io.spine.examples.todolist.client.ClientRequests.checkOk;
+import static io.spine.examples.todolist.client.ClientRequests.inOrderOf;
+import static io.spine.examples.todolist.client.ClientRequests.single;
+import static io.spine.examples.todolist.client.ClientRequests.taskViewFilters;
+import static io.spine.examples.todolist.client.ClientRequests.userId;
+import static io.spine.protobuf.AnyPacker.unpack;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+/**
+ * An implementation of the non-blocking TodoList gRPC client.
+ *
+ * <p>Calls the gRPC services through the asynchronous stubs sharing a single channel.
+ */
+final class AsyncTodoClientImpl implements AsyncSubscribingTodoClient {
+
+    private final ManagedChannel channel;
+    private final ActorRequestFactory requestFactory;
+    private final CommandServiceStub commandService;
+    private final QueryServiceStub queryService;
+    private final SubscriptionServiceStub subscriptionService;
+    private final BatchCommandServiceStub batchService;
+    private final TaskViewSubscriptionServiceStub taskViewSubscriptionService;
+
+    /**
+     * Construct the client connecting to server at {@code host:port}.
+     */
+    AsyncTodoClientImpl(String host, int port) {
+        this.channel = ManagedChannelBuilder.forAddress(host, port)
+                                            .usePlaintext()
+                                            .build();
+        this.requestFactory = ActorRequestFactory
+                .newBuilder()
+                .setActor(userId())
+                .build();
+        this.commandService = CommandServiceGrpc.newStub(channel);
+        this.queryService = QueryServiceGrpc.newStub(channel);
+        this.subscriptionService = SubscriptionServiceGrpc.newStub(channel);
+        this.batchService = BatchCommandServiceGrpc.newStub(channel);
+        this.taskViewSubscriptionService = TaskViewSubscriptionServiceGrpc.newStub(channel);
+    }
+
+    @Override
+    public CompletableFuture<Ack> postCommand(CommandMessage commandMessage) {
+        Command command = requestFactory.command()
+                                        .create(commandMessage);
+        FutureObserver<Ack> observer = new FutureObserver<>();
+        commandService.post(command, observer);
+        return observer.single();
+    }
+
+    @Override
+    public CompletableFuture<List<Ack>>
+    postCommands(List<? extends CommandMessage> commandMessages) {
+        CommandFactory commandFactory = requestFactory.command();
+        ImmutableList<Command> commands = commandMessages
+                .stream()
+                .map(commandFactory::create)
+                .collect(toImmutableList());
+        CommandBatch batch = CommandBatch
+                .newBuilder()
+                .addAllCommand(commands)
+                .build();
+        FutureObserver<Ack> observer = new FutureObserver<>();
+        batchService.post(batch, observer);
+        return observer.all()
+                       .thenApply(acks -> inOrderOf(commands, acks));
+    }
+
+    @Override
+    public CompletableFuture<List<TaskView>> taskViews() {
+        return getByType(TaskView.class);
+    }
+
+    @Override
+    public CompletableFuture<List<TaskView>> taskViews(TaskViewFilter filter) {
+        return selectTaskViews(filter).thenCompose(found -> {
+            if (!found.isPresent()) {
+                return completedFuture(ImmutableList.of());
+            }
+            Query query = found.get()
+                               .build();
+            return read(query, TaskView.class);
+        });
+    }
+
+    @Override
+    public CompletableFuture<TaskViewPage> taskViews(TaskViewQuery query) {
+        TaskViewPaging paging = new TaskViewPaging(query);
+        return selectTaskViews(query.filter(), paging.pageStart())
+                .thenCompose(found -> {
+                    if (!found.isPresent()) {
+                        return completedFuture(TaskViewPaging.emptyPage());
+                    }
+                    QueryBuilder builder = found
+                            .get()
+                            .orderBy(TaskViewPaging.ORDER_COLUMN, query.direction())
+                            .limit(paging.limit());
+                    ImmutableList<String> mask = query.fieldMask();
+                    if (!mask.isEmpty()) {
+                        builder = builder.withMask(mask);
+                    }
+                    return read(builder.build(), TaskView.class).thenApply(paging::page);
+                });
+    }
+
+    /**
+     * Creates the query of the task views matching the filter.
+     *
+     * @param filter
+     *         the filter of the task views
+     * @param additionalFilters
+     *         the column filters to apply along with the filter
+     * @return the query builder, or an empty {@code Optional} if no task views may match
+     *         the filter
+     */
+    private CompletableFuture<Optional<QueryBuilder>>
+    selectTaskViews(TaskViewFilter filter, Filter... additionalFilters) {
+        ImmutableList<Filter> filters = taskViewFilters(filter, additionalFilters);
+        Optional<LabelId> label = filter.label();
+        if (!label.isPresent()) {
+            return completedFuture(Optional.of(selectTaskViews(filters)));
+        }
+        return labelledTasks(label.get()).thenApply(tasks -> {
+            if (tasks.isEmpty()) {
+                return Optional.empty();
+            }
+            QueryBuilder result = selectTaskViews(filters).byId(tasks);
+            return Optional.of(result);
+        });
+    }
+
+    private QueryBuilder selectTaskViews(ImmutableList<Filter> filters) {
+        QueryBuilder result = requestFactory.query()
+                                            .select(TaskView.class);
+        if (!filters.isEmpty()) {
+            result = result.where(filters.toArray(new Filter[0]));
+        }
+        return result;
+    }
+
+    private CompletableFuture<List<TaskId>> labelledTasks(LabelId label) {
+        return findById(LabelledTasks.class, label)
+                .thenApply(ClientRequests::labelledTasks);
+    }
+
+    @Override
+    public CompletableFuture<Optional<TaskView>> taskView(TaskId id) {
+        return findById(TaskView.class, id);
+    }
+
+    @Override
+    public CompletableFuture<Map<TaskId, TaskView>> taskViews(Collection<TaskId> ids) {
+        return findByIds(TaskView.class, ids, TaskView::getId);
+    }
+
+    @Override
+    public CompletableFuture<List<Task>> tasks() {
+        return getByType(Task.class);
+    }
+
+    @Override
+    public CompletableFuture<List<TaskLabel>> labels() {
+        return getByType(TaskLabel.class);
+    }
+
+    @Override
+    public CompletableFuture<Map<LabelId, TaskLabel>> labels(Collection<LabelId> ids) {
+        return findByIds(TaskLabel.class, ids, TaskLabel::getId);
+    }
+
+    @Override
+    public CompletableFuture<TaskLabels> labelsOf(TaskId taskId) {
+        return findById(TaskLabels.class, taskId)
+                .thenApply(labels -> labels.orElse(TaskLabels.newBuilder()
+                                                             .setTaskId(taskId)
+                                                             .vBuild()));
+    }
+
+    @Override
+    public CompletableFuture<Optional<LabelView>> labelView(LabelId id) {
+        return findById(LabelView.class, id);
+    }
+
+    @Override
+    public CompletableFuture<Map<LabelId, LabelView>> labelViews(Collection<LabelId> ids) {
+        return findByIds(LabelView.class, ids, LabelView::getId);
+    }
+
+    @Override
+    public CompletableFuture<TaskLabel> labelOr(LabelId id, @Nullable TaskLabel other) {
+        return findById(TaskLabel.class, id)
+                .thenApply(found -> found.orElse(other));
+    }
+
+    @Override
+    public CompletableFuture<Subscription> subscribeToTasks(StreamObserver<TaskView> observer) {
+        Topic topic = requestFactory.topic()
+                                    .allOf(TaskView.class);
+        FutureObserver<Subscription> subscribed = new FutureObserver<>();
+        subscriptionService.subscribe(topic, subscribed);
+        return subscribed.single()
+                         .thenApply(subscription -> {
+                             subscriptionService.activate(subscription,
+                                                          new TaskViewForwarder(observer));
+                             return subscription;
+                         });
+    }
+
+    @Override
+    public TaskChangesSubscription
+    subscribeToTaskChanges(Duration window, StreamObserver<TaskViewDelta> observer) {
+        return TaskChangesSubscription.subscribe(taskViewSubscriptionService, window, observer);
+    }
+
+    @Override
+    public CompletableFuture<Void> unSubscribe(Subscription subscription) {
+        FutureObserver<Response> cancelled = new FutureObserver<>();
+        subscriptionService.cancel(subscription, cancelled);
+        return cancelled.single()
+                        .thenAccept(ClientRequests::checkOk);
+    }
+
+    @Override
+    public void shutdown() {
+        try {
+            channel.shutdown()
+                   .awaitTermination(TIMEOUT, SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
+        }
+    }
+
+    /**
+     * Retrieves all the entities of the given type.
+     */
+    private <S extends EntityState> CompletableFuture<List<S>> getByType(Class<S> cls) {
+        Query query = requestFactory.query()
+                                    .select(cls)
+                                    .build();
+        return read(query, cls);
+    }
+
+    private <S extends EntityState> CompletableFuture<Optional<S>>
+    findById(Class<S> messageClass, Message id) {
+        Query query = requestFactory.query()
+                                    .select(messageClass)
+                                    .byId(id)
+                                    .build();
+        return read(query, messageClass).thenApply(messages -> single(messageClass, id, messages));
+    }
+
+    /**
+     * Retrieves the entities with the given IDs in a single query.
+     */
+    private <I extends Message, S extends EntityState> CompletableFuture<Map<I, S>>
+    findByIds(Class<S> messageClass, Collection<I> ids, Function<S, I> idOf) {
+        if (ids.isEmpty()) {
+            return completedFuture(ImmutableMap.of());
+        }
+        Query query = requestFactory.query()
+                                    .select(messageClass)
+                                    .byId(ids)
+                                    .build();
+        return read(query, messageClass).thenApply(messages -> byId(messages, idOf));
+    }
+
+    /**
+     * Runs the query and unpacks the entity states it returns.
+     */
+    private <S extends EntityState> CompletableFuture<List<S>> read(Query query, Class<S> cls) {
+        FutureObserver<QueryResponse> observer = new FutureObserver<>();
+        queryService.read(query, observer);
+        return observer.single()
+                       .thenApply(response -> {
+                           checkOk(response.getResponse());
+                           ImmutableList<S> result = response
+                                   .getMessageList()
+                                   .stream()
+                                   .map(EntityStateWithVersion::getState)
+                                   .map(state -> unpack(state, cls))
+                                   .collect(toImmutableList());
+                           return result;
+                       });
+    }
+
+    /**
+     * Forwards the states of the updated task views to the observer of the subscription.
+     */
+    private static final class TaskViewForwarder implements StreamObserver<SubscriptionUpdate> {
+
+        private final StreamObserver<TaskView> observer;
+
+        private TaskViewForwarder(StreamObserver<TaskView> observer) {
+            this.observer = observer;
+        }
+
+        @Override
+        public void onNext(SubscriptionUpdate update) {
+            update.getEntityUpdates()
+                  .getUpdateList()
+                  .stream()
+                  .filter(entityUpdate -> !entityUpdate.getNoLongerMatching())
+                  .map(EntityStateUpdate::getState)
+                  .map(state -> unpack(state, TaskView.class))
+                  .forEach(observer::onNext);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            observer.onError(t);
+        }
+
+        @Override
+        public void onCompleted() {
+            observer.onCompleted();
+        }
+    }
+}
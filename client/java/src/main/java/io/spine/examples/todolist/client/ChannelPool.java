@@ -0,0 +1,211 @@
+/*
+ * Copyright 2021, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.todolist.client;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import io.grpc.CallOptions;
+import io.grpc.ClientCall;
+import io.grpc.ManagedChannel;
+import io.grpc.ManagedChannelBuilder;
+import io.grpc.MethodDescriptor;
+import io.spine.client.grpc.CommandServiceGrpc;
+import io.spine.client.grpc.QueryServiceGrpc;
+import io.spine.client.grpc.SubscriptionServiceGrpc;
+import io.spine.examples.todolist.tasks.batch.BatchCommandServiceGrpc;
+import io.spine.examples.todolist.tasks.subscription.TaskViewSubscriptionServiceGrpc;
+
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.lang.Math.floorMod;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * A channel spreading the calls over several connections in turn.
+ *
+ * <p>Opens the {@linkplain ClientConfig#channelsPerServer() configured} number of channels
+ * to each of the {@linkplain ClientConfig#servers() servers}, and starts each new call on
+ * the next channel. A streaming call stays on the channel it was started on.
+ *
+ * <p>The subscriptions are not made through a pool of several servers, since a server notifies
+ * only of the changes it makes itself. Several channels to a single server may serve
+ * the subscriptions, as the server keeps them regardless of the connection.
+ */
+final class ChannelPool extends ManagedChannel {
+
+    private static final String UNAVAILABLE = "UNAVAILABLE";
+
+    private final ImmutableList<ManagedChannel> channels;
+    private final AtomicInteger next = new AtomicInteger();
+
+    private ChannelPool(ImmutableList<ManagedChannel> channels) {
+        this.channels = channels;
+    }
+
+    /**
+     * Opens the channels to the servers of the given configuration.
+     *
+     * @return the only channel if the configuration has a single connection, or a pool of
+     *         the channels otherwise
+     */
+    static ManagedChannel open(ClientConfig config) {
+        ImmutableList.Builder<ManagedChannel> channels = ImmutableList.builder();
+        for (InetSocketAddress server : config.servers()) {
+            for (int i = 0; i < config.channelsPerServer(); i++) {
+                channels.add(openChannel(server, config));
+            }
+        }
+        ImmutableList<ManagedChannel> opened = channels.build();
+        return opened.size() == 1
+               ? opened.get(0)
+               : new ChannelPool(opened);
+    }
+
+    private static ManagedChannel openChannel(InetSocketAddress server, ClientConfig config) {
+        ManagedChannelBuilder<?> builder =
+                ManagedChannelBuilder.forAddress(server.getHostString(), server.getPort())
+                                     .usePlaintext();
+        Duration keepAliveTime = config.keepAliveTime();
+        if (!keepAliveTime.isZero()) {
+            builder.keepAliveTime(keepAliveTime.toMillis(), MILLISECONDS)
+                   .keepAliveTimeout(config.keepAliveTimeout()
+                                           .toMillis(), MILLISECONDS)
+                   .keepAliveWithoutCalls(true);
+        }
+        int maxAttempts = config.maxAttempts();
+        if (maxAttempts > 1) {
+            builder.enableRetry()
+                   .maxRetryAttempts(maxAttempts)
+                   .maxHedgedAttempts(maxAttempts)
+                   .defaultServiceConfig(serviceConfig(maxAttempts, config.hedgingDelay()));
+        }
+        return builder.build();
+    }
+
+    /**
+     * Composes the gRPC service config with the retry policy of the calls.
+     *
+     * <p>The queries are hedged if the hedging delay is set. The rest of the calls, and
+     * the queries otherwise, are retried after they fail with the {@code UNAVAILABLE} status.
+     */
+    private static ImmutableMap<String, ?> serviceConfig(int maxAttempts, Duration hedgingDelay) {
+        ImmutableMap<String, ?> retryPolicy = ImmutableMap.of(
+                "maxAttempts", (double) maxAttempts,
+                "initialBackoff", "0.1s",
+                "maxBackoff", "1s",
+                "backoffMultiplier", 2.0,
+                "retryableStatusCodes", ImmutableList.of(UNAVAILABLE)
+        );
+        ImmutableMap<String, ?> retried = ImmutableMap.of(
+                "name", ImmutableList.of(service(CommandServiceGrpc.SERVICE_NAME),
+                                         service(SubscriptionServiceGrpc.SERVICE_NAME),
+                                         service(BatchCommandServiceGrpc.SERVICE_NAME),
+                                         service(TaskViewSubscriptionServiceGrpc.SERVICE_NAME)),
+                "retryPolicy", retryPolicy
+        );
+        ImmutableMap<String, ?> queries;
+        if (hedgingDelay.isZero()) {
+            queries = ImmutableMap.of(
+                    "name", ImmutableList.of(service(QueryServiceGrpc.SERVICE_NAME)),
+                    "retryPolicy", retryPolicy
+            );
+        } else {
+            queries = ImmutableMap.of(
+                    "name", ImmutableList.of(service(QueryServiceGrpc.SERVICE_NAME)),
+                    "hedgingPolicy", ImmutableMap.of(
+                            "maxAttempts", (double) maxAttempts,
+                            "hedgingDelay", seconds(hedgingDelay),
+                            "nonFatalStatusCodes", ImmutableList.of(UNAVAILABLE)
+                    )
+            );
+        }
+        return ImmutableMap.of("methodConfig", ImmutableList.of(retried, queries));
+    }
+
+    private static ImmutableMap<String, ?> service(String name) {
+        return ImmutableMap.of("service", name);
+    }
+
+    private static String seconds(Duration duration) {
+        return String.format(Locale.ROOT, "%.3fs", duration.toMillis() / 1000.0);
+    }
+
+    @Override
+    public <Q, R> ClientCall<Q, R> newCall(MethodDescriptor<Q, R> method,
+                                           CallOptions callOptions) {
+        int index = floorMod(next.getAndIncrement(), channels.size());
+        return channels.get(index)
+                       .newCall(method, callOptions);
+    }
+
+    @Override
+    public String authority() {
+        return channels.get(0)
+                       .authority();
+    }
+
+    @Override
+    public ManagedChannel shutdown() {
+        channels.forEach(ManagedChannel::shutdown);
+        return this;
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return channels.stream()
+                       .allMatch(ManagedChannel::isShutdown);
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return channels.stream()
+                       .allMatch(ManagedChannel::isTerminated);
+    }
+
+    @Override
+    public ManagedChannel shutdownNow() {
+        channels.forEach(ManagedChannel::shutdownNow);
+        return this;
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        for (ManagedChannel channel : channels) {
+            long remaining = deadline - System.nanoTime();
+            if (!channel.awaitTermination(remaining, NANOSECONDS)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
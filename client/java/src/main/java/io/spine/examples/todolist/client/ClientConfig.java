@@ -0,0 +1,420 @@
+/*
+ * Copyright 2021, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.todolist.client;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Splitter;
+import com.google.common.collect.ImmutableList;
+
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+import static com.google.common.collect.ImmutableList.toImmutableList;
+import static io.spine.client.ConnectionConstants.DEFAULT_CLIENT_SERVICE_PORT;
+import static io.spine.examples.todolist.client.TodoClient.HOST;
+
+/**
+ * The configuration of the connections of a TodoList client.
+ *
+ * <p>By default, the client opens a single connection to the server at {@code localhost}.
+ * A client sending many calls at once may open a {@linkplain Builder#setChannelsPerServer(int)
+ * few connections} to each of {@linkplain Builder#addServer(String, int) several servers}.
+ * The calls are then spread over all the connections in turn.
+ *
+ * <p>A server notifies its subscribers only of the changes of the entities made by that server.
+ * So a client connected to several servers can neither subscribe to the changes of
+ * the entities nor {@linkplain Builder#setCacheSize(long) cache} them, as it would miss
+ * the changes made by the other servers.
+ *
+ * <p>Use {@link #defaults()} to obtain the configuration with the default values,
+ * {@link #fromSystemProperties()} to read the values specified with the {@code -D} Java option,
+ * or {@link #newBuilder()} to compose the configuration manually.
+ */
+public final class ClientConfig {
+
+    @VisibleForTesting
+    static final String SERVERS = "todolist.client.servers";
+
+    @VisibleForTesting
+    static final String CHANNELS_PER_SERVER = "todolist.client.channels";
+
+    @VisibleForTesting
+    static final String KEEP_ALIVE_TIME = "todolist.client.keepalive.time";
+
+    @VisibleForTesting
+    static final String KEEP_ALIVE_TIMEOUT = "todolist.client.keepalive.timeout";
+
+    @VisibleForTesting
+    static final String MAX_ATTEMPTS = "todolist.client.max.attempts";
+
+    @VisibleForTesting
+    static final String HEDGING_DELAY = "todolist.client.hedging.delay";
+
+    @VisibleForTesting
+    static final String CACHE_SIZE = "todolist.client.cache.size";
+
+    private static final ClientConfig DEFAULTS = newBuilder().build();
+
+    private final ImmutableList<InetSocketAddress> servers;
+    private final int channelsPerServer;
+    private final Duration keepAliveTime;
+    private final Duration keepAliveTimeout;
+    private final int maxAttempts;
+    private final Duration hedgingDelay;
+    private final long cacheSize;
+
+    private ClientConfig(Builder builder) {
+        ImmutableList<InetSocketAddress> servers = builder.servers.build();
+        this.servers = servers.isEmpty()
+                       ? ImmutableList.of(address(HOST, DEFAULT_CLIENT_SERVICE_PORT))
+                       : servers;
+        this.channelsPerServer = builder.channelsPerServer;
+        this.keepAliveTime = builder.keepAliveTime;
+        this.keepAliveTimeout = builder.keepAliveTimeout;
+        this.maxAttempts = builder.maxAttempts;
+        this.hedgingDelay = builder.hedgingDelay;
+        this.cacheSize = builder.cacheSize;
+    }
+
+    /**
+     * Returns the configuration with the default values.
+     */
+    public static ClientConfig defaults() {
+        return DEFAULTS;
+    }
+
+    /**
+     * Assembles the configuration from the system properties, specified with the {@code -D}
+     * Java option.
+     *
+     * <p>The values which are not specified are set to their defaults. The servers are
+     * specified as a comma-separated list of {@code host:port} pairs. The durations are
+     * specified in milliseconds.
+     *
+     * @return the configuration assembled from the system properties
+     * @see System#getProperty(String)
+     */
+    public static ClientConfig fromSystemProperties() {
+        Builder builder = newBuilder();
+        systemOption(SERVERS)
+                .map(ClientConfig::parseServers)
+                .ifPresent(servers -> servers.forEach(builder::addServer));
+        systemOption(CHANNELS_PER_SERVER)
+                .map(Integer::parseInt)
+                .ifPresent(builder::setChannelsPerServer);
+        systemOption(KEEP_ALIVE_TIME)
+                .map(Long::parseLong)
+                .map(Duration::ofMillis)
+                .ifPresent(builder::setKeepAliveTime);
+        systemOption(KEEP_ALIVE_TIMEOUT)
+                .map(Long::parseLong)
+                .map(Duration::ofMillis)
+                .ifPresent(builder::setKeepAliveTimeout);
+        systemOption(MAX_ATTEMPTS)
+                .map(Integer::parseInt)
+                .ifPresent(builder::setMaxAttempts);
+        systemOption(HEDGING_DELAY)
+                .map(Long::parseLong)
+                .map(Duration::ofMillis)
+                .ifPresent(builder::setHedgingDelay);
+        systemOption(CACHE_SIZE)
+                .map(Long::parseLong)
+                .ifPresent(builder::setCacheSize);
+        return builder.build();
+    }
+
+    private static ImmutableList<InetSocketAddress> parseServers(String value) {
+        ImmutableList<InetSocketAddress> result =
+                Splitter.on(',')
+                        .trimResults()
+                        .omitEmptyStrings()
+                        .splitToList(value)
+                        .stream()
+                        .map(ClientConfig::parseServer)
+                        .collect(toImmutableList());
+        return result;
+    }
+
+    private static InetSocketAddress parseServer(String value) {
+        int separator = value.lastIndexOf(':');
+        checkArgument(separator > 0,
+                      "The server must be specified as `host:port`, but was `%s`.", value);
+        String host = value.substring(0, separator);
+        int port = Integer.parseInt(value.substring(separator + 1));
+        return address(host, port);
+    }
+
+    private static InetSocketAddress address(String host, int port) {
+        return InetSocketAddress.createUnresolved(host, port);
+    }
+
+    /**
+     * Returns a new builder for manual composition of the configuration.
+     */
+    public static Builder newBuilder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns the addresses of the servers to connect to.
+     */
+    public List<InetSocketAddress> servers() {
+        return servers;
+    }
+
+    /**
+     * Tells if the client connects to more than one server.
+     */
+    public boolean severalServers() {
+        return servers.size() > 1;
+    }
+
+    /**
+     * Returns the number of the connections opened to each of the servers.
+     */
+    public int channelsPerServer() {
+        return channelsPerServer;
+    }
+
+    /**
+     * Returns the time without reads after which the client pings the server.
+     *
+     * <p>Zero means that the client does not ping the server.
+     */
+    public Duration keepAliveTime() {
+        return keepAliveTime;
+    }
+
+    /**
+     * Returns the time to wait for a ping acknowledgement before closing the connection.
+     */
+    public Duration keepAliveTimeout() {
+        return keepAliveTimeout;
+    }
+
+    /**
+     * Returns the maximum number of attempts of a call, including the first one.
+     *
+     * <p>One means that the failed calls are not retried.
+     */
+    public int maxAttempts() {
+        return maxAttempts;
+    }
+
+    /**
+     * Returns the time after which a query with no response is sent again while
+     * the first attempt is still in flight.
+     *
+     * <p>Zero means that the queries are retried only after they fail, as the other calls.
+     */
+    public Duration hedgingDelay() {
+        return hedgingDelay;
+    }
+
+    /**
+     * Returns the maximum number of the cached states of each type of the entities.
+     *
+     * <p>Zero means that the client does not cache the entities.
+     *
+     * @see TodoClient#cachingInstance(String, int, long)
+     */
+    public long cacheSize() {
+        return cacheSize;
+    }
+
+    @SuppressWarnings("AccessOfSystemProperties")
+    private static Optional<String> systemOption(String optionKey) {
+        Optional<String> result = Optional.ofNullable(System.getProperty(optionKey));
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                          .add("servers", servers)
+                          .add("channelsPerServer", channelsPerServer)
+                          .add("keepAliveTime", keepAliveTime)
+                          .add("keepAliveTimeout", keepAliveTimeout)
+                          .add("maxAttempts", maxAttempts)
+                          .add("hedgingDelay", hedgingDelay)
+                          .add("cacheSize", cacheSize)
+                          .toString();
+    }
+
+    /**
+     * A builder of the client configuration.
+     */
+    public static final class Builder {
+
+        private final ImmutableList.Builder<InetSocketAddress> servers = ImmutableList.builder();
+        private int channelsPerServer = 1;
+        private Duration keepAliveTime = Duration.ZERO;
+        private Duration keepAliveTimeout = Duration.ofSeconds(20);
+        private int maxAttempts = 1;
+        private Duration hedgingDelay = Duration.ZERO;
+        private long cacheSize;
+
+        private Builder() {
+        }
+
+        /**
+         * Adds the server to connect to.
+         *
+         * <p>By default, the client connects to the server at {@code localhost} on
+         * the {@linkplain io.spine.client.ConnectionConstants#DEFAULT_CLIENT_SERVICE_PORT
+         * default port}.
+         */
+        public Builder addServer(String host, int port) {
+            checkNotNull(host);
+            checkArgument(port > 0, "The port must be positive, but was %s.", port);
+            return addServer(address(host, port));
+        }
+
+        private Builder addServer(InetSocketAddress server) {
+            this.servers.add(server);
+            return this;
+        }
+
+        /**
+         * Sets the number of the connections opened to each of the servers.
+         *
+         * <p>A single HTTP/2 connection serves all the calls of the channel, so it may limit
+         * the throughput of a client with many calls in flight.
+         *
+         * <p>By default, a single connection is opened.
+         */
+        public Builder setChannelsPerServer(int channelsPerServer) {
+            checkArgument(channelsPerServer > 0,
+                          "The number of channels must be positive, but was %s.",
+                          channelsPerServer);
+            this.channelsPerServer = channelsPerServer;
+            return this;
+        }
+
+        /**
+         * Sets the time without reads after which the client pings the server.
+         *
+         * <p>The pings keep the idle connections open through the proxies and detect
+         * the broken ones. The time should not be shorter than the minimum ping interval
+         * permitted by the server, or the server may close the connection.
+         *
+         * <p>By default, the client does not ping the server. Set to zero to disable
+         * the pings explicitly.
+         */
+        public Builder setKeepAliveTime(Duration keepAliveTime) {
+            checkNotNull(keepAliveTime);
+            checkArgument(!keepAliveTime.isNegative(),
+                          "The keep-alive time must not be negative, but was %s.",
+                          keepAliveTime);
+            this.keepAliveTime = keepAliveTime;
+            return this;
+        }
+
+        /**
+         * Sets the time to wait for a ping acknowledgement before closing the connection.
+         *
+         * <p>By default, equals to 20 seconds.
+         */
+        public Builder setKeepAliveTimeout(Duration keepAliveTimeout) {
+            checkNotNull(keepAliveTimeout);
+            checkArgument(!keepAliveTimeout.isNegative() && !keepAliveTimeout.isZero(),
+                          "The keep-alive timeout must be positive, but was %s.",
+                          keepAliveTimeout);
+            this.keepAliveTimeout = keepAliveTimeout;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of attempts of a call, including the first one.
+         *
+         * <p>Only the calls failed with the {@code UNAVAILABLE} status are retried,
+         * with the exponential backoff. A retried command keeps its ID, so the server
+         * recognizes the duplicate if the first attempt has reached it.
+         *
+         * <p>By default, the calls are not retried.
+         */
+        public Builder setMaxAttempts(int maxAttempts) {
+            checkArgument(maxAttempts > 0,
+                          "The number of attempts must be positive, but was %s.", maxAttempts);
+            this.maxAttempts = maxAttempts;
+            return this;
+        }
+
+        /**
+         * Sets the time after which a query with no response is sent again while
+         * the first attempt is still in flight.
+         *
+         * <p>The first response received is used, and the other attempts are cancelled.
+         * Up to the {@linkplain #setMaxAttempts(int) maximum number of attempts} are sent.
+         * Only the queries are hedged, as they do not change the state of the server.
+         *
+         * <p>By default, the queries are not hedged. Set to zero to disable the hedging
+         * explicitly.
+         */
+        public Builder setHedgingDelay(Duration hedgingDelay) {
+            checkNotNull(hedgingDelay);
+            checkArgument(!hedgingDelay.isNegative(),
+                          "The hedging delay must not be negative, but was %s.", hedgingDelay);
+            this.hedgingDelay = hedgingDelay;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of the cached states of each type of the entities.
+         *
+         * <p>By default, the client does not cache the entities. The entities cannot be cached
+         * if the client connects to several servers.
+         *
+         * @see TodoClient#cachingInstance(String, int, long)
+         */
+        public Builder setCacheSize(long cacheSize) {
+            checkArgument(cacheSize >= 0,
+                          "The cache size must not be negative, but was %s.", cacheSize);
+            this.cacheSize = cacheSize;
+            return this;
+        }
+
+        /**
+         * Creates a new instance of {@code ClientConfig}.
+         *
+         * @throws IllegalStateException
+         *         if the cache is enabled for several servers
+         */
+        public ClientConfig build() {
+            ClientConfig result = new ClientConfig(this);
+            checkState(result.cacheSize == 0 || !result.severalServers(),
+                       "The entities cannot be cached when connected to several servers.");
+            return result;
+        }
+    }
+}
@@ -0,0 +1,207 @@
+/*
+ * Copyright 2021, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.todolist.client;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.protobuf.Message;
+import io.spine.base.EntityState;
+import io.spine.base.Identifier;
+import io.spine.client.Filter;
+import io.spine.core.Ack;
+import io.spine.core.Command;
+import io.spine.core.CommandId;
+import io.spine.core.Response;
+import io.spine.core.Status;
+import io.spine.core.UserId;
+import io.spine.examples.todolist.tasks.TaskId;
+import io.spine.examples.todolist.tasks.view.LabelledTasks;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+import static com.google.common.base.Preconditions.checkState;
+import static com.google.common.collect.ImmutableList.toImmutableList;
+import static io.spine.base.Identifier.newUuid;
+import static io.spine.protobuf.AnyPacker.unpack;
+import static io.spine.util.Exceptions.newIllegalStateException;
+
+/**
+ * Builds the requests and handles the responses in the same way for the blocking and
+ * the non-blocking clients.
+ */
+final class ClientRequests {
+
+    /**
+     * The time in seconds to wait for the channel to shut down.
+     */
+    static final int TIMEOUT = 10;
+
+    /** Prevents instantiation of this utility class. */
+    private ClientRequests() {
+    }
+
+    /**
+     * Generates the ID of the user on behalf of whom a client sends the requests.
+     */
+    static UserId userId() {
+        return UserId
+                .newBuilder()
+                .setValue(newUuid())
+                .vBuild();
+    }
+
+    /**
+     * Combines the column filters of the task view filter with the additional ones.
+     */
+    static ImmutableList<Filter>
+    taskViewFilters(TaskViewFilter filter, Filter... additionalFilters) {
+        ImmutableList<Filter> result = ImmutableList
+                .<Filter>builder()
+                .addAll(filter.columnFilters())
+                .add(additionalFilters)
+                .build();
+        return result;
+    }
+
+    /**
+     * Obtains the IDs of the tasks with a label.
+     *
+     * @param found
+     *         the labelled tasks projection of the label, if any
+     */
+    static List<TaskId> labelledTasks(Optional<LabelledTasks> found) {
+        List<TaskId> result = found.map(LabelledTasks::getTaskList)
+                                   .orElse(ImmutableList.of());
+        return result;
+    }
+
+    /**
+     * Obtains the entity found by its ID.
+     *
+     * @param messageClass
+     *         the state class of the entity
+     * @param id
+     *         the ID of the entity
+     * @param found
+     *         the states returned by the query of the entity
+     * @return the state of the entity or {@code Optional.empty()} if it is not found
+     * @throws IllegalStateException
+     *         if the query returned more than one state
+     */
+    static <S extends EntityState> Optional<S>
+    single(Class<S> messageClass, Message id, List<S> found) {
+        checkState(found.size() <= 1,
+                   "Too many %s-s with ID %s:%s %s",
+                   messageClass.getSimpleName(), Identifier.toString(id),
+                   System.lineSeparator(), found);
+        Optional<S> result = found.stream()
+                                  .findFirst();
+        return result;
+    }
+
+    /**
+     * Maps the entity states found by their IDs.
+     *
+     * @param found
+     *         the states returned by the query of the entities
+     * @param idOf
+     *         obtains the ID of an entity from its state
+     * @throws IllegalStateException
+     *         if the query returned more than one state per ID
+     */
+    static <I extends Message, S extends EntityState> ImmutableMap<I, S>
+    byId(List<S> found, Function<S, I> idOf) {
+        Map<I, S> result = new HashMap<>(found.size());
+        for (S state : found) {
+            I id = idOf.apply(state);
+            S previous = result.put(id, state);
+            if (previous != null) {
+                throw newIllegalStateException("Too many %s-s with ID %s.",
+                                               state.getClass()
+                                                    .getSimpleName(),
+                                               Identifier.toString(id));
+            }
+        }
+        return ImmutableMap.copyOf(result);
+    }
+
+    /**
+     * Orders the acknowledgements as the acknowledged commands.
+     *
+     * @param commands
+     *         the posted commands
+     * @param acks
+     *         the acknowledgements received from the server in any order
+     * @return the acknowledgement of each command
+     * @throws IllegalStateException
+     *         if a command is acknowledged more than once or is not acknowledged
+     */
+    static ImmutableList<Ack> inOrderOf(List<Command> commands, Iterable<Ack> acks) {
+        Map<CommandId, Ack> byCommand = new HashMap<>(commands.size());
+        for (Ack ack : acks) {
+            CommandId id = unpack(ack.getMessageId(), CommandId.class);
+            if (byCommand.put(id, ack) != null) {
+                throw newIllegalStateException(
+                        "The command `%s` is acknowledged more than once.", id.getUuid());
+            }
+        }
+        ImmutableList<Ack> result = commands
+                .stream()
+                .map(command -> ackOf(command, byCommand))
+                .collect(toImmutableList());
+        return result;
+    }
+
+    private static Ack ackOf(Command command, Map<CommandId, Ack> acks) {
+        CommandId id = command.getId();
+        Ack result = acks.get(id);
+        if (result == null) {
+            throw newIllegalStateException(
+                    "The command `%s` is not acknowledged.", id.getUuid());
+        }
+        return result;
+    }
+
+    /**
+     * Ensures that the server handled the request successfully.
+     *
+     * @throws IllegalStateException
+     *         if the response holds an error
+     */
+    static void checkOk(Response response) {
+        Status status = response.getStatus();
+        if (status.hasError()) {
+            throw newIllegalStateException("The server failed to handle the request: %s",
+                                           status.getError()
+                                                 .getMessage());
+        }
+    }
+}
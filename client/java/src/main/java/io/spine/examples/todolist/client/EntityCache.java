@@ -0,0 +1,204 @@
+/*
+ * Copyright 2021, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.todolist.client;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalNotification;
+import com.google.common.collect.ImmutableMap;
+import com.google.protobuf.Message;
+import io.grpc.stub.StreamObserver;
+import io.spine.base.EntityState;
+import io.spine.client.EntityStateUpdate;
+import io.spine.client.SubscriptionUpdate;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static io.spine.protobuf.AnyPacker.unpack;
+
+/**
+ * The states of the entities of a single type cached by the client.
+ *
+ * <p>The cache is populated with the query results and updated by the subscription to
+ * the entities of the type. When the cache holds {@code maxEntries} states, the least recently
+ * used states are evicted.
+ *
+ * <p>A state received from the subscription replaces the cached one. A state returned by
+ * a query is only cached if there is no state for the entity yet and the subscription has not
+ * delivered any update of the entity since the query started. Otherwise the query could bring
+ * back a stale state, e.g. after the updated state is evicted or the entity stops matching
+ * the subscription.
+ *
+ * <p>The updates are numbered by their generation. Before starting a query, the client takes
+ * the {@linkplain #generation() current generation} and then offers the query results along
+ * with it. The cache remembers the generation of the last update of as many entities as it
+ * holds the states of. If the generation of an entity is forgotten, the offers of the queries
+ * started before it was forgotten are dropped.
+ *
+ * <p>If the subscription fails or completes, the cache is cleared and stays empty, since it
+ * could no longer tell the stale states.
+ *
+ * @param <I>
+ *         the type of the entity IDs
+ * @param <S>
+ *         the type of the entity states
+ */
+final class EntityCache<I extends Message, S extends EntityState>
+        implements StreamObserver<SubscriptionUpdate> {
+
+    private final Class<I> idClass;
+    private final Class<S> stateClass;
+    private final Cache<I, S> states;
+
+    /**
+     * The generations of the last updates received from the subscription by the entity IDs.
+     */
+    private final Cache<I, Long> updated;
+
+    /**
+     * The generation of the last update received from the subscription.
+     */
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * The latest generation evicted from the {@link #updated} generations.
+     */
+    private final AtomicLong forgotten = new AtomicLong();
+
+    private volatile boolean live = true;
+
+    EntityCache(Class<I> idClass, Class<S> stateClass, long maxEntries) {
+        checkArgument(maxEntries > 0, "The cache must hold at least one entry.");
+        this.idClass = idClass;
+        this.stateClass = stateClass;
+        this.states = CacheBuilder.newBuilder()
+                                  .maximumSize(maxEntries)
+                                  .build();
+        this.updated = CacheBuilder.newBuilder()
+                                   .maximumSize(maxEntries)
+                                   .removalListener(this::onForgotten)
+                                   .build();
+    }
+
+    private void onForgotten(RemovalNotification<I, Long> notification) {
+        Long forgottenGeneration = notification.getValue();
+        if (notification.wasEvicted() && forgottenGeneration != null) {
+            forgotten.accumulateAndGet(forgottenGeneration, Math::max);
+        }
+    }
+
+    /**
+     * Obtains the cached state of the entity with the given ID.
+     */
+    Optional<S> get(I id) {
+        return Optional.ofNullable(states.getIfPresent(id));
+    }
+
+    /**
+     * Obtains the cached states of the entities with the given IDs.
+     *
+     * <p>The IDs with no cached states are omitted.
+     */
+    ImmutableMap<I, S> getAll(Collection<I> ids) {
+        return states.getAllPresent(ids);
+    }
+
+    /**
+     * Obtains the generation of the last update received from the subscription.
+     *
+     * <p>The generation is taken before starting a query, and then passed to
+     * {@link #offer(Message, EntityState, long) offer(..)} along with the query results.
+     */
+    long generation() {
+        return generation.get();
+    }
+
+    /**
+     * Caches the state returned by a query, unless the state of the entity is already cached,
+     * or the entity was updated since the query started.
+     *
+     * @param id
+     *         the ID of the entity
+     * @param state
+     *         the state of the entity returned by the query
+     * @param queryGeneration
+     *         the {@linkplain #generation() generation} taken before starting the query
+     */
+    void offer(I id, S state, long queryGeneration) {
+        if (!live) {
+            return;
+        }
+        states.asMap()
+              .compute(id, (key, cached) -> {
+                  if (cached != null || updatedSince(key, queryGeneration)) {
+                      return cached;
+                  }
+                  return state;
+              });
+    }
+
+    private boolean updatedSince(I id, long queryGeneration) {
+        if (forgotten.get() > queryGeneration) {
+            return true;
+        }
+        Long updatedGeneration = updated.getIfPresent(id);
+        boolean result = updatedGeneration != null && updatedGeneration > queryGeneration;
+        return result;
+    }
+
+    @Override
+    public void onNext(SubscriptionUpdate update) {
+        for (EntityStateUpdate entityUpdate : update.getEntityUpdates()
+                                                    .getUpdateList()) {
+            I id = unpack(entityUpdate.getId(), idClass);
+            updated.put(id, generation.incrementAndGet());
+            if (entityUpdate.getNoLongerMatching()) {
+                states.invalidate(id);
+            } else {
+                states.put(id, unpack(entityUpdate.getState(), stateClass));
+            }
+        }
+    }
+
+    @Override
+    public void onError(Throwable t) {
+        stop();
+    }
+
+    @Override
+    public void onCompleted() {
+        stop();
+    }
+
+    private void stop() {
+        live = false;
+        states.invalidateAll();
+    }
+}
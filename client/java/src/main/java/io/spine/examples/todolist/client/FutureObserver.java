@@ -0,0 +1,84 @@
+/*
+ * Copyright 2021, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.todolist.client;
+
+import com.google.common.collect.ImmutableList;
+import io.grpc.stub.StreamObserver;
+
+import java.util.concurrent.CompletableFuture;
+
+import static io.spine.util.Exceptions.newIllegalStateException;
+
+/**
+ * Collects the responses of a gRPC call into a {@link CompletableFuture}.
+ *
+ * <p>The future is completed once the call is completed, or completed exceptionally if the call
+ * fails.
+ *
+ * @param <T>
+ *         the type of the responses
+ */
+final class FutureObserver<T> implements StreamObserver<T> {
+
+    private final ImmutableList.Builder<T> values = ImmutableList.builder();
+    private final CompletableFuture<ImmutableList<T>> future = new CompletableFuture<>();
+
+    /**
+     * Obtains all the responses of the call.
+     */
+    CompletableFuture<ImmutableList<T>> all() {
+        return future;
+    }
+
+    /**
+     * Obtains the only response of a unary call.
+     */
+    CompletableFuture<T> single() {
+        return future.thenApply(list -> {
+            if (list.size() != 1) {
+                throw newIllegalStateException("Expected a single response, but got %d.",
+                                               list.size());
+            }
+            return list.get(0);
+        });
+    }
+
+    @Override
+    public void onNext(T value) {
+        values.add(value);
+    }
+
+    @Override
+    public void onError(Throwable t) {
+        future.completeExceptionally(t);
+    }
+
+    @Override
+    public void onCompleted() {
+        future.complete(values.build());
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2021, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.todolist.client;
+
+import com.google.common.collect.ImmutableList;
+import io.grpc.ManagedChannel;
+import io.spine.base.EntityState;
+import io.spine.client.ActorRequestFactory;
+import io.spine.client.Subscription;
+import io.spine.client.Topic;
+import io.spine.client.grpc.SubscriptionServiceGrpc;
+import io.spine.client.grpc.SubscriptionServiceGrpc.SubscriptionServiceBlockingStub;
+import io.spine.client.grpc.SubscriptionServiceGrpc.SubscriptionServiceStub;
+import io.spine.examples.todolist.tasks.LabelId;
+import io.spine.examples.todolist.tasks.TaskId;
+import io.spine.examples.todolist.tasks.TaskLabel;
+import io.spine.examples.todolist.tasks.view.LabelView;
+import io.spine.examples.todolist.tasks.view.TaskView;
+
+/**
+ * The client-side cache of the task views, the label views and the labels.
+ *
+ * <p>Subscribes to each of the cached types when created, and keeps the cached states up to
+ * date with the subscription updates. Each type holds up to {@code maxEntries} states.
+ *
+ * @see EntityCache
+ */
+final class ReadCache {
+
+    private final SubscriptionServiceBlockingStub subscriptionService;
+    private final EntityCache<TaskId, TaskView> taskViews;
+    private final EntityCache<LabelId, LabelView> labelViews;
+    private final EntityCache<LabelId, TaskLabel> labels;
+    private final ImmutableList<Subscription> subscriptions;
+
+    private ReadCache(ManagedChannel channel, ActorRequestFactory requestFactory, long maxEntries) {
+        this.subscriptionService = SubscriptionServiceGrpc.newBlockingStub(channel);
+        SubscriptionServiceStub updates = SubscriptionServiceGrpc.newStub(channel);
+        this.taskViews = new EntityCache<>(TaskId.class, TaskView.class, maxEntries);
+        this.labelViews = new EntityCache<>(LabelId.class, LabelView.class, maxEntries);
+        this.labels = new EntityCache<>(LabelId.class, TaskLabel.class, maxEntries);
+        this.subscriptions = ImmutableList.of(
+                subscribeTo(requestFactory, updates, TaskView.class, taskViews),
+                subscribeTo(requestFactory, updates, LabelView.class, labelViews),
+                subscribeTo(requestFactory, updates, TaskLabel.class, labels)
+        );
+    }
+
+    /**
+     * Creates a cache subscribed to the updates of the cached entities.
+     *
+     * @param channel
+     *         the channel to the server
+     * @param requestFactory
+     *         the factory of the subscription requests
+     * @param maxEntries
+     *         the maximum number of the cached states of each type
+     * @return new cache
+     */
+    static ReadCache subscribe(ManagedChannel channel,
+                               ActorRequestFactory requestFactory,
+                               long maxEntries) {
+        return new ReadCache(channel, requestFactory, maxEntries);
+    }
+
+    private Subscription subscribeTo(ActorRequestFactory requestFactory,
+                                     SubscriptionServiceStub updates,
+                                     Class<? extends EntityState> type,
+                                     EntityCache<?, ?> cache) {
+        Topic topic = requestFactory.topic()
+                                    .allOf(type);
+        Subscription result = subscriptionService.subscribe(topic);
+        updates.activate(result, cache);
+        return result;
+    }
+
+    EntityCache<TaskId, TaskView> taskViews() {
+        return taskViews;
+    }
+
+    EntityCache<LabelId, LabelView> labelViews() {
+        return labelViews;
+    }
+
+    EntityCache<LabelId, TaskLabel> labels() {
+        return labels;
+    }
+
+    /**
+     * Cancels the subscriptions of the cache.
+     */
+    @SuppressWarnings("CheckReturnValue") // The channel is closed right after.
+    void close() {
+        subscriptions.forEach(subscriptionService::cancel);
+    }
+}
@@ -28,8 +28,13 @@ package io.spine.examples.todolist.client;
 
 import io.grpc.stub.StreamObserver;
 import io.spine.client.Subscription;
+import io.spine.examples.todolist.tasks.subscription.TaskViewDelta;
 import io.spine.examples.todolist.tasks.view.TaskView;
 
+import java.time.Duration;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
 /**
  * A TodoList gRPC client able to make calls to the {@code SubscriptionService}.
  */
@@ -41,9 +46,34 @@ public interface SubscribingTodoClient extends TodoClient {
      * @param observer
      *         the result observer
      * @return the new {@link Subscription}
+     * @throws IllegalStateException
+     *         if the client connects to {@linkplain ClientConfig#severalServers() several
+     *         servers}
      */
     Subscription subscribeToTasks(StreamObserver<TaskView> observer);
 
+    /**
+     * Subscribes the given {@code observer} onto the changes of the {@link TaskView} entities.
+     *
+     * <p>Unlike {@link #subscribeToTasks(StreamObserver)}, the server sends only the fields
+     * changed since the previous delta of the same task view. The updates of a task view
+     * happening within the {@code window} are sent as a single delta. Use
+     * {@link TaskViewDeltas#apply(TaskView, TaskViewDelta)} to restore the whole state of
+     * a task view.
+     *
+     * @param window
+     *         the period over which the updates of a task view are coalesced;
+     *         {@link Duration#ZERO} to receive each update as soon as possible
+     * @param observer
+     *         the observer of the deltas
+     * @return the new subscription
+     * @throws IllegalStateException
+     *         if the client connects to {@linkplain ClientConfig#severalServers() several
+     *         servers}
+     */
+    TaskChangesSubscription subscribeToTaskChanges(Duration window,
+                                                   StreamObserver<TaskViewDelta> observer);
+
     /**
      * Cancels the given {@code subscription}.
      *
@@ -64,4 +94,48 @@ public interface SubscribingTodoClient extends TodoClient {
     static SubscribingTodoClient instance(String host, int port) {
         return new TodoClientImpl(host, port);
     }
+
+    /**
+     * Creates a new instance of {@code SubscribingTodoClient} which caches the task views, the label views
+     * and the labels it reads.
+     *
+     * <p>The client subscribes to the updates of the cached entities and applies them to
+     * the cache, so the cached states follow the server as the subscription updates arrive.
+     * When a type of the entities has {@code cacheSize} cached states, the least recently used
+     * of them are evicted.
+     *
+     * <p>Use this client when the same entities are read many times, e.g. the labels of
+     * the rendered tasks.
+     *
+     * @param host
+     *         the host of the server to connect to
+     * @param port
+     *         the port of the server to connect to
+     * @param cacheSize
+     *         the maximum number of the cached states of each type
+     * @return new caching subscribing TodoList client
+     */
+    static SubscribingTodoClient cachingInstance(String host, int port, long cacheSize) {
+        checkArgument(cacheSize > 0, "The cache size must be positive.");
+        ClientConfig config = ClientConfig
+                .newBuilder()
+                .addServer(host, port)
+                .setCacheSize(cacheSize)
+                .build();
+        return new TodoClientImpl(config);
+    }
+
+    /**
+     * Creates a new instance of {@code SubscribingTodoClient} with the given configuration.
+     *
+     * <p>Use this method to connect to several servers, to open several connections to
+     * a server, or to retry the failed calls.
+     *
+     * @param config
+     *         the configuration of the connections to the servers
+     * @return new subscribing TodoList client
+     */
+    static SubscribingTodoClient instance(ClientConfig config) {
+        return new TodoClientImpl(config);
+    }
 }
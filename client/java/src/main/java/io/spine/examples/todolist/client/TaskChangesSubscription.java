@@ -0,0 +1,132 @@
+/*
+ * Copyright 2021, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.todolist.client;
+
+import io.grpc.stub.ClientCallStreamObserver;
+import io.grpc.stub.ClientResponseObserver;
+import io.grpc.stub.StreamObserver;
+import io.spine.examples.todolist.tasks.subscription.TaskViewDelta;
+import io.spine.examples.todolist.tasks.subscription.TaskViewSubscriptionRequest;
+import io.spine.examples.todolist.tasks.subscription.TaskViewSubscriptionServiceGrpc.TaskViewSubscriptionServiceStub;
+
+import javax.annotation.Nullable;
+import java.time.Duration;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * A subscription to the changes of the {@linkplain io.spine.examples.todolist.tasks.view.TaskView
+ * task views}.
+ *
+ * @see SubscribingTodoClient#subscribeToTaskChanges
+ */
+public final class TaskChangesSubscription {
+
+    private final DeltaForwarder forwarder;
+
+    TaskChangesSubscription(StreamObserver<TaskViewDelta> observer) {
+        this.forwarder = new DeltaForwarder(observer);
+    }
+
+    /**
+     * Subscribes the observer to the changes of the task views through the given stub.
+     *
+     * @param service
+     *         the stub of the task view subscription service
+     * @param window
+     *         the period over which the updates of a task view are coalesced
+     * @param observer
+     *         the observer of the deltas
+     * @return the new subscription
+     */
+    static TaskChangesSubscription subscribe(TaskViewSubscriptionServiceStub service,
+                                             Duration window,
+                                             StreamObserver<TaskViewDelta> observer) {
+        checkArgument(!window.isNegative(), "The coalescing window must not be negative.");
+        com.google.protobuf.Duration coalescingWindow = com.google.protobuf.Duration
+                .newBuilder()
+                .setSeconds(window.getSeconds())
+                .setNanos(window.getNano())
+                .build();
+        TaskViewSubscriptionRequest request = TaskViewSubscriptionRequest
+                .newBuilder()
+                .setCoalescingWindow(coalescingWindow)
+                .vBuild();
+        TaskChangesSubscription result = new TaskChangesSubscription(observer);
+        service.subscribe(request, result.forwarder);
+        return result;
+    }
+
+    /**
+     * Cancels the subscription.
+     *
+     * <p>The observer of the subscription receives an error with the {@code CANCELLED} status.
+     */
+    public void cancel() {
+        forwarder.cancel();
+    }
+
+    /**
+     * Forwards the deltas to the observer of the subscription.
+     */
+    private static final class DeltaForwarder
+            implements ClientResponseObserver<TaskViewSubscriptionRequest, TaskViewDelta> {
+
+        private final StreamObserver<TaskViewDelta> observer;
+        private @Nullable ClientCallStreamObserver<TaskViewSubscriptionRequest> call;
+
+        private DeltaForwarder(StreamObserver<TaskViewDelta> observer) {
+            this.observer = observer;
+        }
+
+        @Override
+        public void beforeStart(ClientCallStreamObserver<TaskViewSubscriptionRequest> call) {
+            this.call = call;
+        }
+
+        @Override
+        public void onNext(TaskViewDelta delta) {
+            observer.onNext(delta);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            observer.onError(t);
+        }
+
+        @Override
+        public void onCompleted() {
+            observer.onCompleted();
+        }
+
+        private void cancel() {
+            if (call != null) {
+                call.cancel("The subscription is cancelled by the client.", null);
+            }
+        }
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2021, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.todolist.client;
+
+import com.google.protobuf.Descriptors.FieldDescriptor;
+import io.spine.examples.todolist.tasks.subscription.TaskViewDelta;
+import io.spine.examples.todolist.tasks.view.TaskView;
+
+import javax.annotation.Nullable;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * Restores the whole state of the task views from the received {@link TaskViewDelta}s.
+ */
+public final class TaskViewDeltas {
+
+    /** Prevents instantiation of this utility class. */
+    private TaskViewDeltas() {
+    }
+
+    /**
+     * Applies the delta to the previously known state of the task view.
+     *
+     * @param previous
+     *         the state obtained from the previous deltas of the task view, or {@code null}
+     *         if this is the first delta of the task view
+     * @param delta
+     *         the delta to apply
+     * @return the current state of the task view
+     * @throws IllegalArgumentException
+     *         if the delta tells that the task view is removed, or if the delta lists an unknown
+     *         field
+     */
+    public static TaskView apply(@Nullable TaskView previous, TaskViewDelta delta) {
+        checkArgument(!delta.getRemoved(), "The task view `%s` is removed.", delta.getId());
+        TaskView.Builder result = previous != null
+                                  ? previous.toBuilder()
+                                  : TaskView.newBuilder();
+        TaskView changes = delta.getView();
+        for (String path : delta.getChanged()
+                                .getPathsList()) {
+            FieldDescriptor field = TaskView.getDescriptor()
+                                            .findFieldByName(path);
+            checkArgument(field != null, "Unknown field `%s` of the task view.", path);
+            if (field.isRepeated() || changes.hasField(field)) {
+                result.setField(field, changes.getField(field));
+            } else {
+                result.clearField(field);
+            }
+        }
+        return result.build();
+    }
+}
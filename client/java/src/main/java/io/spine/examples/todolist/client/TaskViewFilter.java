@@ -0,0 +1,170 @@
+/*
+ * Copyright 2021, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.todolist.client;
+
+import com.google.common.collect.ImmutableList;
+import com.google.protobuf.Timestamp;
+import io.spine.client.Filter;
+import io.spine.examples.todolist.tasks.LabelId;
+import io.spine.examples.todolist.tasks.TaskPriority;
+import io.spine.examples.todolist.tasks.TaskStatus;
+import io.spine.examples.todolist.tasks.view.TaskView;
+
+import javax.annotation.Nullable;
+import java.util.Optional;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static io.spine.client.Filters.eq;
+import static io.spine.client.Filters.ge;
+import static io.spine.client.Filters.lt;
+
+/**
+ * A filter of the {@linkplain TaskView task views}.
+ *
+ * <p>The status, the priority and the due date are matched by the entity columns of
+ * the task view, so the storage looks the matching tasks up instead of scanning them all.
+ * The label is matched by the label-to-tasks reverse index.
+ *
+ * <p>The criteria are combined with the logical {@code AND}. A filter with no criteria
+ * matches all the tasks.
+ */
+public final class TaskViewFilter {
+
+    static final String STATUS_COLUMN = "status";
+    static final String PRIORITY_COLUMN = "priority";
+    static final String DUE_DATE_COLUMN = "dueDate";
+
+    private final @Nullable TaskStatus status;
+    private final @Nullable TaskPriority priority;
+    private final @Nullable Timestamp dueFrom;
+    private final @Nullable Timestamp dueBefore;
+    private final @Nullable LabelId label;
+
+    private TaskViewFilter(Builder builder) {
+        this.status = builder.status;
+        this.priority = builder.priority;
+        this.dueFrom = builder.dueFrom;
+        this.dueBefore = builder.dueBefore;
+        this.label = builder.label;
+    }
+
+    /**
+     * Creates a new builder of the filter.
+     */
+    public static Builder newBuilder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns the label which the matching tasks must have.
+     */
+    public Optional<LabelId> label() {
+        return Optional.ofNullable(label);
+    }
+
+    /**
+     * Converts the column criteria of this filter into the query filters.
+     */
+    ImmutableList<Filter> columnFilters() {
+        ImmutableList.Builder<Filter> result = ImmutableList.builder();
+        if (status != null) {
+            result.add(eq(STATUS_COLUMN, status));
+        }
+        if (priority != null) {
+            result.add(eq(PRIORITY_COLUMN, priority));
+        }
+        if (dueFrom != null) {
+            result.add(ge(DUE_DATE_COLUMN, dueFrom));
+        }
+        if (dueBefore != null) {
+            result.add(lt(DUE_DATE_COLUMN, dueBefore));
+        }
+        return result.build();
+    }
+
+    /**
+     * A builder of the {@code TaskViewFilter}.
+     */
+    public static final class Builder {
+
+        private @Nullable TaskStatus status;
+        private @Nullable TaskPriority priority;
+        private @Nullable Timestamp dueFrom;
+        private @Nullable Timestamp dueBefore;
+        private @Nullable LabelId label;
+
+        private Builder() {
+        }
+
+        /**
+         * Matches the tasks with the given status.
+         */
+        public Builder withStatus(TaskStatus status) {
+            this.status = checkNotNull(status);
+            return this;
+        }
+
+        /**
+         * Matches the tasks with the given priority.
+         */
+        public Builder withPriority(TaskPriority priority) {
+            this.priority = checkNotNull(priority);
+            return this;
+        }
+
+        /**
+         * Matches the tasks due at or after the given time.
+         */
+        public Builder dueFrom(Timestamp time) {
+            this.dueFrom = checkNotNull(time);
+            return this;
+        }
+
+        /**
+         * Matches the tasks due before the given time.
+         */
+        public Builder dueBefore(Timestamp time) {
+            this.dueBefore = checkNotNull(time);
+            return this;
+        }
+
+        /**
+         * Matches the tasks with the given label assigned.
+         */
+        public Builder withLabel(LabelId label) {
+            this.label = checkNotNull(label);
+            return this;
+        }
+
+        /**
+         * Creates a new instance of the {@code TaskViewFilter}.
+         */
+        public TaskViewFilter build() {
+            return new TaskViewFilter(this);
+        }
+    }
+}
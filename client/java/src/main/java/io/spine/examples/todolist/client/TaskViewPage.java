@@ -0,0 +1,71 @@
+/*
+ * Copyright 2021, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.todolist.client;
+
+import com.google.common.collect.ImmutableList;
+import io.spine.examples.todolist.tasks.view.TaskView;
+
+import javax.annotation.Nullable;
+import java.util.Optional;
+
+/**
+ * A page of the {@linkplain TaskView task views} returned for a {@link TaskViewQuery}.
+ */
+public final class TaskViewPage {
+
+    private final ImmutableList<TaskView> taskViews;
+    private final @Nullable String nextCursor;
+
+    TaskViewPage(ImmutableList<TaskView> taskViews, @Nullable String nextCursor) {
+        this.taskViews = taskViews;
+        this.nextCursor = nextCursor;
+    }
+
+    /**
+     * Returns the task views of this page.
+     */
+    public ImmutableList<TaskView> taskViews() {
+        return taskViews;
+    }
+
+    /**
+     * Returns the cursor of the next page, or an empty {@code Optional} if this page is the last.
+     *
+     * <p>The cursor is an opaque string which should be passed to
+     * {@link TaskViewQuery.Builder#setCursor(String)}.
+     */
+    public Optional<String> nextCursor() {
+        return Optional.ofNullable(nextCursor);
+    }
+
+    /**
+     * Tells if there are more task views after this page.
+     */
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
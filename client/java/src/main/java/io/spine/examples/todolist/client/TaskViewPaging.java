@@ -0,0 +1,125 @@
+/*
+ * Copyright 2021, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.todolist.client;
+
+import com.google.common.collect.ImmutableList;
+import io.spine.client.Filter;
+import io.spine.client.OrderBy.Direction;
+import io.spine.examples.todolist.tasks.query.TaskViewCursor;
+import io.spine.examples.todolist.tasks.view.TaskView;
+import io.spine.examples.todolist.tasks.view.TaskViewSortKey;
+
+import java.util.Optional;
+
+import static io.spine.client.Filters.gt;
+import static io.spine.client.Filters.lt;
+import static io.spine.client.OrderBy.Direction.ASCENDING;
+
+/**
+ * Splits the task views ordered by the due date and then by the ID into the pages of
+ * a {@link TaskViewQuery}.
+ *
+ * <p>The task views are ordered by the {@linkplain TaskViewSortKey sort key} column. The page
+ * starts right after the key of the last task view of the previous page, so each page is read
+ * with the same query regardless of the number of the preceding pages.
+ */
+final class TaskViewPaging {
+
+    /**
+     * The column ordering the task views.
+     */
+    static final String ORDER_COLUMN = TaskViewSortKey.COLUMN;
+
+    private final TaskViewQuery query;
+    private final Optional<TaskViewCursor> cursor;
+
+    TaskViewPaging(TaskViewQuery query) {
+        this.query = query;
+        this.cursor = query.cursor();
+    }
+
+    /**
+     * Returns an empty last page.
+     */
+    static TaskViewPage emptyPage() {
+        return new TaskViewPage(ImmutableList.of(), null);
+    }
+
+    /**
+     * Returns the column filters selecting the task views after the cursor.
+     */
+    Filter[] pageStart() {
+        return cursor.map(c -> new Filter[]{pageStart(c, query.direction())})
+                     .orElse(new Filter[0]);
+    }
+
+    private static Filter pageStart(TaskViewCursor cursor, Direction direction) {
+        String lastKey = TaskViewSortKey.of(cursor.getLastDueDate(), cursor.getLastId());
+        return direction == ASCENDING
+               ? gt(ORDER_COLUMN, lastKey)
+               : lt(ORDER_COLUMN, lastKey);
+    }
+
+    /**
+     * Returns the number of the task views to query for the page.
+     *
+     * <p>Includes one more task view to tell if there is the next page.
+     */
+    int limit() {
+        return query.pageSize() + 1;
+    }
+
+    /**
+     * Makes the page of the task views found by the query.
+     *
+     * @param found
+     *         the task views after the cursor, ordered by the sort key and
+     *         {@linkplain #limit() limited}
+     */
+    TaskViewPage page(ImmutableList<TaskView> found) {
+        int pageSize = query.pageSize();
+        if (found.size() <= pageSize) {
+            return new TaskViewPage(found, null);
+        }
+        ImmutableList<TaskView> page = found.subList(0, pageSize);
+        TaskViewCursor nextCursor = nextCursor(page);
+        return new TaskViewPage(page, TaskViewQuery.encode(nextCursor));
+    }
+
+    /**
+     * Creates the cursor pointing right after the last task view of the page.
+     */
+    private static TaskViewCursor nextCursor(ImmutableList<TaskView> page) {
+        TaskView last = page.get(page.size() - 1);
+        TaskViewCursor result = TaskViewCursor
+                .newBuilder()
+                .setLastDueDate(last.getDueDate())
+                .setLastId(last.getId())
+                .vBuild();
+        return result;
+    }
+}
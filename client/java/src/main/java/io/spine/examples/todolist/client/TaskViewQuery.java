@@ -0,0 +1,221 @@
+/*
+ * Copyright 2021, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.todolist.client;
+
+import com.google.common.collect.ImmutableList;
+import com.google.protobuf.InvalidProtocolBufferException;
+import io.spine.client.OrderBy.Direction;
+import io.spine.examples.todolist.tasks.query.TaskViewCursor;
+import io.spine.examples.todolist.tasks.view.TaskView;
+
+import javax.annotation.Nullable;
+import java.util.Base64;
+import java.util.Optional;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static io.spine.client.OrderBy.Direction.ASCENDING;
+import static io.spine.util.Exceptions.newIllegalArgumentException;
+
+/**
+ * A query of a single page of the {@linkplain TaskView task views}.
+ *
+ * <p>The task views are ordered by the due date and then by the ID. The first page is obtained
+ * with a query without a cursor. Each next page is obtained with the same query with the cursor
+ * returned along with the previous page.
+ *
+ * <p>The query may limit the fields of the returned task views with a field mask.
+ * The {@code id} and the {@code due_date} fields are always returned, as they are required
+ * for the paging.
+ */
+public final class TaskViewQuery {
+
+    static final String ID_FIELD = "id";
+    static final String DUE_DATE_FIELD = "due_date";
+
+    private static final int DEFAULT_PAGE_SIZE = 20;
+
+    private final TaskViewFilter filter;
+    private final int pageSize;
+    private final Direction direction;
+    private final ImmutableList<String> fieldMask;
+    private final @Nullable TaskViewCursor cursor;
+
+    private TaskViewQuery(Builder builder) {
+        this.filter = builder.filter;
+        this.pageSize = builder.pageSize;
+        this.direction = builder.direction;
+        this.fieldMask = builder.fieldMask;
+        this.cursor = builder.cursor;
+    }
+
+    /**
+     * Creates a new builder of the query.
+     */
+    public static Builder newBuilder() {
+        return new Builder();
+    }
+
+    /**
+     * Creates a builder with the parameters of this query.
+     *
+     * <p>Use it to query the next page with the same parameters.
+     */
+    public Builder toBuilder() {
+        Builder result = new Builder();
+        result.filter = filter;
+        result.pageSize = pageSize;
+        result.direction = direction;
+        result.fieldMask = fieldMask;
+        result.cursor = cursor;
+        return result;
+    }
+
+    TaskViewFilter filter() {
+        return filter;
+    }
+
+    int pageSize() {
+        return pageSize;
+    }
+
+    Direction direction() {
+        return direction;
+    }
+
+    /**
+     * Returns the paths of the fields to return, or an empty list to return all the fields.
+     */
+    ImmutableList<String> fieldMask() {
+        return fieldMask;
+    }
+
+    Optional<TaskViewCursor> cursor() {
+        return Optional.ofNullable(cursor);
+    }
+
+    /**
+     * Encodes the cursor into an opaque string.
+     */
+    static String encode(TaskViewCursor cursor) {
+        return Base64.getUrlEncoder()
+                     .encodeToString(cursor.toByteArray());
+    }
+
+    private static TaskViewCursor decode(String cursor) {
+        try {
+            byte[] bytes = Base64.getUrlDecoder()
+                                 .decode(cursor);
+            return TaskViewCursor.parseFrom(bytes);
+        } catch (IllegalArgumentException | InvalidProtocolBufferException e) {
+            throw newIllegalArgumentException(e, "Malformed cursor `%s`.", cursor);
+        }
+    }
+
+    /**
+     * A builder of the {@code TaskViewQuery}.
+     */
+    public static final class Builder {
+
+        private TaskViewFilter filter = TaskViewFilter.newBuilder()
+                                                      .build();
+        private int pageSize = DEFAULT_PAGE_SIZE;
+        private Direction direction = ASCENDING;
+        private ImmutableList<String> fieldMask = ImmutableList.of();
+        private @Nullable TaskViewCursor cursor;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the filter of the task views.
+         *
+         * <p>If not set, all the task views are returned.
+         */
+        public Builder setFilter(TaskViewFilter filter) {
+            this.filter = checkNotNull(filter);
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of the task views in a page.
+         *
+         * <p>The default page size is {@value DEFAULT_PAGE_SIZE}.
+         */
+        public Builder setPageSize(int pageSize) {
+            checkArgument(pageSize > 0, "The page size must be positive, but was %s.", pageSize);
+            this.pageSize = pageSize;
+            return this;
+        }
+
+        /**
+         * Sets the order of the due dates of the task views.
+         *
+         * <p>The task views are ordered by the ascending due dates by default.
+         */
+        public Builder setDirection(Direction direction) {
+            checkNotNull(direction);
+            checkArgument(direction != Direction.UNRECOGNIZED);
+            this.direction = direction;
+            return this;
+        }
+
+        /**
+         * Sets the paths of the {@code TaskView} fields to return.
+         *
+         * <p>For example, {@code withMask("description")} returns the task views with only
+         * the ID, the due date and the description set.
+         */
+        public Builder withMask(String... fieldPaths) {
+            this.fieldMask = ImmutableList.<String>builder()
+                                          .add(ID_FIELD, DUE_DATE_FIELD)
+                                          .add(fieldPaths)
+                                          .build();
+            return this;
+        }
+
+        /**
+         * Sets the cursor pointing to the start of the requested page.
+         *
+         * @param cursor
+         *         the cursor returned along with the previous page
+         * @see TaskViewPage#nextCursor()
+         */
+        public Builder setCursor(String cursor) {
+            checkNotNull(cursor);
+            this.cursor = decode(cursor);
+            return this;
+        }
+
+        /**
+         * Creates a new instance of the {@code TaskViewQuery}.
+         */
+        public TaskViewQuery build() {
+            return new TaskViewQuery(this);
+        }
+    }
+}
@@ -27,6 +27,7 @@
 package io.spine.examples.todolist.client;
 
 import io.spine.base.CommandMessage;
+import io.spine.core.Ack;
 import io.spine.examples.todolist.tasks.LabelId;
 import io.spine.examples.todolist.tasks.Task;
 import io.spine.examples.todolist.tasks.TaskId;
@@ -36,8 +37,13 @@ import io.spine.examples.todolist.tasks.view.LabelView;
 import io.spine.examples.todolist.tasks.view.TaskView;
 
 import javax.annotation.Nullable;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static com.google.common.base.Preconditions.checkArgument;
 
 /**
  * A client interface.
@@ -56,6 +62,18 @@ public interface TodoClient {
      */
     void postCommand(CommandMessage commandMessage);
 
+    /**
+     * Posts the given commands to the server in a single request.
+     *
+     * <p>The commands targeting the same entity are handled in the order of the list.
+     * The commands targeting different entities may be handled concurrently.
+     *
+     * @param commandMessages
+     *         the commands to post
+     * @return the acknowledgements of the posted commands in the order of the commands
+     */
+    List<Ack> postCommands(List<? extends CommandMessage> commandMessages);
+
     /**
      * Obtains all {@linkplain TaskView task views}.
      *
@@ -63,6 +81,62 @@ public interface TodoClient {
      */
     List<TaskView> taskViews();
 
+    /**
+     * Obtains the {@linkplain TaskView task views} matching the given filter.
+     *
+     * @param filter
+     *         the criteria of the tasks to obtain
+     * @return the matching task views
+     */
+    List<TaskView> taskViews(TaskViewFilter filter);
+
+    /**
+     * Obtains a single page of the {@linkplain TaskView task views}.
+     *
+     * <p>Prefer this method to {@link #taskViews()} if there may be many tasks.
+     *
+     * @param query
+     *         the query of the page
+     * @return the requested page
+     */
+    TaskViewPage taskViews(TaskViewQuery query);
+
+    /**
+     * Reads all the {@linkplain TaskView task views} in chunks.
+     *
+     * <p>Unlike {@link #taskViews()}, does not load all the task views into memory. The server
+     * reads the next chunk of the task views from the storage only when the client consumes
+     * the previous ones, so the stream fits scanning or exporting any number of the tasks.
+     *
+     * <p>The task views are streamed in no particular order. If the stream is not consumed till
+     * the end, {@linkplain Stream#close() close} it to cancel the call, e.g. with
+     * a {@code try}-with-resources statement.
+     *
+     * @return the stream of the task views
+     */
+    Stream<TaskView> streamTaskViews();
+
+    /**
+     * Obtains the view of the task with the given ID.
+     *
+     * @param id
+     *         the ID of the task
+     * @return the view of the task, or an empty {@code Optional} if there is no such task
+     */
+    Optional<TaskView> taskView(TaskId id);
+
+    /**
+     * Obtains the views of the tasks with the given IDs in a single request.
+     *
+     * <p>Prefer this method to calling {@link #taskView(TaskId)} for each of the IDs.
+     *
+     * @param ids
+     *         the IDs of the tasks
+     * @return the views of the found tasks by their IDs; the IDs of the missing tasks
+     *         are omitted
+     */
+    Map<TaskId, TaskView> taskViews(Collection<TaskId> ids);
+
     /**
      * Obtains all {@linkplain Task tasks} in the system.
      *
@@ -77,6 +151,17 @@ public interface TodoClient {
      */
     List<TaskLabel> labels();
 
+    /**
+     * Obtains the {@linkplain TaskLabel labels} with the given IDs in a single request.
+     *
+     * <p>Prefer this method to calling {@link #labelOr(LabelId, TaskLabel)} for each of the IDs.
+     *
+     * @param ids
+     *         the IDs of the labels
+     * @return the found labels by their IDs; the IDs of the missing labels are omitted
+     */
+    Map<LabelId, TaskLabel> labels(Collection<LabelId> ids);
+
     /**
      * Obtains the labels assigned to the task with the given ID.
      *
@@ -97,6 +182,18 @@ public interface TodoClient {
      */
     Optional<LabelView> labelView(LabelId id);
 
+    /**
+     * Obtains the views of the labels with the given IDs in a single request.
+     *
+     * <p>Prefer this method to calling {@link #labelView(LabelId)} for each of the IDs.
+     *
+     * @param ids
+     *         the IDs of the labels
+     * @return the views of the found labels by their IDs; the IDs of the missing labels
+     *         are omitted
+     */
+    Map<LabelId, LabelView> labelViews(Collection<LabelId> ids);
+
     /**
      * Obtains a single {@link TaskLabel} by its ID.
      *
@@ -133,4 +230,48 @@ public interface TodoClient {
     static TodoClient instance(String host, int port) {
         return new TodoClientImpl(host, port);
     }
+
+    /**
+     * Creates a new instance of {@code TodoClient} which caches the task views, the label views
+     * and the labels it reads.
+     *
+     * <p>The client subscribes to the updates of the cached entities and applies them to
+     * the cache, so the cached states follow the server as the subscription updates arrive.
+     * When a type of the entities has {@code cacheSize} cached states, the least recently used
+     * of them are evicted.
+     *
+     * <p>Use this client when the same entities are read many times, e.g. the labels of
+     * the rendered tasks.
+     *
+     * @param host
+     *         the host of the server to connect to
+     * @param port
+     *         the port of the server to connect to
+     * @param cacheSize
+     *         the maximum number of the cached states of each type
+     * @return new caching TodoList client
+     */
+    static TodoClient cachingInstance(String host, int port, long cacheSize) {
+        checkArgument(cacheSize > 0, "The cache size must be positive.");
+        ClientConfig config = ClientConfig
+                .newBuilder()
+                .addServer(host, port)
+                .setCacheSize(cacheSize)
+                .build();
+        return new TodoClientImpl(config);
+    }
+
+    /**
+     * Creates a new instance of {@code TodoClient} with the given configuration.
+     *
+     * <p>Use this method to connect to several servers, to open several connections to
+     * a server, or to retry the failed calls.
+     *
+     * @param config
+     *         the configuration of the connections to the servers
+     * @return new TodoList client
+     */
+    static TodoClient instance(ClientConfig config) {
+        return new TodoClientImpl(config);
+    }
 }
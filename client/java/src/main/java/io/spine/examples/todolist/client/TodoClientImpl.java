@@ -27,30 +27,63 @@
 package io.spine.examples.todolist.client;
 
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
 import com.google.protobuf.Message;
+import io.grpc.Context;
+import io.grpc.Context.CancellableContext;
 import io.grpc.ManagedChannel;
-import io.grpc.ManagedChannelBuilder;
 import io.grpc.stub.StreamObserver;
 import io.spine.base.CommandMessage;
 import io.spine.base.EntityState;
-import io.spine.base.Identifier;
+import io.spine.client.ActorRequestFactory;
 import io.spine.client.Client;
+import io.spine.client.CommandFactory;
+import io.spine.client.Filter;
+import io.spine.client.QueryRequest;
 import io.spine.client.Subscription;
+import io.spine.core.Ack;
+import io.spine.core.Command;
 import io.spine.core.UserId;
 import io.spine.examples.todolist.tasks.LabelId;
 import io.spine.examples.todolist.tasks.Task;
 import io.spine.examples.todolist.tasks.TaskId;
 import io.spine.examples.todolist.tasks.TaskLabel;
 import io.spine.examples.todolist.tasks.TaskLabels;
+import io.spine.examples.todolist.tasks.batch.BatchCommandServiceGrpc;
+import io.spine.examples.todolist.tasks.batch.BatchCommandServiceGrpc.BatchCommandServiceBlockingStub;
+import io.spine.examples.todolist.tasks.batch.CommandBatch;
+import io.spine.examples.todolist.tasks.stream.TaskViewChunk;
+import io.spine.examples.todolist.tasks.stream.TaskViewStreamRequest;
+import io.spine.examples.todolist.tasks.stream.TaskViewStreamServiceGrpc;
+import io.spine.examples.todolist.tasks.stream.TaskViewStreamServiceGrpc.TaskViewStreamServiceBlockingStub;
+import io.spine.examples.todolist.tasks.subscription.TaskViewDelta;
+import io.spine.examples.todolist.tasks.subscription.TaskViewSubscriptionServiceGrpc;
+import io.spine.examples.todolist.tasks.subscription.TaskViewSubscriptionServiceGrpc.TaskViewSubscriptionServiceStub;
 import io.spine.examples.todolist.tasks.view.LabelView;
+import io.spine.examples.todolist.tasks.view.LabelledTasks;
 import io.spine.examples.todolist.tasks.view.TaskView;
 
 import javax.annotation.Nullable;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static com.google.common.base.Preconditions.checkState;
-import static io.spine.base.Identifier.newUuid;
+import static com.google.common.collect.ImmutableList.toImmutableList;
+import static io.spine.examples.todolist.client.ClientRequests.TIMEOUT;
+import static io.spine.examples.todolist.client.ClientRequests.byId;
+import static io.spine.examples.todolist.client.ClientRequests.inOrderOf;
+import static io.spine.examples.todolist.client.ClientRequests.single;
+import static io.spine.examples.todolist.client.ClientRequests.taskViewFilters;
+import static io.spine.examples.todolist.client.ClientRequests.userId;
+import static java.util.Spliterator.ORDERED;
+import static java.util.Spliterators.spliteratorUnknownSize;
 import static java.util.concurrent.TimeUnit.SECONDS;
 
 /**
@@ -58,18 +91,43 @@ import static java.util.concurrent.TimeUnit.SECONDS;
  */
 final class TodoClientImpl implements SubscribingTodoClient {
 
-    private static final int TIMEOUT = 10;
-
     private final Client client;
     private final UserId user;
+    private final ActorRequestFactory requestFactory;
+    private final BatchCommandServiceBlockingStub batchService;
+    private final TaskViewSubscriptionServiceStub taskViewSubscriptionService;
+    private final TaskViewStreamServiceBlockingStub taskViewStreamService;
+    private final @Nullable ReadCache cache;
+    private final boolean severalServers;
 
     /**
      * Construct the client connecting to server at {@code host:port}.
      */
     TodoClientImpl(String host, int port) {
-        ManagedChannel channel = initChannel(host, port);
+        this(ClientConfig.newBuilder()
+                         .addServer(host, port)
+                         .build());
+    }
+
+    /**
+     * Construct the client connecting to the servers of the given configuration.
+     */
+    TodoClientImpl(ClientConfig config) {
+        ManagedChannel channel = ChannelPool.open(config);
         this.client = initClient(channel);
         this.user = userId();
+        this.requestFactory = ActorRequestFactory
+                .newBuilder()
+                .setActor(user)
+                .build();
+        this.batchService = BatchCommandServiceGrpc.newBlockingStub(channel);
+        this.taskViewSubscriptionService = TaskViewSubscriptionServiceGrpc.newStub(channel);
+        this.taskViewStreamService = TaskViewStreamServiceGrpc.newBlockingStub(channel);
+        long cacheSize = config.cacheSize();
+        this.cache = cacheSize > 0
+                     ? ReadCache.subscribe(channel, requestFactory, cacheSize)
+                     : null;
+        this.severalServers = config.severalServers();
     }
 
     private static Client initClient(ManagedChannel channel) {
@@ -88,6 +146,22 @@ final class TodoClientImpl implements SubscribingTodoClient {
               .postAndForget();
     }
 
+    @Override
+    public List<Ack> postCommands(List<? extends CommandMessage> commandMessages) {
+        CommandFactory commandFactory = requestFactory.command();
+        ImmutableList<Command> commands = commandMessages
+                .stream()
+                .map(commandFactory::create)
+                .collect(toImmutableList());
+        CommandBatch batch = CommandBatch
+                .newBuilder()
+                .addAllCommand(commands)
+                .build();
+        ImmutableList<Ack> acks = ImmutableList.copyOf(batchService.post(batch));
+        ImmutableList<Ack> result = inOrderOf(commands, acks);
+        return result;
+    }
+
     @Override
     public List<TaskView> taskViews() {
         ImmutableList<TaskView> result =
@@ -97,6 +171,97 @@ final class TodoClientImpl implements SubscribingTodoClient {
         return result;
     }
 
+    @Override
+    public List<TaskView> taskViews(TaskViewFilter filter) {
+        Optional<QueryRequest<TaskView>> request = selectTaskViews(filter);
+        ImmutableList<TaskView> result = request.map(QueryRequest::run)
+                                                .orElse(ImmutableList.of());
+        return result;
+    }
+
+    @Override
+    public TaskViewPage taskViews(TaskViewQuery query) {
+        TaskViewPaging paging = new TaskViewPaging(query);
+        Optional<QueryRequest<TaskView>> found = selectTaskViews(query.filter(),
+                                                                 paging.pageStart());
+        if (!found.isPresent()) {
+            return TaskViewPaging.emptyPage();
+        }
+        QueryRequest<TaskView> request = found
+                .get()
+                .orderBy(TaskViewPaging.ORDER_COLUMN, query.direction())
+                .limit(paging.limit());
+        ImmutableList<String> mask = query.fieldMask();
+        if (!mask.isEmpty()) {
+            request = request.withMask(mask);
+        }
+        return paging.page(request.run());
+    }
+
+    @Override
+    public Stream<TaskView> streamTaskViews() {
+        CancellableContext call = Context.current()
+                                         .withCancellation();
+        Context previous = call.attach();
+        Iterator<TaskViewChunk> chunks;
+        try {
+            chunks = taskViewStreamService.read(TaskViewStreamRequest.getDefaultInstance());
+        } finally {
+            call.detach(previous);
+        }
+        Stream<TaskView> result = StreamSupport
+                .stream(spliteratorUnknownSize(chunks, ORDERED), false)
+                .flatMap(chunk -> chunk.getTaskViewList()
+                                       .stream())
+                .onClose(() -> call.cancel(null));
+        return result;
+    }
+
+    @Override
+    public Optional<TaskView> taskView(TaskId id) {
+        Optional<TaskView> result = findById(TaskView.class, id, ReadCache::taskViews);
+        return result;
+    }
+
+    @Override
+    public Map<TaskId, TaskView> taskViews(Collection<TaskId> ids) {
+        return findByIds(TaskView.class, ids, TaskView::getId, ReadCache::taskViews);
+    }
+
+    /**
+     * Creates the request of the task views matching the filter.
+     *
+     * @param filter
+     *         the filter of the task views
+     * @param additionalFilters
+     *         the column filters to apply along with the filter
+     * @return the request, or an empty {@code Optional} if no task views may match the filter
+     */
+    private Optional<QueryRequest<TaskView>>
+    selectTaskViews(TaskViewFilter filter, Filter... additionalFilters) {
+        QueryRequest<TaskView> request = client.onBehalfOf(user)
+                                               .select(TaskView.class);
+        Optional<LabelId> label = filter.label();
+        if (label.isPresent()) {
+            List<TaskId> labelledTasks = labelledTasks(label.get());
+            if (labelledTasks.isEmpty()) {
+                return Optional.empty();
+            }
+            request = request.byId(labelledTasks);
+        }
+        ImmutableList<Filter> filters = taskViewFilters(filter, additionalFilters);
+        if (!filters.isEmpty()) {
+            request = request.where(filters.toArray(new Filter[0]));
+        }
+        return Optional.of(request);
+    }
+
+    private List<TaskId> labelledTasks(LabelId label) {
+        Optional<LabelledTasks> found = findById(LabelledTasks.class, label);
+        List<TaskId> result = ClientRequests.labelledTasks(found);
+        return result;
+    }
+
     @Override
     public List<Task> tasks() {
         return getByType(Task.class);
@@ -107,6 +272,11 @@ final class TodoClientImpl implements SubscribingTodoClient {
         return getByType(TaskLabel.class);
     }
 
+    @Override
+    public Map<LabelId, TaskLabel> labels(Collection<LabelId> ids) {
+        return findByIds(TaskLabel.class, ids, TaskLabel::getId, ReadCache::labels);
+    }
+
     @Override
     public TaskLabels labelsOf(TaskId taskId) {
         Optional<TaskLabels> labels = findById(TaskLabels.class, taskId);
@@ -118,19 +288,25 @@ final class TodoClientImpl implements SubscribingTodoClient {
 
     @Override
     public Optional<LabelView> labelView(LabelId id) {
-        Optional<LabelView> result = findById(LabelView.class, id);
+        Optional<LabelView> result = findById(LabelView.class, id, ReadCache::labelViews);
         return result;
     }
 
+    @Override
+    public Map<LabelId, LabelView> labelViews(Collection<LabelId> ids) {
+        return findByIds(LabelView.class, ids, LabelView::getId, ReadCache::labelViews);
+    }
+
     @Nullable
     @Override
     public TaskLabel labelOr(LabelId id, @Nullable TaskLabel other) {
-        Optional<TaskLabel> found = findById(TaskLabel.class, id);
+        Optional<TaskLabel> found = findById(TaskLabel.class, id, ReadCache::labels);
         return found.orElse(other);
     }
 
     @Override
     public Subscription subscribeToTasks(StreamObserver<TaskView> observer) {
+        checkSingleServer();
         Subscription subscription =
                 client.onBehalfOf(user)
                       .subscribeTo(TaskView.class)
@@ -139,6 +315,22 @@ final class TodoClientImpl implements SubscribingTodoClient {
         return subscription;
     }
 
+    @Override
+    public TaskChangesSubscription
+    subscribeToTaskChanges(Duration window, StreamObserver<TaskViewDelta> observer) {
+        checkSingleServer();
+        return TaskChangesSubscription.subscribe(taskViewSubscriptionService, window, observer);
+    }
+
+    /**
+     * Ensures the client is connected to a single server, which makes all the changes of
+     * the entities and therefore can notify of them.
+     */
+    private void checkSingleServer() {
+        checkState(!severalServers,
+                   "Cannot subscribe to the changes when connected to several servers.");
+    }
+
     @Override
     @SuppressWarnings("CheckReturnValue")
     public void unSubscribe(Subscription subscription) {
@@ -147,6 +339,9 @@ final class TodoClientImpl implements SubscribingTodoClient {
 
     @Override
     public void shutdown() {
+        if (cache != null) {
+            cache.close();
+        }
         client.shutdown();
     }
 
@@ -173,27 +368,91 @@ final class TodoClientImpl implements SubscribingTodoClient {
                       .select(messageClass)
                       .byId(id)
                       .run();
-        checkState(messages.size() <= 1,
-                   "Too many %s-s with ID %s:%s %s",
-                   messageClass.getSimpleName(), Identifier.toString(id),
-                   System.lineSeparator(), messages);
+        Optional<S> result = single(messageClass, id, messages);
+        return result;
+    }
 
-        Optional<S> result = messages.stream()
-                                     .findFirst();
+    /**
+     * Retrieves the entity with the given ID from the cache, if the client has one,
+     * or from the server.
+     *
+     * @param cached
+     *         obtains the cache of the entities of the requested type
+     */
+    private <I extends Message, S extends EntityState> Optional<S>
+    findById(Class<S> messageClass, I id, Function<ReadCache, EntityCache<I, S>> cached) {
+        if (cache == null) {
+            return findById(messageClass, id);
+        }
+        EntityCache<I, S> states = cached.apply(cache);
+        Optional<S> found = states.get(id);
+        if (found.isPresent()) {
+            return found;
+        }
+        long generation = states.generation();
+        Optional<S> result = findById(messageClass, id);
+        result.ifPresent(state -> states.offer(id, state, generation));
         return result;
     }
 
-    private static ManagedChannel initChannel(String host, int port) {
-        ManagedChannel result = ManagedChannelBuilder.forAddress(host, port)
-                                                     .usePlaintext()
-                                                     .build();
+    /**
+     * Retrieves the entities with the given IDs from the cache, if the client has one,
+     * and the rest of them from the server in a single query.
+     *
+     * @param cached
+     *         obtains the cache of the entities of the requested type
+     */
+    private <I extends Message, S extends EntityState> Map<I, S>
+    findByIds(Class<S> messageClass,
+              Collection<I> ids,
+              Function<S, I> idOf,
+              Function<ReadCache, EntityCache<I, S>> cached) {
+        if (cache == null) {
+            return findByIds(messageClass, ids, idOf);
+        }
+        EntityCache<I, S> states = cached.apply(cache);
+        ImmutableMap<I, S> hits = states.getAll(ids);
+        ImmutableList<I> misses = ids.stream()
+                                     .filter(id -> !hits.containsKey(id))
+                                     .distinct()
+                                     .collect(toImmutableList());
+        long generation = states.generation();
+        Map<I, S> found = findByIds(messageClass, misses, idOf);
+        found.forEach((id, state) -> states.offer(id, state, generation));
+        ImmutableMap<I, S> result = ImmutableMap
+                .<I, S>builder()
+                .putAll(hits)
+                .putAll(found)
+                .build();
         return result;
     }
 
-    private static UserId userId() {
-        return UserId
-                    .newBuilder()
-                    .setValue(newUuid())
-                    .vBuild();
+    /**
+     * Retrieves the entities with the given IDs in a single query.
+     *
+     * @param messageClass
+     *         the state class of the desired entities
+     * @param ids
+     *         the IDs of the desired entities
+     * @param idOf
+     *         obtains the ID of an entity from its state
+     * @param <I>
+     *         the entity ID type
+     * @param <S>
+     *         the entity state type
+     * @return the found entities by their IDs
+     */
+    private <I extends Message, S extends EntityState> Map<I, S>
+    findByIds(Class<S> messageClass, Collection<I> ids, Function<S, I> idOf) {
+        if (ids.isEmpty()) {
+            return ImmutableMap.of();
+        }
+        ImmutableList<S> messages =
+                client.onBehalfOf(user)
+                      .select(messageClass)
+                      .byId(ids)
+                      .run();
+        ImmutableMap<I, S> result = byId(messages, idOf);
+        return result;
     }
 }
@@ -0,0 +1,141 @@
+/*
+ * Copyright 2021, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.todolist.client;
+
+import com.google.common.collect.ImmutableList;
+import io.spine.core.Ack;
+import io.spine.examples.todolist.tasks.LabelId;
+import io.spine.examples.todolist.tasks.TaskId;
+import io.spine.examples.todolist.tasks.TaskLabel;
+import io.spine.examples.todolist.tasks.command.CreateBasicTask;
+import io.spine.examples.todolist.tasks.view.LabelView;
+import io.spine.examples.todolist.tasks.view.TaskView;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import static com.google.common.collect.ImmutableList.toImmutableList;
+import static com.google.common.truth.Truth.assertThat;
+import static com.google.common.truth.Truth8.assertThat;
+import static io.spine.client.ConnectionConstants.DEFAULT_CLIENT_SERVICE_PORT;
+import static io.spine.examples.todolist.client.TodoClient.HOST;
+import static java.util.stream.IntStream.range;
+
+@DisplayName("Async Todo client should")
+class AsyncClientTest extends TodoClientTest {
+
+    private static final int QUERIES_IN_FLIGHT = 32;
+
+    private AsyncSubscribingTodoClient client;
+
+    @BeforeEach
+    @Override
+    void setUp() throws InterruptedException {
+        super.setUp();
+        client = AsyncSubscribingTodoClient.instance(HOST, DEFAULT_CLIENT_SERVICE_PORT);
+    }
+
+    @AfterEach
+    @Override
+    public void tearDown() {
+        client.shutdown();
+        super.tearDown();
+    }
+
+    @Test
+    @DisplayName("acknowledge a posted command")
+    void acknowledge() {
+        CreateBasicTask createTask = createBasicTask();
+        Ack ack = client.postCommand(createTask)
+                        .join();
+        assertThat(ack.getStatus()
+                      .hasOk())
+                .isTrue();
+    }
+
+    @Test
+    @DisplayName("obtain a task view of a created task")
+    void queryCreatedTask() {
+        CreateBasicTask createTask = createBasicTask();
+        TaskId taskId = createTask.getId();
+        Optional<TaskView> view = client.postCommand(createTask)
+                                        .thenCompose(ack -> client.taskView(taskId))
+                                        .join();
+        assertThat(view)
+                .isPresent();
+        assertThat(view.get()
+                       .getDescription())
+                .isEqualTo(createTask.getDescription());
+    }
+
+    @Test
+    @DisplayName("fallback to a provided label when querying for a non-existing label")
+    void defaultLabelWhenNoLabel() {
+        TaskLabel expectedLabel = TaskLabel
+                .newBuilder()
+                .setId(LabelId.generate())
+                .setTitle("Chores")
+                .vBuild();
+
+        TaskLabel result = client.labelOr(LabelId.generate(), expectedLabel)
+                                 .join();
+        assertThat(result)
+                .isEqualTo(expectedLabel);
+    }
+
+    @Test
+    @DisplayName("return an empty optional when querying for a non-existing label")
+    void emptyOptionalWhenNoLabel() {
+        Optional<LabelView> view = client.labelView(LabelId.generate())
+                                         .join();
+        assertThat(view)
+                .isEmpty();
+    }
+
+    @Test
+    @DisplayName("run many queries at once over a single channel")
+    void queriesInFlight() {
+        CreateBasicTask createTask = createBasicTask();
+        client.postCommand(createTask)
+              .join();
+        ImmutableList<CompletableFuture<List<TaskView>>> queries =
+                range(0, QUERIES_IN_FLIGHT)
+                        .mapToObj(i -> client.taskViews())
+                        .collect(toImmutableList());
+        CompletableFuture.allOf(queries.toArray(new CompletableFuture<?>[0]))
+                         .join();
+        for (CompletableFuture<List<TaskView>> query : queries) {
+            assertThat(query.join())
+                    .hasSize(1);
+        }
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2021, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.todolist.client;
+
+import com.google.common.collect.ImmutableList;
+import io.spine.examples.todolist.tasks.LabelColor;
+import io.spine.examples.todolist.tasks.LabelDetails;
+import io.spine.examples.todolist.tasks.LabelId;
+import io.spine.examples.todolist.tasks.command.CreateBasicLabel;
+import io.spine.examples.todolist.tasks.view.LabelView;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static com.google.common.truth.Truth.assertThat;
+import static com.google.common.truth.Truth8.assertThat;
+import static io.spine.client.ConnectionConstants.DEFAULT_CLIENT_SERVICE_PORT;
+import static io.spine.examples.todolist.client.TodoClient.HOST;
+import static io.spine.examples.todolist.tasks.LabelColor.DEFAULT;
+import static io.spine.examples.todolist.testdata.TestLabelCommandFactory.updateLabelDetailsInstance;
+
+@DisplayName("Caching Todo client should")
+class CachingClientTest extends TodoClientTest {
+
+    private static final int CACHE_SIZE = 16;
+    private static final long UPDATE_DELAY_MILLIS = 1_000;
+
+    private SubscribingTodoClient client;
+
+    @BeforeEach
+    @Override
+    void setUp() throws InterruptedException {
+        super.setUp();
+        client = SubscribingTodoClient.cachingInstance(HOST, DEFAULT_CLIENT_SERVICE_PORT,
+                                                       CACHE_SIZE);
+    }
+
+    @AfterEach
+    @Override
+    public void tearDown() {
+        client.shutdown();
+        super.tearDown();
+    }
+
+    @Test
+    @DisplayName("update a cached label view when the label changes")
+    void updateCached() throws InterruptedException {
+        CreateBasicLabel createLabel = createBasicLabel();
+        client.postCommand(createLabel);
+        LabelId labelId = createLabel.getLabelId();
+        assertThat(client.labelView(labelId))
+                .isPresent();
+
+        LabelDetails before = LabelDetails
+                .newBuilder()
+                .setTitle(createLabel.getLabelTitle())
+                .setColor(DEFAULT)
+                .vBuild();
+        LabelDetails after = LabelDetails
+                .newBuilder()
+                .setTitle("Chores")
+                .setColor(LabelColor.BLUE)
+                .vBuild();
+        client.postCommand(updateLabelDetailsInstance(labelId, before, after));
+        Thread.sleep(UPDATE_DELAY_MILLIS);
+
+        LabelView expected = LabelView
+                .newBuilder()
+                .setId(labelId)
+                .setTitle("Chores")
+                .setColor(LabelColor.BLUE)
+                .vBuild();
+        assertThat(client.labelView(labelId))
+                .hasValue(expected);
+        assertThat(client.labelOr(labelId, null)
+                         .getTitle())
+                .isEqualTo("Chores");
+    }
+
+    @Test
+    @DisplayName("obtain both the cached and the not cached label views by IDs")
+    void cachedAndNotCached() {
+        CreateBasicLabel cached = createBasicLabel();
+        CreateBasicLabel notCached = createBasicLabel();
+        client.postCommand(cached);
+        client.postCommand(notCached);
+        assertThat(client.labelView(cached.getLabelId()))
+                .isPresent();
+
+        Map<LabelId, LabelView> views = client.labelViews(
+                ImmutableList.of(cached.getLabelId(), notCached.getLabelId(), LabelId.generate())
+        );
+        assertThat(views.keySet())
+                .containsExactly(cached.getLabelId(), notCached.getLabelId());
+    }
+
+    @Test
+    @DisplayName("not cache the missing labels")
+    void notCacheMissing() throws InterruptedException {
+        CreateBasicLabel createLabel = createBasicLabel();
+        LabelId labelId = createLabel.getLabelId();
+        assertThat(client.labelView(labelId))
+                .isEmpty();
+
+        client.postCommand(createLabel);
+        Thread.sleep(UPDATE_DELAY_MILLIS);
+
+        assertThat(client.labelView(labelId))
+                .isPresent();
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2021, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.todolist.client;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.net.InetSocketAddress;
+import java.time.Duration;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.spine.client.ConnectionConstants.DEFAULT_CLIENT_SERVICE_PORT;
+import static io.spine.examples.todolist.client.ClientConfig.CHANNELS_PER_SERVER;
+import static io.spine.examples.todolist.client.ClientConfig.HEDGING_DELAY;
+import static io.spine.examples.todolist.client.ClientConfig.SERVERS;
+import static io.spine.examples.todolist.client.TodoClient.HOST;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("ClientConfig should")
+class ClientConfigTest {
+
+    @AfterEach
+    void clearProperties() {
+        System.clearProperty(SERVERS);
+        System.clearProperty(CHANNELS_PER_SERVER);
+        System.clearProperty(HEDGING_DELAY);
+    }
+
+    @Test
+    @DisplayName("connect to a single local server by default")
+    void localServer() {
+        ClientConfig config = ClientConfig.defaults();
+        assertThat(config.servers())
+                .containsExactly(InetSocketAddress.createUnresolved(
+                        HOST, DEFAULT_CLIENT_SERVICE_PORT));
+        assertThat(config.channelsPerServer())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("read the servers from the system properties")
+    void serversFromProperties() {
+        System.setProperty(SERVERS, "todo-1:50051, todo-2:50052");
+        ClientConfig config = ClientConfig.fromSystemProperties();
+        assertThat(config.servers())
+                .containsExactly(InetSocketAddress.createUnresolved("todo-1", 50051),
+                                 InetSocketAddress.createUnresolved("todo-2", 50052))
+                .inOrder();
+    }
+
+    @Test
+    @DisplayName("not accept a server without a port")
+    void serverWithoutPort() {
+        System.setProperty(SERVERS, "todo-1");
+        assertThrows(IllegalArgumentException.class, ClientConfig::fromSystemProperties);
+    }
+
+    @Test
+    @DisplayName("read the number of channels per server from the system properties")
+    void channelsFromProperties() {
+        System.setProperty(CHANNELS_PER_SERVER, "4");
+        ClientConfig config = ClientConfig.fromSystemProperties();
+        assertThat(config.channelsPerServer())
+                .isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("not retry or hedge the calls by default")
+    void noRetries() {
+        ClientConfig config = ClientConfig.defaults();
+        assertThat(config.maxAttempts())
+                .isEqualTo(1);
+        assertThat(config.hedgingDelay())
+                .isEqualTo(Duration.ZERO);
+    }
+
+    @Test
+    @DisplayName("read the hedging delay in milliseconds from the system properties")
+    void hedgingDelayFromProperties() {
+        System.setProperty(HEDGING_DELAY, "50");
+        ClientConfig config = ClientConfig.fromSystemProperties();
+        assertThat(config.hedgingDelay())
+                .isEqualTo(Duration.ofMillis(50));
+    }
+
+    @Test
+    @DisplayName("not accept a non-positive number of channels")
+    void positiveChannels() {
+        assertThrows(IllegalArgumentException.class,
+                     () -> ClientConfig.newBuilder()
+                                       .setChannelsPerServer(0));
+    }
+
+    @Test
+    @DisplayName("not cache the entities when connected to several servers")
+    void noCacheForSeveralServers() {
+        ClientConfig.Builder builder = ClientConfig
+                .newBuilder()
+                .addServer(HOST, DEFAULT_CLIENT_SERVICE_PORT)
+                .addServer(HOST, DEFAULT_CLIENT_SERVICE_PORT + 1)
+                .setCacheSize(100);
+
+        assertThrows(IllegalStateException.class, builder::build);
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2021, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.todolist.client;
+
+import com.google.common.collect.ImmutableList;
+import io.spine.core.Ack;
+import io.spine.core.Command;
+import io.spine.core.CommandId;
+import io.spine.examples.todolist.tasks.LabelId;
+import io.spine.examples.todolist.tasks.view.LabelView;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.spine.examples.todolist.client.ClientRequests.byId;
+import static io.spine.examples.todolist.client.ClientRequests.inOrderOf;
+import static io.spine.examples.todolist.client.ClientRequests.single;
+import static io.spine.protobuf.AnyPacker.pack;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("ClientRequests should")
+class ClientRequestsTest {
+
+    @Test
+    @DisplayName("order the acknowledgements as the commands")
+    void orderAcks() {
+        Command first = command();
+        Command second = command();
+        Ack firstAck = ack(first);
+        Ack secondAck = ack(second);
+
+        ImmutableList<Ack> acks = inOrderOf(ImmutableList.of(first, second),
+                                            ImmutableList.of(secondAck, firstAck));
+
+        assertThat(acks)
+                .containsExactly(firstAck, secondAck)
+                .inOrder();
+    }
+
+    @Test
+    @DisplayName("fail if a command is not acknowledged")
+    void missingAck() {
+        Command acknowledged = command();
+        Command notAcknowledged = command();
+        ImmutableList<Command> commands = ImmutableList.of(acknowledged, notAcknowledged);
+        ImmutableList<Ack> acks = ImmutableList.of(ack(acknowledged));
+
+        IllegalStateException error =
+                assertThrows(IllegalStateException.class, () -> inOrderOf(commands, acks));
+        assertThat(error)
+                .hasMessageThat()
+                .contains(notAcknowledged.getId()
+                                         .getUuid());
+    }
+
+    @Test
+    @DisplayName("fail if a command is acknowledged more than once")
+    void duplicateAck() {
+        Command command = command();
+        ImmutableList<Command> commands = ImmutableList.of(command);
+        ImmutableList<Ack> acks = ImmutableList.of(ack(command), ack(command));
+
+        IllegalStateException error =
+                assertThrows(IllegalStateException.class, () -> inOrderOf(commands, acks));
+        assertThat(error)
+                .hasMessageThat()
+                .contains(command.getId()
+                                 .getUuid());
+    }
+
+    @Test
+    @DisplayName("fail if more than one entity is found by an ID")
+    void tooManyById() {
+        LabelId id = LabelId.generate();
+        ImmutableList<LabelView> found = ImmutableList.of(labelView(id), labelView(id));
+
+        assertThrows(IllegalStateException.class,
+                     () -> single(LabelView.class, id, found));
+        assertThrows(IllegalStateException.class,
+                     () -> byId(found, LabelView::getId));
+    }
+
+    private static Command command() {
+        return Command
+                .newBuilder()
+                .setId(CommandId.generate())
+                .build();
+    }
+
+    private static Ack ack(Command command) {
+        return Ack
+                .newBuilder()
+                .setMessageId(pack(command.getId()))
+                .build();
+    }
+
+    private static LabelView labelView(LabelId id) {
+        return LabelView
+                .newBuilder()
+                .setId(id)
+                .build();
+    }
+}
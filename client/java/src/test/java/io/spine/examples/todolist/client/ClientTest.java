@@ -26,17 +26,22 @@
 
 package io.spine.examples.todolist.client;
 
+import com.google.common.collect.ImmutableList;
+import io.spine.base.CommandMessage;
 import io.spine.client.Subscription;
+import io.spine.core.Ack;
 import io.spine.examples.todolist.tasks.LabelId;
 import io.spine.examples.todolist.tasks.Task;
 import io.spine.examples.todolist.tasks.TaskId;
 import io.spine.examples.todolist.tasks.TaskLabel;
 import io.spine.examples.todolist.tasks.TaskLabels;
+import io.spine.examples.todolist.tasks.TaskStatus;
 import io.spine.examples.todolist.tasks.command.AssignLabelToTask;
 import io.spine.examples.todolist.tasks.command.CreateBasicLabel;
 import io.spine.examples.todolist.tasks.command.CreateBasicTask;
 import io.spine.examples.todolist.tasks.command.CreateDraft;
 import io.spine.examples.todolist.tasks.command.FinalizeDraft;
+import io.spine.examples.todolist.tasks.subscription.TaskViewDelta;
 import io.spine.examples.todolist.tasks.view.LabelView;
 import io.spine.examples.todolist.tasks.view.TaskView;
 import io.spine.grpc.MemoizingObserver;
@@ -45,7 +50,10 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Stream;
 
@@ -55,6 +63,8 @@ import static io.spine.examples.todolist.tasks.LabelColor.DEFAULT;
 import static io.spine.examples.todolist.tasks.TaskStatus.DRAFT;
 import static io.spine.examples.todolist.tasks.TaskStatus.FINALIZED;
 import static io.spine.examples.todolist.tasks.TaskStatus.OPEN;
+import static io.spine.examples.todolist.testdata.TestTaskCommandFactory.DESCRIPTION;
+import static io.spine.examples.todolist.testdata.TestTaskCommandFactory.updateTaskDescriptionInstance;
 import static java.util.stream.Collectors.toList;
 
 @DisplayName("Todo client should")
@@ -158,6 +168,55 @@ class ClientTest extends TodoClientTest {
                 .hasValue(expected);
     }
 
+    @DisplayName("obtain the label views of several labels in a single request")
+    @Test
+    void obtainLabelViewsByIds() {
+        CreateBasicLabel first = createBasicLabel();
+        CreateBasicLabel second = createBasicLabel();
+        client.postCommand(first);
+        client.postCommand(second);
+
+        LabelId missing = LabelId.generate();
+        ImmutableList<LabelId> ids =
+                ImmutableList.of(first.getLabelId(), second.getLabelId(), missing);
+        Map<LabelId, LabelView> views = client.labelViews(ids);
+        assertThat(views.keySet())
+                .containsExactly(first.getLabelId(), second.getLabelId());
+        assertThat(views.get(first.getLabelId()))
+                .isEqualTo(client.labelView(first.getLabelId())
+                                 .orElseThrow(IllegalStateException::new));
+        assertThat(client.labels(ids)
+                         .keySet())
+                .containsExactly(first.getLabelId(), second.getLabelId());
+    }
+
+    @DisplayName("obtain the task views of several tasks in a single request")
+    @Test
+    void obtainTaskViewsByIds() {
+        CreateDraft createDraft = createDraft();
+        CreateBasicTask createTask = createBasicTask();
+        client.postCommand(createDraft);
+        client.postCommand(createTask);
+        client.postCommand(createBasicTask());
+
+        TaskId draftId = createDraft.getId();
+        Map<TaskId, TaskView> views =
+                client.taskViews(ImmutableList.of(draftId, createTask.getId()));
+        assertThat(views)
+                .hasSize(2);
+        assertThat(views)
+                .containsEntry(draftId, freshDraft(draftId));
+    }
+
+    @DisplayName("obtain no views when querying by an empty list of IDs")
+    @Test
+    void noIds() {
+        client.postCommand(createBasicTask());
+
+        assertThat(client.taskViews(ImmutableList.of()))
+                .isEmpty();
+    }
+
     @DisplayName("post a command and update the `TaskView` entity state ")
     @Test
     void postCommand() {
@@ -203,6 +262,160 @@ class ClientTest extends TodoClientTest {
                 .containsExactly(expected);
     }
 
+    @DisplayName("post a batch of commands and acknowledge each of them")
+    @Test
+    void postBatch() {
+        CreateDraft createDraft = createDraft();
+        TaskId taskId = createDraft.getId();
+        CreateBasicTask createTask = createBasicTask();
+        ImmutableList<CommandMessage> commands =
+                ImmutableList.of(createDraft, finalizeDraft(taskId), createTask);
+
+        List<Ack> acks = client.postCommands(commands);
+
+        assertThat(acks)
+                .hasSize(commands.size());
+        assertThat(acks.stream()
+                       .filter(ack -> ack.getStatus()
+                                         .hasError()))
+                .isEmpty();
+        TaskView expected = freshDraft(taskId)
+                .toBuilder()
+                .setStatus(FINALIZED)
+                .vBuild();
+        assertThat(client.taskView(taskId))
+                .hasValue(expected);
+        assertThat(client.taskView(createTask.getId()))
+                .isPresent();
+    }
+
+    @DisplayName("obtain the task views with the given status")
+    @Test
+    void filterByStatus() {
+        CreateDraft createDraft = createDraft();
+        CreateBasicTask createTask = createBasicTask();
+        client.postCommand(createDraft);
+        client.postCommand(createTask);
+
+        TaskViewFilter filter = TaskViewFilter
+                .newBuilder()
+                .withStatus(DRAFT)
+                .build();
+        assertThat(client.taskViews(filter))
+                .containsExactly(freshDraft(createDraft.getId()));
+    }
+
+    @DisplayName("obtain the task views with the given label")
+    @Test
+    void filterByLabel() {
+        CreateBasicTask labelledTask = createBasicTask();
+        CreateBasicTask otherTask = createBasicTask();
+        CreateBasicLabel createLabel = createBasicLabel();
+        client.postCommand(labelledTask);
+        client.postCommand(otherTask);
+        client.postCommand(createLabel);
+
+        TaskId taskId = labelledTask.getId();
+        LabelId labelId = createLabel.getLabelId();
+        client.postCommand(assignLabelToTask(taskId, labelId));
+
+        TaskViewFilter filter = TaskViewFilter
+                .newBuilder()
+                .withStatus(OPEN)
+                .withLabel(labelId)
+                .build();
+        List<TaskView> views = client.taskViews(filter);
+        assertThat(views)
+                .hasSize(1);
+        assertThat(views.get(0)
+                        .getId())
+                .isEqualTo(taskId);
+    }
+
+    @DisplayName("obtain no task views if none have the given label")
+    @Test
+    void filterByUnknownLabel() {
+        client.postCommand(createBasicTask());
+
+        TaskViewFilter filter = TaskViewFilter
+                .newBuilder()
+                .withLabel(LabelId.generate())
+                .build();
+        assertThat(client.taskViews(filter))
+                .isEmpty();
+    }
+
+    @DisplayName("obtain the task views page by page")
+    @Test
+    void pages() {
+        int taskCount = 5;
+        for (int i = 0; i < taskCount; i++) {
+            client.postCommand(createBasicTask());
+        }
+        TaskViewQuery firstPage = TaskViewQuery
+                .newBuilder()
+                .setPageSize(2)
+                .withMask("description")
+                .build();
+        List<TaskView> views = new ArrayList<>();
+        TaskViewPage page = client.taskViews(firstPage);
+        views.addAll(page.taskViews());
+        while (page.hasNext()) {
+            String cursor = page.nextCursor()
+                                .orElseThrow(IllegalStateException::new);
+            TaskViewQuery nextPage = firstPage.toBuilder()
+                                              .setCursor(cursor)
+                                              .build();
+            page = client.taskViews(nextPage);
+            assertThat(page.taskViews().size())
+                    .isAtMost(2);
+            views.addAll(page.taskViews());
+        }
+        List<TaskId> ids = views.stream()
+                                .map(TaskView::getId)
+                                .collect(toList());
+        assertThat(ids)
+                .hasSize(taskCount);
+        assertThat(ids)
+                .containsNoDuplicates();
+        assertThat(views.get(0)
+                        .getStatus())
+                .isEqualTo(TaskStatus.TS_UNDEFINED);
+    }
+
+    @DisplayName("stream all the task views")
+    @Test
+    void streamTaskViews() {
+        int taskCount = 5;
+        List<TaskId> created = new ArrayList<>();
+        for (int i = 0; i < taskCount; i++) {
+            CreateBasicTask createTask = createBasicTask();
+            client.postCommand(createTask);
+            created.add(createTask.getId());
+        }
+        List<TaskId> streamed;
+        try (Stream<TaskView> views = client.streamTaskViews()) {
+            streamed = views.map(TaskView::getId)
+                            .collect(toList());
+        }
+        assertThat(streamed)
+                .containsExactlyElementsIn(created);
+    }
+
+    @DisplayName("stop streaming the task views when the stream is closed")
+    @Test
+    void closeStream() {
+        client.postCommand(createBasicTask());
+        client.postCommand(createBasicTask());
+
+        try (Stream<TaskView> views = client.streamTaskViews()) {
+            assertThat(views.findFirst())
+                    .isPresent();
+        }
+        assertThat(client.taskViews())
+                .hasSize(2);
+    }
+
     @DisplayName("subscribe to task views")
     @Test
     void receiveWorkingSubscription() throws InterruptedException {
@@ -228,6 +441,32 @@ class ClientTest extends TodoClientTest {
         client.unSubscribe(subscription);
     }
 
+    @DisplayName("subscribe to the coalesced changes of task views")
+    @Test
+    void receiveTaskChanges() throws InterruptedException {
+        MemoizingObserver<TaskViewDelta> observer = StreamObservers.memoizingObserver();
+        TaskChangesSubscription subscription =
+                client.subscribeToTaskChanges(Duration.ofMillis(500), observer);
+
+        CreateBasicTask createTask = createBasicTask();
+        TaskId taskId = createTask.getId();
+        client.postCommand(createTask);
+        client.postCommand(updateTaskDescriptionInstance(taskId, DESCRIPTION, "Edited once"));
+        client.postCommand(updateTaskDescriptionInstance(taskId, "Edited once", "Edited twice"));
+        Thread.sleep(1_500);
+
+        List<TaskViewDelta> responses = observer.responses();
+        assertThat(responses).hasSize(1);
+
+        TaskViewDelta delta = responses.get(0);
+        assertThat(delta.getId())
+                .isEqualTo(taskId);
+        assertThat(client.taskView(taskId))
+                .hasValue(TaskViewDeltas.apply(null, delta));
+
+        subscription.cancel();
+    }
+
     /**
      * Obtains a {@code TaskView} that has the state that is expected after {@link CreateDraft}
      * command.
@@ -0,0 +1,156 @@
+/*
+ * Copyright 2021, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.todolist.client;
+
+import io.spine.client.EntityStateUpdate;
+import io.spine.client.EntityUpdates;
+import io.spine.client.SubscriptionUpdate;
+import io.spine.examples.todolist.tasks.LabelId;
+import io.spine.examples.todolist.tasks.view.LabelView;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth8.assertThat;
+import static io.spine.protobuf.AnyPacker.pack;
+
+@DisplayName("EntityCache should")
+class EntityCacheTest {
+
+    private static final int MAX_ENTRIES = 2;
+
+    private final EntityCache<LabelId, LabelView> cache =
+            new EntityCache<>(LabelId.class, LabelView.class, MAX_ENTRIES);
+
+    @Test
+    @DisplayName("cache the state returned by a query")
+    void cacheQueried() {
+        LabelId id = LabelId.generate();
+        LabelView state = view(id, "queried");
+        long generation = cache.generation();
+        cache.offer(id, state, generation);
+        assertThat(cache.get(id))
+                .hasValue(state);
+    }
+
+    @Test
+    @DisplayName("not replace the updated state with the one returned by a query")
+    void keepUpdated() {
+        LabelId id = LabelId.generate();
+        long generation = cache.generation();
+        LabelView updated = view(id, "updated");
+        cache.onNext(update(id, updated));
+        cache.offer(id, view(id, "queried"), generation);
+        assertThat(cache.get(id))
+                .hasValue(updated);
+    }
+
+    @Test
+    @DisplayName("drop the state returned by a query if the entity stopped matching since")
+    void dropNoLongerMatching() {
+        LabelId id = LabelId.generate();
+        long generation = cache.generation();
+        cache.onNext(noLongerMatching(id));
+        cache.offer(id, view(id, "queried"), generation);
+        assertThat(cache.get(id))
+                .isEmpty();
+    }
+
+    @Test
+    @DisplayName("drop the state returned by a query if the updated state is evicted")
+    void dropEvicted() {
+        LabelId id = LabelId.generate();
+        long generation = cache.generation();
+        cache.onNext(update(id, view(id, "updated")));
+        for (int i = 0; i < MAX_ENTRIES * 2; i++) {
+            LabelId other = LabelId.generate();
+            cache.onNext(update(other, view(other, "other")));
+        }
+        cache.offer(id, view(id, "queried"), generation);
+        assertThat(cache.get(id))
+                .isEmpty();
+    }
+
+    @Test
+    @DisplayName("cache the state returned by a query started after the update")
+    void cacheAfterUpdate() {
+        LabelId id = LabelId.generate();
+        cache.onNext(noLongerMatching(id));
+        long generation = cache.generation();
+        LabelView state = view(id, "queried");
+        cache.offer(id, state, generation);
+        assertThat(cache.get(id))
+                .hasValue(state);
+    }
+
+    @Test
+    @DisplayName("not cache the states after the subscription completes")
+    void notCacheCompleted() {
+        LabelId id = LabelId.generate();
+        long generation = cache.generation();
+        cache.onCompleted();
+        cache.offer(id, view(id, "queried"), generation);
+        assertThat(cache.get(id))
+                .isEmpty();
+    }
+
+    private static LabelView view(LabelId id, String title) {
+        return LabelView
+                .newBuilder()
+                .setId(id)
+                .setTitle(title)
+                .vBuild();
+    }
+
+    private static SubscriptionUpdate update(LabelId id, LabelView state) {
+        EntityStateUpdate update = EntityStateUpdate
+                .newBuilder()
+                .setId(pack(id))
+                .setState(pack(state))
+                .build();
+        return subscriptionUpdate(update);
+    }
+
+    private static SubscriptionUpdate noLongerMatching(LabelId id) {
+        EntityStateUpdate update = EntityStateUpdate
+                .newBuilder()
+                .setId(pack(id))
+                .setNoLongerMatching(true)
+                .build();
+        return subscriptionUpdate(update);
+    }
+
+    private static SubscriptionUpdate subscriptionUpdate(EntityStateUpdate update) {
+        EntityUpdates updates = EntityUpdates
+                .newBuilder()
+                .addUpdate(update)
+                .build();
+        return SubscriptionUpdate
+                .newBuilder()
+                .setEntityUpdates(updates)
+                .build();
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2021, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.todolist.client;
+
+import io.spine.examples.todolist.server.Server;
+import io.spine.examples.todolist.tasks.TaskId;
+import io.spine.examples.todolist.tasks.command.CreateBasicTask;
+import io.spine.grpc.StreamObservers;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+
+import static com.google.common.truth.Truth8.assertThat;
+import static io.spine.client.ConnectionConstants.DEFAULT_CLIENT_SERVICE_PORT;
+import static io.spine.examples.todolist.client.TodoClient.HOST;
+import static io.spine.examples.todolist.server.Server.newServer;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("Todo client connected to several servers should")
+class MultiServerClientTest extends TodoClientTest {
+
+    /**
+     * The port of the second server of the tasks context.
+     */
+    private static final int OTHER_PORT = DEFAULT_CLIENT_SERVICE_PORT + 1;
+
+    private static final int COMMANDS = 4;
+
+    private Server otherServer;
+    private SubscribingTodoClient client;
+
+    /**
+     * Starts the second server, which serves the same context, as the servers sharing
+     * the storage do.
+     */
+    @BeforeEach
+    @Override
+    void setUp() throws InterruptedException {
+        super.setUp();
+        otherServer = newServer(OTHER_PORT, boundedContext());
+        try {
+            otherServer.start();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        ClientConfig config = ClientConfig
+                .newBuilder()
+                .addServer(HOST, DEFAULT_CLIENT_SERVICE_PORT)
+                .addServer(HOST, OTHER_PORT)
+                .build();
+        client = SubscribingTodoClient.instance(config);
+    }
+
+    @AfterEach
+    @Override
+    public void tearDown() {
+        client.shutdown();
+        otherServer.shutdown();
+        super.tearDown();
+    }
+
+    @Test
+    @DisplayName("post the commands to the servers in turn")
+    void postThroughPool() {
+        for (int i = 0; i < COMMANDS; i++) {
+            CreateBasicTask createTask = createBasicTask();
+            TaskId taskId = createTask.getId();
+            client.postCommand(createTask);
+
+            assertThat(client.taskView(taskId))
+                    .isPresent();
+        }
+    }
+
+    @Test
+    @DisplayName("not subscribe to the task views")
+    void refuseSubscriptions() {
+        assertThrows(IllegalStateException.class,
+                     () -> client.subscribeToTasks(StreamObservers.noOpObserver()));
+    }
+
+    @Test
+    @DisplayName("not subscribe to the changes of the task views")
+    void refuseTaskChanges() {
+        assertThrows(IllegalStateException.class,
+                     () -> client.subscribeToTaskChanges(Duration.ZERO,
+                                                         StreamObservers.noOpObserver()));
+    }
+}
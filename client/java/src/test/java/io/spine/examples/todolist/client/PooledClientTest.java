@@ -0,0 +1,85 @@
+/*
+ * Copyright 2021, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.todolist.client;
+
+import io.spine.examples.todolist.tasks.TaskId;
+import io.spine.examples.todolist.tasks.command.CreateBasicTask;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static com.google.common.truth.Truth.assertThat;
+import static com.google.common.truth.Truth8.assertThat;
+import static io.spine.client.ConnectionConstants.DEFAULT_CLIENT_SERVICE_PORT;
+import static io.spine.examples.todolist.client.TodoClient.HOST;
+
+@DisplayName("Todo client with a pool of channels should")
+class PooledClientTest extends TodoClientTest {
+
+    private static final int CHANNELS = 3;
+
+    private SubscribingTodoClient client;
+
+    @BeforeEach
+    @Override
+    void setUp() throws InterruptedException {
+        super.setUp();
+        ClientConfig config = ClientConfig
+                .newBuilder()
+                .addServer(HOST, DEFAULT_CLIENT_SERVICE_PORT)
+                .setChannelsPerServer(CHANNELS)
+                .setKeepAliveTime(Duration.ofMinutes(5))
+                .setMaxAttempts(3)
+                .setHedgingDelay(Duration.ofMillis(100))
+                .build();
+        client = SubscribingTodoClient.instance(config);
+    }
+
+    @AfterEach
+    @Override
+    public void tearDown() {
+        client.shutdown();
+        super.tearDown();
+    }
+
+    @Test
+    @DisplayName("read the tasks created through the other channels")
+    void spreadCalls() {
+        for (int i = 0; i < CHANNELS * 2; i++) {
+            CreateBasicTask createTask = createBasicTask();
+            TaskId taskId = createTask.getId();
+            client.postCommand(createTask);
+            assertThat(client.taskView(taskId))
+                    .isPresent();
+        }
+        assertThat(client.taskViews())
+                .hasSize(CHANNELS * 2);
+    }
+}
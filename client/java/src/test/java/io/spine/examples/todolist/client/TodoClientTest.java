@@ -56,12 +56,13 @@ abstract class TodoClientTest {
 
     private static final int PORT = DEFAULT_CLIENT_SERVICE_PORT;
 
+    private BoundedContext boundedContext;
     private Server server;
     private SubscribingTodoClient client;
 
     @BeforeEach
     void setUp() throws InterruptedException {
-        BoundedContext boundedContext = TasksContextFactory.create();
+        boundedContext = TasksContextFactory.create();
         server = newServer(PORT, boundedContext);
         startServer();
         client = SubscribingTodoClient.instance(HOST, PORT);
@@ -130,4 +131,11 @@ abstract class TodoClientTest {
     public SubscribingTodoClient client() {
         return client;
     }
+
+    /**
+     * Returns the context served by the server.
+     */
+    BoundedContext boundedContext() {
+        return boundedContext;
+    }
 }
@@ -31,18 +31,22 @@ import com.google.firebase.FirebaseApp;
 import com.google.firebase.FirebaseOptions;
 import com.google.firebase.database.FirebaseDatabase;
 import io.spine.base.Production;
+import io.spine.examples.todolist.server.tasks.TasksContextConfig;
 import io.spine.examples.todolist.server.tasks.TasksContextFactory;
 import io.spine.server.BoundedContext;
 import io.spine.server.CommandService;
 import io.spine.server.QueryService;
 import io.spine.server.ServerEnvironment;
 import io.spine.server.SubscriptionService;
+import io.spine.server.storage.datastore.DatastoreStorageFactory;
+import io.spine.server.storage.datastore.delivery.DsShardedWorkRegistry;
 import io.spine.server.transport.memory.InMemoryTransportFactory;
 import io.spine.web.firebase.FirebaseClient;
 import io.spine.web.firebase.FirebaseCredentials;
 import io.spine.web.firebase.query.FirebaseQueryBridge;
 import io.spine.web.firebase.subscription.FirebaseSubscriptionBridge;
 
+import static com.google.common.base.Preconditions.checkState;
 import static io.spine.examples.todolist.server.appengine.GoogleAuth.serviceAccountCredentials;
 import static io.spine.web.firebase.FirebaseClientFactory.remoteClient;
 
@@ -75,13 +79,17 @@ final class Application {
     }
 
     private static Application create() {
+        TasksContextConfig config = TasksContextConfig.fromSystemProperties();
+        checkNoCache(config);
+        DatastoreStorageFactory storage = Storage.createStorage();
         ServerEnvironment
                 .when(Production.class)
                 .use(Tracing.createTracing())
-                .use(Storage.createStorage())
+                .use(storage)
+                .use(config.delivery(storage, new DsShardedWorkRegistry(storage)))
                 .use(InMemoryTransportFactory.newInstance());
 
-        BoundedContext context = TasksContextFactory.create();
+        BoundedContext context = TasksContextFactory.create(config);
         FluentLogger.Api info = logger.atInfo();
         info.log("Initializing Command/Query services.");
         CommandService commandService = CommandService
@@ -105,6 +113,23 @@ final class Application {
         return application;
     }
 
+    /**
+     * Ensures the aggregate cache is not enabled.
+     *
+     * <p>App Engine runs several instances of the application, each of which may handle
+     * the commands to the same aggregate. The cache of one instance would then miss
+     * the events stored by the others.
+     *
+     * @throws IllegalStateException
+     *         if the aggregate cache is enabled
+     */
+    private static void checkNoCache(TasksContextConfig config) {
+        checkState(config.aggregateCacheSize() == 0,
+                   "The aggregate cache cannot be used on App Engine, " +
+                           "as several instances may modify the same aggregate. " +
+                           "Unset the `todolist.aggregate.cache.size` property.");
+    }
+
     FirebaseQueryBridge queryBridge() {
         return queryBridge;
     }
@@ -57,7 +57,7 @@ final class Storage {
      *
      * @return new storage factory
      */
-    static StorageFactory createStorage() {
+    static DatastoreStorageFactory createStorage() {
         Credentials credentials = serviceAccountCredentials();
         Datastore datastore = datastoreOptions(credentials).getService();
         return DatastoreStorageFactory
@@ -27,6 +27,7 @@
 package io.spine.examples.todolist.server.firebaselocal;
 
 import io.spine.base.Production;
+import io.spine.examples.todolist.server.tasks.TasksContextConfig;
 import io.spine.examples.todolist.server.tasks.TasksContextFactory;
 import io.spine.server.BoundedContext;
 import io.spine.server.CommandService;
@@ -72,7 +73,8 @@ final class Application {
                 .use(InMemoryStorageFactory.newInstance())
                 .use(InMemoryTransportFactory.newInstance());
 
-        BoundedContext context = TasksContextFactory.create();
+        TasksContextConfig config = TasksContextConfig.fromSystemProperties();
+        BoundedContext context = TasksContextFactory.create(config);
         CommandService commandService = CommandService
                 .newBuilder()
                 .add(context)
@@ -28,12 +28,16 @@ package io.spine.examples.todolist.server.inmem;
 
 import io.spine.base.Production;
 import io.spine.examples.todolist.server.Server;
+import io.spine.examples.todolist.server.ServerConfig;
+import io.spine.examples.todolist.server.tasks.TasksContextConfig;
 import io.spine.examples.todolist.server.tasks.TasksContextFactory;
+import io.spine.examples.todolist.server.trace.LocalTracerFactory;
 import io.spine.server.ServerEnvironment;
 import io.spine.server.storage.memory.InMemoryStorageFactory;
 import io.spine.server.transport.memory.InMemoryTransportFactory;
 
 import java.io.IOException;
+import java.util.Optional;
 
 import static io.spine.client.ConnectionConstants.DEFAULT_CLIENT_SERVICE_PORT;
 import static io.spine.examples.todolist.server.Server.newServer;
@@ -58,8 +62,15 @@ public final class LocalInMemoryServer {
                 .when(Production.class)
                 .use(InMemoryStorageFactory.newInstance())
                 .use(InMemoryTransportFactory.newInstance());
+        Optional<LocalTracerFactory> tracing = LocalTracerFactory.fromSystemProperties();
+        tracing.ifPresent(factory -> ServerEnvironment.when(Production.class)
+                                                      .use(factory));
 
-        Server server = newServer(DEFAULT_CLIENT_SERVICE_PORT, TasksContextFactory.create());
+        TasksContextConfig config = TasksContextConfig.fromSystemProperties();
+        Server server = newServer(DEFAULT_CLIENT_SERVICE_PORT,
+                                  TasksContextFactory.create(config),
+                                  ServerConfig.fromSystemProperties());
+        tracing.ifPresent(server::closeOnDrain);
         server.start();
     }
 }
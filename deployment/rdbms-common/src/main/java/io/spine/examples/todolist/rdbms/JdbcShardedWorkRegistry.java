@@ -0,0 +1,211 @@
+/*
+ * Copyright 2021, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.todolist.rdbms;
+
+import com.google.common.collect.ImmutableList;
+import com.google.protobuf.Timestamp;
+import com.google.protobuf.util.Timestamps;
+import io.spine.base.Time;
+import io.spine.server.NodeId;
+import io.spine.server.delivery.ShardIndex;
+import io.spine.server.delivery.ShardProcessingSession;
+import io.spine.server.delivery.ShardSessionRecord;
+import io.spine.server.delivery.ShardedWorkRegistry;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Optional;
+
+import static io.spine.util.Exceptions.illegalStateWithCauseOf;
+
+/**
+ * A {@link ShardedWorkRegistry} which keeps the shard sessions in a relational database.
+ *
+ * <p>The server instances sharing the database pick up each shard one at a time. A session is
+ * a row of the {@code todolist_shard_sessions} table, which is picked up by setting its node
+ * only if no other node has it set.
+ */
+final class JdbcShardedWorkRegistry implements ShardedWorkRegistry {
+
+    private static final String TABLE = "todolist_shard_sessions";
+
+    /**
+     * The SQL state class of the integrity constraint violations.
+     */
+    private static final String INTEGRITY_VIOLATION = "23";
+
+    private static final String CREATE_TABLE =
+            "CREATE TABLE IF NOT EXISTS " + TABLE + " (" +
+                    "shard_index INT NOT NULL, " +
+                    "of_total INT NOT NULL, " +
+                    "picked_by VARCHAR(255), " +
+                    "picked_at BIGINT, " +
+                    "PRIMARY KEY (shard_index, of_total))";
+
+    private static final String INSERT =
+            "INSERT INTO " + TABLE + " (shard_index, of_total) VALUES (?, ?)";
+
+    private static final String PICK_UP =
+            "UPDATE " + TABLE + " SET picked_by = ?, picked_at = ? " +
+                    "WHERE shard_index = ? AND of_total = ? AND picked_by IS NULL";
+
+    private static final String RELEASE =
+            "UPDATE " + TABLE + " SET picked_by = NULL, picked_at = NULL " +
+                    "WHERE shard_index = ? AND of_total = ? AND picked_by = ?";
+
+    private static final String SELECT_EXPIRED =
+            "SELECT shard_index, of_total, picked_by FROM " + TABLE +
+                    " WHERE picked_by IS NOT NULL AND picked_at < ?";
+
+    private final DataSource dataSource;
+
+    JdbcShardedWorkRegistry(DataSource dataSource) {
+        this.dataSource = dataSource;
+        createTable();
+    }
+
+    private void createTable() {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.executeUpdate(CREATE_TABLE);
+        } catch (SQLException e) {
+            throw illegalStateWithCauseOf(e);
+        }
+    }
+
+    @Override
+    public Optional<ShardProcessingSession> pickUp(ShardIndex index, NodeId nodeId) {
+        Timestamp now = Time.currentTime();
+        try (Connection connection = dataSource.getConnection()) {
+            insertIfAbsent(connection, index);
+            try (PreparedStatement statement = connection.prepareStatement(PICK_UP)) {
+                statement.setString(1, nodeId.getValue());
+                statement.setLong(2, Timestamps.toMillis(now));
+                statement.setInt(3, index.getIndex());
+                statement.setInt(4, index.getOfTotal());
+                if (statement.executeUpdate() == 0) {
+                    return Optional.empty();
+                }
+            }
+        } catch (SQLException e) {
+            throw illegalStateWithCauseOf(e);
+        }
+        ShardSessionRecord record = ShardSessionRecord
+                .newBuilder()
+                .setIndex(index)
+                .setPickedBy(nodeId)
+                .setWhenLastPicked(now)
+                .vBuild();
+        return Optional.of(new Session(record));
+    }
+
+    private static void insertIfAbsent(Connection connection, ShardIndex index)
+            throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(INSERT)) {
+            statement.setInt(1, index.getIndex());
+            statement.setInt(2, index.getOfTotal());
+            statement.executeUpdate();
+        } catch (SQLException e) {
+            String state = e.getSQLState();
+            if (state == null || !state.startsWith(INTEGRITY_VIOLATION)) {
+                throw e;
+            }
+        }
+    }
+
+    @Override
+    public Iterable<ShardIndex> releaseExpiredSessions(Duration inactivityPeriod) {
+        long expiredBefore = System.currentTimeMillis() - inactivityPeriod.toMillis();
+        ImmutableList.Builder<ShardIndex> result = ImmutableList.builder();
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement select = connection.prepareStatement(SELECT_EXPIRED)) {
+            select.setLong(1, expiredBefore);
+            try (ResultSet expired = select.executeQuery()) {
+                while (expired.next()) {
+                    ShardIndex index = ShardIndex
+                            .newBuilder()
+                            .setIndex(expired.getInt(1))
+                            .setOfTotal(expired.getInt(2))
+                            .vBuild();
+                    if (release(connection, index, expired.getString(3))) {
+                        result.add(index);
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            throw illegalStateWithCauseOf(e);
+        }
+        return result.build();
+    }
+
+    private void release(ShardIndex index, NodeId nodeId) {
+        try (Connection connection = dataSource.getConnection()) {
+            release(connection, index, nodeId.getValue());
+        } catch (SQLException e) {
+            throw illegalStateWithCauseOf(e);
+        }
+    }
+
+    /**
+     * Releases the session of the shard if it is still held by the given node.
+     *
+     * @return {@code true} if the session is released, {@code false} if the node does not
+     *         hold the session anymore
+     */
+    private static boolean release(Connection connection, ShardIndex index, String nodeId)
+            throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(RELEASE)) {
+            statement.setInt(1, index.getIndex());
+            statement.setInt(2, index.getOfTotal());
+            statement.setString(3, nodeId);
+            return statement.executeUpdate() > 0;
+        }
+    }
+
+    /**
+     * A session of a shard picked up by this node.
+     */
+    private final class Session extends ShardProcessingSession {
+
+        private final ShardSessionRecord record;
+
+        private Session(ShardSessionRecord record) {
+            super(record);
+            this.record = record;
+        }
+
+        @Override
+        protected void complete() {
+            release(record.getIndex(), record.getPickedBy());
+        }
+    }
+}
@@ -30,8 +30,10 @@ import com.google.common.annotations.VisibleForTesting;
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
 import io.spine.logging.Logging;
+import io.spine.server.delivery.ShardedWorkRegistry;
 import io.spine.server.storage.StorageFactory;
 import io.spine.server.storage.jdbc.JdbcStorageFactory;
+import org.checkerframework.checker.nullness.qual.MonotonicNonNull;
 
 import javax.sql.DataSource;
 
@@ -42,6 +44,7 @@ public final class RelationalStorage implements Logging {
 
     private final ConnectionUrl connectionUrl;
     private final DbCredentials dbCredentials;
+    private @MonotonicNonNull DataSource dataSource;
 
     /**
      * Creates a new relation storage using the specified connection URL and the specified
@@ -66,14 +69,38 @@ public final class RelationalStorage implements Logging {
                 .build();
     }
 
-    private DataSource datasource() {
+    /**
+     * Creates the registry of the shards being delivered, shared by the servers using
+     * the same database.
+     */
+    ShardedWorkRegistry workRegistry() {
+        return new JdbcShardedWorkRegistry(datasource());
+    }
+
+    /**
+     * Creates the indexes for the queries of the Tasks context.
+     *
+     * <p>Must be called after the Tasks context is created, so that the tables exist.
+     */
+    void createIndexes() {
+        new TaskViewIndexes(datasource()).create();
+    }
+
+    private synchronized DataSource datasource() {
+        if (dataSource == null) {
+            dataSource = newDataSource();
+        }
+        return dataSource;
+    }
+
+    private DataSource newDataSource() {
         HikariConfig config = new HikariConfig();
         _debug().log("Connecting to the database. URL: `%s`", connectionUrl);
         config.setJdbcUrl(connectionUrl.toString());
         config.setUsername(dbCredentials.getUsername());
         config.setPassword(dbCredentials.getPassword());
-        DataSource dataSource = new HikariDataSource(config);
-        return dataSource;
+        DataSource result = new HikariDataSource(config);
+        return result;
     }
 
     @VisibleForTesting
@@ -28,12 +28,17 @@ package io.spine.examples.todolist.rdbms;
 
 import io.spine.base.Production;
 import io.spine.examples.todolist.server.Server;
+import io.spine.examples.todolist.server.ServerConfig;
+import io.spine.examples.todolist.server.tasks.TasksContextConfig;
 import io.spine.examples.todolist.server.tasks.TasksContextFactory;
+import io.spine.examples.todolist.server.trace.LocalTracerFactory;
 import io.spine.server.BoundedContext;
 import io.spine.server.ServerEnvironment;
+import io.spine.server.storage.StorageFactory;
 import io.spine.server.transport.memory.InMemoryTransportFactory;
 
 import java.io.IOException;
+import java.util.Optional;
 
 import static io.spine.client.ConnectionConstants.DEFAULT_CLIENT_SERVICE_PORT;
 import static io.spine.examples.todolist.server.Server.newServer;
@@ -57,12 +62,21 @@ public abstract class RunsOnRdbms {
     public final void start() throws IOException {
         ConnectionProperties properties = connectionProperties();
         RelationalStorage storage = storage(properties);
+        TasksContextConfig config = TasksContextConfig.fromSystemProperties();
+        StorageFactory storageFactory = config.applyCache(storage.storageFactory());
         ServerEnvironment
                 .when(Production.class)
-                .use(storage.storageFactory())
+                .use(storageFactory)
+                .use(config.delivery(storageFactory, storage.workRegistry()))
                 .use(InMemoryTransportFactory.newInstance());
-        BoundedContext context = TasksContextFactory.create();
-        Server server = newServer(DEFAULT_CLIENT_SERVICE_PORT, context);
+        Optional<LocalTracerFactory> tracing = LocalTracerFactory.fromSystemProperties();
+        tracing.ifPresent(factory -> ServerEnvironment.when(Production.class)
+                                                      .use(factory));
+        BoundedContext context = TasksContextFactory.create(config);
+        storage.createIndexes();
+        Server server = newServer(DEFAULT_CLIENT_SERVICE_PORT, context,
+                                  ServerConfig.fromSystemProperties());
+        tracing.ifPresent(server::closeOnDrain);
         server.start();
     }
 
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2021, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.todolist.rdbms;
+
+import com.google.common.collect.ImmutableMap;
+import io.spine.logging.Logging;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map;
+
+import static io.spine.util.Exceptions.illegalStateWithCauseOf;
+
+/**
+ * Creates the indexes of the {@code TaskView} table.
+ *
+ * <p>The task views are queried by the status, the priority and the due date, which are
+ * stored as the entity columns. The pages of the task views are ordered by the sort key
+ * column and start after the sort key of the last task view of the previous page. Without
+ * the indexes, each such query scans and sorts all the matching task views.
+ *
+ * <p>The table is created by the storage when the Tasks context is created. Therefore,
+ * the indexes must be created after the context.
+ */
+final class TaskViewIndexes implements Logging {
+
+    /**
+     * The name of the table storing the task views.
+     *
+     * <p>The JDBC storage derives the table name from the name of the entity class.
+     */
+    private static final String TABLE =
+            "io_spine_examples_todolist_server_tasks_task_TaskViewProjection";
+
+    /**
+     * The MySQL error code signaling that the index already exists.
+     */
+    private static final int DUPLICATE_KEY_NAME = 1061;
+
+    private static final ImmutableMap<String, String> INDEXES = ImmutableMap.of(
+            "task_view_status_priority_sort_key", "status, priority, sortKey",
+            "task_view_status_sort_key", "status, sortKey",
+            "task_view_sort_key", "sortKey",
+            "task_view_status_priority_due_date", "status, priority, dueDate",
+            "task_view_status_due_date", "status, dueDate"
+    );
+
+    private final DataSource dataSource;
+
+    TaskViewIndexes(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    /**
+     * Creates the indexes unless they already exist.
+     */
+    void create() {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            for (Map.Entry<String, String> index : INDEXES.entrySet()) {
+                create(statement, index.getKey(), index.getValue());
+            }
+        } catch (SQLException e) {
+            throw illegalStateWithCauseOf(e);
+        }
+    }
+
+    private void create(Statement statement, String name, String columns) throws SQLException {
+        String sql = String.format("CREATE INDEX %s ON %s (%s)", name, TABLE, columns);
+        try {
+            statement.executeUpdate(sql);
+            _debug().log("Created index `%s`.", name);
+        } catch (SQLException e) {
+            if (e.getErrorCode() != DUPLICATE_KEY_NAME) {
+                throw e;
+            }
+        }
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright 2021, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.todolist.server;
+
+import com.google.common.collect.ImmutableList;
+import com.google.protobuf.Descriptors.FieldDescriptor;
+import com.google.protobuf.Message;
+import io.grpc.stub.StreamObserver;
+import io.spine.core.Ack;
+import io.spine.core.Command;
+import io.spine.examples.todolist.tasks.batch.BatchCommandServiceGrpc;
+import io.spine.examples.todolist.tasks.batch.CommandBatch;
+import io.spine.server.CommandService;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static io.spine.protobuf.AnyPacker.unpack;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * A gRPC service posting batches of commands to the {@link CommandService}.
+ *
+ * <p>The commands of a batch are grouped by their target entities. A target is identified by
+ * the first field of a command message, which is how the commands are routed to the entities
+ * by default. The groups are posted concurrently, while the commands of each group are posted
+ * one by one in the order of the batch.
+ *
+ * <p>The acknowledgement of each command is sent back as soon as the command is posted.
+ */
+final class BatchCommandService extends BatchCommandServiceGrpc.BatchCommandServiceImplBase {
+
+    private final CommandService commandService;
+    private final Executor executor;
+
+    /**
+     * Creates a new instance of the service.
+     *
+     * @param commandService
+     *         the service to post the commands to
+     * @param executor
+     *         the executor posting the groups of commands
+     */
+    BatchCommandService(CommandService commandService, Executor executor) {
+        this.commandService = checkNotNull(commandService);
+        this.executor = checkNotNull(executor);
+    }
+
+    @Override
+    public void post(CommandBatch batch, StreamObserver<Ack> responseObserver) {
+        AckForwarder forwarder = new AckForwarder(responseObserver);
+        Collection<List<Command>> groups = byTarget(batch.getCommandList());
+        CompletableFuture<?>[] postings =
+                groups.stream()
+                      .map(group -> CompletableFuture.runAsync(() -> postAll(group, forwarder),
+                                                               executor))
+                      .toArray(CompletableFuture[]::new);
+        CompletableFuture.allOf(postings)
+                         .whenComplete((result, error) -> forwarder.complete(error));
+    }
+
+    private void postAll(List<Command> commands, AckForwarder forwarder) {
+        for (Command command : commands) {
+            commandService.post(command, forwarder);
+        }
+    }
+
+    /**
+     * Groups the commands by their targets preserving the order of the commands.
+     */
+    private static Collection<List<Command>> byTarget(List<Command> commands) {
+        Map<Object, List<Command>> groups = new LinkedHashMap<>();
+        for (Command command : commands) {
+            Object target = targetOf(command);
+            groups.computeIfAbsent(target, t -> new ArrayList<>())
+                  .add(command);
+        }
+        return groups.values()
+                     .stream()
+                     .map(ImmutableList::copyOf)
+                     .collect(toList());
+    }
+
+    /**
+     * Obtains the ID of the entity which handles the command.
+     */
+    private static Object targetOf(Command command) {
+        Message message = unpack(command.getMessage());
+        List<FieldDescriptor> fields = message.getDescriptorForType()
+                                              .getFields();
+        if (fields.isEmpty()) {
+            return message;
+        }
+        Object result = message.getField(fields.get(0));
+        return result;
+    }
+
+    /**
+     * Forwards the acknowledgements posted concurrently to the response observer.
+     *
+     * <p>The gRPC observers are not thread-safe, so the calls are serialized.
+     *
+     * <p>An error of posting a single command does not stop posting the rest of the batch.
+     * The first such error is reported once all the commands are posted.
+     */
+    private static final class AckForwarder implements StreamObserver<Ack> {
+
+        private final StreamObserver<Ack> responseObserver;
+        private @Nullable Throwable firstError;
+
+        private AckForwarder(StreamObserver<Ack> responseObserver) {
+            this.responseObserver = responseObserver;
+        }
+
+        @Override
+        public synchronized void onNext(Ack ack) {
+            responseObserver.onNext(ack);
+        }
+
+        @Override
+        public synchronized void onError(Throwable t) {
+            if (firstError == null) {
+                firstError = t;
+            }
+        }
+
+        @Override
+        public void onCompleted() {
+            // Completed once all the commands are posted.
+        }
+
+        private synchronized void complete(@Nullable Throwable error) {
+            Throwable reported = firstError != null ? firstError : error;
+            if (reported == null) {
+                responseObserver.onCompleted();
+            } else {
+                responseObserver.onError(reported);
+            }
+        }
+    }
+}
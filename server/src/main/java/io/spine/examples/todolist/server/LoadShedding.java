@@ -0,0 +1,111 @@
+/*
+ * Copyright 2021, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.todolist.server;
+
+import com.google.common.annotations.VisibleForTesting;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.Status;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Rejects the calls with the {@code RESOURCE_EXHAUSTED} status while the server is overloaded.
+ *
+ * <p>The server is overloaded when the calls wait in the queue of the executor for longer
+ * than the threshold on average. The average is the exponentially weighted moving average
+ * of the queue latency, so the server starts shedding the load once the queue builds up and
+ * accepts the calls again as soon as the queue drains.
+ *
+ * <p>Rejecting a call early is cheaper than handling it, and lets the client back off or try
+ * another replica instead of waiting for a timeout.
+ */
+final class LoadShedding implements ServerInterceptor {
+
+    /**
+     * The weight of the previous average in the new one, as the power of two.
+     *
+     * <p>With the value of 3, the last eight calls contribute most of the average.
+     */
+    private static final int SMOOTHING_SHIFT = 3;
+
+    private final long thresholdNanos;
+    private final AtomicLong averageLatencyNanos = new AtomicLong();
+
+    /**
+     * Creates a new instance rejecting the calls once the average queue latency exceeds
+     * the given threshold.
+     */
+    LoadShedding(Duration threshold) {
+        this.thresholdNanos = threshold.toNanos();
+    }
+
+    /**
+     * Wraps the executor of the calls to measure the time the calls wait in its queue.
+     */
+    Executor measure(Executor executor) {
+        return task -> {
+            long queued = System.nanoTime();
+            executor.execute(() -> {
+                record(System.nanoTime() - queued);
+                task.run();
+            });
+        };
+    }
+
+    @VisibleForTesting
+    void record(long latencyNanos) {
+        averageLatencyNanos.accumulateAndGet(
+                latencyNanos,
+                (average, latency) -> average + ((latency - average) >> SMOOTHING_SHIFT)
+        );
+    }
+
+    /**
+     * Tells if the average queue latency exceeds the threshold.
+     */
+    @VisibleForTesting
+    boolean overloaded() {
+        return averageLatencyNanos.get() > thresholdNanos;
+    }
+
+    @Override
+    public <Q, R> ServerCall.Listener<Q>
+    interceptCall(ServerCall<Q, R> call, Metadata headers, ServerCallHandler<Q, R> next) {
+        if (overloaded()) {
+            Status status = Status.RESOURCE_EXHAUSTED
+                    .withDescription("The server is overloaded, retry later.");
+            call.close(status, new Metadata());
+            return new ServerCall.Listener<Q>() {};
+        }
+        return next.startCall(call, headers);
+    }
+}
@@ -27,14 +27,33 @@
 package io.spine.examples.todolist.server;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.grpc.BindableService;
+import io.spine.examples.todolist.server.delivery.ShardedDelivery;
+import io.spine.examples.todolist.server.stream.TaskViewStreamService;
+import io.spine.examples.todolist.server.subscription.TaskViewSubscriptionService;
 import io.spine.logging.Logging;
 import io.spine.server.BoundedContext;
 import io.spine.server.CommandService;
-import io.spine.server.GrpcContainer;
 import io.spine.server.QueryService;
+import io.spine.server.ServerEnvironment;
 import io.spine.server.SubscriptionService;
+import io.spine.server.delivery.Delivery;
 
 import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.lang.Runtime.getRuntime;
+import static java.util.concurrent.Executors.newFixedThreadPool;
+import static java.util.concurrent.Executors.newSingleThreadScheduledExecutor;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 
 /**
  * Sample gRPC server implementation.
@@ -42,12 +61,21 @@ import java.io.IOException;
 public final class Server implements Logging {
 
     private final int port;
-    private final GrpcContainer grpcContainer;
+    private final ServerTransport transport;
+    private final Duration drainTimeout;
+    private final io.grpc.Server grpcServer;
     private final BoundedContext context;
+    private final ExecutorService batchExecutor;
+    private final ScheduledExecutorService subscriptionScheduler;
+    private final List<AutoCloseable> closedOnDrain = new CopyOnWriteArrayList<>();
 
     /**
-     * Creates a server with the {@link CommandService Command}, {@link QueryService Query} and
-     * {@link SubscriptionService Subscription} gRPC services.
+     * Creates a server with the {@link CommandService Command}, {@link QueryService Query},
+     * {@link SubscriptionService Subscription}, {@link BatchCommandService BatchCommand},
+     * {@link TaskViewSubscriptionService TaskViewSubscription} and
+     * {@link TaskViewStreamService TaskViewStream} gRPC services.
+     *
+     * <p>The gRPC transport has the {@linkplain ServerConfig#defaults() default} configuration.
      *
      * @param port
      *         the port to bind the server to
@@ -56,7 +84,49 @@ public final class Server implements Logging {
      * @return a new instance of {@code Server}
      */
     public static Server newServer(int port, BoundedContext boundedContext) {
-        return new Server(port, boundedContext);
+        return newServer(port, boundedContext, ServerConfig.defaults());
+    }
+
+    /**
+     * Creates a server with the same services as {@link #newServer(int, BoundedContext)} and
+     * the given configuration of the gRPC transport.
+     *
+     * @param port
+     *         the port to bind the server to
+     * @param boundedContext
+     *         the {@link BoundedContext} to serve
+     * @param config
+     *         the configuration of the gRPC transport
+     * @return a new instance of {@code Server}
+     */
+    public static Server newServer(int port, BoundedContext boundedContext, ServerConfig config) {
+        checkNotNull(boundedContext);
+        checkNotNull(config);
+        return new Server(port, boundedContext, config, ImmutableList.of());
+    }
+
+    /**
+     * Creates a server with the given gRPC services along with the ones listed in
+     * {@link #newServer(int, BoundedContext)}.
+     *
+     * @param port
+     *         the port to bind the server to
+     * @param boundedContext
+     *         the {@link BoundedContext} to serve
+     * @param config
+     *         the configuration of the gRPC transport
+     * @param additionalServices
+     *         the services to serve in addition to the standard ones
+     * @return a new instance of {@code Server}
+     */
+    @VisibleForTesting
+    static Server newServer(int port,
+                            BoundedContext boundedContext,
+                            ServerConfig config,
+                            BindableService... additionalServices) {
+        checkNotNull(boundedContext);
+        checkNotNull(config);
+        return new Server(port, boundedContext, config, ImmutableList.copyOf(additionalServices));
     }
 
     /**
@@ -66,15 +136,59 @@ public final class Server implements Logging {
      *         the port to bind the server to
      * @param context
      *         the {@link BoundedContext} to serve
+     * @param config
+     *         the configuration of the gRPC transport
+     * @param additionalServices
+     *         the services to serve in addition to the standard ones
      */
-    private Server(int port, BoundedContext context) {
+    private Server(int port,
+                   BoundedContext context,
+                   ServerConfig config,
+                   ImmutableList<BindableService> additionalServices) {
         this.port = port;
         this.context = context;
+        this.transport = new ServerTransport(config);
+        this.drainTimeout = config.drainTimeout();
+
+        this.batchExecutor = newBatchExecutor();
+        this.subscriptionScheduler = newSubscriptionScheduler();
 
         CommandService commandService = initCommandService();
         QueryService queryService = initQueryService();
         SubscriptionService subscriptionService = initSubscriptionService();
-        this.grpcContainer = initGrpcContainer(commandService, queryService, subscriptionService);
+        BatchCommandService batchService = new BatchCommandService(commandService, batchExecutor);
+        TaskViewSubscriptionService taskViewSubscriptionService =
+                new TaskViewSubscriptionService(subscriptionService, subscriptionScheduler);
+        TaskViewStreamService taskViewStreamService = new TaskViewStreamService(context);
+        ImmutableList<BindableService> services = ImmutableList
+                .<BindableService>builder()
+                .add(commandService, queryService, subscriptionService,
+                     batchService, taskViewSubscriptionService, taskViewStreamService)
+                .addAll(additionalServices)
+                .build();
+        this.grpcServer = transport.newServer(port, services);
+    }
+
+    /**
+     * Creates the executor posting the groups of the batched commands concurrently.
+     */
+    private static ExecutorService newBatchExecutor() {
+        ThreadFactory threadFactory = new ThreadFactoryBuilder()
+                .setNameFormat("batch-command-%d")
+                .setDaemon(true)
+                .build();
+        return newFixedThreadPool(getRuntime().availableProcessors(), threadFactory);
+    }
+
+    /**
+     * Creates the scheduler sending the coalesced changes of the task views.
+     */
+    private static ScheduledExecutorService newSubscriptionScheduler() {
+        ThreadFactory threadFactory = new ThreadFactoryBuilder()
+                .setNameFormat("task-view-subscription-%d")
+                .setDaemon(true)
+                .build();
+        return newSingleThreadScheduledExecutor(threadFactory);
     }
 
     private SubscriptionService initSubscriptionService() {
@@ -102,26 +216,20 @@ public final class Server implements Logging {
     }
 
     /**
-     * Creates a {@link GrpcContainer} for this server.
+     * Closes the given resource once the server is {@linkplain #drain(Duration) drained}.
+     *
+     * <p>Use for the resources needed until the last message is delivered, such as
+     * the factory of the tracers. A shutdown hook of its own would run concurrently with
+     * the draining and could close the resource while it is still in use.
      *
-     * @param commandService
-     *         the {@link CommandService} to deploy
-     * @param queryService
-     *         the {@link QueryService} to deploy
-     * @param subscriptionService
-     *         the {@link SubscriptionService} to deploy or {@code null} if no
-     *         {@code SubscriptionService} is intended for this server
-     * @return a new instance of {@link GrpcContainer}
+     * <p>The resources are closed in the order of their registration.
+     *
+     * @param resource
+     *         the resource to close
      */
-    private GrpcContainer initGrpcContainer(CommandService commandService,
-                                            QueryService queryService,
-                                            SubscriptionService subscriptionService) {
-        GrpcContainer.Builder result = GrpcContainer
-                .atPort(port)
-                .addService(commandService)
-                .addService(queryService)
-                .addService(subscriptionService);
-        return result.build();
+    public void closeOnDrain(AutoCloseable resource) {
+        checkNotNull(resource);
+        closedOnDrain.add(resource);
     }
 
     /**
@@ -137,22 +245,88 @@ public final class Server implements Logging {
     }
 
     private void startServer() throws IOException {
-        grpcContainer.start();
-        grpcContainer.addShutdownHook();
+        grpcServer.start();
+        getRuntime().addShutdownHook(new Thread(() -> drain(drainTimeout)));
     }
 
     /**
-     * Waits for the service to become terminated.
+     * Waits for the service to become terminated and releases its resources.
      */
     private void awaitTermination() {
-        grpcContainer.awaitTermination();
+        try {
+            grpcServer.awaitTermination();
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
+        } finally {
+            release();
+        }
     }
 
     /**
      * Initiates a shutdown of this {@code Server} instance.
      */
     public void shutdown() {
-        grpcContainer.shutdown();
+        grpcServer.shutdown();
+    }
+
+    /**
+     * Stops this {@code Server} instance gracefully.
+     *
+     * <p>The server stops accepting new calls and waits for the calls in flight to complete
+     * within the given timeout. The calls which are still running after the timeout are
+     * cancelled. Then, the threads of the {@linkplain ShardedDelivery delivery} are stopped,
+     * and the messages pending in it are delivered to the entities in the calling thread, so
+     * that the projections are up to date before the process exits. Finally, the resources
+     * registered {@linkplain #closeOnDrain(AutoCloseable) to be closed} are closed.
+     *
+     * <p>The server is drained when the JVM shuts down. In this case the timeout is
+     * {@linkplain ServerConfig#drainTimeout() configured} for the server.
+     *
+     * @param timeout
+     *         the time given to the calls in flight to complete
+     */
+    public void drain(Duration timeout) {
+        checkNotNull(timeout);
+        _info().log("Draining the server, waiting for the calls in flight for %s.", timeout);
+        grpcServer.shutdown();
+        try {
+            boolean completed = grpcServer.awaitTermination(timeout.toMillis(), MILLISECONDS);
+            if (!completed) {
+                _warn().log("The calls in flight did not complete within %s, cancelling them.",
+                            timeout);
+                grpcServer.shutdownNow();
+                grpcServer.awaitTermination();
+            }
+        } catch (InterruptedException e) {
+            grpcServer.shutdownNow();
+            Thread.currentThread()
+                  .interrupt();
+        } finally {
+            Delivery delivery = ServerEnvironment.instance()
+                                                 .delivery();
+            ShardedDelivery.shutdown(delivery);
+            ShardedDelivery.flush(delivery);
+            release();
+            closeResources();
+        }
+        _info().log("The server is drained.");
+    }
+
+    /**
+     * Closes the resources registered to be {@linkplain #closeOnDrain(AutoCloseable) closed}
+     * once the server is drained.
+     */
+    private void closeResources() {
+        for (AutoCloseable resource : closedOnDrain) {
+            closedOnDrain.remove(resource);
+            try {
+                resource.close();
+            } catch (Exception e) {
+                _warn().withCause(e)
+                       .log("Failed to close `%s` after draining the server.", resource);
+            }
+        }
     }
 
     /**
@@ -160,6 +334,15 @@ public final class Server implements Logging {
      */
     @VisibleForTesting
     public void shutdownNowAndWait() {
-        grpcContainer.shutdownNowAndWait();
+        grpcServer.shutdownNow();
+        awaitTermination();
+    }
+
+    private void release() {
+        transport.shutdown();
+        batchExecutor.shutdown();
+        subscriptionScheduler.shutdown();
+        ShardedDelivery.shutdown(ServerEnvironment.instance()
+                                                  .delivery());
     }
 }
@@ -0,0 +1,573 @@
+/*
+ * Copyright 2021, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.todolist.server;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.MoreObjects;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Optional;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+
+/**
+ * The configuration of the gRPC transport of the {@link Server}.
+ *
+ * <p>Use {@link #defaults()} to obtain the configuration with the default values,
+ * {@link #fromSystemProperties()} to read the values specified with the {@code -D} Java option,
+ * or {@link #newBuilder()} to compose the configuration manually.
+ */
+public final class ServerConfig {
+
+    @VisibleForTesting
+    static final String REQUEST_EXECUTOR = "todolist.server.executor";
+
+    @VisibleForTesting
+    static final String EXECUTOR_THREADS = "todolist.server.executor.threads";
+
+    @VisibleForTesting
+    static final String MAX_CONCURRENT_CALLS = "todolist.server.max.concurrent.calls";
+
+    @VisibleForTesting
+    static final String MAX_INBOUND_MESSAGE_SIZE = "todolist.server.max.inbound.message.size";
+
+    @VisibleForTesting
+    static final String MAX_INBOUND_METADATA_SIZE = "todolist.server.max.inbound.metadata.size";
+
+    @VisibleForTesting
+    static final String KEEP_ALIVE_TIME = "todolist.server.keepalive.time";
+
+    @VisibleForTesting
+    static final String KEEP_ALIVE_TIMEOUT = "todolist.server.keepalive.timeout";
+
+    @VisibleForTesting
+    static final String FLOW_CONTROL_WINDOW = "todolist.server.flow.control.window";
+
+    @VisibleForTesting
+    static final String BOSS_THREADS = "todolist.server.boss.threads";
+
+    @VisibleForTesting
+    static final String WORKER_THREADS = "todolist.server.worker.threads";
+
+    @VisibleForTesting
+    static final String DRAIN_TIMEOUT = "todolist.server.drain.timeout";
+
+    @VisibleForTesting
+    static final String SHEDDING_THRESHOLD = "todolist.server.shedding.threshold";
+
+    @VisibleForTesting
+    static final String CAPTURE_FILE = "todolist.server.capture.file";
+
+    private static final ServerConfig DEFAULTS = newBuilder().build();
+
+    private final RequestExecutor requestExecutor;
+    private final int executorThreads;
+    private final int maxConcurrentCalls;
+    private final int maxInboundMessageSize;
+    private final int maxInboundMetadataSize;
+    private final Duration keepAliveTime;
+    private final Duration keepAliveTimeout;
+    private final int flowControlWindow;
+    private final int bossThreads;
+    private final int workerThreads;
+    private final Duration drainTimeout;
+    private final Duration sheddingThreshold;
+    private final @Nullable Path captureFile;
+
+    private ServerConfig(Builder builder) {
+        this.requestExecutor = builder.requestExecutor;
+        this.executorThreads = builder.executorThreads;
+        this.maxConcurrentCalls = builder.maxConcurrentCalls;
+        this.maxInboundMessageSize = builder.maxInboundMessageSize;
+        this.maxInboundMetadataSize = builder.maxInboundMetadataSize;
+        this.keepAliveTime = builder.keepAliveTime;
+        this.keepAliveTimeout = builder.keepAliveTimeout;
+        this.flowControlWindow = builder.flowControlWindow;
+        this.bossThreads = builder.bossThreads;
+        this.workerThreads = builder.workerThreads;
+        this.drainTimeout = builder.drainTimeout;
+        this.sheddingThreshold = builder.sheddingThreshold;
+        this.captureFile = builder.captureFile;
+    }
+
+    /**
+     * Returns the configuration with the default values.
+     */
+    public static ServerConfig defaults() {
+        return DEFAULTS;
+    }
+
+    /**
+     * Assembles the configuration from the system properties, specified with the {@code -D}
+     * Java option.
+     *
+     * <p>The values which are not specified are set to their defaults. The durations are
+     * specified in milliseconds, the sizes are specified in bytes.
+     *
+     * @return the configuration assembled from the system properties
+     * @see System#getProperty(String)
+     */
+    public static ServerConfig fromSystemProperties() {
+        Builder builder = newBuilder();
+        systemOption(REQUEST_EXECUTOR)
+                .map(value -> RequestExecutor.valueOf(value.toUpperCase(Locale.ROOT)))
+                .ifPresent(builder::setRequestExecutor);
+        systemOption(EXECUTOR_THREADS)
+                .map(Integer::parseInt)
+                .ifPresent(builder::setExecutorThreads);
+        systemOption(MAX_CONCURRENT_CALLS)
+                .map(Integer::parseInt)
+                .ifPresent(builder::setMaxConcurrentCalls);
+        systemOption(MAX_INBOUND_MESSAGE_SIZE)
+                .map(Integer::parseInt)
+                .ifPresent(builder::setMaxInboundMessageSize);
+        systemOption(MAX_INBOUND_METADATA_SIZE)
+                .map(Integer::parseInt)
+                .ifPresent(builder::setMaxInboundMetadataSize);
+        systemOption(KEEP_ALIVE_TIME)
+                .map(Long::parseLong)
+                .map(Duration::ofMillis)
+                .ifPresent(builder::setKeepAliveTime);
+        systemOption(KEEP_ALIVE_TIMEOUT)
+                .map(Long::parseLong)
+                .map(Duration::ofMillis)
+                .ifPresent(builder::setKeepAliveTimeout);
+        systemOption(FLOW_CONTROL_WINDOW)
+                .map(Integer::parseInt)
+                .ifPresent(builder::setFlowControlWindow);
+        systemOption(BOSS_THREADS)
+                .map(Integer::parseInt)
+                .ifPresent(builder::setBossThreads);
+        systemOption(WORKER_THREADS)
+                .map(Integer::parseInt)
+                .ifPresent(builder::setWorkerThreads);
+        systemOption(DRAIN_TIMEOUT)
+                .map(Long::parseLong)
+                .map(Duration::ofMillis)
+                .ifPresent(builder::setDrainTimeout);
+        systemOption(SHEDDING_THRESHOLD)
+                .map(Long::parseLong)
+                .map(Duration::ofMillis)
+                .ifPresent(builder::setSheddingThreshold);
+        systemOption(CAPTURE_FILE)
+                .map(Paths::get)
+                .ifPresent(builder::setCaptureFile);
+        return builder.build();
+    }
+
+    /**
+     * Returns a new builder for manual composition of the configuration.
+     */
+    public static Builder newBuilder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns the executor handling the calls.
+     */
+    public RequestExecutor requestExecutor() {
+        return requestExecutor;
+    }
+
+    /**
+     * Returns the number of threads of the {@linkplain RequestExecutor#BOUNDED bounded}
+     * executor.
+     */
+    public int executorThreads() {
+        return executorThreads;
+    }
+
+    /**
+     * Returns the maximum number of the concurrent calls per client connection.
+     *
+     * <p>Zero means that the number of calls is not limited.
+     */
+    public int maxConcurrentCalls() {
+        return maxConcurrentCalls;
+    }
+
+    /**
+     * Returns the maximum size of an incoming message in bytes.
+     */
+    public int maxInboundMessageSize() {
+        return maxInboundMessageSize;
+    }
+
+    /**
+     * Returns the maximum size of the metadata of an incoming call in bytes.
+     */
+    public int maxInboundMetadataSize() {
+        return maxInboundMetadataSize;
+    }
+
+    /**
+     * Returns the time without reads after which the server pings the client.
+     */
+    public Duration keepAliveTime() {
+        return keepAliveTime;
+    }
+
+    /**
+     * Returns the time to wait for a ping acknowledgement before closing the connection.
+     */
+    public Duration keepAliveTimeout() {
+        return keepAliveTimeout;
+    }
+
+    /**
+     * Returns the initial HTTP/2 flow control window of a call in bytes.
+     *
+     * <p>The larger is the window, the more data a client may send without waiting for
+     * the server to read it.
+     */
+    public int flowControlWindow() {
+        return flowControlWindow;
+    }
+
+    /**
+     * Returns the number of the Netty threads accepting the connections.
+     *
+     * <p>Zero means that the gRPC shared event loop is used.
+     */
+    public int bossThreads() {
+        return bossThreads;
+    }
+
+    /**
+     * Returns the number of the Netty threads serving the connections.
+     *
+     * <p>Zero means that the gRPC shared event loop is used.
+     */
+    public int workerThreads() {
+        return workerThreads;
+    }
+
+    /**
+     * Returns the time given to the calls in flight to complete when the server is
+     * {@linkplain Server#drain(Duration) drained}.
+     */
+    public Duration drainTimeout() {
+        return drainTimeout;
+    }
+
+    /**
+     * Returns the average time the calls wait for the executor, exceeding which the server
+     * rejects the calls with the {@code RESOURCE_EXHAUSTED} status.
+     *
+     * <p>Zero means that the server never rejects the calls.
+     */
+    public Duration sheddingThreshold() {
+        return sheddingThreshold;
+    }
+
+    /**
+     * Returns the file to which the incoming commands are captured.
+     *
+     * <p>An empty value means that the commands are not captured.
+     *
+     * @see io.spine.examples.todolist.server.capture.CommandLogWriter
+     */
+    public Optional<Path> captureFile() {
+        return Optional.ofNullable(captureFile);
+    }
+
+    @SuppressWarnings("AccessOfSystemProperties")
+    private static Optional<String> systemOption(String optionKey) {
+        Optional<String> result = Optional.ofNullable(System.getProperty(optionKey));
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                          .add("requestExecutor", requestExecutor)
+                          .add("executorThreads", executorThreads)
+                          .add("maxConcurrentCalls", maxConcurrentCalls)
+                          .add("maxInboundMessageSize", maxInboundMessageSize)
+                          .add("maxInboundMetadataSize", maxInboundMetadataSize)
+                          .add("keepAliveTime", keepAliveTime)
+                          .add("keepAliveTimeout", keepAliveTimeout)
+                          .add("flowControlWindow", flowControlWindow)
+                          .add("bossThreads", bossThreads)
+                          .add("workerThreads", workerThreads)
+                          .add("drainTimeout", drainTimeout)
+                          .add("sheddingThreshold", sheddingThreshold)
+                          .add("captureFile", captureFile)
+                          .toString();
+    }
+
+    /**
+     * The executor handling the calls to the server.
+     */
+    public enum RequestExecutor {
+
+        /**
+         * The unbounded cached thread pool shared by the gRPC servers.
+         */
+        CACHED,
+
+        /**
+         * A thread pool with a {@linkplain #executorThreads() fixed} number of threads.
+         *
+         * <p>The calls which arrive when all the threads are busy wait in the queue.
+         */
+        BOUNDED,
+
+        /**
+         * A new virtual thread per call.
+         *
+         * <p>Requires Java 21 or newer at runtime.
+         */
+        VIRTUAL
+    }
+
+    /**
+     * A builder of the server configuration.
+     */
+    public static final class Builder {
+
+        private RequestExecutor requestExecutor = RequestExecutor.CACHED;
+        private int executorThreads = Runtime.getRuntime()
+                                             .availableProcessors();
+        private int maxConcurrentCalls;
+        private int maxInboundMessageSize = 4 * 1024 * 1024;
+        private int maxInboundMetadataSize = 8 * 1024;
+        private Duration keepAliveTime = Duration.ofHours(2);
+        private Duration keepAliveTimeout = Duration.ofSeconds(20);
+        private int flowControlWindow = 1024 * 1024;
+        private int bossThreads;
+        private int workerThreads;
+        private Duration drainTimeout = Duration.ofSeconds(30);
+        private Duration sheddingThreshold = Duration.ZERO;
+        private @Nullable Path captureFile;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the executor handling the calls.
+         *
+         * <p>By default, the calls are handled by the {@linkplain RequestExecutor#CACHED cached}
+         * thread pool.
+         */
+        public Builder setRequestExecutor(RequestExecutor requestExecutor) {
+            this.requestExecutor = checkNotNull(requestExecutor);
+            return this;
+        }
+
+        /**
+         * Sets the number of threads of the {@linkplain RequestExecutor#BOUNDED bounded}
+         * executor.
+         *
+         * <p>By default, equals to the number of the available processors.
+         */
+        public Builder setExecutorThreads(int executorThreads) {
+            checkArgument(executorThreads > 0,
+                          "The number of executor threads must be positive, but was %s.",
+                          executorThreads);
+            this.executorThreads = executorThreads;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of the concurrent calls per client connection.
+         *
+         * <p>By default, the number of calls is not limited. Set to zero to remove the limit
+         * explicitly.
+         */
+        public Builder setMaxConcurrentCalls(int maxConcurrentCalls) {
+            checkArgument(maxConcurrentCalls >= 0,
+                          "The maximum number of calls must not be negative, but was %s.",
+                          maxConcurrentCalls);
+            this.maxConcurrentCalls = maxConcurrentCalls;
+            return this;
+        }
+
+        /**
+         * Sets the maximum size of an incoming message in bytes.
+         *
+         * <p>By default, equals to 4 MiB.
+         */
+        public Builder setMaxInboundMessageSize(int maxInboundMessageSize) {
+            checkArgument(maxInboundMessageSize > 0,
+                          "The maximum message size must be positive, but was %s.",
+                          maxInboundMessageSize);
+            this.maxInboundMessageSize = maxInboundMessageSize;
+            return this;
+        }
+
+        /**
+         * Sets the maximum size of the metadata of an incoming call in bytes.
+         *
+         * <p>By default, equals to 8 KiB.
+         */
+        public Builder setMaxInboundMetadataSize(int maxInboundMetadataSize) {
+            checkArgument(maxInboundMetadataSize > 0,
+                          "The maximum metadata size must be positive, but was %s.",
+                          maxInboundMetadataSize);
+            this.maxInboundMetadataSize = maxInboundMetadataSize;
+            return this;
+        }
+
+        /**
+         * Sets the time without reads after which the server pings the client.
+         *
+         * <p>By default, equals to two hours.
+         */
+        public Builder setKeepAliveTime(Duration keepAliveTime) {
+            checkNotNull(keepAliveTime);
+            checkArgument(!keepAliveTime.isNegative() && !keepAliveTime.isZero(),
+                          "The keep-alive time must be positive, but was %s.", keepAliveTime);
+            this.keepAliveTime = keepAliveTime;
+            return this;
+        }
+
+        /**
+         * Sets the time to wait for a ping acknowledgement before closing the connection.
+         *
+         * <p>By default, equals to 20 seconds.
+         */
+        public Builder setKeepAliveTimeout(Duration keepAliveTimeout) {
+            checkNotNull(keepAliveTimeout);
+            checkArgument(!keepAliveTimeout.isNegative() && !keepAliveTimeout.isZero(),
+                          "The keep-alive timeout must be positive, but was %s.",
+                          keepAliveTimeout);
+            this.keepAliveTimeout = keepAliveTimeout;
+            return this;
+        }
+
+        /**
+         * Sets the initial HTTP/2 flow control window of a call in bytes.
+         *
+         * <p>By default, equals to 1 MiB.
+         */
+        public Builder setFlowControlWindow(int flowControlWindow) {
+            checkArgument(flowControlWindow > 0,
+                          "The flow control window must be positive, but was %s.",
+                          flowControlWindow);
+            this.flowControlWindow = flowControlWindow;
+            return this;
+        }
+
+        /**
+         * Sets the number of the Netty threads accepting the connections.
+         *
+         * <p>By default, the gRPC shared event loop is used. Set to zero to use the shared
+         * event loop explicitly. If set, the {@linkplain #setWorkerThreads(int) worker threads}
+         * must be set as well.
+         */
+        public Builder setBossThreads(int bossThreads) {
+            checkArgument(bossThreads >= 0,
+                          "The number of boss threads must not be negative, but was %s.",
+                          bossThreads);
+            this.bossThreads = bossThreads;
+            return this;
+        }
+
+        /**
+         * Sets the number of the Netty threads serving the connections.
+         *
+         * <p>By default, the gRPC shared event loop is used. Set to zero to use the shared
+         * event loop explicitly. If set, the {@linkplain #setBossThreads(int) boss threads}
+         * must be set as well.
+         */
+        public Builder setWorkerThreads(int workerThreads) {
+            checkArgument(workerThreads >= 0,
+                          "The number of worker threads must not be negative, but was %s.",
+                          workerThreads);
+            this.workerThreads = workerThreads;
+            return this;
+        }
+
+        /**
+         * Sets the time given to the calls in flight to complete when the server is drained.
+         *
+         * <p>By default, equals to 30 seconds.
+         */
+        public Builder setDrainTimeout(Duration drainTimeout) {
+            checkNotNull(drainTimeout);
+            checkArgument(!drainTimeout.isNegative(),
+                          "The drain timeout must not be negative, but was %s.", drainTimeout);
+            this.drainTimeout = drainTimeout;
+            return this;
+        }
+
+        /**
+         * Sets the average time the calls wait for the executor, exceeding which the server
+         * rejects the calls.
+         *
+         * <p>The latency is measured with the exponentially weighted moving average, so
+         * the server accepts the calls again once the queue of the executor drains. Use with
+         * the {@linkplain RequestExecutor#BOUNDED bounded} executor, as the calls do not
+         * queue up in the other ones.
+         *
+         * <p>By default, the server never rejects the calls. Set to zero to disable
+         * the rejections explicitly.
+         */
+        public Builder setSheddingThreshold(Duration sheddingThreshold) {
+            checkNotNull(sheddingThreshold);
+            checkArgument(!sheddingThreshold.isNegative(),
+                          "The shedding threshold must not be negative, but was %s.",
+                          sheddingThreshold);
+            this.sheddingThreshold = sheddingThreshold;
+            return this;
+        }
+
+        /**
+         * Sets the file to which the incoming commands are captured.
+         *
+         * <p>Each command accepted by the server is appended to the file along with the time
+         * it was received. The captured commands can be
+         * {@linkplain io.spine.examples.todolist.server.capture.CommandReplayer replayed} later.
+         * If the file exists, the commands are appended to it.
+         *
+         * <p>By default, the commands are not captured.
+         */
+        public Builder setCaptureFile(Path captureFile) {
+            this.captureFile = checkNotNull(captureFile);
+            return this;
+        }
+
+        /**
+         * Creates a new instance of {@code ServerConfig}.
+         *
+         * @throws IllegalStateException
+         *         if only one of the boss and the worker threads is set
+         */
+        public ServerConfig build() {
+            checkState((bossThreads == 0) == (workerThreads == 0),
+                       "The boss and the worker threads must be set together.");
+            return new ServerConfig(this);
+        }
+    }
+}
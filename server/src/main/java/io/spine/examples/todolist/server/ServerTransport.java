@@ -0,0 +1,220 @@
+/*
+ * Copyright 2021, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.todolist.server;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.grpc.BindableService;
+import io.grpc.netty.NettyServerBuilder;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.spine.examples.todolist.server.ServerConfig.RequestExecutor;
+import io.spine.examples.todolist.server.capture.CommandCapture;
+import io.spine.examples.todolist.server.capture.CommandLogWriter;
+import io.spine.logging.Logging;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+import static io.spine.util.Exceptions.illegalStateWithCauseOf;
+import static io.spine.util.Exceptions.newIllegalStateException;
+import static java.util.concurrent.Executors.newCachedThreadPool;
+import static java.util.concurrent.Executors.newFixedThreadPool;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * The Netty transport of the gRPC server configured with a {@link ServerConfig}.
+ *
+ * <p>Owns the executor of the calls and the event loops, if they are not the gRPC defaults,
+ * and the log of the captured commands, if the capture is on. Releases them on
+ * {@link #shutdown()}.
+ */
+final class ServerTransport implements Logging {
+
+    private final ServerConfig config;
+    private final @Nullable ExecutorService executor;
+    private final @Nullable LoadShedding loadShedding;
+    private final @Nullable EventLoopGroup bossGroup;
+    private final @Nullable EventLoopGroup workerGroup;
+    private final @Nullable CommandLogWriter commandLog;
+
+    /**
+     * Creates the transport with the given configuration.
+     *
+     * @throws IllegalStateException
+     *         if the {@linkplain ServerConfig#captureFile() capture file} cannot be opened
+     */
+    ServerTransport(ServerConfig config) {
+        this.config = config;
+        this.commandLog = openCommandLog(config);
+        this.executor = newExecutor(config);
+        this.loadShedding = config.sheddingThreshold()
+                                  .isZero()
+                            ? null
+                            : new LoadShedding(config.sheddingThreshold());
+        if (config.bossThreads() > 0) {
+            this.bossGroup = new NioEventLoopGroup(config.bossThreads(),
+                                                   threadFactory("grpc-boss-%d"));
+            this.workerGroup = new NioEventLoopGroup(config.workerThreads(),
+                                                     threadFactory("grpc-worker-%d"));
+        } else {
+            this.bossGroup = null;
+            this.workerGroup = null;
+        }
+    }
+
+    private static @Nullable CommandLogWriter openCommandLog(ServerConfig config) {
+        if (!config.captureFile()
+                   .isPresent()) {
+            return null;
+        }
+        try {
+            return CommandLogWriter.open(config.captureFile()
+                                               .get());
+        } catch (IOException e) {
+            throw illegalStateWithCauseOf(e);
+        }
+    }
+
+    /**
+     * Creates the executor of the calls, or {@code null} if the gRPC default one is used.
+     *
+     * <p>The load shedding measures the latency of the executor, so the executor is created
+     * even for the default kind if the shedding is on.
+     */
+    private static @Nullable ExecutorService newExecutor(ServerConfig config) {
+        RequestExecutor kind = config.requestExecutor();
+        switch (kind) {
+            case BOUNDED:
+                return newFixedThreadPool(config.executorThreads(),
+                                          threadFactory("grpc-request-%d"));
+            case VIRTUAL:
+                return newVirtualThreadExecutor();
+            case CACHED:
+            default:
+                return config.sheddingThreshold()
+                             .isZero()
+                       ? null
+                       : newCachedThreadPool(threadFactory("grpc-request-%d"));
+        }
+    }
+
+    /**
+     * Creates the executor starting a new virtual thread per task.
+     *
+     * <p>The executor is looked up at runtime, as the code is compiled for the older Java
+     * versions.
+     */
+    private static ExecutorService newVirtualThreadExecutor() {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (NoSuchMethodException e) {
+            throw newIllegalStateException(e, "The virtual threads require Java 21 or newer.");
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw illegalStateWithCauseOf(e);
+        }
+    }
+
+    private static ThreadFactory threadFactory(String nameFormat) {
+        return new ThreadFactoryBuilder()
+                .setNameFormat(nameFormat)
+                .setDaemon(true)
+                .build();
+    }
+
+    /**
+     * Creates a gRPC server bound to the given port.
+     *
+     * @param port
+     *         the port to bind the server to
+     * @param services
+     *         the services to deploy
+     * @return a new server, which is not started yet
+     */
+    io.grpc.Server newServer(int port, Iterable<BindableService> services) {
+        NettyServerBuilder builder = NettyServerBuilder
+                .forPort(port)
+                .maxInboundMessageSize(config.maxInboundMessageSize())
+                .maxInboundMetadataSize(config.maxInboundMetadataSize())
+                .keepAliveTime(config.keepAliveTime()
+                                     .toMillis(), MILLISECONDS)
+                .keepAliveTimeout(config.keepAliveTimeout()
+                                        .toMillis(), MILLISECONDS)
+                .flowControlWindow(config.flowControlWindow());
+        if (config.maxConcurrentCalls() > 0) {
+            builder.maxConcurrentCallsPerConnection(config.maxConcurrentCalls());
+        }
+        if (commandLog != null) {
+            // Added before the load shedding, so that the rejected calls are not captured.
+            builder.intercept(CommandCapture.to(commandLog));
+        }
+        if (executor != null && loadShedding != null) {
+            builder.executor(loadShedding.measure(executor))
+                   .intercept(loadShedding);
+        } else if (executor != null) {
+            builder.executor(executor);
+        }
+        if (bossGroup != null && workerGroup != null) {
+            builder.bossEventLoopGroup(bossGroup)
+                   .workerEventLoopGroup(workerGroup)
+                   .channelType(NioServerSocketChannel.class);
+        }
+        for (BindableService service : services) {
+            builder.addService(service);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Releases the executor, the event loops and the command log once the server
+     * is terminated.
+     */
+    @SuppressWarnings("FutureReturnValueIgnored") // No need to wait for the event loops.
+    void shutdown() {
+        if (commandLog != null) {
+            try {
+                commandLog.close();
+            } catch (IOException e) {
+                _warn().withCause(e)
+                       .log("Cannot close the command log.");
+            }
+        }
+        if (executor != null) {
+            executor.shutdown();
+        }
+        if (bossGroup != null && workerGroup != null) {
+            bossGroup.shutdownGracefully();
+            workerGroup.shutdownGracefully();
+        }
+    }
+}
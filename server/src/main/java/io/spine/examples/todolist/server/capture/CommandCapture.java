@@ -0,0 +1,99 @@
+/*
+ * Copyright 2021, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.todolist.server.capture;
+
+import io.grpc.ForwardingServerCallListener.SimpleForwardingServerCallListener;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.spine.core.Command;
+import io.spine.examples.todolist.tasks.batch.CommandBatch;
+import io.spine.logging.Logging;
+
+import java.io.IOException;
+import java.time.Instant;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Appends the commands received by the server to the command log.
+ *
+ * <p>Captures the commands posted both one by one and in
+ * batches through the {@code BatchCommandService}. The commands are
+ * captured as they are received, before they are posted to the bounded context.
+ *
+ * <p>A failure to write the log is logged and does not affect handling the command.
+ */
+public final class CommandCapture implements ServerInterceptor, Logging {
+
+    private final CommandLogWriter log;
+
+    private CommandCapture(CommandLogWriter log) {
+        this.log = log;
+    }
+
+    /**
+     * Creates the interceptor capturing the commands to the given log.
+     */
+    public static CommandCapture to(CommandLogWriter log) {
+        checkNotNull(log);
+        return new CommandCapture(log);
+    }
+
+    @Override
+    public <Q, R> ServerCall.Listener<Q>
+    interceptCall(ServerCall<Q, R> call, Metadata headers, ServerCallHandler<Q, R> next) {
+        ServerCall.Listener<Q> listener = next.startCall(call, headers);
+        return new SimpleForwardingServerCallListener<Q>(listener) {
+            @Override
+            public void onMessage(Q message) {
+                capture(message);
+                super.onMessage(message);
+            }
+        };
+    }
+
+    private void capture(Object message) {
+        if (message instanceof Command) {
+            append((Command) message);
+        } else if (message instanceof CommandBatch) {
+            ((CommandBatch) message).getCommandList()
+                                    .forEach(this::append);
+        }
+    }
+
+    private void append(Command command) {
+        try {
+            log.append(command, Instant.now());
+        } catch (IOException e) {
+            _warn().withCause(e)
+                   .log("Cannot capture the command `%s`.", command.getId()
+                                                                 .getUuid());
+        }
+    }
+}
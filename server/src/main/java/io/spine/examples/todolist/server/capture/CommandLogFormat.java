@@ -0,0 +1,86 @@
+/*
+ * Copyright 2021, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.todolist.server.capture;
+
+import java.time.Instant;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+/**
+ * The binary format of the command log.
+ *
+ * <p>The log starts with the {@linkplain #MAGIC magic bytes} followed by the
+ * {@linkplain #VERSION version} of the format. Then, the records follow, each consisting of:
+ * <ol>
+ *     <li>the time the command was received, in microseconds since the Unix epoch, as
+ *         a Protobuf varint;
+ *     <li>the length of the serialized {@link io.spine.core.Command Command}, as a Protobuf
+ *         varint;
+ *     <li>the serialized command.
+ * </ol>
+ *
+ * <p>The records are only appended, so a log may be continued by a server restarted with
+ * the same log file. The incomplete last record of such a log is discarded before appending.
+ */
+final class CommandLogFormat {
+
+    /**
+     * The bytes the log starts with.
+     */
+    static final byte[] MAGIC = {'T', 'D', 'C', 'L'};
+
+    /**
+     * The version of the format.
+     */
+    static final byte VERSION = 1;
+
+    /**
+     * The length of the magic bytes and the version.
+     */
+    static final int HEADER_LENGTH = MAGIC.length + 1;
+
+    /** Prevents instantiation of this utility class. */
+    private CommandLogFormat() {
+    }
+
+    /**
+     * Converts the time to the microseconds since the Unix epoch.
+     */
+    static long toMicros(Instant time) {
+        return SECONDS.toMicros(time.getEpochSecond()) + time.getNano() / 1_000;
+    }
+
+    /**
+     * Converts the microseconds since the Unix epoch to the time.
+     */
+    static Instant fromMicros(long micros) {
+        long seconds = MICROSECONDS.toSeconds(micros);
+        long nanos = (micros - SECONDS.toMicros(seconds)) * 1_000;
+        return Instant.ofEpochSecond(seconds, nanos);
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright 2021, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.todolist.server.capture;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.ExtensionRegistryLite;
+import com.google.protobuf.InvalidProtocolBufferException;
+import io.spine.core.Command;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Optional;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static io.spine.examples.todolist.server.capture.CommandLogFormat.HEADER_LENGTH;
+import static io.spine.examples.todolist.server.capture.CommandLogFormat.MAGIC;
+import static io.spine.examples.todolist.server.capture.CommandLogFormat.VERSION;
+import static io.spine.examples.todolist.server.capture.CommandLogFormat.fromMicros;
+import static java.lang.String.format;
+
+/**
+ * Reads the commands from a log written by the {@link CommandLogWriter}.
+ *
+ * <p>The commands are read one by one, so the log does not have to fit into memory.
+ */
+public final class CommandLogReader implements Closeable {
+
+    private final InputStream stream;
+    private final CodedInputStream input;
+
+    private CommandLogReader(InputStream stream) {
+        this.stream = stream;
+        this.input = CodedInputStream.newInstance(stream);
+    }
+
+    /**
+     * Opens the log in the given file.
+     *
+     * @param file
+     *         the log file
+     * @return the reader of the log
+     * @throws IOException
+     *         if the file cannot be read or is not a command log
+     */
+    public static CommandLogReader open(Path file) throws IOException {
+        checkNotNull(file);
+        CommandLogReader result = new CommandLogReader(Files.newInputStream(file));
+        try {
+            result.readHeader(file);
+        } catch (IOException e) {
+            result.close();
+            throw e;
+        }
+        return result;
+    }
+
+    /**
+     * Obtains the length of the log in the given file up to the end of its last complete
+     * record.
+     *
+     * @param file
+     *         the log file
+     * @return the length of the complete records of the log along with its header, or zero
+     *         if the file does not exist or its header is incomplete
+     * @throws IOException
+     *         if the file cannot be read, is not a command log, or has a corrupted record
+     *         before the last one
+     */
+    static long completeLength(Path file) throws IOException {
+        checkNotNull(file);
+        if (!Files.exists(file) || Files.size(file) < HEADER_LENGTH) {
+            return 0;
+        }
+        try (CommandLogReader reader = open(file)) {
+            return reader.skipRecords();
+        }
+    }
+
+    /**
+     * Skips all the complete records of the log.
+     *
+     * @return the length of the log up to the end of the last complete record
+     */
+    private long skipRecords() throws IOException {
+        long result = HEADER_LENGTH;
+        while (true) {
+            input.resetSizeCounter();
+            if (input.isAtEnd()) {
+                return result;
+            }
+            try {
+                input.readUInt64();
+                int length = input.readRawVarint32();
+                input.skipRawBytes(length);
+            } catch (InvalidProtocolBufferException e) {
+                if (input.isAtEnd()) {
+                    return result;
+                }
+                throw e;
+            }
+            result += input.getTotalBytesRead();
+        }
+    }
+
+    private void readHeader(Path file) throws IOException {
+        byte[] magic = input.readRawBytes(MAGIC.length);
+        if (!Arrays.equals(magic, MAGIC)) {
+            throw new IOException(format("`%s` is not a command log.", file));
+        }
+        byte version = input.readRawByte();
+        if (version != VERSION) {
+            throw new IOException(format(
+                    "The command log `%s` has the unsupported version %d.", file, version));
+        }
+    }
+
+    /**
+     * Reads the next command of the log.
+     *
+     * <p>If the last record of the log is incomplete, e.g. because the server crashed while
+     * writing it, the record is skipped.
+     *
+     * @return the next command or {@code Optional.empty()} if the end of the log is reached
+     * @throws IOException
+     *         if the log cannot be read
+     */
+    public Optional<CapturedCommand> next() throws IOException {
+        input.resetSizeCounter();
+        if (input.isAtEnd()) {
+            return Optional.empty();
+        }
+        try {
+            long micros = input.readUInt64();
+            Command command = input.readMessage(Command.parser(),
+                                                ExtensionRegistryLite.getEmptyRegistry());
+            CapturedCommand result = new CapturedCommand(fromMicros(micros), command);
+            return Optional.of(result);
+        } catch (InvalidProtocolBufferException e) {
+            if (input.isAtEnd()) {
+                return Optional.empty();
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        stream.close();
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2021, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.todolist.server.capture;
+
+import com.google.protobuf.CodedOutputStream;
+import io.spine.core.Command;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.time.Instant;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static io.spine.examples.todolist.server.capture.CommandLogFormat.MAGIC;
+import static io.spine.examples.todolist.server.capture.CommandLogFormat.VERSION;
+import static io.spine.examples.todolist.server.capture.CommandLogFormat.toMicros;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * Appends the commands to a log file in the {@linkplain CommandLogFormat command log format}.
+ *
+ * <p>The records are buffered in memory and written to the file once the buffer is full, or
+ * when the writer is {@linkplain #flush() flushed} or {@linkplain #close() closed}. Therefore,
+ * the last commands may be lost if the process crashes. The {@link CommandLogReader} ignores
+ * the incomplete last record of such a log.
+ *
+ * <p>The writer is thread-safe.
+ */
+public final class CommandLogWriter implements Closeable {
+
+    /**
+     * The size of the buffer of the records.
+     */
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final OutputStream stream;
+    private final CodedOutputStream output;
+
+    private CommandLogWriter(OutputStream stream) {
+        this.stream = stream;
+        this.output = CodedOutputStream.newInstance(stream, BUFFER_SIZE);
+    }
+
+    /**
+     * Opens the log in the given file.
+     *
+     * <p>If the file does not exist or is empty, it is created and the header of the log is
+     * written. Otherwise, the records are appended to the existing log.
+     *
+     * <p>If the last record of the existing log is incomplete, e.g. because the server crashed
+     * while writing it, the log is truncated at the end of the last complete record. Otherwise,
+     * the records appended after the incomplete one could not be read.
+     *
+     * @param file
+     *         the log file
+     * @return the writer of the log
+     * @throws IOException
+     *         if the file cannot be opened or is not a command log
+     */
+    public static CommandLogWriter open(Path file) throws IOException {
+        checkNotNull(file);
+        long length = CommandLogReader.completeLength(file);
+        FileChannel channel = FileChannel.open(file, CREATE, WRITE);
+        try {
+            channel.truncate(length);
+            channel.position(length);
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+        CommandLogWriter result = new CommandLogWriter(Channels.newOutputStream(channel));
+        if (length == 0) {
+            result.output.writeRawBytes(MAGIC);
+            result.output.writeRawByte(VERSION);
+        }
+        return result;
+    }
+
+    /**
+     * Appends the command received at the given time.
+     *
+     * @throws IOException
+     *         if the log cannot be written
+     */
+    public synchronized void append(Command command, Instant receivedAt) throws IOException {
+        checkNotNull(command);
+        checkNotNull(receivedAt);
+        output.writeUInt64NoTag(toMicros(receivedAt));
+        output.writeMessageNoTag(command);
+    }
+
+    /**
+     * Writes the buffered records to the file.
+     *
+     * @throws IOException
+     *         if the log cannot be written
+     */
+    public synchronized void flush() throws IOException {
+        output.flush();
+        stream.flush();
+    }
+
+    /**
+     * Writes the buffered records and closes the file.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        try {
+            output.flush();
+        } finally {
+            stream.close();
+        }
+    }
+}
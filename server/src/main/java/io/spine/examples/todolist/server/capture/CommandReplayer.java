@@ -0,0 +1,138 @@
+/*
+ * Copyright 2021, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.todolist.server.capture;
+
+import io.spine.core.Command;
+import io.spine.server.BoundedContext;
+import io.spine.server.CommandService;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.locks.LockSupport;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static io.spine.grpc.StreamObservers.noOpObserver;
+
+/**
+ * Posts the commands of a command log to a bounded context, keeping the intervals between
+ * the commands as they were received by the server.
+ *
+ * <p>The intervals are divided by the speed of the replay, so the speed of {@code 2} replays
+ * an hour of the traffic in half an hour. The speed of zero posts the commands one after
+ * another as fast as the context handles them.
+ *
+ * <p>The commands are posted through the {@link CommandService}, as they are by the server.
+ * So, the context should be created from scratch, e.g. by the {@code TasksContextFactory},
+ * to handle the commands the same way as the server did.
+ */
+public final class CommandReplayer {
+
+    private final CommandService commandService;
+    private final double speed;
+
+    private CommandReplayer(BoundedContext context, double speed) {
+        this.commandService = CommandService
+                .newBuilder()
+                .add(context)
+                .build();
+        this.speed = speed;
+    }
+
+    /**
+     * Creates a replayer posting the commands to the given context.
+     *
+     * @param context
+     *         the context to post the commands to
+     * @param speed
+     *         the factor by which the replay is faster than the original traffic, or zero to
+     *         post the commands without pauses
+     * @return new replayer
+     */
+    public static CommandReplayer newInstance(BoundedContext context, double speed) {
+        checkNotNull(context);
+        checkArgument(speed >= 0, "The speed must not be negative, but was %s.", speed);
+        return new CommandReplayer(context, speed);
+    }
+
+    /**
+     * Replays all the commands of the given log.
+     *
+     * @param log
+     *         the log file written by the {@link CommandLogWriter}
+     * @return the summary of the replay
+     * @throws IOException
+     *         if the log cannot be read
+     */
+    public ReplayReport replay(Path log) throws IOException {
+        checkNotNull(log);
+        long startNanos = System.nanoTime();
+        long count = 0;
+        long maxLagNanos = 0;
+        try (CommandLogReader reader = CommandLogReader.open(log)) {
+            @Nullable Instant firstReceivedAt = null;
+            Optional<CapturedCommand> next = reader.next();
+            while (next.isPresent()) {
+                CapturedCommand captured = next.get();
+                if (firstReceivedAt == null) {
+                    firstReceivedAt = captured.receivedAt();
+                }
+                if (speed > 0) {
+                    long offsetNanos = Duration.between(firstReceivedAt, captured.receivedAt())
+                                               .toNanos();
+                    long scheduledNanos = startNanos + (long) (offsetNanos / speed);
+                    waitUntil(scheduledNanos);
+                    maxLagNanos = Math.max(maxLagNanos, System.nanoTime() - scheduledNanos);
+                }
+                post(captured.command());
+                count++;
+                next = reader.next();
+            }
+        }
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - startNanos);
+        return new ReplayReport(count, elapsed, Duration.ofNanos(maxLagNanos));
+    }
+
+    private void post(Command command) {
+        commandService.post(command, noOpObserver());
+    }
+
+    /**
+     * Parks the current thread until the given {@link System#nanoTime()}.
+     */
+    private static void waitUntil(long nanoTime) {
+        long remaining = nanoTime - System.nanoTime();
+        while (remaining > 0) {
+            LockSupport.parkNanos(remaining);
+            remaining = nanoTime - System.nanoTime();
+        }
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2021, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.todolist.server.capture;
+
+import com.google.common.base.MoreObjects;
+
+import java.time.Duration;
+
+/**
+ * The summary of a {@linkplain CommandReplayer replay} of the command log.
+ */
+public final class ReplayReport {
+
+    private final long commands;
+    private final Duration elapsed;
+    private final Duration maxLag;
+
+    ReplayReport(long commands, Duration elapsed, Duration maxLag) {
+        this.commands = commands;
+        this.elapsed = elapsed;
+        this.maxLag = maxLag;
+    }
+
+    /**
+     * Returns the number of the replayed commands.
+     */
+    public long commands() {
+        return commands;
+    }
+
+    /**
+     * Returns the time of the replay.
+     */
+    public Duration elapsed() {
+        return elapsed;
+    }
+
+    /**
+     * Returns the longest delay of posting a command behind its schedule.
+     *
+     * <p>The commands are posted one after another, so a delay means that the context handled
+     * the previous commands slower than they had been received by the server. A growing delay
+     * shows that the context cannot keep up with the replayed traffic.
+     */
+    public Duration maxLag() {
+        return maxLag;
+    }
+
+    /**
+     * Returns the number of the commands posted per second.
+     */
+    public double throughput() {
+        long nanos = elapsed.toNanos();
+        return nanos == 0 ? 0 : commands * 1_000_000_000.0 / nanos;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                          .add("commands", commands)
+                          .add("elapsed", elapsed)
+                          .add("maxLag", maxLag)
+                          .add("throughput", throughput())
+                          .toString();
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2021, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.todolist.server.delivery;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Stopwatch;
+import com.google.common.flogger.FluentLogger;
+import io.spine.server.delivery.CatchUpId;
+import io.spine.server.delivery.DeliveryMonitor;
+import io.spine.server.delivery.InboxMessage;
+import io.spine.server.delivery.ShardObserver;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static io.spine.server.delivery.InboxMessageStatus.TO_CATCH_UP;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Logs the progress and the throughput of the projection catch-ups.
+ *
+ * <p>Only the historical events sent to the inboxes by the catch-ups are counted, so the
+ * messages delivered to the entities at the same time do not inflate the throughput.
+ * The catch-ups running at the same time share the counter.
+ *
+ * <p>While a catch-up is running, the number of the replayed events and the current
+ * throughput are logged once in {@link #REPORT_INTERVAL} events. When a catch-up completes,
+ * its duration and average throughput are logged.
+ */
+final class DeliveryProgress extends DeliveryMonitor implements ShardObserver {
+
+    private static final FluentLogger logger = FluentLogger.forEnclosingClass();
+
+    /**
+     * The number of replayed events between the progress reports.
+     */
+    private static final long REPORT_INTERVAL = 100_000;
+
+    private final AtomicLong replayed = new AtomicLong();
+    private final ConcurrentMap<CatchUpId, CatchUpRun> catchUps = new ConcurrentHashMap<>();
+
+    @Override
+    public void onCatchUpStarted(CatchUpId id) {
+        catchUps.put(id, new CatchUpRun(replayed.get()));
+        logger.atInfo()
+              .log("Catch-up of `%s` started.", id.getProjectionType());
+    }
+
+    /**
+     * Counts the event if it is replayed by a catch-up.
+     */
+    @Override
+    public void onMessage(InboxMessage message) {
+        if (message.getStatus() != TO_CATCH_UP) {
+            return;
+        }
+        long count = replayed.incrementAndGet();
+        if (count % REPORT_INTERVAL == 0) {
+            catchUps.forEach((id, run) -> reportProgress(id, run, count));
+        }
+    }
+
+    /**
+     * Returns the number of the events replayed by the catch-ups so far.
+     */
+    @VisibleForTesting
+    long replayed() {
+        return replayed.get();
+    }
+
+    @Override
+    public void onCatchUpCompleted(CatchUpId id) {
+        CatchUpRun run = catchUps.remove(id);
+        if (run == null) {
+            return;
+        }
+        long total = replayed.get();
+        logger.atInfo()
+              .log("Catch-up of `%s` completed in %s: %d events replayed, %.0f events/s.",
+                   id.getProjectionType(),
+                   run.stopwatch,
+                   run.replayedSince(total),
+                   run.throughput(total));
+    }
+
+    private static void reportProgress(CatchUpId id, CatchUpRun run, long replayedNow) {
+        logger.atInfo()
+              .log("Catch-up of `%s`: %d events replayed, %.0f events/s.",
+                   id.getProjectionType(),
+                   run.replayedSince(replayedNow),
+                   run.throughput(replayedNow));
+    }
+
+    /**
+     * A running catch-up.
+     */
+    private static final class CatchUpRun {
+
+        private final Stopwatch stopwatch = Stopwatch.createStarted();
+        private final long replayedAtStart;
+
+        private CatchUpRun(long replayedAtStart) {
+            this.replayedAtStart = replayedAtStart;
+        }
+
+        private long replayedSince(long replayedNow) {
+            return replayedNow - replayedAtStart;
+        }
+
+        private double throughput(long replayedNow) {
+            long millis = Math.max(stopwatch.elapsed(MILLISECONDS), 1);
+            return replayedSince(replayedNow) * 1000.0 / millis;
+        }
+    }
+}
@@ -0,0 +1,206 @@
+/*
+ * Copyright 2021, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.todolist.server.delivery;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.flogger.FluentLogger;
+import io.spine.server.delivery.InboxMessage;
+import io.spine.server.delivery.ShardIndex;
+import io.spine.server.delivery.ShardObserver;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Delivers the shards which receive new messages on an executor.
+ *
+ * <p>A shard is delivered by at most one task at a time. If a message arrives while its shard
+ * is being delivered, the shard is delivered once again afterwards, so no message is left
+ * in the inbox.
+ *
+ * <p>If the flush delay is set, the delivery of a shard starts only after the delay passes
+ * since the first undelivered message arrived. The messages arriving in the meantime are
+ * delivered along with it, so that a burst of events to the same projection is applied to
+ * the projection loaded once and stored once. No message waits for longer than the delay
+ * plus the delivery already running in its shard.
+ *
+ * <p>If the delivery of a shard fails, the failure is logged, and the shard is delivered
+ * again after the {@linkplain #RETRY_DELAY retry delay}.
+ */
+final class ShardDeliveryExecutor implements ShardObserver {
+
+    private static final FluentLogger logger = FluentLogger.forEnclosingClass();
+
+    /**
+     * The time to wait before delivering a shard once again after its delivery failed.
+     */
+    @VisibleForTesting
+    static final Duration RETRY_DELAY = Duration.ofSeconds(1);
+
+    private final Consumer<ShardIndex> delivery;
+    private final ExecutorService executor;
+    private final ScheduledExecutorService scheduler;
+    private final long flushDelayMillis;
+    private final ConcurrentMap<ShardIndex, ShardRun> runs = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new executor.
+     *
+     * @param delivery
+     *         delivers the messages of a shard
+     * @param executor
+     *         the executor to deliver the shards on
+     * @param scheduler
+     *         the scheduler of the delayed deliveries
+     * @param flushDelay
+     *         the time to wait for more messages before delivering a shard;
+     *         zero to deliver a shard as soon as it receives a message
+     */
+    ShardDeliveryExecutor(Consumer<ShardIndex> delivery,
+                          ExecutorService executor,
+                          ScheduledExecutorService scheduler,
+                          Duration flushDelay) {
+        this.delivery = delivery;
+        this.executor = executor;
+        this.scheduler = scheduler;
+        this.flushDelayMillis = flushDelay.toMillis();
+    }
+
+    /**
+     * Stops delivering the shards.
+     *
+     * <p>The delayed deliveries are cancelled, and the running ones are given the timeout to
+     * complete. The messages which are not delivered stay in the inbox.
+     *
+     * @param timeout
+     *         the time to wait for the running deliveries
+     */
+    void shutdown(Duration timeout) {
+        scheduler.shutdownNow();
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(timeout.toMillis(), MILLISECONDS)) {
+                logger.atWarning()
+                      .log("The shard deliveries did not complete within %s.", timeout);
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread()
+                  .interrupt();
+        }
+    }
+
+    @Override
+    public void onMessage(InboxMessage message) {
+        ShardIndex index = message.getShardIndex();
+        runs.computeIfAbsent(index, ShardRun::new)
+            .request();
+    }
+
+    /**
+     * The delivery of a single shard.
+     */
+    private final class ShardRun {
+
+        private final ShardIndex index;
+        private final AtomicBoolean pending = new AtomicBoolean();
+        private final AtomicBoolean running = new AtomicBoolean();
+
+        private ShardRun(ShardIndex index) {
+            this.index = index;
+        }
+
+        /**
+         * Requests the delivery of the shard, starting it unless it is already running.
+         */
+        private void request() {
+            pending.set(true);
+            startIfIdle(flushDelayMillis);
+        }
+
+        private void startIfIdle(long delayMillis) {
+            if (!running.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                if (delayMillis == 0) {
+                    executor.execute(this::deliver);
+                } else {
+                    scheduler.schedule(this::execute, delayMillis, MILLISECONDS);
+                }
+            } catch (RejectedExecutionException e) {
+                running.set(false);
+            }
+        }
+
+        /**
+         * Starts the delayed delivery.
+         *
+         * <p>If the executor is shut down, the messages are left pending in the inbox.
+         */
+        private void execute() {
+            try {
+                executor.execute(this::deliver);
+            } catch (RejectedExecutionException e) {
+                running.set(false);
+            }
+        }
+
+        private void deliver() {
+            boolean failed = false;
+            try {
+                while (pending.getAndSet(false)) {
+                    delivery.accept(index);
+                }
+            } catch (RuntimeException e) {
+                pending.set(true);
+                failed = true;
+                logger.atSevere()
+                      .withCause(e)
+                      .log("Failed to deliver the messages of the shard %d of %d. " +
+                                   "Retrying in %s.",
+                           index.getIndex(), index.getOfTotal(), RETRY_DELAY);
+            } finally {
+                running.set(false);
+            }
+            if (failed) {
+                startIfIdle(RETRY_DELAY.toMillis());
+            } else if (pending.get()) {
+                startIfIdle(flushDelayMillis);
+            }
+        }
+    }
+}
@@ -0,0 +1,296 @@
+/*
+ * Copyright 2021, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.todolist.server.delivery;
+
+import com.google.common.collect.MapMaker;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.spine.server.delivery.Delivery;
+import io.spine.server.delivery.InMemoryShardedWorkRegistry;
+import io.spine.server.delivery.LocalDispatchingObserver;
+import io.spine.server.delivery.ShardIndex;
+import io.spine.server.delivery.ShardedWorkRegistry;
+import io.spine.server.delivery.UniformAcrossAllShards;
+import io.spine.server.storage.StorageFactory;
+
+import java.lang.ref.WeakReference;
+import java.time.Duration;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Creates the {@link Delivery} which spreads the messages across several shards and delivers
+ * the shards in parallel.
+ *
+ * <p>The messages are assigned to the shards by the hash of the ID of the target entity.
+ * All the messages to the same entity belong to the same shard, and each shard is delivered
+ * by a single thread at a time. So the messages to an entity are delivered in order, while
+ * the messages to the different entities are delivered concurrently.
+ *
+ * <p>This allows catching up the projections in parallel. For example, the task views are
+ * rebuilt by as many threads as there are shards, up to the parallelism of the pool.
+ *
+ * <p>Unlike the {@linkplain Delivery#local() local delivery}, the messages are delivered
+ * asynchronously to their posting.
+ *
+ * <p>With a non-zero flush delay, the delivery works in the micro-batching mode. A shard is
+ * delivered only after the delay passes since it received the first undelivered message.
+ * The consecutive events to the same projection are then applied to the projection in memory,
+ * and its state is stored once per batch instead of once per event. The delay holds back
+ * the commands to the aggregates and the process managers in the same way, as they share
+ * the shards with the projections.
+ *
+ * <p>If several server instances share the storage, pass a {@link ShardedWorkRegistry} backed
+ * by the same storage, so that each shard is delivered by one instance at a time. Otherwise,
+ * the shards are picked up in memory, which only suits a single server instance.
+ */
+public final class ShardedDelivery {
+
+    /**
+     * The maximum number of messages delivered from a shard in one go.
+     */
+    private static final int PAGE_SIZE = 500;
+
+    /**
+     * The maximum number of historical events read at once when catching up a projection.
+     */
+    private static final int CATCH_UP_PAGE_SIZE = 5_000;
+
+    /**
+     * The time given to the running shard deliveries to complete on shutdown.
+     */
+    private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(10);
+
+    /**
+     * The time after which an idle thread scheduling the deliveries is stopped.
+     */
+    private static final Duration SCHEDULER_KEEP_ALIVE = Duration.ofMinutes(1);
+
+    /**
+     * The executors of the created deliveries.
+     *
+     * <p>The keys are weak, and an executor refers to its delivery only through a weak reference,
+     * so a delivery dropped without a shutdown does not stay in memory. The idle threads of its
+     * executor are stopped after a while.
+     */
+    private static final ConcurrentMap<Delivery, ShardDeliveryExecutor> executors =
+            new MapMaker().weakKeys()
+                          .makeMap();
+
+    /** Prevents instantiation of this utility class. */
+    private ShardedDelivery() {
+    }
+
+    /**
+     * Creates a new sharded delivery which delivers the shards as soon as they receive
+     * messages.
+     *
+     * @param storage
+     *         the storage factory to create the inbox and the catch-up storages
+     * @param shards
+     *         the number of shards
+     * @param parallelism
+     *         the maximum number of the shards delivered at the same time
+     * @return the new delivery which is already delivering the messages
+     */
+    public static Delivery create(StorageFactory storage, int shards, int parallelism) {
+        return create(storage, shards, parallelism, Duration.ZERO);
+    }
+
+    /**
+     * Creates a new sharded delivery for a single server instance.
+     *
+     * <p>The shards are picked up by the in-memory work registry.
+     *
+     * @param storage
+     *         the storage factory to create the inbox and the catch-up storages
+     * @param shards
+     *         the number of shards
+     * @param parallelism
+     *         the maximum number of the shards delivered at the same time
+     * @param flushDelay
+     *         the time to collect the messages of a shard before delivering them;
+     *         zero to deliver the messages right away
+     * @return the new delivery which is already delivering the messages
+     */
+    public static Delivery
+    create(StorageFactory storage, int shards, int parallelism, Duration flushDelay) {
+        return create(storage, new InMemoryShardedWorkRegistry(), shards, parallelism, flushDelay);
+    }
+
+    /**
+     * Creates a new sharded delivery.
+     *
+     * @param storage
+     *         the storage factory to create the inbox and the catch-up storages
+     * @param workRegistry
+     *         the registry of the shards being delivered by the server instances
+     * @param shards
+     *         the number of shards
+     * @param parallelism
+     *         the maximum number of the shards delivered at the same time
+     * @param flushDelay
+     *         the time to collect the messages of a shard before delivering them;
+     *         zero to deliver the messages right away
+     * @return the new delivery which is already delivering the messages
+     */
+    public static Delivery create(StorageFactory storage,
+                                  ShardedWorkRegistry workRegistry,
+                                  int shards,
+                                  int parallelism,
+                                  Duration flushDelay) {
+        checkNotNull(storage);
+        checkNotNull(workRegistry);
+        checkNotNull(flushDelay);
+        checkArgument(shards > 0, "The number of shards must be positive, but was %s.", shards);
+        checkArgument(parallelism > 0,
+                      "The parallelism must be positive, but was %s.", parallelism);
+        checkArgument(!flushDelay.isNegative(),
+                      "The flush delay must not be negative, but was %s.", flushDelay);
+        DeliveryProgress progress = new DeliveryProgress();
+        Delivery delivery = Delivery
+                .newBuilder()
+                .setStrategy(UniformAcrossAllShards.forNumber(shards))
+                .setInboxStorage(storage.createInboxStorage(false))
+                .setCatchUpStorage(storage.createCatchUpStorage(false))
+                .setWorkRegistry(workRegistry)
+                .setPageSize(PAGE_SIZE)
+                .setCatchUpPageSize(CATCH_UP_PAGE_SIZE)
+                .setMonitor(progress)
+                .build();
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        WeakReference<Delivery> target = new WeakReference<>(delivery);
+        ShardDeliveryExecutor executor = new ShardDeliveryExecutor(
+                shard -> deliver(target, shard), pool, newScheduler(), flushDelay
+        );
+        delivery.subscribe(progress);
+        delivery.subscribe(executor);
+        executors.put(delivery, executor);
+        return delivery;
+    }
+
+    /**
+     * Creates a new delivery which delivers the messages synchronously with their posting,
+     * as the {@linkplain Delivery#local() local delivery} does, picking up the shards through
+     * the given registry.
+     *
+     * @param storage
+     *         the storage factory to create the inbox and the catch-up storages
+     * @param workRegistry
+     *         the registry of the shards being delivered by the server instances
+     * @return the new delivery
+     */
+    public static Delivery local(StorageFactory storage, ShardedWorkRegistry workRegistry) {
+        checkNotNull(storage);
+        checkNotNull(workRegistry);
+        Delivery delivery = Delivery
+                .newBuilder()
+                .setInboxStorage(storage.createInboxStorage(false))
+                .setCatchUpStorage(storage.createCatchUpStorage(false))
+                .setWorkRegistry(workRegistry)
+                .build();
+        delivery.subscribe(new LocalDispatchingObserver());
+        return delivery;
+    }
+
+    /**
+     * Delivers the messages pending in all the shards of the given delivery.
+     *
+     * <p>Used when the server stops, so that the messages waiting for the flush delay are
+     * delivered before the process exits rather than on the next start.
+     *
+     * @param delivery
+     *         the delivery to flush
+     */
+    public static void flush(Delivery delivery) {
+        checkNotNull(delivery);
+        int shards = delivery.shardCount();
+        for (int index = 0; index < shards; index++) {
+            ShardIndex shard = ShardIndex
+                    .newBuilder()
+                    .setIndex(index)
+                    .setOfTotal(shards)
+                    .vBuild();
+            deliver(delivery, shard);
+        }
+    }
+
+    @SuppressWarnings("CheckReturnValue") // The stats are reported by the monitor.
+    private static void deliver(Delivery delivery, ShardIndex shard) {
+        delivery.deliverMessagesFrom(shard);
+    }
+
+    /**
+     * Delivers the messages of the shard unless the delivery is already dropped.
+     */
+    private static void deliver(WeakReference<Delivery> target, ShardIndex shard) {
+        Delivery delivery = target.get();
+        if (delivery != null) {
+            deliver(delivery, shard);
+        }
+    }
+
+    /**
+     * Stops the threads delivering the shards of the given delivery.
+     *
+     * <p>The delayed deliveries are cancelled, and the running ones are given some time to
+     * complete. The messages which are not delivered stay in the inbox, so call
+     * {@link #flush(Delivery)} afterwards to deliver them in the calling thread.
+     *
+     * <p>Does nothing if the delivery is not created by this class or is already shut down.
+     *
+     * @param delivery
+     *         the delivery to shut down
+     */
+    public static void shutdown(Delivery delivery) {
+        checkNotNull(delivery);
+        ShardDeliveryExecutor executor = executors.remove(delivery);
+        if (executor != null) {
+            executor.shutdown(SHUTDOWN_TIMEOUT);
+        }
+    }
+
+    /**
+     * Creates the scheduler of the deliveries delayed by the flush delay or after a failure.
+     */
+    private static ScheduledExecutorService newScheduler() {
+        ThreadFactory threadFactory = new ThreadFactoryBuilder()
+                .setNameFormat("delivery-scheduler-%d")
+                .setDaemon(true)
+                .build();
+        ScheduledThreadPoolExecutor result = new ScheduledThreadPoolExecutor(1, threadFactory);
+        result.setKeepAliveTime(SCHEDULER_KEEP_ALIVE.toMillis(), MILLISECONDS);
+        result.allowCoreThreadTimeOut(true);
+        return result;
+    }
+}
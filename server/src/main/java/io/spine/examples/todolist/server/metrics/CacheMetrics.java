@@ -0,0 +1,152 @@
+/*
+ * Copyright 2021, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.todolist.server.metrics;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheStats;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Hashtable;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static io.spine.examples.todolist.server.metrics.ContextMetrics.DOMAIN;
+import static io.spine.util.Exceptions.illegalStateWithCauseOf;
+import static io.spine.util.Exceptions.newIllegalStateException;
+
+/**
+ * Exposes the statistics of a cache over JMX.
+ *
+ * <p>The statistics are exposed as an MXBean named
+ * {@code io.spine.examples.todolist:type=Cache,name=<cache name>}. The cache must be built with
+ * the {@linkplain com.google.common.cache.CacheBuilder#recordStats() recorded statistics}.
+ */
+public final class CacheMetrics implements CacheMetricsMXBean {
+
+    private final Cache<?, ?> cache;
+    private final MBeanServer mBeanServer;
+    private final ObjectName objectName;
+
+    private CacheMetrics(Cache<?, ?> cache, MBeanServer mBeanServer, ObjectName objectName) {
+        this.cache = cache;
+        this.mBeanServer = mBeanServer;
+        this.objectName = objectName;
+    }
+
+    /**
+     * Registers the statistics of the given cache in the platform MBean server.
+     *
+     * <p>The name must be unique among the caches of the process. Once the cache is no longer
+     * used, {@linkplain #unregister() unregister} its statistics to reuse the name.
+     *
+     * @param name
+     *         the name of the cache
+     * @param cache
+     *         the cache
+     * @return the registered metrics
+     * @throws IllegalStateException
+     *         if the statistics of a cache with the same name are already registered
+     */
+    public static CacheMetrics register(String name, Cache<?, ?> cache) {
+        checkNotNull(name);
+        checkNotNull(cache);
+        MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+        try {
+            Hashtable<String, String> properties = new Hashtable<>();
+            properties.put("type", "Cache");
+            properties.put("name", ObjectName.quote(name));
+            ObjectName objectName = new ObjectName(DOMAIN, properties);
+            CacheMetrics result = new CacheMetrics(cache, mBeanServer, objectName);
+            mBeanServer.registerMBean(result, objectName);
+            return result;
+        } catch (InstanceAlreadyExistsException e) {
+            throw newIllegalStateException(
+                    e, "The statistics of the cache `%s` are already registered.", name);
+        } catch (JMException e) {
+            throw illegalStateWithCauseOf(e);
+        }
+    }
+
+    /**
+     * Removes the statistics from the MBean server.
+     *
+     * <p>Does nothing if the statistics are already removed.
+     */
+    public void unregister() {
+        try {
+            if (mBeanServer.isRegistered(objectName)) {
+                mBeanServer.unregisterMBean(objectName);
+            }
+        } catch (JMException e) {
+            throw illegalStateWithCauseOf(e);
+        }
+    }
+
+    /**
+     * Returns the name under which the statistics are registered.
+     */
+    public ObjectName objectName() {
+        return objectName;
+    }
+
+    @Override
+    public long getSize() {
+        return cache.size();
+    }
+
+    @Override
+    public long getRequestCount() {
+        return stats().requestCount();
+    }
+
+    @Override
+    public long getHitCount() {
+        return stats().hitCount();
+    }
+
+    @Override
+    public long getMissCount() {
+        return stats().missCount();
+    }
+
+    @Override
+    public double getHitRate() {
+        return stats().hitRate();
+    }
+
+    @Override
+    public long getEvictionCount() {
+        return stats().evictionCount();
+    }
+
+    private CacheStats stats() {
+        return cache.stats();
+    }
+}
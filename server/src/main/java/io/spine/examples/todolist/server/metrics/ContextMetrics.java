@@ -0,0 +1,215 @@
+/*
+ * Copyright 2021, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.todolist.server.metrics;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableMap;
+import com.google.protobuf.Any;
+import com.google.protobuf.Timestamp;
+import com.google.protobuf.util.Durations;
+import com.google.protobuf.util.Timestamps;
+import io.spine.base.Time;
+import io.spine.server.BoundedContextBuilder;
+import io.spine.server.type.CommandEnvelope;
+import io.spine.server.type.EventEnvelope;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Hashtable;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.collect.ImmutableMap.toImmutableMap;
+import static io.spine.protobuf.AnyPacker.pack;
+import static io.spine.util.Exceptions.illegalStateWithCauseOf;
+import static java.util.concurrent.TimeUnit.MINUTES;
+
+/**
+ * Records the metrics of the commands and the events of a bounded context.
+ *
+ * <p>The metrics are collected per message type:
+ * <ul>
+ *     <li>the number of the posted messages;
+ *     <li>for the commands, the number and the rate of the rejections, and the latency from
+ *         posting a command to the first event produced by its handler, i.e. the time spent in
+ *         {@code TaskPart}, {@code TaskLabelsPart}, {@code LabelAggregate} or
+ *         {@code TaskCreationWizard}, including storing the entity;
+ *     <li>for the events, the latency from creating an event in a handler to posting it to
+ *         the subscribers, such as {@code TaskViewProjection} and {@code LabelViewProjection}.
+ * </ul>
+ *
+ * <p>The metrics of each message type are exposed as an MXBean named
+ * {@code io.spine.examples.todolist:context=<context>,type=<Command|Event>,name=<message type>},
+ * e.g. with the {@code jconsole} or any JMX exporter.
+ */
+public final class ContextMetrics {
+
+    static final String DOMAIN = "io.spine.examples.todolist";
+
+    /**
+     * The maximum number of the commands waiting for their first event.
+     *
+     * <p>Limits the memory taken by the commands which produce no events.
+     */
+    private static final long MAX_PENDING_COMMANDS = 100_000;
+
+    private final String contextName;
+    private final MBeanServer mBeanServer;
+    private final ConcurrentMap<String, MessageMetrics> commands = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, MessageMetrics> events = new ConcurrentHashMap<>();
+    private final Cache<Any, PendingCommand> pendingCommands = CacheBuilder
+            .newBuilder()
+            .maximumSize(MAX_PENDING_COMMANDS)
+            .expireAfterWrite(1, MINUTES)
+            .build();
+
+    private ContextMetrics(String contextName, MBeanServer mBeanServer) {
+        this.contextName = contextName;
+        this.mBeanServer = mBeanServer;
+    }
+
+    /**
+     * Starts recording the metrics of the context built by the given builder.
+     *
+     * <p>The metrics are registered in the platform MBean server. If the metrics of a context
+     * with the same name are already registered, they are replaced.
+     *
+     * @param context
+     *         the builder of the context
+     * @return the metrics of the context
+     */
+    public static ContextMetrics attachTo(BoundedContextBuilder context) {
+        checkNotNull(context);
+        ContextMetrics result = new ContextMetrics(context.name()
+                                                          .getValue(),
+                                                   ManagementFactory.getPlatformMBeanServer());
+        context.addCommandListener(result::onCommand)
+               .addEventListener(result::onEvent);
+        return result;
+    }
+
+    /**
+     * Obtains the metrics of the commands by the simple names of the command types.
+     */
+    public ImmutableMap<String, MessageMetricsMXBean> commands() {
+        return snapshot(commands);
+    }
+
+    /**
+     * Obtains the metrics of the events by the simple names of the event types.
+     */
+    public ImmutableMap<String, MessageMetricsMXBean> events() {
+        return snapshot(events);
+    }
+
+    private static ImmutableMap<String, MessageMetricsMXBean>
+    snapshot(Map<String, MessageMetrics> metrics) {
+        return metrics.entrySet()
+                      .stream()
+                      .collect(toImmutableMap(Map.Entry::getKey, Map.Entry::getValue));
+    }
+
+    private void onCommand(CommandEnvelope command) {
+        MessageMetrics metrics = metrics(commands, "Command", command.messageClass()
+                                                                     .value());
+        metrics.onPosted();
+        pendingCommands.put(pack(command.id()), new PendingCommand(metrics, System.nanoTime()));
+    }
+
+    private void onEvent(EventEnvelope event) {
+        long postedNanos = System.nanoTime();
+        MessageMetrics metrics = metrics(events, "Event", event.messageClass()
+                                                               .value());
+        metrics.onPosted();
+        Timestamp created = event.context()
+                                 .getTimestamp();
+        metrics.recordLatency(Durations.toNanos(Timestamps.between(created,
+                                                                   Time.currentTime())));
+        Any origin = event.context()
+                          .getPastMessage()
+                          .getMessage()
+                          .getId();
+        PendingCommand command = pendingCommands.asMap()
+                                                .remove(origin);
+        if (command != null) {
+            command.complete(postedNanos, event.isRejection());
+        }
+    }
+
+    /**
+     * Obtains the metrics of the given message type, registering them on the first call.
+     */
+    private MessageMetrics
+    metrics(ConcurrentMap<String, MessageMetrics> byType, String kind, Class<?> messageType) {
+        String name = messageType.getSimpleName();
+        return byType.computeIfAbsent(name, n -> register(kind, n));
+    }
+
+    private MessageMetrics register(String kind, String name) {
+        MessageMetrics result = new MessageMetrics();
+        try {
+            Hashtable<String, String> properties = new Hashtable<>();
+            properties.put("context", ObjectName.quote(contextName));
+            properties.put("type", kind);
+            properties.put("name", name);
+            ObjectName objectName = new ObjectName(DOMAIN, properties);
+            if (mBeanServer.isRegistered(objectName)) {
+                mBeanServer.unregisterMBean(objectName);
+            }
+            mBeanServer.registerMBean(result, objectName);
+        } catch (JMException e) {
+            throw illegalStateWithCauseOf(e);
+        }
+        return result;
+    }
+
+    /**
+     * A command waiting for the first event produced by its handler.
+     */
+    private static final class PendingCommand {
+
+        private final MessageMetrics metrics;
+        private final long postedNanos;
+
+        private PendingCommand(MessageMetrics metrics, long postedNanos) {
+            this.metrics = metrics;
+            this.postedNanos = postedNanos;
+        }
+
+        private void complete(long eventNanos, boolean rejected) {
+            metrics.recordLatency(eventNanos - postedNanos);
+            if (rejected) {
+                metrics.onRejected();
+            }
+        }
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2021, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.todolist.server.metrics;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * The metrics of a single message type.
+ *
+ * <p>The latencies are recorded into an HdrHistogram {@link Recorder}, which does not block
+ * the recording threads. Reading the metrics moves the recorded values into the cumulative
+ * histogram.
+ */
+final class MessageMetrics implements MessageMetricsMXBean {
+
+    /**
+     * The number of significant decimal digits kept by the histogram.
+     */
+    private static final int PRECISION = 3;
+
+    private static final double NANOS_PER_MILLI = NANOSECONDS.convert(1, MILLISECONDS);
+
+    private final LongAdder count = new LongAdder();
+    private final LongAdder rejections = new LongAdder();
+    private final Recorder recorder = new Recorder(PRECISION);
+    private final Histogram latency = new Histogram(PRECISION);
+    private @Nullable Histogram interval;
+
+    /**
+     * Counts a posted message.
+     */
+    void onPosted() {
+        count.increment();
+    }
+
+    /**
+     * Counts a rejected command.
+     */
+    void onRejected() {
+        rejections.increment();
+    }
+
+    /**
+     * Records the latency of handling a message.
+     */
+    void recordLatency(long nanos) {
+        recorder.recordValue(Math.max(nanos, 0));
+    }
+
+    @Override
+    public long getCount() {
+        return count.sum();
+    }
+
+    @Override
+    public long getRejections() {
+        return rejections.sum();
+    }
+
+    @Override
+    public double getRejectionRate() {
+        long total = count.sum();
+        return total == 0 ? 0 : (double) rejections.sum() / total;
+    }
+
+    @Override
+    public long getLatencyCount() {
+        return latency().getTotalCount();
+    }
+
+    @Override
+    public double getMeanLatency() {
+        return latency().getMean() / NANOS_PER_MILLI;
+    }
+
+    @Override
+    public double getP50Latency() {
+        return percentile(50);
+    }
+
+    @Override
+    public double getP90Latency() {
+        return percentile(90);
+    }
+
+    @Override
+    public double getP99Latency() {
+        return percentile(99);
+    }
+
+    @Override
+    public double getP999Latency() {
+        return percentile(99.9);
+    }
+
+    @Override
+    public double getMaxLatency() {
+        return latency().getMaxValue() / NANOS_PER_MILLI;
+    }
+
+    @Override
+    public synchronized void reset() {
+        count.reset();
+        rejections.reset();
+        recorder.reset();
+        latency.reset();
+    }
+
+    private double percentile(double percentile) {
+        return latency().getValueAtPercentile(percentile) / NANOS_PER_MILLI;
+    }
+
+    /**
+     * Obtains the histogram of all the latencies recorded so far.
+     */
+    private synchronized Histogram latency() {
+        interval = recorder.getIntervalHistogram(interval);
+        latency.add(interval);
+        return latency;
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2021, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.todolist.server.metrics;
+
+/**
+ * The JMX view of the metrics of a single message type.
+ *
+ * <p>The latencies are in milliseconds.
+ */
+public interface MessageMetricsMXBean {
+
+    /**
+     * Returns the number of the messages posted.
+     */
+    long getCount();
+
+    /**
+     * Returns the number of the commands rejected.
+     *
+     * <p>Always zero for the events.
+     */
+    long getRejections();
+
+    /**
+     * Returns the share of the rejected commands, from 0 to 1.
+     */
+    double getRejectionRate();
+
+    /**
+     * Returns the number of the latencies recorded.
+     */
+    long getLatencyCount();
+
+    /**
+     * Returns the mean latency.
+     */
+    double getMeanLatency();
+
+    /**
+     * Returns the median latency.
+     */
+    double getP50Latency();
+
+    /**
+     * Returns the 90th percentile of the latency.
+     */
+    double getP90Latency();
+
+    /**
+     * Returns the 99th percentile of the latency.
+     */
+    double getP99Latency();
+
+    /**
+     * Returns the 99.9th percentile of the latency.
+     */
+    double getP999Latency();
+
+    /**
+     * Returns the maximum latency.
+     */
+    double getMaxLatency();
+
+    /**
+     * Resets the counters and the latency histogram.
+     */
+    void reset();
+}
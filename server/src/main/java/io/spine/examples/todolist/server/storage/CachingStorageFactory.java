@@ -0,0 +1,164 @@
+/*
+ * Copyright 2021, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.todolist.server.storage;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.flogger.FluentLogger;
+import io.spine.examples.todolist.server.metrics.CacheMetrics;
+import io.spine.examples.todolist.server.metrics.CacheMetricsMXBean;
+import io.spine.server.ContextSpec;
+import io.spine.server.aggregate.Aggregate;
+import io.spine.server.aggregate.AggregateHistory;
+import io.spine.server.aggregate.AggregateStorage;
+import io.spine.server.aggregate.CachingAggregateStorage;
+import io.spine.server.aggregate.CachingAggregateStorage.CacheKey;
+import io.spine.server.delivery.CatchUpStorage;
+import io.spine.server.delivery.InboxStorage;
+import io.spine.server.entity.Entity;
+import io.spine.server.projection.Projection;
+import io.spine.server.projection.ProjectionStorage;
+import io.spine.server.storage.RecordStorage;
+import io.spine.server.storage.StorageFactory;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * A {@link StorageFactory} which caches the recently used aggregate histories in memory.
+ *
+ * <p>Each command handled by an aggregate requires loading its history. With the cache,
+ * the repeated commands to the same aggregate skip the round trip to the wrapped storage.
+ *
+ * <p>The cache is shared by all the aggregate storages created by this factory. When the cache
+ * reaches its maximum size, the least recently used histories are evicted. The records are
+ * always written to the wrapped storage before updating the cache.
+ *
+ * <p>The cache assumes that the aggregates are modified only by this server instance. Do not
+ * enable it if several server instances may handle the commands to the same aggregate.
+ *
+ * <p>The statistics of the cache are exposed over JMX as
+ * {@code io.spine.examples.todolist:type=Cache,name="aggregates"}. Hence, a single caching
+ * factory may be open in a process at a time.
+ *
+ * <p>The rest of the storages are created by the wrapped factory as-is.
+ */
+public final class CachingStorageFactory implements StorageFactory {
+
+    private static final FluentLogger logger = FluentLogger.forEnclosingClass();
+
+    /**
+     * The name of the cache in JMX.
+     */
+    private static final String CACHE_NAME = "aggregates";
+
+    private final StorageFactory delegate;
+    private final Cache<CacheKey, AggregateHistory> cache;
+    private final CacheMetrics metrics;
+
+    private CachingStorageFactory(StorageFactory delegate, long maximumSize) {
+        this.delegate = delegate;
+        this.cache = CacheBuilder
+                .newBuilder()
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+        this.metrics = CacheMetrics.register(CACHE_NAME, cache);
+    }
+
+    /**
+     * Wraps the passed storage factory.
+     *
+     * @param delegate
+     *         the factory of the underlying storages
+     * @param maximumSize
+     *         the maximum number of the cached aggregate histories
+     * @return new caching storage factory
+     */
+    public static CachingStorageFactory wrap(StorageFactory delegate, long maximumSize) {
+        checkNotNull(delegate);
+        checkArgument(maximumSize > 0,
+                      "The cache size must be positive, but was %s.", maximumSize);
+        return new CachingStorageFactory(delegate, maximumSize);
+    }
+
+    /**
+     * Returns the statistics of the aggregate cache.
+     *
+     * <p>The statistics include the number of the hits, misses and evictions.
+     */
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    /**
+     * Returns the statistics of the aggregate cache exposed over JMX.
+     */
+    public CacheMetricsMXBean metrics() {
+        return metrics;
+    }
+
+    @Override
+    public <I> AggregateStorage<I>
+    createAggregateStorage(ContextSpec context, Class<? extends Aggregate<I, ?, ?>> aggregateClass) {
+        AggregateStorage<I> storage = delegate.createAggregateStorage(context, aggregateClass);
+        return new CachingAggregateStorage<>(storage, aggregateClass, cache);
+    }
+
+    @Override
+    public <I> RecordStorage<I>
+    createRecordStorage(ContextSpec context, Class<? extends Entity<I, ?>> entityClass) {
+        return delegate.createRecordStorage(context, entityClass);
+    }
+
+    @Override
+    public <I> ProjectionStorage<I>
+    createProjectionStorage(ContextSpec context,
+                            Class<? extends Projection<I, ?, ?>> projectionClass) {
+        return delegate.createProjectionStorage(context, projectionClass);
+    }
+
+    @Override
+    public InboxStorage createInboxStorage(boolean multitenant) {
+        return delegate.createInboxStorage(multitenant);
+    }
+
+    @Override
+    public CatchUpStorage createCatchUpStorage(boolean multitenant) {
+        return delegate.createCatchUpStorage(multitenant);
+    }
+
+    @Override
+    public void close() throws Exception {
+        logger.atInfo()
+              .log("Closing the aggregate cache: %s.", stats());
+        metrics.unregister();
+        cache.invalidateAll();
+        delegate.close();
+    }
+}
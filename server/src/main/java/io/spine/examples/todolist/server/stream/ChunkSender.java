@@ -0,0 +1,111 @@
+/*
+ * Copyright 2021, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.todolist.server.stream;
+
+import com.google.common.annotations.VisibleForTesting;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.spine.examples.todolist.tasks.stream.TaskViewChunk;
+import io.spine.examples.todolist.tasks.view.TaskView;
+
+import java.util.Iterator;
+
+import static java.util.Collections.emptyIterator;
+
+/**
+ * Sends the task views to a caller in chunks as long as the caller is ready to receive them.
+ *
+ * <p>The task views are read from the iterator only to fill the next chunk, so a call holds
+ * a single chunk in memory, plus the chunks buffered by gRPC within the flow control window.
+ *
+ * <p>The sending is resumed by the gRPC transport each time the caller becomes ready. The call
+ * is completed once the iterator is exhausted. If the call is cancelled or fails, the iterator
+ * is released along with the task views it has read ahead.
+ */
+final class ChunkSender {
+
+    private final ServerCallStreamObserver<TaskViewChunk> observer;
+    private final int chunkSize;
+    private Iterator<TaskView> views;
+    private boolean done;
+
+    ChunkSender(ServerCallStreamObserver<TaskViewChunk> observer,
+                Iterator<TaskView> views,
+                int chunkSize) {
+        this.observer = observer;
+        this.views = views;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Sends the chunks while the caller is ready to receive them.
+     */
+    synchronized void send() {
+        if (done) {
+            return;
+        }
+        try {
+            while (observer.isReady() && views.hasNext()) {
+                observer.onNext(nextChunk());
+            }
+            if (!views.hasNext()) {
+                done = true;
+                observer.onCompleted();
+            }
+        } catch (RuntimeException e) {
+            finish();
+            observer.onError(e);
+        }
+    }
+
+    private TaskViewChunk nextChunk() {
+        TaskViewChunk.Builder chunk = TaskViewChunk.newBuilder();
+        for (int i = 0; i < chunkSize && views.hasNext(); i++) {
+            chunk.addTaskView(views.next());
+        }
+        return chunk.build();
+    }
+
+    /**
+     * Stops sending the chunks after the caller has cancelled the call.
+     */
+    synchronized void cancel() {
+        finish();
+    }
+
+    private void finish() {
+        done = true;
+        views = emptyIterator();
+    }
+
+    /**
+     * Tells if the sending is over.
+     */
+    @VisibleForTesting
+    synchronized boolean isDone() {
+        return done;
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2021, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.todolist.server.stream;
+
+import com.google.common.collect.AbstractIterator;
+import com.google.common.collect.ImmutableList;
+import io.spine.client.CompositeFilter;
+import io.spine.client.OrderBy;
+import io.spine.client.ResponseFormat;
+import io.spine.client.TargetFilters;
+import io.spine.examples.todolist.tasks.view.TaskView;
+import io.spine.examples.todolist.tasks.view.TaskViewSortKey;
+import io.spine.server.entity.Entity;
+import io.spine.server.entity.RecordBasedRepository;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Iterator;
+
+import static com.google.common.collect.ImmutableList.toImmutableList;
+import static com.google.common.collect.Streams.stream;
+import static io.spine.client.Filters.all;
+import static io.spine.client.Filters.gt;
+import static io.spine.client.OrderBy.Direction.ASCENDING;
+
+/**
+ * Reads all the task views from the storage page by page.
+ *
+ * <p>The task views are ordered by the {@linkplain TaskViewSortKey sort key}. Each page is read
+ * by a separate query, which starts right after the key of the last task view of the previous
+ * page and is limited to the page size. So the storage returns a single page at a time, and
+ * no storage cursor stays open between the pages, even if the storage reads the whole result
+ * of a query at once, as the MySQL driver does by default.
+ *
+ * <p>The next page is read only when the task views of the previous one are iterated over.
+ */
+final class TaskViewPages extends AbstractIterator<TaskView> {
+
+    private final RecordBasedRepository<?, ?, ?> taskViews;
+    private final int pageSize;
+    private Iterator<TaskView> page = ImmutableList.<TaskView>of().iterator();
+    private @Nullable String lastKey;
+    private boolean lastPage;
+
+    /**
+     * Creates a new iterator over the task views.
+     *
+     * @param taskViews
+     *         the repository of the task views
+     * @param pageSize
+     *         the number of the task views to read at once
+     */
+    TaskViewPages(RecordBasedRepository<?, ?, ?> taskViews, int pageSize) {
+        this.taskViews = taskViews;
+        this.pageSize = pageSize;
+    }
+
+    @Override
+    protected @Nullable TaskView computeNext() {
+        if (!page.hasNext() && !lastPage) {
+            page = nextPage();
+        }
+        if (!page.hasNext()) {
+            return endOfData();
+        }
+        TaskView result = page.next();
+        return result;
+    }
+
+    private Iterator<TaskView> nextPage() {
+        Iterator<? extends Entity<?, ?>> entities = taskViews.find(pageStart(), pageFormat());
+        ImmutableList<TaskView> result = stream(entities)
+                .map(entity -> (TaskView) entity.state())
+                .collect(toImmutableList());
+        lastPage = result.size() < pageSize;
+        if (!result.isEmpty()) {
+            lastKey = TaskViewSortKey.of(result.get(result.size() - 1));
+        }
+        return result.iterator();
+    }
+
+    /**
+     * Returns the filters selecting the task views after the last read one.
+     */
+    private TargetFilters pageStart() {
+        TargetFilters.Builder result = TargetFilters.newBuilder();
+        if (lastKey != null) {
+            CompositeFilter afterLast = all(gt(TaskViewSortKey.COLUMN, lastKey));
+            result.addFilter(afterLast);
+        }
+        return result.build();
+    }
+
+    private ResponseFormat pageFormat() {
+        OrderBy order = OrderBy
+                .newBuilder()
+                .setColumn(TaskViewSortKey.COLUMN)
+                .setDirection(ASCENDING)
+                .build();
+        ResponseFormat result = ResponseFormat
+                .newBuilder()
+                .setOrderBy(order)
+                .setLimit(pageSize)
+                .build();
+        return result;
+    }
+}
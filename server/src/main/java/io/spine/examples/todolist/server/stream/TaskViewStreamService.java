@@ -0,0 +1,99 @@
+/*
+ * Copyright 2021, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.todolist.server.stream;
+
+import io.grpc.Status;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import io.spine.examples.todolist.tasks.stream.TaskViewChunk;
+import io.spine.examples.todolist.tasks.stream.TaskViewStreamRequest;
+import io.spine.examples.todolist.tasks.stream.TaskViewStreamServiceGrpc;
+import io.spine.examples.todolist.tasks.view.TaskView;
+import io.spine.server.BoundedContext;
+import io.spine.server.entity.RecordBasedRepository;
+import io.spine.server.entity.Repository;
+
+import java.util.Iterator;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static io.spine.util.Exceptions.newIllegalArgumentException;
+
+/**
+ * A gRPC service reading the task views in chunks.
+ *
+ * <p>Each call reads the task views from the storage {@linkplain TaskViewPages page by page}, one
+ * page per chunk, and sends them to the caller through a {@link ChunkSender}, which reads
+ * the next chunk only when the caller is ready to receive it.
+ */
+public final class TaskViewStreamService
+        extends TaskViewStreamServiceGrpc.TaskViewStreamServiceImplBase {
+
+    /**
+     * The size of the chunks if the request does not specify it.
+     */
+    private static final int DEFAULT_CHUNK_SIZE = 500;
+
+    private final RecordBasedRepository<?, ?, ?> taskViews;
+
+    /**
+     * Creates a new instance of the service.
+     *
+     * @param context
+     *         the context with the task views
+     * @throws IllegalArgumentException
+     *         if the context has no repository of the task views
+     */
+    public TaskViewStreamService(BoundedContext context) {
+        checkNotNull(context);
+        Repository<?, ?> repository = context
+                .internalAccess()
+                .findRepository(TaskView.class)
+                .orElseThrow(() -> newIllegalArgumentException(
+                        "The context `%s` has no task views.", context.name()
+                ));
+        this.taskViews = (RecordBasedRepository<?, ?, ?>) repository;
+    }
+
+    @Override
+    public void read(TaskViewStreamRequest request,
+                     StreamObserver<TaskViewChunk> responseObserver) {
+        int chunkSize = request.getChunkSize();
+        if (chunkSize < 0) {
+            responseObserver.onError(Status.INVALID_ARGUMENT
+                                             .withDescription("The chunk size is negative.")
+                                             .asRuntimeException());
+            return;
+        }
+        ServerCallStreamObserver<TaskViewChunk> observer =
+                (ServerCallStreamObserver<TaskViewChunk>) responseObserver;
+        int size = chunkSize == 0 ? DEFAULT_CHUNK_SIZE : chunkSize;
+        Iterator<TaskView> views = new TaskViewPages(taskViews, size);
+        ChunkSender sender = new ChunkSender(observer, views, size);
+        observer.setOnCancelHandler(sender::cancel);
+        observer.setOnReadyHandler(sender::send);
+    }
+}
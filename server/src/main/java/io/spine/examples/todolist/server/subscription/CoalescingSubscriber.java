@@ -0,0 +1,240 @@
+/*
+ * Copyright 2021, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.todolist.server.subscription;
+
+import com.google.common.annotations.VisibleForTesting;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.spine.client.EntityStateUpdate;
+import io.spine.examples.todolist.tasks.TaskId;
+import io.spine.examples.todolist.tasks.subscription.TaskViewDelta;
+import io.spine.examples.todolist.tasks.view.TaskView;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ScheduledExecutorService;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static io.spine.examples.todolist.server.subscription.TaskViewDiff.diff;
+import static io.spine.examples.todolist.server.subscription.TaskViewDiff.full;
+import static io.spine.examples.todolist.server.subscription.TaskViewDiff.removal;
+import static io.spine.protobuf.AnyPacker.unpack;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * A subscriber to the changes of the task views.
+ *
+ * <p>The updates of the task views are kept pending until the coalescing window passes since
+ * the first pending update. Only the latest update of each task view is kept, so a burst of
+ * edits of a task view produces a single delta.
+ *
+ * <p>The pending updates are sent only while the subscriber is ready to receive them. Once
+ * the transport buffer of a slow subscriber is full, the updates keep coalescing until
+ * the subscriber catches up. Thus, the updates waiting for a subscriber never take more than
+ * one state per task view.
+ *
+ * <p>The last state sent to the subscriber is remembered per task view to compute
+ * the next delta. At most {@link #MAX_KNOWN_VIEWS} states are remembered. When there are more,
+ * the least recently sent state is forgotten, and the next update of that task view is sent
+ * as a {@linkplain TaskViewDiff#full full} delta. A removal is sent regardless of whether
+ * the state is remembered.
+ */
+final class CoalescingSubscriber {
+
+    /**
+     * The default maximum number of the task view states remembered per subscriber.
+     */
+    static final int MAX_KNOWN_VIEWS = 10_000;
+
+    private final ServerCallStreamObserver<TaskViewDelta> observer;
+    private final ScheduledExecutorService scheduler;
+    private final long windowMillis;
+    private final Runnable unsubscribe;
+    private final Map<TaskId, EntityStateUpdate> pending = new LinkedHashMap<>();
+    private final Map<TaskId, TaskView> sent;
+    private boolean flushScheduled;
+    private boolean closed;
+
+    /**
+     * Creates a new subscriber.
+     *
+     * @param observer
+     *         the observer of the call to send the deltas to
+     * @param scheduler
+     *         the scheduler of the sending of the coalesced updates
+     * @param windowMillis
+     *         the coalescing window in milliseconds
+     * @param unsubscribe
+     *         cancels the underlying subscription to the task views
+     */
+    CoalescingSubscriber(ServerCallStreamObserver<TaskViewDelta> observer,
+                         ScheduledExecutorService scheduler,
+                         long windowMillis,
+                         Runnable unsubscribe) {
+        this(observer, scheduler, windowMillis, unsubscribe, MAX_KNOWN_VIEWS);
+    }
+
+    /**
+     * Creates a new subscriber remembering the given number of the sent states.
+     *
+     * @param observer
+     *         the observer of the call to send the deltas to
+     * @param scheduler
+     *         the scheduler of the sending of the coalesced updates
+     * @param windowMillis
+     *         the coalescing window in milliseconds
+     * @param unsubscribe
+     *         cancels the underlying subscription to the task views
+     * @param maxKnownViews
+     *         the maximum number of the sent states to compute the deltas from
+     */
+    @VisibleForTesting
+    CoalescingSubscriber(ServerCallStreamObserver<TaskViewDelta> observer,
+                         ScheduledExecutorService scheduler,
+                         long windowMillis,
+                         Runnable unsubscribe,
+                         int maxKnownViews) {
+        checkArgument(maxKnownViews > 0, "At least one sent state must be remembered.");
+        this.observer = observer;
+        this.scheduler = scheduler;
+        this.windowMillis = windowMillis;
+        this.unsubscribe = unsubscribe;
+        this.sent = new KnownViews(maxKnownViews);
+    }
+
+    /**
+     * Accepts an update of a task view.
+     *
+     * <p>The update replaces the pending update of the same task view, if any.
+     */
+    synchronized void onUpdate(TaskId id, EntityStateUpdate update) {
+        if (closed) {
+            return;
+        }
+        pending.put(id, update);
+        if (!flushScheduled) {
+            flushScheduled = true;
+            scheduler.schedule(this::flushOnSchedule, windowMillis, MILLISECONDS);
+        }
+    }
+
+    private synchronized void flushOnSchedule() {
+        flushScheduled = false;
+        flush();
+    }
+
+    /**
+     * Sends the pending updates while the subscriber is ready to receive them.
+     */
+    synchronized void flush() {
+        Iterator<Map.Entry<TaskId, EntityStateUpdate>> updates = pending.entrySet()
+                                                                        .iterator();
+        while (!closed && observer.isReady() && updates.hasNext()) {
+            Map.Entry<TaskId, EntityStateUpdate> update = updates.next();
+            updates.remove();
+            send(update.getKey(), update.getValue());
+        }
+    }
+
+    private void send(TaskId id, EntityStateUpdate update) {
+        if (update.getNoLongerMatching()) {
+            sent.remove(id);
+            observer.onNext(removal(id));
+            return;
+        }
+        TaskView view = unpack(update.getState(), TaskView.class);
+        TaskView known = sent.get(id);
+        Optional<TaskViewDelta> delta = known != null
+                                        ? diff(known, view)
+                                        : Optional.of(full(view));
+        if (delta.isPresent()) {
+            sent.put(id, view);
+            observer.onNext(delta.get());
+        }
+    }
+
+    /**
+     * Stops sending the updates after the call is cancelled by the subscriber and cancels
+     * the underlying subscription.
+     */
+    void cancel() {
+        if (close()) {
+            unsubscribe.run();
+        }
+    }
+
+    /**
+     * Terminates the call with the error of the underlying subscription and cancels
+     * the subscription, so that it is not kept by the server.
+     */
+    void fail(Throwable error) {
+        if (close()) {
+            observer.onError(error);
+            unsubscribe.run();
+        }
+    }
+
+    /**
+     * Stops sending the updates.
+     *
+     * <p>The underlying subscription is cancelled outside of the lock, as cancelling it may
+     * call back into the subscriber.
+     *
+     * @return {@code true} if the subscriber is closed by this call,
+     *         {@code false} if it is already closed
+     */
+    private synchronized boolean close() {
+        if (closed) {
+            return false;
+        }
+        closed = true;
+        pending.clear();
+        return true;
+    }
+
+    /**
+     * The states sent to the subscriber, which forget the least recently sent state once
+     * there are too many of them.
+     */
+    private static final class KnownViews extends LinkedHashMap<TaskId, TaskView> {
+
+        private static final long serialVersionUID = 0L;
+
+        private final int maxSize;
+
+        private KnownViews(int maxSize) {
+            super(16, 0.75f, true);
+            this.maxSize = maxSize;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<TaskId, TaskView> eldest) {
+            return size() > maxSize;
+        }
+    }
+}
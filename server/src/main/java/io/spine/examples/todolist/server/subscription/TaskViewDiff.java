@@ -0,0 +1,119 @@
+/*
+ * Copyright 2021, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.todolist.server.subscription;
+
+import com.google.protobuf.Descriptors.FieldDescriptor;
+import com.google.protobuf.FieldMask;
+import io.spine.examples.todolist.tasks.TaskId;
+import io.spine.examples.todolist.tasks.subscription.TaskViewDelta;
+import io.spine.examples.todolist.tasks.view.TaskView;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Optional;
+
+/**
+ * Computes the changes of a task view between two of its states.
+ */
+public final class TaskViewDiff {
+
+    /** Prevents instantiation of this utility class. */
+    private TaskViewDiff() {
+    }
+
+    /**
+     * Creates the delta holding the top-level fields of the task view which differ between
+     * the given states.
+     *
+     * @param previous
+     *         the state known to the subscriber, or {@code null} if the subscriber does not
+     *         know the task view yet
+     * @param current
+     *         the current state of the task view
+     * @return the delta, or an empty {@code Optional} if the states are equal
+     */
+    public static Optional<TaskViewDelta> diff(@Nullable TaskView previous, TaskView current) {
+        TaskView known = previous != null ? previous : TaskView.getDefaultInstance();
+        FieldMask.Builder changed = FieldMask.newBuilder();
+        TaskView.Builder view = TaskView.newBuilder();
+        for (FieldDescriptor field : TaskView.getDescriptor()
+                                             .getFields()) {
+            Object value = current.getField(field);
+            if (!value.equals(known.getField(field))) {
+                changed.addPaths(field.getName());
+                if (field.isRepeated() || current.hasField(field)) {
+                    view.setField(field, value);
+                }
+            }
+        }
+        if (changed.getPathsCount() == 0) {
+            return Optional.empty();
+        }
+        TaskViewDelta result = TaskViewDelta
+                .newBuilder()
+                .setId(current.getId())
+                .setChanged(changed)
+                .setView(view.buildPartial())
+                .build();
+        return Optional.of(result);
+    }
+
+    /**
+     * Creates the delta listing all the top-level fields of the task view.
+     *
+     * <p>The delta replaces any state of the task view known to the subscriber.
+     *
+     * @param current
+     *         the current state of the task view
+     * @return the delta holding the whole task view
+     */
+    static TaskViewDelta full(TaskView current) {
+        FieldMask.Builder changed = FieldMask.newBuilder();
+        for (FieldDescriptor field : TaskView.getDescriptor()
+                                             .getFields()) {
+            changed.addPaths(field.getName());
+        }
+        TaskViewDelta result = TaskViewDelta
+                .newBuilder()
+                .setId(current.getId())
+                .setChanged(changed)
+                .setView(current)
+                .build();
+        return result;
+    }
+
+    /**
+     * Creates the delta telling that the task view no longer exists.
+     */
+    static TaskViewDelta removal(TaskId id) {
+        TaskViewDelta result = TaskViewDelta
+                .newBuilder()
+                .setId(id)
+                .setRemoved(true)
+                .build();
+        return result;
+    }
+}
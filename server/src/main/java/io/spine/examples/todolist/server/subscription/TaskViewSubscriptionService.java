@@ -0,0 +1,152 @@
+/*
+ * Copyright 2021, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.todolist.server.subscription;
+
+import com.google.protobuf.util.Durations;
+import io.grpc.Status;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import io.spine.client.ActorRequestFactory;
+import io.spine.client.EntityStateUpdate;
+import io.spine.client.Subscription;
+import io.spine.client.SubscriptionUpdate;
+import io.spine.client.Topic;
+import io.spine.core.UserId;
+import io.spine.examples.todolist.tasks.TaskId;
+import io.spine.examples.todolist.tasks.subscription.TaskViewDelta;
+import io.spine.examples.todolist.tasks.subscription.TaskViewSubscriptionRequest;
+import io.spine.examples.todolist.tasks.subscription.TaskViewSubscriptionServiceGrpc;
+import io.spine.examples.todolist.tasks.view.TaskView;
+import io.spine.grpc.MemoizingObserver;
+import io.spine.server.SubscriptionService;
+
+import java.util.concurrent.ScheduledExecutorService;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static io.spine.grpc.StreamObservers.memoizingObserver;
+import static io.spine.grpc.StreamObservers.noOpObserver;
+import static io.spine.protobuf.AnyPacker.unpack;
+
+/**
+ * A gRPC service streaming the coalesced changes of the task views.
+ *
+ * <p>Each call subscribes to the task views through the {@link SubscriptionService} and
+ * forwards the updates to a {@link CoalescingSubscriber}, which sends only the changed fields
+ * of the task views to the caller.
+ */
+public final class TaskViewSubscriptionService
+        extends TaskViewSubscriptionServiceGrpc.TaskViewSubscriptionServiceImplBase {
+
+    private static final UserId ACTOR = UserId
+            .newBuilder()
+            .setValue("task-view-subscription-service")
+            .vBuild();
+
+    private final SubscriptionService subscriptionService;
+    private final ScheduledExecutorService scheduler;
+    private final ActorRequestFactory requestFactory;
+
+    /**
+     * Creates a new instance of the service.
+     *
+     * @param subscriptionService
+     *         the service to subscribe to the task views through
+     * @param scheduler
+     *         the scheduler of the sending of the coalesced updates
+     */
+    public TaskViewSubscriptionService(SubscriptionService subscriptionService,
+                                       ScheduledExecutorService scheduler) {
+        this.subscriptionService = checkNotNull(subscriptionService);
+        this.scheduler = checkNotNull(scheduler);
+        this.requestFactory = ActorRequestFactory
+                .newBuilder()
+                .setActor(ACTOR)
+                .build();
+    }
+
+    @Override
+    public void subscribe(TaskViewSubscriptionRequest request,
+                          StreamObserver<TaskViewDelta> responseObserver) {
+        long windowMillis = Durations.toMillis(request.getCoalescingWindow());
+        if (windowMillis < 0) {
+            responseObserver.onError(Status.INVALID_ARGUMENT
+                                             .withDescription("The coalescing window is negative.")
+                                             .asRuntimeException());
+            return;
+        }
+        ServerCallStreamObserver<TaskViewDelta> observer =
+                (ServerCallStreamObserver<TaskViewDelta>) responseObserver;
+        Subscription subscription = subscribeToTaskViews();
+        CoalescingSubscriber subscriber = new CoalescingSubscriber(
+                observer, scheduler, windowMillis,
+                () -> subscriptionService.cancel(subscription, noOpObserver())
+        );
+        observer.setOnReadyHandler(subscriber::flush);
+        observer.setOnCancelHandler(subscriber::cancel);
+        subscriptionService.activate(subscription, new UpdateForwarder(subscriber));
+    }
+
+    private Subscription subscribeToTaskViews() {
+        Topic topic = requestFactory.topic()
+                                    .allOf(TaskView.class);
+        MemoizingObserver<Subscription> observer = memoizingObserver();
+        subscriptionService.subscribe(topic, observer);
+        Subscription result = observer.firstResponse();
+        return result;
+    }
+
+    /**
+     * Forwards the updates of the task views to the subscriber.
+     */
+    private static final class UpdateForwarder implements StreamObserver<SubscriptionUpdate> {
+
+        private final CoalescingSubscriber subscriber;
+
+        private UpdateForwarder(CoalescingSubscriber subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void onNext(SubscriptionUpdate update) {
+            for (EntityStateUpdate stateUpdate : update.getEntityUpdates()
+                                                       .getUpdateList()) {
+                TaskId id = unpack(stateUpdate.getId(), TaskId.class);
+                subscriber.onUpdate(id, stateUpdate);
+            }
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            subscriber.fail(t);
+        }
+
+        @Override
+        public void onCompleted() {
+            // The call is completed by the subscriber cancelling it.
+        }
+    }
+}
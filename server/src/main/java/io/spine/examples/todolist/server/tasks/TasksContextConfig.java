@@ -0,0 +1,485 @@
+/*
+ * Copyright 2021, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.todolist.server.tasks;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.MoreObjects;
+import io.spine.examples.todolist.server.delivery.ShardedDelivery;
+import io.spine.examples.todolist.server.storage.CachingStorageFactory;
+import io.spine.server.aggregate.AggregateRepository;
+import io.spine.server.delivery.Delivery;
+import io.spine.server.delivery.ShardedWorkRegistry;
+import io.spine.server.storage.StorageFactory;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * The configuration of the Tasks context.
+ *
+ * <p>Use {@link #defaults()} to obtain the configuration with the default values,
+ * {@link #fromSystemProperties()} to read the values specified with the {@code -D} Java option,
+ * or {@link #newBuilder()} to compose the configuration manually.
+ */
+public final class TasksContextConfig {
+
+    @VisibleForTesting
+    static final String SNAPSHOT_TRIGGER = "todolist.snapshot.trigger";
+
+    @VisibleForTesting
+    static final String AGGREGATE_CACHE_SIZE = "todolist.aggregate.cache.size";
+
+    @VisibleForTesting
+    static final String EMBED_LABEL_DETAILS = "todolist.taskview.labels";
+
+    @VisibleForTesting
+    static final String LIGHTWEIGHT_REJECTIONS = "todolist.rejections.lightweight";
+
+    @VisibleForTesting
+    static final String DELIVERY_SHARDS = "todolist.delivery.shards";
+
+    @VisibleForTesting
+    static final String DELIVERY_PARALLELISM = "todolist.delivery.parallelism";
+
+    @VisibleForTesting
+    static final String DELIVERY_FLUSH_DELAY = "todolist.delivery.flush.delay";
+
+    @VisibleForTesting
+    static final String CATCH_UP_TASK_VIEWS = "todolist.taskview.catchup";
+
+    @VisibleForTesting
+    static final String METRICS = "todolist.metrics";
+
+    private static final TasksContextConfig DEFAULTS = newBuilder().build();
+
+    private final int snapshotTrigger;
+    private final long aggregateCacheSize;
+    private final boolean embedLabelDetails;
+    private final boolean lightweightRejections;
+    private final int deliveryShards;
+    private final int deliveryParallelism;
+    private final Duration deliveryFlushDelay;
+    private final boolean catchUpTaskViews;
+    private final boolean metrics;
+
+    private TasksContextConfig(Builder builder) {
+        this.snapshotTrigger = builder.snapshotTrigger;
+        this.aggregateCacheSize = builder.aggregateCacheSize;
+        this.embedLabelDetails = builder.embedLabelDetails;
+        this.lightweightRejections = builder.lightweightRejections;
+        this.deliveryShards = builder.deliveryShards;
+        this.deliveryParallelism = builder.deliveryParallelism;
+        this.deliveryFlushDelay = builder.deliveryFlushDelay;
+        this.catchUpTaskViews = builder.catchUpTaskViews;
+        this.metrics = builder.metrics;
+    }
+
+    /**
+     * Returns the configuration with the default values.
+     */
+    public static TasksContextConfig defaults() {
+        return DEFAULTS;
+    }
+
+    /**
+     * Assembles the configuration from the system properties, specified with the {@code -D}
+     * Java option.
+     *
+     * <p>The values which are not specified are set to their defaults.
+     *
+     * @return the configuration assembled from the system properties
+     * @see System#getProperty(String)
+     */
+    public static TasksContextConfig fromSystemProperties() {
+        Builder builder = newBuilder();
+        systemOption(SNAPSHOT_TRIGGER)
+                .map(Integer::parseInt)
+                .ifPresent(builder::setSnapshotTrigger);
+        systemOption(AGGREGATE_CACHE_SIZE)
+                .map(Long::parseLong)
+                .ifPresent(builder::setAggregateCacheSize);
+        systemOption(EMBED_LABEL_DETAILS)
+                .map(Boolean::parseBoolean)
+                .ifPresent(builder::setEmbedLabelDetails);
+        systemOption(LIGHTWEIGHT_REJECTIONS)
+                .map(Boolean::parseBoolean)
+                .ifPresent(builder::setLightweightRejections);
+        systemOption(DELIVERY_SHARDS)
+                .map(Integer::parseInt)
+                .ifPresent(builder::setDeliveryShards);
+        systemOption(DELIVERY_PARALLELISM)
+                .map(Integer::parseInt)
+                .ifPresent(builder::setDeliveryParallelism);
+        systemOption(DELIVERY_FLUSH_DELAY)
+                .map(Long::parseLong)
+                .map(Duration::ofMillis)
+                .ifPresent(builder::setDeliveryFlushDelay);
+        systemOption(CATCH_UP_TASK_VIEWS)
+                .map(Boolean::parseBoolean)
+                .ifPresent(builder::setCatchUpTaskViews);
+        systemOption(METRICS)
+                .map(Boolean::parseBoolean)
+                .ifPresent(builder::setMetrics);
+        return builder.build();
+    }
+
+    /**
+     * Returns a new builder for manual composition of the configuration.
+     */
+    public static Builder newBuilder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns the number of events stored between the snapshots of the task aggregate parts.
+     *
+     * <p>When loading an aggregate part, only the events stored after the last snapshot are
+     * played. Therefore, the lesser is the value, the faster are the long-lived tasks loaded,
+     * at the cost of storing the snapshots more often.
+     */
+    public int snapshotTrigger() {
+        return snapshotTrigger;
+    }
+
+    /**
+     * Returns the maximum number of the aggregate histories cached in memory.
+     *
+     * <p>Zero means that the cache is disabled.
+     */
+    public long aggregateCacheSize() {
+        return aggregateCacheSize;
+    }
+
+    /**
+     * Tells if the titles and the colors of the labels are embedded into the task views.
+     *
+     * <p>If so, the task views can be shown along with their labels without querying each
+     * label. On the other hand, updating a label updates all the task views with this label.
+     */
+    public boolean embedLabelDetails() {
+        return embedLabelDetails;
+    }
+
+    /**
+     * Tells if the rejections of the task commands are thrown without the stack traces.
+     *
+     * <p>A rejection is an expected outcome of a command rather than an error, so its stack
+     * trace carries no useful information. Skipping it saves CPU when clients keep sending
+     * commands which are rejected.
+     */
+    public boolean lightweightRejections() {
+        return lightweightRejections;
+    }
+
+    /**
+     * Returns the number of shards of the message delivery.
+     *
+     * <p>Zero means that the messages are delivered synchronously by the
+     * {@linkplain Delivery#local() local delivery}.
+     */
+    public int deliveryShards() {
+        return deliveryShards;
+    }
+
+    /**
+     * Returns the maximum number of the delivery shards delivered at the same time.
+     */
+    public int deliveryParallelism() {
+        return deliveryParallelism;
+    }
+
+    /**
+     * Returns the time to collect the messages to the entities before delivering them.
+     *
+     * <p>The delay holds back both the commands and the events.
+     *
+     * <p>Zero means that the messages are delivered right away.
+     */
+    public Duration deliveryFlushDelay() {
+        return deliveryFlushDelay;
+    }
+
+    /**
+     * Tells if the task views are rebuilt from the event history once the context is created.
+     *
+     * <p>The task views are rebuilt on each start, unless a previous catch-up of the task views
+     * has not finished, in which case it is continued.
+     *
+     * @see io.spine.examples.todolist.server.tasks.task.TaskViewCatchUp
+     */
+    public boolean catchUpTaskViews() {
+        return catchUpTaskViews;
+    }
+
+    /**
+     * Tells if the counts and the latencies of the messages handled by the context are
+     * recorded and exposed over JMX.
+     *
+     * @see io.spine.examples.todolist.server.metrics.ContextMetrics
+     */
+    public boolean metrics() {
+        return metrics;
+    }
+
+    /**
+     * Creates the delivery of the messages to the entities for a single server instance.
+     *
+     * @param storage
+     *         the storage factory of the deployment
+     * @return the sharded delivery, or the local delivery if neither the number of shards
+     *         nor the flush delay is set
+     * @see ShardedDelivery
+     */
+    public Delivery delivery(StorageFactory storage) {
+        checkNotNull(storage);
+        if (deliveryShards == 0 && deliveryFlushDelay.isZero()) {
+            return Delivery.local();
+        }
+        int shards = Math.max(deliveryShards, 1);
+        return ShardedDelivery.create(storage, shards, deliveryParallelism, deliveryFlushDelay);
+    }
+
+    /**
+     * Creates the delivery of the messages to the entities for the server instances sharing
+     * the storage.
+     *
+     * @param storage
+     *         the storage factory of the deployment
+     * @param workRegistry
+     *         the registry of the shards being delivered, backed by the shared storage
+     * @return the sharded delivery, or the local delivery if neither the number of shards
+     *         nor the flush delay is set
+     * @see ShardedDelivery
+     */
+    public Delivery delivery(StorageFactory storage, ShardedWorkRegistry workRegistry) {
+        checkNotNull(storage);
+        checkNotNull(workRegistry);
+        if (deliveryShards == 0 && deliveryFlushDelay.isZero()) {
+            return ShardedDelivery.local(storage, workRegistry);
+        }
+        int shards = Math.max(deliveryShards, 1);
+        return ShardedDelivery.create(storage, workRegistry, shards,
+                                      deliveryParallelism, deliveryFlushDelay);
+    }
+
+    /**
+     * Wraps the passed storage factory into the aggregate cache, if the cache is enabled.
+     *
+     * @param storage
+     *         the storage factory of the deployment
+     * @return the caching storage factory or the passed factory if the cache is disabled
+     * @see CachingStorageFactory
+     */
+    public StorageFactory applyCache(StorageFactory storage) {
+        checkNotNull(storage);
+        if (aggregateCacheSize == 0) {
+            return storage;
+        }
+        return CachingStorageFactory.wrap(storage, aggregateCacheSize);
+    }
+
+    @SuppressWarnings("AccessOfSystemProperties")
+    private static Optional<String> systemOption(String optionKey) {
+        Optional<String> result = Optional.ofNullable(System.getProperty(optionKey));
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                          .add("snapshotTrigger", snapshotTrigger)
+                          .add("aggregateCacheSize", aggregateCacheSize)
+                          .add("embedLabelDetails", embedLabelDetails)
+                          .add("lightweightRejections", lightweightRejections)
+                          .add("deliveryShards", deliveryShards)
+                          .add("deliveryParallelism", deliveryParallelism)
+                          .add("deliveryFlushDelay", deliveryFlushDelay)
+                          .add("catchUpTaskViews", catchUpTaskViews)
+                          .add("metrics", metrics)
+                          .toString();
+    }
+
+    /**
+     * A builder of the Tasks context configuration.
+     */
+    public static final class Builder {
+
+        private int snapshotTrigger = AggregateRepository.DEFAULT_SNAPSHOT_TRIGGER;
+        private long aggregateCacheSize;
+        private boolean embedLabelDetails;
+        private boolean lightweightRejections;
+        private int deliveryShards;
+        private int deliveryParallelism = Runtime.getRuntime()
+                                                 .availableProcessors();
+        private Duration deliveryFlushDelay = Duration.ZERO;
+        private boolean catchUpTaskViews;
+        private boolean metrics;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the number of events stored between the snapshots of the task aggregate parts.
+         *
+         * <p>If not set, the {@linkplain AggregateRepository#DEFAULT_SNAPSHOT_TRIGGER framework
+         * default} is used.
+         */
+        public Builder setSnapshotTrigger(int snapshotTrigger) {
+            checkArgument(snapshotTrigger > 0,
+                          "The snapshot trigger must be positive, but was %s.", snapshotTrigger);
+            this.snapshotTrigger = snapshotTrigger;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of the aggregate histories cached in memory.
+         *
+         * <p>By default, the cache is disabled. Set to zero to disable the cache explicitly.
+         */
+        public Builder setAggregateCacheSize(long aggregateCacheSize) {
+            checkArgument(aggregateCacheSize >= 0,
+                          "The cache size must not be negative, but was %s.",
+                          aggregateCacheSize);
+            this.aggregateCacheSize = aggregateCacheSize;
+            return this;
+        }
+
+        /**
+         * Sets if the label details are embedded into the task views.
+         *
+         * <p>By default, the task views contain only the IDs of the labels.
+         */
+        public Builder setEmbedLabelDetails(boolean embedLabelDetails) {
+            this.embedLabelDetails = embedLabelDetails;
+            return this;
+        }
+
+        /**
+         * Sets if the rejections of the task commands are thrown without the stack traces.
+         *
+         * <p>By default, the rejections have the stack traces.
+         */
+        public Builder setLightweightRejections(boolean lightweightRejections) {
+            this.lightweightRejections = lightweightRejections;
+            return this;
+        }
+
+        /**
+         * Sets the number of shards of the message delivery.
+         *
+         * <p>The messages to the same entity always belong to the same shard, and the shards
+         * are delivered in parallel. By default, the messages are delivered synchronously.
+         * Set to zero to use the synchronous delivery explicitly.
+         */
+        public Builder setDeliveryShards(int deliveryShards) {
+            checkArgument(deliveryShards >= 0,
+                          "The number of shards must not be negative, but was %s.",
+                          deliveryShards);
+            this.deliveryShards = deliveryShards;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of the delivery shards delivered at the same time.
+         *
+         * <p>By default, equals to the number of the available processors. Has no effect
+         * unless the {@linkplain #setDeliveryShards(int) delivery shards} are set.
+         */
+        public Builder setDeliveryParallelism(int deliveryParallelism) {
+            checkArgument(deliveryParallelism > 0,
+                          "The parallelism must be positive, but was %s.",
+                          deliveryParallelism);
+            this.deliveryParallelism = deliveryParallelism;
+            return this;
+        }
+
+        /**
+         * Sets the time to collect the messages to the entities before delivering them.
+         *
+         * <p>The events to the same projection which arrive within the delay are applied to
+         * the projection at once, and the projection is stored once for all of them.
+         * This saves the storage writes upon the bursts of events, e.g. when the task
+         * creation wizard completes, at the cost of the projections lagging behind by
+         * up to the delay.
+         *
+         * <p>The delay applies to all the messages of the delivery, not only to the events to
+         * the projections. A command to an aggregate or a process manager is also handled only
+         * once the delay passes, and so is each command which follows from it, e.g. each step
+         * of the task creation wizard. The messages to an entity and to the projections of
+         * the same ID share a shard, so the commands cannot be delivered sooner without also
+         * flushing the events pending for the projections. Therefore, keep the delay well below
+         * the latency the clients tolerate for a command.
+         *
+         * <p>By default, the messages are delivered right away. If the delay is set, but
+         * the {@linkplain #setDeliveryShards(int) delivery shards} are not, all the messages
+         * are delivered through a single shard.
+         */
+        public Builder setDeliveryFlushDelay(Duration deliveryFlushDelay) {
+            checkNotNull(deliveryFlushDelay);
+            checkArgument(!deliveryFlushDelay.isNegative(),
+                          "The flush delay must not be negative, but was %s.",
+                          deliveryFlushDelay);
+            this.deliveryFlushDelay = deliveryFlushDelay;
+            return this;
+        }
+
+        /**
+         * Sets if the task views are rebuilt from the event history once the context is
+         * created.
+         *
+         * <p>The task views are rebuilt only if they have not been rebuilt with the same
+         * storage, so the option may be left on when the server restarts.
+         *
+         * <p>By default, the task views are not rebuilt.
+         */
+        public Builder setCatchUpTaskViews(boolean catchUpTaskViews) {
+            this.catchUpTaskViews = catchUpTaskViews;
+            return this;
+        }
+
+        /**
+         * Sets if the counts and the latencies of the messages handled by the context are
+         * recorded.
+         *
+         * <p>By default, the metrics are not recorded.
+         */
+        public Builder setMetrics(boolean metrics) {
+            this.metrics = metrics;
+            return this;
+        }
+
+        /**
+         * Creates a new instance of {@code TasksContextConfig}.
+         */
+        public TasksContextConfig build() {
+            return new TasksContextConfig(this);
+        }
+    }
+}
@@ -26,12 +26,18 @@
 
 package io.spine.examples.todolist.server.tasks;
 
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import io.spine.examples.todolist.server.metrics.ContextMetrics;
+import io.spine.examples.todolist.server.tasks.label.LabelIndex;
 import io.spine.examples.todolist.server.tasks.label.LabelPackage;
 import io.spine.examples.todolist.server.tasks.task.TaskPackage;
+import io.spine.examples.todolist.server.tasks.task.TaskViewCatchUp;
 import io.spine.examples.todolist.tasks.TasksContext;
 import io.spine.server.BoundedContext;
 import io.spine.server.BoundedContextBuilder;
 
+import static com.google.common.base.Preconditions.checkNotNull;
+
 /**
  * Utilities for creation the {@link BoundedContext} instances.
  */
@@ -48,8 +54,25 @@ public final class TasksContextFactory {
      * @return the {@link BoundedContext} instance
      */
     public static BoundedContext create() {
-        BoundedContextBuilder builder = builder();
-        return builder.build();
+        return create(TasksContextConfig.defaults());
+    }
+
+    /**
+     * Creates the {@link BoundedContext} instance with the given configuration.
+     *
+     * @param config
+     *         the configuration of the context
+     * @return the {@link BoundedContext} instance
+     */
+    public static BoundedContext create(TasksContextConfig config) {
+        checkNotNull(config);
+        BoundedContextBuilder builder = BoundedContext.singleTenant(TasksContext.NAME);
+        TaskViewCatchUp catchUp = configure(builder, config);
+        BoundedContext context = builder.build();
+        if (config.catchUpTaskViews()) {
+            catchUp.start();
+        }
+        return context;
     }
 
     /**
@@ -58,9 +81,40 @@ public final class TasksContextFactory {
      * <p>The returned builder has all the repositories of the context.
      */
     public static BoundedContextBuilder builder() {
+        return builder(TasksContextConfig.defaults());
+    }
+
+    /**
+     * Creates and configures the builder for the Tasks context with the given configuration.
+     *
+     * <p>The returned builder has all the repositories of the context.
+     *
+     * @param config
+     *         the configuration of the context
+     */
+    public static BoundedContextBuilder builder(TasksContextConfig config) {
+        checkNotNull(config);
         BoundedContextBuilder builder = BoundedContext.singleTenant(TasksContext.NAME);
-        LabelPackage.configure(builder);
-        TaskPackage.configure(builder);
+        configure(builder, config);
         return builder;
     }
+
+    /**
+     * Adds the repositories to the passed builder.
+     *
+     * <p>If {@linkplain TasksContextConfig#metrics() enabled}, also starts recording
+     * the metrics of the context.
+     *
+     * @return the catch-up of the task views, which can be started once the context is built
+     */
+    @CanIgnoreReturnValue
+    private static TaskViewCatchUp configure(BoundedContextBuilder builder,
+                                             TasksContextConfig config) {
+        LabelIndex labels = LabelPackage.configure(builder);
+        TaskViewCatchUp result = TaskPackage.configure(builder, config, labels);
+        if (config.metrics()) {
+            ContextMetrics.attachTo(builder);
+        }
+        return result;
+    }
 }
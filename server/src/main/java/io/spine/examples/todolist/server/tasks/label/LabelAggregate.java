@@ -27,6 +27,7 @@
 package io.spine.examples.todolist.server.tasks.label;
 
 import io.spine.change.ValueMismatch;
+import io.spine.examples.todolist.tasks.LabelColor;
 import io.spine.examples.todolist.tasks.LabelDetails;
 import io.spine.examples.todolist.tasks.LabelDetailsChange;
 import io.spine.examples.todolist.tasks.LabelDetailsUpdateRejected;
@@ -34,6 +35,7 @@ import io.spine.examples.todolist.tasks.LabelId;
 import io.spine.examples.todolist.tasks.RejectedLabelCommandDetails;
 import io.spine.examples.todolist.tasks.TaskLabel;
 import io.spine.examples.todolist.tasks.command.CreateBasicLabel;
+import io.spine.examples.todolist.tasks.command.CreateLabel;
 import io.spine.examples.todolist.tasks.command.UpdateLabelDetails;
 import io.spine.examples.todolist.tasks.event.LabelCreated;
 import io.spine.examples.todolist.tasks.event.LabelDetailsUpdated;
@@ -43,6 +45,7 @@ import io.spine.server.aggregate.Apply;
 import io.spine.server.command.Assign;
 
 import static io.spine.examples.todolist.tasks.LabelColor.DEFAULT;
+import static io.spine.examples.todolist.tasks.LabelColor.LC_UNDEFINED;
 
 /**
  * The aggregate managing the state of a {@link TaskLabel}.
@@ -63,6 +66,16 @@ final class LabelAggregate extends Aggregate<LabelId, TaskLabel, TaskLabel.Build
         return result;
     }
 
+    @Assign
+    LabelCreated handle(CreateLabel cmd) {
+        LabelCreated result = LabelCreated
+                .newBuilder()
+                .setId(cmd.getLabelId())
+                .setDetails(cmd.getDetails())
+                .vBuild();
+        return result;
+    }
+
     @Assign
     LabelDetailsUpdated handle(UpdateLabelDetails cmd)
             throws CannotUpdateLabelDetails {
@@ -94,10 +107,10 @@ final class LabelAggregate extends Aggregate<LabelId, TaskLabel, TaskLabel.Build
 
     @Apply
     private void labelCreated(LabelCreated event) {
+        LabelDetails details = event.getDetails();
         builder().setId(event.getId())
-                 .setTitle(event.getDetails()
-                                .getTitle())
-                 .setColor(DEFAULT);
+                 .setTitle(details.getTitle())
+                 .setColor(colorOf(details));
     }
 
     @Apply
@@ -109,6 +122,16 @@ final class LabelAggregate extends Aggregate<LabelId, TaskLabel, TaskLabel.Build
                  .setColor(labelDetails.getColor());
     }
 
+    /**
+     * Obtains the color of a created label.
+     *
+     * @return the color from the details, or the {@code DEFAULT} color if it is not set
+     */
+    static LabelColor colorOf(LabelDetails details) {
+        LabelColor color = details.getColor();
+        return color == LC_UNDEFINED ? DEFAULT : color;
+    }
+
     private static CannotUpdateLabelDetails
     rejection(UpdateLabelDetails cmd, ValueMismatch mismatch) throws CannotUpdateLabelDetails {
         RejectedLabelCommandDetails commandDetails = RejectedLabelCommandDetails
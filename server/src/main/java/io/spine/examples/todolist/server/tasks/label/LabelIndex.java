@@ -0,0 +1,74 @@
+/*
+ * Copyright 2021, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.todolist.server.tasks.label;
+
+import com.google.common.collect.ImmutableSet;
+import io.spine.examples.todolist.tasks.LabelId;
+import io.spine.examples.todolist.tasks.TaskId;
+import io.spine.examples.todolist.tasks.view.LabelView;
+import io.spine.examples.todolist.tasks.view.LabelledTasks;
+
+import java.util.Optional;
+
+/**
+ * Provides the label views and the tasks to which the labels are assigned.
+ *
+ * <p>Allows the entities of other packages to denormalize the label details.
+ */
+public final class LabelIndex {
+
+    private final LabelViewRepository labelViews;
+    private final LabelledTasksRepository labelledTasks;
+
+    LabelIndex(LabelViewRepository labelViews, LabelledTasksRepository labelledTasks) {
+        this.labelViews = labelViews;
+        this.labelledTasks = labelledTasks;
+    }
+
+    /**
+     * Obtains the view of the label with the given ID.
+     *
+     * @return the label view, or an empty {@code Optional} if there is no such label
+     */
+    public Optional<LabelView> labelView(LabelId id) {
+        Optional<LabelView> result = labelViews.find(id)
+                                               .map(LabelViewProjection::state);
+        return result;
+    }
+
+    /**
+     * Obtains the IDs of the tasks to which the label with the given ID is assigned.
+     */
+    public ImmutableSet<TaskId> tasksWith(LabelId id) {
+        ImmutableSet<TaskId> result = labelledTasks.find(id)
+                                                   .map(LabelledTasksProjection::state)
+                                                   .map(LabelledTasks::getTaskList)
+                                                   .map(ImmutableSet::copyOf)
+                                                   .orElse(ImmutableSet.of());
+        return result;
+    }
+}
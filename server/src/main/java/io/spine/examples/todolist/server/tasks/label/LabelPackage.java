@@ -38,10 +38,16 @@ public final class LabelPackage {
     }
 
     /**
-     * Adds entity classes of this package to the passed context builder.
+     * Adds entity classes and repositories of this package to the passed context builder.
+     *
+     * @return the index of the labels registered in the context
      */
-    public static void configure(BoundedContextBuilder context) {
+    public static LabelIndex configure(BoundedContextBuilder context) {
+        LabelViewRepository labelViews = new LabelViewRepository();
+        LabelledTasksRepository labelledTasks = new LabelledTasksRepository();
         context.add(LabelAggregate.class)
-               .add(LabelViewProjection.class);
+               .add(labelViews)
+               .add(labelledTasks);
+        return new LabelIndex(labelViews, labelledTasks);
     }
 }
@@ -34,7 +34,7 @@ import io.spine.examples.todolist.tasks.event.LabelDetailsUpdated;
 import io.spine.examples.todolist.tasks.view.LabelView;
 import io.spine.server.projection.Projection;
 
-import static io.spine.examples.todolist.tasks.LabelColor.DEFAULT;
+import static io.spine.examples.todolist.server.tasks.label.LabelAggregate.colorOf;
 
 /**
  * A projection which mirrors the state of a single label.
@@ -43,8 +43,9 @@ final class LabelViewProjection extends Projection<LabelId, LabelView, LabelView
 
     @Subscribe
     void on(LabelCreated e) {
-        builder().setTitle(e.getDetails().getTitle())
-                 .setColor(DEFAULT);
+        LabelDetails details = e.getDetails();
+        builder().setTitle(details.getTitle())
+                 .setColor(colorOf(details));
     }
 
     @Subscribe
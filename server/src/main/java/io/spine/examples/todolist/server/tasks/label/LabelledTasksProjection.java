@@ -0,0 +1,73 @@
+/*
+ * Copyright 2021, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.todolist.server.tasks.label;
+
+import io.spine.core.Subscribe;
+import io.spine.examples.todolist.tasks.LabelId;
+import io.spine.examples.todolist.tasks.TaskId;
+import io.spine.examples.todolist.tasks.event.LabelAssignedToTask;
+import io.spine.examples.todolist.tasks.event.LabelRemovedFromTask;
+import io.spine.examples.todolist.tasks.event.LabelsAssignedToTask;
+import io.spine.examples.todolist.tasks.view.LabelledTasks;
+import io.spine.server.projection.Projection;
+
+import java.util.List;
+
+/**
+ * A projection which collects the tasks to which a single label is assigned.
+ *
+ * <p>Allows finding the tasks by a label without scanning all the task views.
+ */
+final class LabelledTasksProjection
+        extends Projection<LabelId, LabelledTasks, LabelledTasks.Builder> {
+
+    @Subscribe
+    void on(LabelAssignedToTask e) {
+        addTask(e.getTaskId());
+    }
+
+    @Subscribe
+    void on(LabelsAssignedToTask e) {
+        addTask(e.getTaskId());
+    }
+
+    @Subscribe
+    void on(LabelRemovedFromTask e) {
+        List<TaskId> tasks = builder().getTaskList();
+        int index = tasks.indexOf(e.getTaskId());
+        if (index >= 0) {
+            builder().removeTask(index);
+        }
+    }
+
+    private void addTask(TaskId task) {
+        if (!builder().getTaskList()
+                      .contains(task)) {
+            builder().addTask(task);
+        }
+    }
+}
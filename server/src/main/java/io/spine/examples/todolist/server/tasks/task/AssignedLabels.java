@@ -0,0 +1,115 @@
+/*
+ * Copyright 2021, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.todolist.server.tasks.task;
+
+import io.spine.examples.todolist.tasks.LabelId;
+import io.spine.examples.todolist.tasks.LabelIdsList;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.List;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * The {@linkplain LabelIdSet index} of the labels assigned to a task, kept by an entity
+ * alongside its state.
+ *
+ * <p>The index is built once, when the entity first needs it after its state is loaded. Then
+ * it follows the label list through the transactions of the entity, as long as the list is
+ * changed only through the index.
+ *
+ * <p>Before each use, the index checks that it reflects the passed list. A message and
+ * the builder created from it share the immutable list of the IDs until the builder is
+ * changed, and so do a builder and the message built from it. Thus, the index compares
+ * the list of the IDs it was last synced with to the passed one by reference, which takes
+ * constant time. If the lists differ, e.g. because a transaction which changed the labels is
+ * rolled back, or the state is restored from a snapshot, the index is built anew from
+ * the passed list.
+ */
+final class AssignedLabels {
+
+    private @Nullable LabelIdSet ids;
+
+    /**
+     * The list of the IDs of a message which the index reflects.
+     */
+    private @Nullable List<LabelId> synced;
+
+    /**
+     * The builder of the list which was last changed through the index.
+     */
+    private LabelIdsList.@Nullable Builder owner;
+
+    /**
+     * Obtains the index of the labels of the given list.
+     *
+     * @param list
+     *         the label list of the entity state
+     */
+    LabelIdSet of(LabelIdsList list) {
+        checkNotNull(list);
+        List<LabelId> current = list.getIdsList();
+        LabelIdSet result = syncWith(current);
+        synced = current;
+        return result;
+    }
+
+    /**
+     * Obtains the index of the labels of the given list builder.
+     *
+     * <p>The builder must be changed only through the returned index.
+     *
+     * @param list
+     *         the label list of the entity state builder
+     */
+    LabelIdSet of(LabelIdsList.Builder list) {
+        checkNotNull(list);
+        if (list == owner && ids != null) {
+            return ids;
+        }
+        LabelIdSet result = syncWith(list.getIdsList());
+        synced = null;
+        owner = list;
+        return result;
+    }
+
+    private LabelIdSet syncWith(List<LabelId> current) {
+        if (ids == null || !reflects(current)) {
+            ids = LabelIdSet.of(current);
+            owner = null;
+        }
+        return ids;
+    }
+
+    private boolean reflects(List<LabelId> current) {
+        if (current == synced) {
+            return true;
+        }
+        boolean result = owner != null && owner.getIdsList() == current;
+        return result;
+    }
+}
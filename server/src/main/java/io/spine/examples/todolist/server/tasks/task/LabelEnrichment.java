@@ -0,0 +1,86 @@
+/*
+ * Copyright 2021, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.todolist.server.tasks.task;
+
+import io.spine.examples.todolist.server.tasks.label.LabelIndex;
+import io.spine.examples.todolist.tasks.LabelId;
+import io.spine.examples.todolist.tasks.event.LabelAssignedToTask;
+import io.spine.examples.todolist.tasks.event.LabelsAssignedToTask;
+import io.spine.examples.todolist.tasks.view.LabelView;
+import io.spine.examples.todolist.tasks.view.LabelViews;
+import io.spine.server.enrich.EventEnricher;
+
+import java.util.List;
+
+/**
+ * Enriches the label assignment events with the views of the assigned labels.
+ *
+ * <p>The enrichment allows the {@link TaskViewProjection} to embed the label details without
+ * querying the labels on its own.
+ */
+final class LabelEnrichment {
+
+    /** Prevents instantiation of this utility class. */
+    private LabelEnrichment() {
+    }
+
+    /**
+     * Creates the enricher reading the label views from the given index.
+     */
+    static EventEnricher enricher(LabelIndex labels) {
+        EventEnricher result = EventEnricher
+                .newBuilder()
+                .add(LabelAssignedToTask.class, LabelView.class,
+                     (event, context) -> labelView(labels, event.getLabelId()))
+                .add(LabelsAssignedToTask.class, LabelViews.class,
+                     (event, context) -> labelViews(labels, event.getLabelIdList()))
+                .build();
+        return result;
+    }
+
+    /**
+     * Obtains the views of the labels in the order of the passed IDs.
+     */
+    private static LabelViews labelViews(LabelIndex labels, List<LabelId> ids) {
+        LabelViews.Builder result = LabelViews.newBuilder();
+        for (LabelId id : ids) {
+            result.addLabel(labelView(labels, id));
+        }
+        return result.build();
+    }
+
+    /**
+     * Obtains the view of the label, or a view with only the ID if the label is not known yet.
+     */
+    private static LabelView labelView(LabelIndex labels, LabelId id) {
+        LabelView result = labels.labelView(id)
+                                 .orElseGet(() -> LabelView.newBuilder()
+                                                           .setId(id)
+                                                           .build());
+        return result;
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2021, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.todolist.server.tasks.task;
+
+import io.spine.examples.todolist.tasks.LabelId;
+import io.spine.examples.todolist.tasks.LabelIdsList;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * An index of the labels assigned to a task.
+ *
+ * <p>Answers the membership queries and appends the labels in constant time instead of
+ * scanning the repeated {@code ids} field of a {@link LabelIdsList}. The additions and
+ * the removals are written through to the builder of the list in place, so the list is never
+ * copied or rebuilt. The list keeps the order in which the labels were assigned, so removing
+ * a label still looks up its position in the list.
+ *
+ * <p>The index is not a part of the entity state. The entities keep it in
+ * the {@link AssignedLabels}, which make sure it reflects the state.
+ */
+final class LabelIdSet {
+
+    private final Set<LabelId> ids;
+
+    private LabelIdSet(List<LabelId> ids) {
+        this.ids = new HashSet<>(ids);
+    }
+
+    /**
+     * Creates an index of the passed label IDs.
+     */
+    static LabelIdSet of(List<LabelId> ids) {
+        checkNotNull(ids);
+        return new LabelIdSet(ids);
+    }
+
+    /**
+     * Checks if the label is assigned.
+     */
+    boolean contains(LabelId id) {
+        checkNotNull(id);
+        return ids.contains(id);
+    }
+
+    /**
+     * Appends the label to the list unless it is already there.
+     *
+     * @param list
+     *         the list indexed by this set
+     * @param id
+     *         the label to add
+     * @return {@code true} if the label was added, {@code false} if it was already assigned
+     */
+    boolean addTo(LabelIdsList.Builder list, LabelId id) {
+        checkNotNull(list);
+        checkNotNull(id);
+        boolean added = ids.add(id);
+        if (added) {
+            list.addIds(id);
+        }
+        return added;
+    }
+
+    /**
+     * Removes the label from the list if it is there.
+     *
+     * <p>The position of the label is looked up only if the label is known to be assigned.
+     *
+     * @param list
+     *         the list indexed by this set
+     * @param id
+     *         the label to remove
+     * @return {@code true} if the label was removed, {@code false} if it was not assigned
+     */
+    boolean removeFrom(LabelIdsList.Builder list, LabelId id) {
+        checkNotNull(list);
+        checkNotNull(id);
+        boolean removed = ids.remove(id);
+        if (removed) {
+            for (int i = 0; i < list.getIdsCount(); i++) {
+                if (list.getIds(i)
+                        .equals(id)) {
+                    list.removeIds(i);
+                    break;
+                }
+            }
+        }
+        return removed;
+    }
+}
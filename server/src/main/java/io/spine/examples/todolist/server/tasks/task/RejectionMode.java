@@ -0,0 +1,90 @@
+/*
+ * Copyright 2021, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.todolist.server.tasks.task;
+
+import io.spine.base.ThrowableMessage;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Defines how the task aggregate parts throw the rejections.
+ *
+ * <p>A rejection is an expected outcome of a command. Its stack trace points to the command
+ * handler, which is already known from the rejected command, yet it costs CPU to collect,
+ * and then to print into the context of the rejection event.
+ *
+ * <p>In the {@linkplain #LIGHTWEIGHT lightweight} mode, the stack trace of a rejection is
+ * dropped before the rejection is thrown. This is useful when the clients keep sending
+ * the commands which are rejected, e.g. retry stale {@code UpdateTaskPriority} commands.
+ *
+ * <p>The rejection classes are generated as {@code final} and always fill in the stack trace
+ * upon construction. Therefore, the trace is collected by the JVM anyway, but it is neither
+ * converted into the stack trace elements nor printed.
+ *
+ * <p>The mode is set from the {@linkplain TaskPackage#configure configuration} of the Tasks
+ * context. The repositories pass it to the task aggregate parts they create, so the contexts
+ * configured differently do not affect each other.
+ */
+enum RejectionMode {
+
+    /**
+     * The rejections are thrown with their stack traces.
+     */
+    FULL,
+
+    /**
+     * The rejections are thrown without the stack traces.
+     */
+    LIGHTWEIGHT;
+
+    private static final StackTraceElement[] NO_STACK_TRACE = {};
+
+    /**
+     * Obtains the mode by the configuration flag.
+     *
+     * @param lightweight
+     *         if the rejections are thrown without the stack traces
+     */
+    static RejectionMode of(boolean lightweight) {
+        return lightweight ? LIGHTWEIGHT : FULL;
+    }
+
+    /**
+     * Prepares the rejection to be thrown according to this mode.
+     *
+     * @param rejection
+     *         the rejection to throw
+     * @return the same rejection instance
+     */
+    <R extends ThrowableMessage> R prepare(R rejection) {
+        checkNotNull(rejection);
+        if (this == LIGHTWEIGHT) {
+            rejection.setStackTrace(NO_STACK_TRACE);
+        }
+        return rejection;
+    }
+}
@@ -40,7 +40,6 @@ import io.spine.examples.todolist.tasks.TaskCreationId;
 import io.spine.examples.todolist.tasks.TaskDetailsUpdateRejected;
 import io.spine.examples.todolist.tasks.TaskId;
 import io.spine.examples.todolist.tasks.command.AddLabels;
-import io.spine.examples.todolist.tasks.command.AssignLabelToTask;
 import io.spine.examples.todolist.tasks.command.CancelTaskCreation;
 import io.spine.examples.todolist.tasks.command.CompleteTaskCreation;
 import io.spine.examples.todolist.tasks.command.CreateDraft;
@@ -57,13 +56,11 @@ import io.spine.server.command.Assign;
 import io.spine.server.command.Command;
 import io.spine.server.procman.ProcessManager;
 
-import java.util.Collection;
 import java.util.List;
 import java.util.function.Supplier;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
-import static com.google.common.collect.Lists.newArrayList;
 import static io.spine.examples.todolist.tasks.TaskCreation.Stage.CANCELED;
 import static io.spine.examples.todolist.tasks.TaskCreation.Stage.COMPLETED;
 import static io.spine.examples.todolist.tasks.TaskCreation.Stage.CONFIRMATION;
@@ -163,16 +160,7 @@ final class TaskCreationWizard
             throw rejection(command);
         }
         WizardCommands commands = commands();
-        return transit(CONFIRMATION, () -> {
-            Collection<AssignLabelToTask> existingLabelsCommands =
-                    commands.assignExistingLabels(command);
-            Collection<CommandMessage> newLabelsCommands =
-                    commands.assignNewLabels(command);
-            Collection<CommandMessage> result = newArrayList();
-            result.addAll(existingLabelsCommands);
-            result.addAll(newLabelsCommands);
-            return result;
-        });
+        return transit(CONFIRMATION, () -> commands.addLabels(command));
     }
 
     @Assign
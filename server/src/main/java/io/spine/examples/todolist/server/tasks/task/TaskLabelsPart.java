@@ -27,6 +27,7 @@
 package io.spine.examples.todolist.server.tasks.task;
 
 import io.spine.examples.todolist.tasks.AssignLabelToTaskRejected;
+import io.spine.examples.todolist.tasks.AssignLabelsToTaskRejected;
 import io.spine.examples.todolist.tasks.LabelId;
 import io.spine.examples.todolist.tasks.LabelIdsList;
 import io.spine.examples.todolist.tasks.RejectedTaskCommandDetails;
@@ -35,15 +36,21 @@ import io.spine.examples.todolist.tasks.Task;
 import io.spine.examples.todolist.tasks.TaskId;
 import io.spine.examples.todolist.tasks.TaskLabels;
 import io.spine.examples.todolist.tasks.command.AssignLabelToTask;
+import io.spine.examples.todolist.tasks.command.AssignLabelsToTask;
 import io.spine.examples.todolist.tasks.command.RemoveLabelFromTask;
 import io.spine.examples.todolist.tasks.event.LabelAssignedToTask;
 import io.spine.examples.todolist.tasks.event.LabelRemovedFromTask;
+import io.spine.examples.todolist.tasks.event.LabelsAssignedToTask;
 import io.spine.examples.todolist.tasks.rejection.CannotAssignLabelToTask;
+import io.spine.examples.todolist.tasks.rejection.CannotAssignLabelsToTask;
 import io.spine.examples.todolist.tasks.rejection.CannotRemoveLabelFromTask;
 import io.spine.server.aggregate.AggregatePart;
 import io.spine.server.aggregate.Apply;
 import io.spine.server.command.Assign;
 
+import java.util.LinkedHashSet;
+import java.util.Set;
+
 import static com.google.common.base.Preconditions.checkNotNull;
 import static io.spine.examples.todolist.server.tasks.task.TaskFlowValidator.isValidAssignLabelToTaskCommand;
 import static io.spine.examples.todolist.server.tasks.task.TaskFlowValidator.isValidTaskStatusToRemoveLabel;
@@ -54,19 +61,37 @@ import static io.spine.examples.todolist.server.tasks.task.TaskFlowValidator.isV
 final class TaskLabelsPart
         extends AggregatePart<TaskId, TaskLabels, TaskLabels.Builder, TaskAggregateRoot> {
 
+    /**
+     * The index of the assigned labels.
+     */
+    private final AssignedLabels labels = new AssignedLabels();
+
+    /**
+     * How this part throws the rejections.
+     */
+    private RejectionMode rejectionMode = RejectionMode.FULL;
+
     TaskLabelsPart(TaskAggregateRoot root) {
         super(root);
     }
 
+    /**
+     * Sets how this part throws the rejections.
+     *
+     * <p>Called by the repository upon creating the part.
+     */
+    void setRejectionMode(RejectionMode rejectionMode) {
+        this.rejectionMode = checkNotNull(rejectionMode);
+    }
+
     @Assign
     LabelRemovedFromTask handle(RemoveLabelFromTask cmd) throws CannotRemoveLabelFromTask {
         LabelId labelId = cmd.getLabelId();
         TaskId taskId = cmd.getId();
 
         Task taskState = partState(Task.class);
-        boolean isLabelAssigned = state().getLabelIdsList()
-                                         .getIdsList()
-                                         .contains(labelId);
+        boolean isLabelAssigned = labels.of(state().getLabelIdsList())
+                                        .contains(labelId);
         boolean isValidTaskStatus = isValidTaskStatusToRemoveLabel(taskState.getTaskStatus());
         if (!isLabelAssigned || !isValidTaskStatus) {
             throw cannotRemove(cmd);
@@ -100,28 +125,52 @@ final class TaskLabelsPart
         return result;
     }
 
-    @Apply
-    private void event(LabelAssignedToTask e) {
-        LabelIdsList newLabelsList = LabelIdsList
+    /**
+     * Assigns several labels to the task with a single event.
+     *
+     * <p>The labels which are listed more than once are assigned once. The labels which are
+     * already assigned to the task are ignored by the event applier.
+     */
+    @Assign
+    LabelsAssignedToTask handle(AssignLabelsToTask cmd) throws CannotAssignLabelsToTask {
+        Task state = partState(Task.class);
+        boolean isValid = isValidAssignLabelToTaskCommand(state.getTaskStatus());
+        if (!isValid) {
+            throw cannotAssign(cmd);
+        }
+
+        Set<LabelId> labelIds = new LinkedHashSet<>(cmd.getLabelIdList());
+        LabelsAssignedToTask result = LabelsAssignedToTask
                 .newBuilder()
-                .mergeFrom(builder().getLabelIdsList())
-                .addIds(e.getLabelId())
+                .setTaskId(cmd.getId())
+                .addAllLabelId(labelIds)
                 .vBuild();
+        return result;
+    }
+
+    @Apply
+    private void event(LabelAssignedToTask e) {
+        LabelIdsList.Builder list = builder().getLabelIdsListBuilder();
+        labels.of(list)
+              .addTo(list, e.getLabelId());
+        builder().setTaskId(e.getTaskId());
+    }
+
+    @Apply
+    private void event(LabelsAssignedToTask e) {
+        LabelIdsList.Builder list = builder().getLabelIdsListBuilder();
+        LabelIdSet assigned = labels.of(list);
+        for (LabelId labelId : e.getLabelIdList()) {
+            assigned.addTo(list, labelId);
+        }
         builder().setTaskId(e.getTaskId());
-        builder().setLabelIdsList(newLabelsList);
     }
 
     @Apply
     private void event(LabelRemovedFromTask e) {
-        int indexToRemove = builder().getLabelIdsList()
-                                     .getIdsList()
-                                     .indexOf(e.getLabelId());
-        LabelIdsList newLabelsList = LabelIdsList
-                .newBuilder()
-                .mergeFrom(builder().getLabelIdsList())
-                .removeIds(indexToRemove)
-                .vBuild();
-        builder().setLabelIdsList(newLabelsList);
+        LabelIdsList.Builder list = builder().getLabelIdsListBuilder();
+        labels.of(list)
+              .removeFrom(list, e.getLabelId());
     }
 
     /**
@@ -133,23 +182,23 @@ final class TaskLabelsPart
      * @throws CannotRemoveLabelFromTask
      *         the rejection to throw
      */
-    private static CannotRemoveLabelFromTask cannotRemove(RemoveLabelFromTask cmd)
+    private CannotRemoveLabelFromTask cannotRemove(RemoveLabelFromTask cmd)
             throws CannotRemoveLabelFromTask {
         checkNotNull(cmd);
         RejectedTaskCommandDetails commandDetails = RejectedTaskCommandDetails
                 .newBuilder()
                 .setTaskId(cmd.getId())
-                .vBuild();
+                .buildPartial();
         RemoveLabelFromTaskRejected removeLabelRejected = RemoveLabelFromTaskRejected
                 .newBuilder()
                 .setLabelId(cmd.getLabelId())
                 .setCommandDetails(commandDetails)
-                .vBuild();
+                .buildPartial();
         CannotRemoveLabelFromTask rejection = CannotRemoveLabelFromTask
                 .newBuilder()
                 .setRejectionDetails(removeLabelRejected)
                 .build();
-        throw rejection;
+        throw rejectionMode.prepare(rejection);
     }
 
     /**
@@ -161,22 +210,50 @@ final class TaskLabelsPart
      * @throws CannotAssignLabelToTask
      *         the rejection to throw
      */
-    private static CannotAssignLabelToTask cannotAssign(AssignLabelToTask cmd)
+    private CannotAssignLabelToTask cannotAssign(AssignLabelToTask cmd)
             throws CannotAssignLabelToTask {
         checkNotNull(cmd);
         RejectedTaskCommandDetails commandDetails = RejectedTaskCommandDetails
                 .newBuilder()
                 .setTaskId(cmd.getId())
-                .vBuild();
+                .buildPartial();
         AssignLabelToTaskRejected assignLabelToTaskRejected = AssignLabelToTaskRejected
                 .newBuilder()
                 .setCommandDetails(commandDetails)
                 .setLabelId(cmd.getLabelId())
-                .vBuild();
+                .buildPartial();
         CannotAssignLabelToTask rejection = CannotAssignLabelToTask
                 .newBuilder()
                 .setRejectionDetails(assignLabelToTaskRejected)
                 .build();
-        throw rejection;
+        throw rejectionMode.prepare(rejection);
+    }
+
+    /**
+     * Constructs and throws the {@link CannotAssignLabelsToTask} rejection according to
+     * the passed parameters.
+     *
+     * @param cmd
+     *         the {@code AssignLabelsToTask} command which thrown the rejection
+     * @throws CannotAssignLabelsToTask
+     *         the rejection to throw
+     */
+    private CannotAssignLabelsToTask cannotAssign(AssignLabelsToTask cmd)
+            throws CannotAssignLabelsToTask {
+        checkNotNull(cmd);
+        RejectedTaskCommandDetails commandDetails = RejectedTaskCommandDetails
+                .newBuilder()
+                .setTaskId(cmd.getId())
+                .buildPartial();
+        AssignLabelsToTaskRejected assignLabelsToTaskRejected = AssignLabelsToTaskRejected
+                .newBuilder()
+                .setCommandDetails(commandDetails)
+                .addAllLabelId(cmd.getLabelIdList())
+                .buildPartial();
+        CannotAssignLabelsToTask rejection = CannotAssignLabelsToTask
+                .newBuilder()
+                .setRejectionDetails(assignLabelsToTaskRejected)
+                .build();
+        throw rejectionMode.prepare(rejection);
     }
 }
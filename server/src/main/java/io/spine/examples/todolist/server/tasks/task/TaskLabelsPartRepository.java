@@ -0,0 +1,64 @@
+/*
+ * Copyright 2021, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.todolist.server.tasks.task;
+
+import io.spine.examples.todolist.tasks.TaskId;
+import io.spine.server.aggregate.AggregatePartRepository;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Repository for the {@link TaskLabelsPart}.
+ *
+ * <p>Stores a snapshot of the task labels part once in the configured number of events, so that
+ * loading a long-lived task does not require playing its whole history.
+ */
+final class TaskLabelsPartRepository
+        extends AggregatePartRepository<TaskId, TaskLabelsPart, TaskAggregateRoot> {
+
+    private final RejectionMode rejectionMode;
+
+    /**
+     * Creates a new repository.
+     *
+     * @param snapshotTrigger
+     *         the number of events between the snapshots of the aggregate part
+     * @param rejectionMode
+     *         how the aggregate parts throw the rejections
+     */
+    TaskLabelsPartRepository(int snapshotTrigger, RejectionMode rejectionMode) {
+        this.rejectionMode = checkNotNull(rejectionMode);
+        setSnapshotTrigger(snapshotTrigger);
+    }
+
+    @Override
+    public TaskLabelsPart create(TaskId id) {
+        TaskLabelsPart result = super.create(id);
+        result.setRejectionMode(rejectionMode);
+        return result;
+    }
+}
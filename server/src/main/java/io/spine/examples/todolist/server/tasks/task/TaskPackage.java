@@ -26,6 +26,8 @@
 
 package io.spine.examples.todolist.server.tasks.task;
 
+import io.spine.examples.todolist.server.tasks.TasksContextConfig;
+import io.spine.examples.todolist.server.tasks.label.LabelIndex;
 import io.spine.server.BoundedContextBuilder;
 
 /**
@@ -38,12 +40,32 @@ public final class TaskPackage {
     }
 
     /**
-     * Adds entity classes and repositories of this package to the passed context builder.
+     * Adds entity classes and repositories of this package to the passed context builder
+     * configuring them according to the passed {@code config}.
+     *
+     * @param context
+     *         the builder of the Tasks context
+     * @param config
+     *         the configuration of the context
+     * @param labels
+     *         the index of the labels of the context
+     * @return the catch-up of the task views of the context
      */
-    public static void configure(BoundedContextBuilder context) {
-        context.add(TaskPart.class)
-               .add(TaskLabelsPart.class)
-               .add(new TaskViewRepository())
+    public static TaskViewCatchUp configure(BoundedContextBuilder context,
+                                            TasksContextConfig config,
+                                            LabelIndex labels) {
+        RejectionMode rejectionMode = RejectionMode.of(config.lightweightRejections());
+        int snapshotTrigger = config.snapshotTrigger();
+        TaskViewRepository taskViews = config.embedLabelDetails()
+                                       ? new TaskViewRepository(labels)
+                                       : new TaskViewRepository();
+        context.add(new TaskPartRepository(snapshotTrigger, rejectionMode))
+               .add(new TaskLabelsPartRepository(snapshotTrigger, rejectionMode))
+               .add(taskViews)
                .add(TaskCreationWizard.class);
+        if (config.embedLabelDetails()) {
+            context.enrichEventsUsing(LabelEnrichment.enricher(labels));
+        }
+        return new TaskViewCatchUp(taskViews);
     }
 }
@@ -87,6 +87,7 @@ import io.spine.server.command.Assign;
 
 import java.util.List;
 
+import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.collect.Lists.newLinkedList;
 import static io.spine.base.Time.currentTime;
 import static io.spine.examples.todolist.server.tasks.task.MismatchHelper.valueMismatch;
@@ -112,10 +113,24 @@ import static io.spine.examples.todolist.tasks.TaskStatus.OPEN;
 })
 final class TaskPart extends AggregatePart<TaskId, Task, Task.Builder, TaskAggregateRoot> {
 
+    /**
+     * How this part throws the rejections.
+     */
+    private RejectionMode rejectionMode = RejectionMode.FULL;
+
     TaskPart(TaskAggregateRoot root) {
         super(root);
     }
 
+    /**
+     * Sets how this part throws the rejections.
+     *
+     * <p>Called by the repository upon creating the part.
+     */
+    void setRejectionMode(RejectionMode rejectionMode) {
+        this.rejectionMode = checkNotNull(rejectionMode);
+    }
+
     @Assign
     TaskCreated handle(CreateBasicTask cmd) {
         TaskId taskId = cmd.getId();
@@ -410,116 +425,116 @@ final class TaskPart extends AggregatePart<TaskId, Task, Task.Builder, TaskAggre
      * Rejections
      **************/
 
-    private static CannotUpdateTaskDescription rejection(UpdateTaskDescription cmd)
+    private CannotUpdateTaskDescription rejection(UpdateTaskDescription cmd)
             throws CannotUpdateTaskDescription {
         RejectedTaskCommandDetails commandDetails =
                 detailsOf(cmd.getId());
         DescriptionUpdateRejected descriptionUpdateRejected = DescriptionUpdateRejected
                 .newBuilder()
                 .setCommandDetails(commandDetails)
-                .vBuild();
+                .buildPartial();
         CannotUpdateTaskDescription rejection = CannotUpdateTaskDescription
                 .newBuilder()
                 .setRejectionDetails(descriptionUpdateRejected)
                 .build();
-        throw rejection;
+        throw rejectionMode.prepare(rejection);
     }
 
-    private static CannotCreateDraft rejection(CreateDraft cmd) throws CannotCreateDraft {
+    private CannotCreateDraft rejection(CreateDraft cmd) throws CannotCreateDraft {
         RejectedTaskCommandDetails commandDetails = detailsOf(cmd.getId());
         CreateDraftRejected createDraftRejected = CreateDraftRejected
                 .newBuilder()
                 .setCommandDetails(commandDetails)
-                .vBuild();
+                .buildPartial();
         CannotCreateDraft rejection = CannotCreateDraft
                 .newBuilder()
                 .setRejectionDetails(createDraftRejected)
                 .build();
-        throw rejection;
+        throw rejectionMode.prepare(rejection);
     }
 
-    private static CannotReopenTask rejection(ReopenTask cmd) throws CannotReopenTask {
+    private CannotReopenTask rejection(ReopenTask cmd) throws CannotReopenTask {
         RejectedTaskCommandDetails commandDetails =
                 detailsOf(cmd.getId());
         ReopenTaskRejected reopenTaskRejected = ReopenTaskRejected
                 .newBuilder()
                 .setCommandDetails(commandDetails)
-                .vBuild();
+                .buildPartial();
         CannotReopenTask rejection = CannotReopenTask
                 .newBuilder()
                 .setRejectionDetails(reopenTaskRejected)
                 .build();
-        throw rejection;
+        throw rejectionMode.prepare(rejection);
     }
 
-    private static CannotRestoreDeletedTask rejection(RestoreDeletedTask cmd)
+    private CannotRestoreDeletedTask rejection(RestoreDeletedTask cmd)
             throws CannotRestoreDeletedTask {
         RejectedTaskCommandDetails commandDetails = detailsOf(cmd.getId());
         RestoreDeletedTaskRejected restoreTaskRejected = RestoreDeletedTaskRejected
                 .newBuilder()
                 .setCommandDetails(commandDetails)
-                .vBuild();
+                .buildPartial();
         CannotRestoreDeletedTask rejection = CannotRestoreDeletedTask
                 .newBuilder()
                 .setRejectionDetails(restoreTaskRejected)
                 .build();
-        throw rejection;
+        throw rejectionMode.prepare(rejection);
     }
 
-    private static CannotDeleteTask rejection(DeleteTask cmd) throws CannotDeleteTask {
+    private CannotDeleteTask rejection(DeleteTask cmd) throws CannotDeleteTask {
         RejectedTaskCommandDetails commandDetails = detailsOf(cmd.getId());
         DeleteTaskRejected deleteTaskRejected = DeleteTaskRejected
                 .newBuilder()
                 .setCommandDetails(commandDetails)
-                .vBuild();
+                .buildPartial();
         CannotDeleteTask rejection = CannotDeleteTask
                 .newBuilder()
                 .setRejectionDetails(deleteTaskRejected)
                 .build();
-        throw rejection;
+        throw rejectionMode.prepare(rejection);
     }
 
-    private static CannotFinalizeDraft rejection(FinalizeDraft cmd) throws CannotFinalizeDraft {
+    private CannotFinalizeDraft rejection(FinalizeDraft cmd) throws CannotFinalizeDraft {
         RejectedTaskCommandDetails commandDetails = detailsOf(cmd.getId());
         FinalizeDraftRejected finalizeDraftRejected = FinalizeDraftRejected
                 .newBuilder()
                 .setCommandDetails(commandDetails)
-                .vBuild();
+                .buildPartial();
         CannotFinalizeDraft rejection = CannotFinalizeDraft
                 .newBuilder()
                 .setRejectionDetails(finalizeDraftRejected)
                 .build();
-        throw rejection;
+        throw rejectionMode.prepare(rejection);
     }
 
-    private static CannotCompleteTask rejection(CompleteTask cmd) throws CannotCompleteTask {
+    private CannotCompleteTask rejection(CompleteTask cmd) throws CannotCompleteTask {
         RejectedTaskCommandDetails commandDetails = detailsOf(cmd.getId());
         CompleteTaskRejected completeTaskRejected = CompleteTaskRejected
                 .newBuilder()
                 .setCommandDetails(commandDetails)
-                .vBuild();
+                .buildPartial();
         CannotCompleteTask rejection = CannotCompleteTask
                 .newBuilder()
                 .setRejectionDetails(completeTaskRejected)
                 .build();
-        throw rejection;
+        throw rejectionMode.prepare(rejection);
     }
 
-    private static CannotUpdateTaskDueDate
+    private CannotUpdateTaskDueDate
     rejection(UpdateTaskDueDate cmd) throws CannotUpdateTaskDueDate {
         RejectedTaskCommandDetails commandDetails = detailsOf(cmd.getId());
         TaskDueDateUpdateRejected dueDateUpdateRejected = TaskDueDateUpdateRejected
                 .newBuilder()
                 .setCommandDetails(commandDetails)
-                .vBuild();
+                .buildPartial();
         CannotUpdateTaskDueDate rejection = CannotUpdateTaskDueDate
                 .newBuilder()
                 .setRejectionDetails(dueDateUpdateRejected)
                 .build();
-        throw rejection;
+        throw rejectionMode.prepare(rejection);
     }
 
-    private static CannotUpdateTaskDueDate
+    private CannotUpdateTaskDueDate
     rejection(UpdateTaskDueDate cmd, ValueMismatch mismatch) throws CannotUpdateTaskDueDate {
         RejectedTaskCommandDetails commandDetails =
                 detailsOf(cmd.getId());
@@ -527,15 +542,15 @@ final class TaskPart extends AggregatePart<TaskId, Task, Task.Builder, TaskAggre
                 .newBuilder()
                 .setCommandDetails(commandDetails)
                 .setDueDateMismatch(mismatch)
-                .vBuild();
+                .buildPartial();
         CannotUpdateTaskDueDate rejection = CannotUpdateTaskDueDate
                 .newBuilder()
                 .setRejectionDetails(dueDateUpdateRejected)
                 .build();
-        throw rejection;
+        throw rejectionMode.prepare(rejection);
     }
 
-    private static CannotUpdateTaskDescription
+    private CannotUpdateTaskDescription
     rejection(UpdateTaskDescription cmd, ValueMismatch mismatch)
             throws CannotUpdateTaskDescription {
         RejectedTaskCommandDetails commandDetails = detailsOf(cmd.getId());
@@ -543,46 +558,46 @@ final class TaskPart extends AggregatePart<TaskId, Task, Task.Builder, TaskAggre
                 .newBuilder()
                 .setCommandDetails(commandDetails)
                 .setDescriptionMismatch(mismatch)
-                .vBuild();
+                .buildPartial();
         CannotUpdateTaskDescription rejection = CannotUpdateTaskDescription
                 .newBuilder()
                 .setRejectionDetails(descriptionUpdateRejected)
                 .build();
-        throw rejection;
+        throw rejectionMode.prepare(rejection);
     }
 
-    private static CannotUpdateTaskPriority rejection(UpdateTaskPriority cmd)
+    private CannotUpdateTaskPriority rejection(UpdateTaskPriority cmd)
             throws CannotUpdateTaskPriority {
         RejectedTaskCommandDetails commandDetails = detailsOf(cmd.getId());
         PriorityUpdateRejected priorityUpdateRejected = PriorityUpdateRejected
                 .newBuilder()
                 .setCommandDetails(commandDetails)
-                .vBuild();
+                .buildPartial();
         CannotUpdateTaskPriority rejection = CannotUpdateTaskPriority
                 .newBuilder()
                 .setRejectionDetails(priorityUpdateRejected)
                 .build();
-        throw rejection;
+        throw rejectionMode.prepare(rejection);
     }
 
-    private static CannotUpdateTaskPriority
+    private CannotUpdateTaskPriority
     rejection(UpdateTaskPriority cmd, ValueMismatch mismatch) throws CannotUpdateTaskPriority {
         RejectedTaskCommandDetails commandDetails = detailsOf(cmd.getId());
         PriorityUpdateRejected priorityUpdateRejected = PriorityUpdateRejected
                 .newBuilder()
                 .setCommandDetails(commandDetails)
                 .setPriorityMismatch(mismatch)
-                .vBuild();
+                .buildPartial();
         CannotUpdateTaskPriority rejection = CannotUpdateTaskPriority
                 .newBuilder()
                 .setRejectionDetails(priorityUpdateRejected)
                 .build();
-        throw rejection;
+        throw rejectionMode.prepare(rejection);
     }
 
     private static RejectedTaskCommandDetails detailsOf(TaskId taskId) {
         return RejectedTaskCommandDetails.newBuilder()
                                          .setTaskId(taskId)
-                                         .vBuild();
+                                         .buildPartial();
     }
 }
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2021, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.todolist.server.tasks.task;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.Streams;
+import com.google.common.flogger.FluentLogger;
+import com.google.protobuf.util.Timestamps;
+import io.spine.examples.todolist.tasks.view.TaskView;
+import io.spine.server.ServerEnvironment;
+import io.spine.server.delivery.CatchUp;
+import io.spine.server.delivery.CatchUpStatus;
+import io.spine.server.delivery.CatchUpStorage;
+import io.spine.type.TypeUrl;
+
+import java.util.function.Supplier;
+
+/**
+ * Rebuilds the task views from the event history.
+ *
+ * <p>Use the catch-up after changing the task view schema or adding a task view column.
+ *
+ * <p>The events are delivered to the task views in the order of their occurrence for each
+ * task. If the {@linkplain io.spine.examples.todolist.server.delivery.ShardedDelivery sharded
+ * delivery} is configured, the tasks of different shards are rebuilt in parallel.
+ *
+ * <p>Each start rebuilds the task views anew, so request the catch-up only for the deployment
+ * which changes the task view schema. The only exception is a catch-up of the task views which
+ * has not finished, e.g. because the server is stopped in the middle of it. Such a catch-up is
+ * continued by the delivery, so a new one is not started. The finished catch-ups stay in
+ * the storage, but do not prevent rebuilding the task views again.
+ *
+ * <p>The delivery keeps the catch-ups in the storage of the deployment, so they are read through
+ * the storage factory of the server environment. The in-memory storage is not shared between
+ * the storage instances, yet it holds no unfinished catch-ups when the context is created.
+ */
+public final class TaskViewCatchUp {
+
+    private static final FluentLogger logger = FluentLogger.forEnclosingClass();
+
+    private final TaskViewRepository repository;
+    private final Supplier<CatchUpStorage> catchUpStorage;
+
+    TaskViewCatchUp(TaskViewRepository repository) {
+        this(repository, () -> ServerEnvironment.instance()
+                                                .storageFactory()
+                                                .createCatchUpStorage(false));
+    }
+
+    /**
+     * Creates a new catch-up.
+     *
+     * @param repository
+     *         the repository of the task views
+     * @param catchUpStorage
+     *         the supplier of the storage recording the catch-ups
+     */
+    @VisibleForTesting
+    TaskViewCatchUp(TaskViewRepository repository, Supplier<CatchUpStorage> catchUpStorage) {
+        this.repository = repository;
+        this.catchUpStorage = catchUpStorage;
+    }
+
+    /**
+     * Starts rebuilding all the task views from the very first event, unless they are being
+     * rebuilt already.
+     *
+     * <p>The method returns as soon as the catch-up is started. The progress of the catch-up
+     * is reported by the delivery.
+     */
+    @SuppressWarnings("CheckReturnValue") // The catch-up is tracked by the delivery monitor.
+    public void start() {
+        if (isInProgress()) {
+            logger.atInfo()
+                  .log("The task views are being rebuilt, the catch-up is continued.");
+            return;
+        }
+        repository.catchUpAll(Timestamps.MIN_VALUE);
+    }
+
+    /**
+     * Tells if a catch-up of the task views which has not finished yet is recorded in
+     * the catch-up storage.
+     */
+    @VisibleForTesting
+    boolean isInProgress() {
+        try (CatchUpStorage storage = catchUpStorage.get()) {
+            Iterable<CatchUp> catchUps = storage.readByType(TypeUrl.of(TaskView.class));
+            boolean result = Streams.stream(catchUps)
+                                    .anyMatch(c -> c.getStatus() != CatchUpStatus.COMPLETED);
+            return result;
+        }
+    }
+}
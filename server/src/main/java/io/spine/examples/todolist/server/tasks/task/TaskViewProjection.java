@@ -27,7 +27,9 @@
 package io.spine.examples.todolist.server.tasks.task;
 
 import com.google.protobuf.Timestamp;
+import io.spine.core.EventContext;
 import io.spine.core.Subscribe;
+import io.spine.examples.todolist.tasks.LabelDetails;
 import io.spine.examples.todolist.tasks.LabelId;
 import io.spine.examples.todolist.tasks.LabelIdsList;
 import io.spine.examples.todolist.tasks.TaskDescription;
@@ -37,7 +39,9 @@ import io.spine.examples.todolist.tasks.TaskPriority;
 import io.spine.examples.todolist.tasks.TaskStatus;
 import io.spine.examples.todolist.tasks.event.DeletedTaskRestored;
 import io.spine.examples.todolist.tasks.event.LabelAssignedToTask;
+import io.spine.examples.todolist.tasks.event.LabelDetailsUpdated;
 import io.spine.examples.todolist.tasks.event.LabelRemovedFromTask;
+import io.spine.examples.todolist.tasks.event.LabelsAssignedToTask;
 import io.spine.examples.todolist.tasks.event.TaskCompleted;
 import io.spine.examples.todolist.tasks.event.TaskCreated;
 import io.spine.examples.todolist.tasks.event.TaskDeleted;
@@ -47,24 +51,40 @@ import io.spine.examples.todolist.tasks.event.TaskDraftFinalized;
 import io.spine.examples.todolist.tasks.event.TaskDueDateUpdated;
 import io.spine.examples.todolist.tasks.event.TaskPriorityUpdated;
 import io.spine.examples.todolist.tasks.event.TaskReopened;
+import io.spine.examples.todolist.tasks.view.LabelView;
+import io.spine.examples.todolist.tasks.view.LabelViews;
 import io.spine.examples.todolist.tasks.view.TaskView;
+import io.spine.examples.todolist.tasks.view.TaskViewSortKey;
+import io.spine.server.entity.storage.Column;
+import io.spine.server.entity.storage.Enumerated;
 import io.spine.server.projection.Projection;
 
-import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import static io.spine.examples.todolist.tasks.TaskStatus.COMPLETED;
 import static io.spine.examples.todolist.tasks.TaskStatus.DELETED;
 import static io.spine.examples.todolist.tasks.TaskStatus.DRAFT;
 import static io.spine.examples.todolist.tasks.TaskStatus.FINALIZED;
 import static io.spine.examples.todolist.tasks.TaskStatus.OPEN;
+import static io.spine.server.entity.storage.EnumType.STRING;
 
 /**
  * A projection which mirrors the state of a single task.
+ *
+ * <p>The status, the priority and the due date of the task are stored as entity columns,
+ * so that the task views can be queried by them. The {@linkplain TaskViewSortKey sort key} is
+ * stored as a column to page through the task views.
  */
 @SuppressWarnings("OverlyCoupledClass")
 final class TaskViewProjection extends Projection<TaskId, TaskView, TaskView.Builder> {
 
+    /**
+     * The index of the labels assigned to the task.
+     */
+    private final AssignedLabels labels = new AssignedLabels();
+
     @Subscribe
     void taskCreated(TaskCreated e) {
         TaskDetails taskDetails = e.getDetails();
@@ -131,27 +151,122 @@ final class TaskViewProjection extends Projection<TaskId, TaskView, TaskView.Bui
                  .setStatus(DRAFT);
     }
 
+    /**
+     * Adds the label to the task.
+     *
+     * <p>If the label details are embedded into the task views, the event is enriched with
+     * the view of the label.
+     */
     @Subscribe
-    void on(LabelAssignedToTask e) {
-        LabelIdsList newLabelsList = LabelIdsList
-                .newBuilder()
-                .mergeFrom(builder().getLabelIdsList())
-                .addIds(e.getLabelId())
-                .vBuild();
-        builder().setId(e.getTaskId())
-                 .setLabelIdsList(newLabelsList);
+    void on(LabelAssignedToTask e, EventContext context) {
+        builder().setId(e.getTaskId());
+        LabelIdsList.Builder list = builder().getLabelIdsListBuilder();
+        boolean added = labels.of(list)
+                              .addTo(list, e.getLabelId());
+        if (added) {
+            context.find(LabelView.class)
+                   .ifPresent(builder()::addLabel);
+        }
+    }
+
+    /**
+     * Adds several labels to the task.
+     *
+     * <p>If the label details are embedded into the task views, the event is enriched with
+     * the views of the labels.
+     */
+    @Subscribe
+    void on(LabelsAssignedToTask e, EventContext context) {
+        builder().setId(e.getTaskId());
+        LabelIdsList.Builder list = builder().getLabelIdsListBuilder();
+        LabelIdSet assigned = labels.of(list);
+        Set<LabelId> added = new HashSet<>();
+        for (LabelId labelId : e.getLabelIdList()) {
+            if (assigned.addTo(list, labelId)) {
+                added.add(labelId);
+            }
+        }
+        context.find(LabelViews.class)
+               .ifPresent(views -> views.getLabelList()
+                                        .stream()
+                                        .filter(view -> added.contains(view.getId()))
+                                        .forEach(builder()::addLabel));
     }
 
     @Subscribe
     void on(LabelRemovedFromTask e) {
-        List<LabelId> list = new ArrayList<>(builder().getLabelIdsList()
-                                                      .getIdsList());
-        list.remove(e.getLabelId());
-        LabelIdsList labels = LabelIdsList
-                .newBuilder()
-                .addAllIds(list)
-                .vBuild();
-        builder().setLabelIdsList(labels);
+        LabelIdsList.Builder list = builder().getLabelIdsListBuilder();
+        boolean removed = labels.of(list)
+                                .removeFrom(list, e.getLabelId());
+        if (removed) {
+            removeLabelView(e.getLabelId());
+        }
+    }
+
+    /**
+     * Updates the embedded details of the label.
+     *
+     * <p>Is delivered only if the label details are embedded into the task views.
+     */
+    @Subscribe
+    void on(LabelDetailsUpdated e) {
+        LabelDetails details = e.getLabelDetailsChange()
+                                .getNewDetails();
+        for (LabelView.Builder label : builder().getLabelBuilderList()) {
+            if (label.getId()
+                     .equals(e.getLabelId())) {
+                label.setTitle(details.getTitle())
+                     .setColor(details.getColor());
+            }
+        }
+    }
+
+    private void removeLabelView(LabelId labelId) {
+        List<LabelView> views = builder().getLabelList();
+        for (int i = 0; i < views.size(); i++) {
+            if (views.get(i)
+                     .getId()
+                     .equals(labelId)) {
+                builder().removeLabel(i);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Obtains the status of the task for querying.
+     */
+    @Column
+    @Enumerated(STRING)
+    public TaskStatus getStatus() {
+        return state().getStatus();
+    }
+
+    /**
+     * Obtains the priority of the task for querying.
+     */
+    @Column
+    @Enumerated(STRING)
+    public TaskPriority getPriority() {
+        return state().getPriority();
+    }
+
+    /**
+     * Obtains the due date of the task for querying.
+     */
+    @Column
+    public Timestamp getDueDate() {
+        return state().getDueDate();
+    }
+
+    /**
+     * Obtains the key ordering the task views by the due date and then by the ID.
+     *
+     * @see TaskViewSortKey
+     */
+    @Column
+    public String getSortKey() {
+        return TaskViewSortKey.of(state());
     }
 
     /**
@@ -26,25 +26,62 @@
 
 package io.spine.examples.todolist.server.tasks.task;
 
+import com.google.common.collect.ImmutableSet;
 import com.google.errorprone.annotations.OverridingMethodsMustInvokeSuper;
+import io.spine.examples.todolist.server.tasks.label.LabelIndex;
 import io.spine.examples.todolist.tasks.TaskId;
+import io.spine.examples.todolist.tasks.event.LabelDetailsUpdated;
 import io.spine.examples.todolist.tasks.event.TaskAware;
 import io.spine.examples.todolist.tasks.view.TaskView;
 import io.spine.server.projection.ProjectionRepository;
 import io.spine.server.route.EventRouting;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Set;
 
 import static io.spine.server.route.EventRoute.withId;
 
 /**
  * Repository for the {@link TaskViewProjection}.
+ *
+ * <p>If the label details are embedded into the task views, routes the label updates to all
+ * the tasks with the updated label.
  */
 final class TaskViewRepository
         extends ProjectionRepository<TaskId, TaskViewProjection, TaskView> {
 
+    private final @Nullable LabelIndex labels;
+
+    /**
+     * Creates a repository of the task views without the label details.
+     */
+    TaskViewRepository() {
+        this.labels = null;
+    }
+
+    /**
+     * Creates a repository of the task views with the embedded label details.
+     *
+     * @param labels
+     *         the index of the labels used to find the tasks with an updated label
+     */
+    TaskViewRepository(LabelIndex labels) {
+        this.labels = labels;
+    }
+
     @OverridingMethodsMustInvokeSuper
     @Override
     protected void setupEventRouting(EventRouting<TaskId> routing) {
         super.setupEventRouting(routing);
-        routing.route(TaskAware.class, (message, context) -> withId(message.getTaskId()));
+        routing.route(TaskAware.class, (message, context) -> withId(message.getTaskId()))
+               .route(LabelDetailsUpdated.class,
+                      (message, context) -> tasksWithLabel(message));
+    }
+
+    private Set<TaskId> tasksWithLabel(LabelDetailsUpdated event) {
+        if (labels == null) {
+            return ImmutableSet.of();
+        }
+        return labels.tasksWith(event.getLabelId());
     }
 }
@@ -31,27 +31,23 @@ import io.spine.base.CommandMessage;
 import io.spine.change.TimestampChange;
 import io.spine.examples.todolist.tasks.DescriptionChange;
 import io.spine.examples.todolist.tasks.LabelDetails;
-import io.spine.examples.todolist.tasks.LabelDetailsChange;
 import io.spine.examples.todolist.tasks.LabelId;
 import io.spine.examples.todolist.tasks.PriorityChange;
 import io.spine.examples.todolist.tasks.TaskId;
 import io.spine.examples.todolist.tasks.command.AddLabels;
-import io.spine.examples.todolist.tasks.command.AssignLabelToTask;
-import io.spine.examples.todolist.tasks.command.CreateBasicLabel;
-import io.spine.examples.todolist.tasks.command.UpdateLabelDetails;
+import io.spine.examples.todolist.tasks.command.AssignLabelsToTask;
+import io.spine.examples.todolist.tasks.command.CreateLabel;
 import io.spine.examples.todolist.tasks.command.UpdateTaskDescription;
 import io.spine.examples.todolist.tasks.command.UpdateTaskDetails;
 import io.spine.examples.todolist.tasks.command.UpdateTaskDueDate;
 import io.spine.examples.todolist.tasks.command.UpdateTaskPriority;
 
 import java.util.Collection;
-import java.util.stream.Stream;
+import java.util.List;
 
 import static com.google.common.base.Preconditions.checkArgument;
-import static io.spine.examples.todolist.tasks.LabelColor.GRAY;
+import static com.google.common.collect.Lists.newArrayList;
 import static io.spine.protobuf.Messages.isNotDefault;
-import static java.util.stream.Collectors.toList;
-import static java.util.stream.Collectors.toSet;
 
 /**
  * A factory of commands emitted by the {@link TaskCreationWizard}.
@@ -159,60 +155,32 @@ final class WizardCommands {
         return updateCommand;
     }
 
-    /**
-     * Creates commands that assign the specified in {@code AddLabels} command existing labels to
-     * the target task.
-     *
-     * @param src
-     *         the command that defines the labels to assign
-     * @return the commands assigning those tasks
-     */
-    Collection<AssignLabelToTask> assignExistingLabels(AddLabels src) {
-        Collection<AssignLabelToTask> commands =
-                src.getExistingLabelsList()
-                   .stream()
-                   .map(this::assignLabel)
-                   .collect(toSet());
-        return commands;
-    }
-
     /**
      * Creates the commands that:
      * <ol>
-     *     <li>Create the specified in {@code AddLabels} command labels.
-     *     <li>Mutate the labels as specified in the command.
-     *     <li>Assign those labels to the target task.
+     *     <li>Create the new labels specified in the {@code AddLabels} command.
+     *     <li>Assign the existing and the new labels to the target task with a single command.
      * </ol>
      *
      * @param src
-     *         the command that defines the new labels to assign to the task
-     * @return commands creating and assigning those labels
+     *         the command that defines the labels to assign to the task
+     * @return commands creating the new labels and assigning all the labels
      */
-    Collection<CommandMessage> assignNewLabels(AddLabels src) {
-        Collection<CommandMessage> commands =
-                src.getNewLabelsList()
-                   .stream()
-                   .flatMap(this::createAndAssignLabel)
-                   .collect(toList());
+    Collection<CommandMessage> addLabels(AddLabels src) {
+        List<CommandMessage> commands = newArrayList();
+        AssignLabelsToTask.Builder assignLabels = AssignLabelsToTask
+                .newBuilder()
+                .setId(taskId)
+                .addAllLabelId(src.getExistingLabelsList());
+        for (LabelDetails label : src.getNewLabelsList()) {
+            LabelId labelId = LabelId.generate();
+            commands.add(createLabel(labelId, label));
+            assignLabels.addLabelId(labelId);
+        }
+        commands.add(assignLabels.vBuild());
         return commands;
     }
 
-    /**
-     * Generates commands that create a label from the given {@link LabelDetails} and assign that
-     * label to the target task.
-     *
-     * @param label
-     *         the label details describing the task to create
-     * @return the command messages creating and assigning a label
-     */
-    private Stream<CommandMessage> createAndAssignLabel(LabelDetails label) {
-        LabelId labelId = LabelId.generate();
-        CreateBasicLabel createBasicLabel = createLabel(labelId, label);
-        UpdateLabelDetails updateLabelDetails = setColorToLabel(labelId, label);
-        AssignLabelToTask assignLabelToTask = assignLabel(labelId);
-        return Stream.of(createBasicLabel, updateLabelDetails, assignLabelToTask);
-    }
-
     /**
      * Creates a label with the given ID from the given {@code LabelDetails}.
      *
@@ -220,61 +188,14 @@ final class WizardCommands {
      *         the ID to assign to the new label
      * @param label
      *         the label data
-     * @return a command creating a basic label with the given ID and title; note that the label
-     *         color is ignored for now
+     * @return a command creating a label with the given ID, title and color
      */
-    private static CreateBasicLabel createLabel(LabelId labelId, LabelDetails label) {
-        CreateBasicLabel createBasicLabel = CreateBasicLabel
+    private static CreateLabel createLabel(LabelId labelId, LabelDetails label) {
+        CreateLabel createLabel = CreateLabel
                 .newBuilder()
                 .setLabelId(labelId)
-                .setLabelTitle(label.getTitle())
-                .vBuild();
-        return createBasicLabel;
-    }
-
-    /**
-     * Updates the details of the label with the given ID.
-     *
-     * <p>It is expected that the label color is the default {@code GRAY} and the label title has
-     * not changed.
-     *
-     * @param labelId
-     *         the ID of the label to update
-     * @param label
-     *         the new label details
-     * @return a command updating the label details
-     */
-    private static UpdateLabelDetails setColorToLabel(LabelId labelId, LabelDetails label) {
-        LabelDetails previousDetails =
-                label.toBuilder()
-                     .setColor(GRAY)
-                     .buildPartial();
-        LabelDetailsChange change = LabelDetailsChange
-                .newBuilder()
-                .setPreviousDetails(previousDetails)
-                .setNewDetails(label)
-                .buildPartial();
-        UpdateLabelDetails updateLabelDetails = UpdateLabelDetails
-                .newBuilder()
-                .setId(labelId)
-                .setLabelDetailsChange(change)
-                .vBuild();
-        return updateLabelDetails;
-    }
-
-    /**
-     * Creates an {@code AssignLabelToTask} command which assigns the label with the given ID to
-     * the target task.
-     *
-     * @param labelId
-     *         the ID of the label to assign
-     * @return new instance of a command message
-     */
-    private AssignLabelToTask assignLabel(LabelId labelId) {
-        return AssignLabelToTask
-                .newBuilder()
-                .setId(taskId)
-                .setLabelId(labelId)
+                .setDetails(label)
                 .vBuild();
+        return createLabel;
     }
 }
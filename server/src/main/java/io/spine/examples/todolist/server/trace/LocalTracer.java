@@ -0,0 +1,98 @@
+/*
+ * Copyright 2021, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.todolist.server.trace;
+
+import io.spine.core.Event;
+import io.spine.core.MessageId;
+import io.spine.core.Signal;
+import io.spine.server.trace.Tracer;
+import io.spine.type.TypeUrl;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Records a span for each receiver of a signal.
+ *
+ * <p>A span starts when the tracer is created, i.e. when the signal is dispatched, and ends
+ * when the receiver has handled the signal.
+ */
+final class LocalTracer implements Tracer {
+
+    private final String context;
+    private final Signal<?, ?, ?> signal;
+    private final SpanBuffer buffer;
+    private final long startNanos;
+
+    LocalTracer(String context, Signal<?, ?, ?> signal, SpanBuffer buffer) {
+        this.context = context;
+        this.signal = signal;
+        this.buffer = buffer;
+        this.startNanos = System.nanoTime();
+    }
+
+    @Override
+    public Signal<?, ?, ?> signal() {
+        return signal;
+    }
+
+    @Override
+    public void processedBy(MessageId receiver, TypeUrl receiverType) {
+        long endNanos = System.nanoTime();
+        Span span = new Span(context,
+                             signal.messageId(),
+                             signal.enclosedMessage()
+                                   .getClass()
+                                   .getSimpleName(),
+                             origin(),
+                             signal.rootMessage(),
+                             receiver,
+                             receiverType.toTypeName()
+                                         .simpleName(),
+                             startNanos,
+                             endNanos);
+        buffer.add(span);
+    }
+
+    /**
+     * Obtains the ID of the signal which caused the traced one.
+     *
+     * <p>Only the events refer to their origin.
+     */
+    private @Nullable MessageId origin() {
+        if (!(signal instanceof Event)) {
+            return null;
+        }
+        MessageId result = ((Event) signal).context()
+                                           .getPastMessage()
+                                           .getMessage();
+        return result.hasId() ? result : null;
+    }
+
+    @Override
+    public void close() {
+        // Nothing to release.
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright 2021, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.todolist.server.trace;
+
+import com.google.common.annotations.VisibleForTesting;
+import io.spine.core.Signal;
+import io.spine.logging.Logging;
+import io.spine.server.ContextSpec;
+import io.spine.server.trace.Tracer;
+import io.spine.server.trace.TracerFactory;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * A {@link TracerFactory} which keeps the spans in memory, not depending on a cloud
+ * tracing service.
+ *
+ * <p>Each signal handled by an entity is recorded as a span, so the spans show the path from
+ * a command through the events it caused to the projections, along with the time spent on
+ * each hop. The last spans are kept in a ring buffer of the fixed capacity and can be written
+ * in the OpenTelemetry protocol JSON format at any time.
+ *
+ * <p>To use it with a local server, specify the {@code -Dtodolist.trace.spans=<capacity>} Java
+ * option. The spans are written to the file set by the {@code -Dtodolist.trace.file=<path>}
+ * option, {@code todolist-trace.json} by default, once the factory is {@linkplain #close()
+ * closed}.
+ */
+public final class LocalTracerFactory implements TracerFactory, Logging {
+
+    @VisibleForTesting
+    static final String CAPACITY = "todolist.trace.spans";
+
+    @VisibleForTesting
+    static final String FILE = "todolist.trace.file";
+
+    private static final String DEFAULT_FILE = "todolist-trace.json";
+
+    private final SpanBuffer buffer;
+    private final OtlpJson json;
+    private final @Nullable Path file;
+
+    private LocalTracerFactory(int capacity, @Nullable Path file) {
+        this.buffer = new SpanBuffer(capacity);
+        long epochOffsetNanos = MILLISECONDS.toNanos(System.currentTimeMillis())
+                - System.nanoTime();
+        this.json = new OtlpJson(epochOffsetNanos);
+        this.file = file;
+    }
+
+    /**
+     * Creates a new factory which keeps the given number of the last spans.
+     *
+     * @param capacity
+     *         the maximum number of the spans kept in memory
+     * @return new tracer factory
+     */
+    public static LocalTracerFactory newInstance(int capacity) {
+        return new LocalTracerFactory(capacity, null);
+    }
+
+    /**
+     * Creates a new factory configured by the system properties, specified with the {@code -D}
+     * Java option.
+     *
+     * @return new tracer factory or {@code Optional.empty()} if the span capacity is not
+     *         specified
+     */
+    @SuppressWarnings("AccessOfSystemProperties")
+    public static Optional<LocalTracerFactory> fromSystemProperties() {
+        String capacity = System.getProperty(CAPACITY);
+        if (capacity == null) {
+            return Optional.empty();
+        }
+        Path file = Paths.get(System.getProperty(FILE, DEFAULT_FILE));
+        LocalTracerFactory result = new LocalTracerFactory(Integer.parseInt(capacity), file);
+        return Optional.of(result);
+    }
+
+    @Override
+    public Tracer trace(ContextSpec context, Signal<?, ?, ?> signalMessage) {
+        checkNotNull(context);
+        checkNotNull(signalMessage);
+        return new LocalTracer(context.name()
+                                      .getValue(), signalMessage, buffer);
+    }
+
+    /**
+     * Writes the recorded spans in the OpenTelemetry protocol JSON format.
+     *
+     * @param out
+     *         the output to write to
+     * @throws IOException
+     *         if the output cannot be written
+     */
+    public void writeTo(Appendable out) throws IOException {
+        checkNotNull(out);
+        json.write(buffer.snapshot(), out);
+    }
+
+    /**
+     * Writes the recorded spans to the given file, replacing its content.
+     *
+     * @param file
+     *         the file to write to
+     * @throws IOException
+     *         if the file cannot be written
+     * @see #writeTo(Appendable)
+     */
+    public void writeTo(Path file) throws IOException {
+        checkNotNull(file);
+        try (Writer writer = Files.newBufferedWriter(file, UTF_8)) {
+            writeTo(writer);
+        }
+    }
+
+    /**
+     * Writes the recorded spans to the file specified by the system properties, if the factory
+     * is {@linkplain #fromSystemProperties() created} from them.
+     */
+    @Override
+    public void close() {
+        if (file == null) {
+            return;
+        }
+        try {
+            writeTo(file);
+            _info().log("The trace is written to `%s`.", file.toAbsolutePath());
+        } catch (IOException e) {
+            _warn().withCause(e)
+                   .log("Cannot write the trace to `%s`.", file.toAbsolutePath());
+        }
+    }
+}
@@ -0,0 +1,244 @@
+/*
+ * Copyright 2021, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.todolist.server.trace;
+
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+import io.spine.core.MessageId;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes the spans in the OpenTelemetry protocol JSON format.
+ *
+ * <p>Each handled signal becomes a span, which is the parent of the spans of its receivers and
+ * the child of the span of the signal which caused it. All the signals originating from the same
+ * actor request share the trace. The output can be loaded into any OpenTelemetry collector or
+ * viewer, e.g. Jaeger.
+ */
+final class OtlpJson {
+
+    private static final HashFunction IDS = Hashing.murmur3_128();
+    private static final String SERVICE_NAME = "todo-list";
+    private static final String SCOPE_NAME = "io.spine.examples.todolist.server.trace";
+    private static final int SPAN_KIND_INTERNAL = 1;
+
+    /**
+     * The difference between the Unix epoch time and {@link System#nanoTime()} in nanoseconds.
+     */
+    private final long epochOffsetNanos;
+
+    OtlpJson(long epochOffsetNanos) {
+        this.epochOffsetNanos = epochOffsetNanos;
+    }
+
+    /**
+     * Writes the given spans to the given output.
+     */
+    void write(List<Span> spans, Appendable out) throws IOException {
+        out.append("{\"resourceSpans\":[{\"resource\":{\"attributes\":[");
+        attribute(out, "service.name", SERVICE_NAME);
+        out.append("]},\"scopeSpans\":[{\"scope\":{\"name\":\"")
+           .append(SCOPE_NAME)
+           .append("\"},\"spans\":[");
+        Map<MessageId, SignalSpan> signals = new LinkedHashMap<>();
+        for (Span span : spans) {
+            signals.computeIfAbsent(span.signal(), id -> new SignalSpan(span))
+                   .include(span);
+        }
+        boolean first = true;
+        for (SignalSpan signal : signals.values()) {
+            Span span = signal.first;
+            MessageId origin = span.origin();
+            first = separate(out, first);
+            span(out,
+                 traceId(span.root()),
+                 spanId(span.signal()),
+                 origin != null ? spanId(origin) : null,
+                 span.signalType(),
+                 signal.startNanos,
+                 signal.endNanos);
+            out.append(",\"attributes\":[");
+            attribute(out, "spine.context", span.context());
+            out.append(',');
+            attribute(out, "spine.signal.type", span.signalType());
+            out.append("]}");
+        }
+        for (Span span : spans) {
+            first = separate(out, first);
+            span(out,
+                 traceId(span.root()),
+                 spanId(span.signal(), span.receiver()),
+                 spanId(span.signal()),
+                 span.receiverType() + " handles " + span.signalType(),
+                 span.startNanos(),
+                 span.endNanos());
+            out.append(",\"attributes\":[");
+            attribute(out, "spine.context", span.context());
+            out.append(',');
+            attribute(out, "spine.receiver.type", span.receiverType());
+            out.append("]}");
+        }
+        out.append("]}]}]}");
+    }
+
+    private static boolean separate(Appendable out, boolean first) throws IOException {
+        if (!first) {
+            out.append(',');
+        }
+        return false;
+    }
+
+    /**
+     * Writes the common fields of a span, leaving the span object open for the attributes.
+     */
+    @SuppressWarnings("MethodWithTooManyParameters") // The fields of a span.
+    private void span(Appendable out,
+                      String traceId,
+                      String spanId,
+                      @Nullable String parentSpanId,
+                      String name,
+                      long startNanos,
+                      long endNanos) throws IOException {
+        out.append("{\"traceId\":\"")
+           .append(traceId)
+           .append("\",\"spanId\":\"")
+           .append(spanId)
+           .append('"');
+        if (parentSpanId != null) {
+            out.append(",\"parentSpanId\":\"")
+               .append(parentSpanId)
+               .append('"');
+        }
+        out.append(",\"name\":\"")
+           .append(escape(name))
+           .append("\",\"kind\":")
+           .append(String.valueOf(SPAN_KIND_INTERNAL))
+           .append(",\"startTimeUnixNano\":\"")
+           .append(String.valueOf(startNanos + epochOffsetNanos))
+           .append("\",\"endTimeUnixNano\":\"")
+           .append(String.valueOf(endNanos + epochOffsetNanos))
+           .append('"');
+    }
+
+    private static void attribute(Appendable out, String key, String value) throws IOException {
+        out.append("{\"key\":\"")
+           .append(key)
+           .append("\",\"value\":{\"stringValue\":\"")
+           .append(escape(value))
+           .append("\"}}");
+    }
+
+    /**
+     * Escapes the value to be written as a JSON string.
+     *
+     * <p>The quotes, the backslashes and all the control characters are escaped, since
+     * the JSON strings may not contain them as is.
+     */
+    private static String escape(String value) {
+        StringBuilder result = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    result.append("\\\"");
+                    break;
+                case '\\':
+                    result.append("\\\\");
+                    break;
+                case '\n':
+                    result.append("\\n");
+                    break;
+                case '\r':
+                    result.append("\\r");
+                    break;
+                case '\t':
+                    result.append("\\t");
+                    break;
+                case '\b':
+                    result.append("\\b");
+                    break;
+                case '\f':
+                    result.append("\\f");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        result.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        result.append(c);
+                    }
+            }
+        }
+        return result.toString();
+    }
+
+    private static String traceId(MessageId root) {
+        return IDS.hashBytes(root.getId()
+                                 .toByteArray())
+                  .toString();
+    }
+
+    private static String spanId(MessageId signal) {
+        long id = IDS.hashBytes(signal.getId()
+                                      .toByteArray())
+                     .asLong();
+        return String.format("%016x", id);
+    }
+
+    private static String spanId(MessageId signal, MessageId receiver) {
+        long id = IDS.newHasher()
+                     .putBytes(signal.getId()
+                                     .toByteArray())
+                     .putBytes(receiver.toByteArray())
+                     .hash()
+                     .asLong();
+        return String.format("%016x", id);
+    }
+
+    /**
+     * The span of a signal, which lasts from its first dispatch to its last receiver.
+     */
+    private static final class SignalSpan {
+
+        private final Span first;
+        private long startNanos = Long.MAX_VALUE;
+        private long endNanos = Long.MIN_VALUE;
+
+        private SignalSpan(Span first) {
+            this.first = first;
+        }
+
+        private void include(Span span) {
+            startNanos = Math.min(startNanos, span.startNanos());
+            endNanos = Math.max(endNanos, span.endNanos());
+        }
+    }
+}
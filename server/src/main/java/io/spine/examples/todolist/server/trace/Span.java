@@ -0,0 +1,135 @@
+/*
+ * Copyright 2021, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.todolist.server.trace;
+
+import io.spine.core.MessageId;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A signal handled by a single receiver.
+ *
+ * <p>Holds only the references which are already at hand when the signal is handled.
+ * The IDs of the OpenTelemetry trace and spans are derived from them when the spans are
+ * {@linkplain OtlpJson written}.
+ */
+final class Span {
+
+    private final String context;
+    private final MessageId signal;
+    private final String signalType;
+    private final @Nullable MessageId origin;
+    private final MessageId root;
+    private final MessageId receiver;
+    private final String receiverType;
+    private final long startNanos;
+    private final long endNanos;
+
+    @SuppressWarnings("ConstructorWithTooManyParameters") // A plain value holder.
+    Span(String context,
+         MessageId signal,
+         String signalType,
+         @Nullable MessageId origin,
+         MessageId root,
+         MessageId receiver,
+         String receiverType,
+         long startNanos,
+         long endNanos) {
+        this.context = context;
+        this.signal = signal;
+        this.signalType = signalType;
+        this.origin = origin;
+        this.root = root;
+        this.receiver = receiver;
+        this.receiverType = receiverType;
+        this.startNanos = startNanos;
+        this.endNanos = endNanos;
+    }
+
+    /**
+     * Returns the name of the bounded context which handled the signal.
+     */
+    String context() {
+        return context;
+    }
+
+    /**
+     * Returns the ID of the handled signal.
+     */
+    MessageId signal() {
+        return signal;
+    }
+
+    /**
+     * Returns the simple name of the handled signal type.
+     */
+    String signalType() {
+        return signalType;
+    }
+
+    /**
+     * Returns the ID of the signal which caused the handled signal, or {@code null} if
+     * the signal was posted by an actor.
+     */
+    @Nullable MessageId origin() {
+        return origin;
+    }
+
+    /**
+     * Returns the ID of the first signal in the chain, which was posted by an actor.
+     */
+    MessageId root() {
+        return root;
+    }
+
+    /**
+     * Returns the ID of the entity which handled the signal.
+     */
+    MessageId receiver() {
+        return receiver;
+    }
+
+    /**
+     * Returns the simple name of the state type of the entity which handled the signal.
+     */
+    String receiverType() {
+        return receiverType;
+    }
+
+    /**
+     * Returns the {@link System#nanoTime()} at which the signal was dispatched.
+     */
+    long startNanos() {
+        return startNanos;
+    }
+
+    /**
+     * Returns the {@link System#nanoTime()} at which the receiver handled the signal.
+     */
+    long endNanos() {
+        return endNanos;
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2021, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.todolist.server.trace;
+
+import com.google.common.collect.ImmutableList;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * A fixed-size ring buffer of the recorded spans.
+ *
+ * <p>Once the buffer is full, the new spans overwrite the oldest ones. Recording a span takes
+ * no locks, so the buffer may be written by all the delivery threads at once.
+ */
+final class SpanBuffer {
+
+    private final AtomicReferenceArray<Span> spans;
+    private final AtomicLong next = new AtomicLong();
+
+    SpanBuffer(int capacity) {
+        checkArgument(capacity > 0,
+                      "The span buffer capacity must be positive, but was %s.", capacity);
+        this.spans = new AtomicReferenceArray<>(capacity);
+    }
+
+    /**
+     * Records the span, overwriting the oldest one if the buffer is full.
+     */
+    void add(Span span) {
+        int index = (int) (next.getAndIncrement() % spans.length());
+        spans.lazySet(index, span);
+    }
+
+    /**
+     * Returns the recorded spans from the oldest to the newest.
+     */
+    ImmutableList<Span> snapshot() {
+        int capacity = spans.length();
+        long end = next.get();
+        long start = Math.max(0, end - capacity);
+        ImmutableList.Builder<Span> result = ImmutableList.builder();
+        for (long i = start; i < end; i++) {
+            Span span = spans.get((int) (i % capacity));
+            if (span != null) {
+                result.add(span);
+            }
+        }
+        return result.build();
+    }
+}
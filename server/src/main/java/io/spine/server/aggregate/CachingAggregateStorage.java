@@ -0,0 +1,279 @@
+/*
+ * Copyright 2021, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.aggregate;
+
+import com.google.common.cache.Cache;
+import com.google.protobuf.Timestamp;
+import io.spine.core.Event;
+import io.spine.server.entity.LifecycleFlags;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.lang.Math.floorMod;
+
+/**
+ * An {@link AggregateStorage} which keeps the recently read aggregate histories in memory.
+ *
+ * <p>The storage is write-through: each record is first written to the delegate storage and only
+ * then appended to the cached history. A record is appended only if its version directly follows
+ * the last cached version. Otherwise, the cached history is discarded, and the next read goes
+ * to the delegate storage.
+ *
+ * <p>A history read from the delegate storage is cached only if no record of the aggregate
+ * was written while reading it, and the cache holds no later history. Otherwise, a stale
+ * history could replace the one updated by the concurrent write.
+ *
+ * <p>The histories are cached starting from the last snapshot, so the size of a cached entry
+ * is bounded by the snapshot trigger of the repository.
+ *
+ * <p>Multitenant storages are not cached.
+ *
+ * <p>The class resides in the framework package to delegate to the protected API of
+ * the wrapped storage. Use {@code CachingStorageFactory} to create the instances.
+ *
+ * @param <I>
+ *         the type of the aggregate IDs
+ */
+public final class CachingAggregateStorage<I> extends AggregateStorage<I> {
+
+    /**
+     * The number of the stripes of the write counters.
+     */
+    private static final int STRIPES = 64;
+
+    private final AggregateStorage<I> delegate;
+    private final Class<? extends Aggregate<I, ?, ?>> aggregateClass;
+    private final Cache<CacheKey, AggregateHistory> cache;
+
+    /**
+     * The counters of the written records, each shared by the aggregates whose keys fall
+     * into the same stripe.
+     */
+    private final AtomicLongArray writes = new AtomicLongArray(STRIPES);
+
+    /**
+     * Creates a new caching storage.
+     *
+     * @param delegate
+     *         the storage which stores the aggregate histories
+     * @param aggregateClass
+     *         the class of the stored aggregates
+     * @param cache
+     *         the cache shared by all the aggregate storages of a storage factory
+     */
+    public CachingAggregateStorage(AggregateStorage<I> delegate,
+                                   Class<? extends Aggregate<I, ?, ?>> aggregateClass,
+                                   Cache<CacheKey, AggregateHistory> cache) {
+        super(delegate.isMultitenant());
+        this.delegate = checkNotNull(delegate);
+        this.aggregateClass = checkNotNull(aggregateClass);
+        this.cache = checkNotNull(cache);
+    }
+
+    @Override
+    public Optional<AggregateHistory> read(AggregateReadRequest<I> request) {
+        if (isMultitenant()) {
+            return delegate.read(request);
+        }
+        CacheKey key = new CacheKey(aggregateClass, request.recordId());
+        AggregateHistory cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        int stripe = stripe(key);
+        long writesBefore = writes.get(stripe);
+        Optional<AggregateHistory> result = delegate.read(request);
+        result.ifPresent(history -> fill(key, history, stripe, writesBefore));
+        return result;
+    }
+
+    /**
+     * Caches the history read from the delegate storage.
+     *
+     * <p>Keeps the cached history if it is not older than the read one. Does not cache
+     * the read history if a record of the aggregate may have been written since the read
+     * started, as the history may miss the record.
+     */
+    private void fill(CacheKey key, AggregateHistory history, int stripe, long writesBefore) {
+        cache.asMap()
+             .compute(key, (k, cached) -> {
+                 if (cached != null && lastVersion(cached) >= lastVersion(history)) {
+                     return cached;
+                 }
+                 if (writes.get(stripe) != writesBefore) {
+                     return cached;
+                 }
+                 return history;
+             });
+    }
+
+    @Override
+    protected void writeRecord(I id, AggregateEventRecord record) {
+        delegate.writeRecord(id, record);
+        if (isMultitenant()) {
+            return;
+        }
+        CacheKey key = new CacheKey(aggregateClass, id);
+        writes.incrementAndGet(stripe(key));
+        cache.asMap()
+             .computeIfPresent(key, (k, history) -> append(history, record));
+    }
+
+    private static int stripe(CacheKey key) {
+        return floorMod(key.hashCode(), STRIPES);
+    }
+
+    /**
+     * Appends the record to the cached history.
+     *
+     * @return the updated history or {@code null} if the record does not directly follow
+     *         the cached history, and the history must be discarded
+     */
+    private static @Nullable AggregateHistory append(AggregateHistory history,
+                                                     AggregateEventRecord record) {
+        if (record.hasSnapshot()) {
+            AggregateHistory result = AggregateHistory
+                    .newBuilder()
+                    .setSnapshot(record.getSnapshot())
+                    .build();
+            return result;
+        }
+        Event event = record.getEvent();
+        int version = event.getContext()
+                           .getVersion()
+                           .getNumber();
+        if (version != lastVersion(history) + 1) {
+            return null;
+        }
+        AggregateHistory result = history
+                .toBuilder()
+                .addEvent(event)
+                .build();
+        return result;
+    }
+
+    private static int lastVersion(AggregateHistory history) {
+        List<Event> events = history.getEventList();
+        if (events.isEmpty()) {
+            return history.getSnapshot()
+                          .getVersion()
+                          .getNumber();
+        }
+        Event lastEvent = events.get(events.size() - 1);
+        return lastEvent.getContext()
+                        .getVersion()
+                        .getNumber();
+    }
+
+    @Override
+    protected Iterator<AggregateEventRecord> historyBackward(AggregateReadRequest<I> request) {
+        return delegate.historyBackward(request);
+    }
+
+    @Override
+    protected void truncate(int snapshotIndex) {
+        delegate.truncate(snapshotIndex);
+        invalidateAll();
+    }
+
+    @Override
+    protected void truncate(int snapshotIndex, Timestamp date) {
+        delegate.truncate(snapshotIndex, date);
+        invalidateAll();
+    }
+
+    /**
+     * Discards the cached histories of the aggregates stored in this storage.
+     */
+    private void invalidateAll() {
+        ConcurrentMap<CacheKey, AggregateHistory> entries = cache.asMap();
+        entries.keySet()
+               .removeIf(key -> key.aggregateClass.equals(aggregateClass));
+    }
+
+    @Override
+    public Iterator<I> index() {
+        return delegate.index();
+    }
+
+    @Override
+    public Optional<LifecycleFlags> readLifecycleFlags(I id) {
+        return delegate.readLifecycleFlags(id);
+    }
+
+    @Override
+    public void writeLifecycleFlags(I id, LifecycleFlags flags) {
+        delegate.writeLifecycleFlags(id, flags);
+    }
+
+    @Override
+    public void close() {
+        invalidateAll();
+        delegate.close();
+        super.close();
+    }
+
+    /**
+     * The key of a cached aggregate history.
+     *
+     * <p>Distinguishes the aggregates of different classes which may share the same ID,
+     * e.g. the parts of the same aggregate root.
+     */
+    public static final class CacheKey {
+
+        private final Class<?> aggregateClass;
+        private final Object id;
+
+        private CacheKey(Class<?> aggregateClass, Object id) {
+            this.aggregateClass = aggregateClass;
+            this.id = checkNotNull(id);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof CacheKey)) {
+                return false;
+            }
+            CacheKey other = (CacheKey) o;
+            return aggregateClass.equals(other.aggregateClass) && id.equals(other.id);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * aggregateClass.hashCode() + id.hashCode();
+        }
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2021, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.todolist.server;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.google.common.truth.Truth.assertThat;
+
+@DisplayName("LoadShedding should")
+class LoadSheddingTest {
+
+    private static final Duration THRESHOLD = Duration.ofMillis(10);
+
+    @Test
+    @DisplayName("accept the calls while the queue latency is below the threshold")
+    void notOverloaded() {
+        LoadShedding shedding = new LoadShedding(THRESHOLD);
+        for (int i = 0; i < 100; i++) {
+            shedding.record(Duration.ofMillis(1)
+                                    .toNanos());
+        }
+        assertThat(shedding.overloaded())
+                .isFalse();
+    }
+
+    @Test
+    @DisplayName("shed the load once the queue latency exceeds the threshold")
+    void overloaded() {
+        LoadShedding shedding = new LoadShedding(THRESHOLD);
+        for (int i = 0; i < 100; i++) {
+            shedding.record(Duration.ofMillis(50)
+                                    .toNanos());
+        }
+        assertThat(shedding.overloaded())
+                .isTrue();
+    }
+
+    @Test
+    @DisplayName("accept the calls again once the queue drains")
+    void recover() {
+        LoadShedding shedding = new LoadShedding(THRESHOLD);
+        for (int i = 0; i < 100; i++) {
+            shedding.record(Duration.ofMillis(50)
+                                    .toNanos());
+        }
+        for (int i = 0; i < 100; i++) {
+            shedding.record(0);
+        }
+        assertThat(shedding.overloaded())
+                .isFalse();
+    }
+
+    @Test
+    @DisplayName("run the tasks through the measured executor")
+    void runTasks() {
+        LoadShedding shedding = new LoadShedding(THRESHOLD);
+        Executor executor = shedding.measure(Runnable::run);
+        AtomicBoolean executed = new AtomicBoolean();
+
+        executor.execute(() -> executed.set(true));
+
+        assertThat(executed.get())
+                .isTrue();
+    }
+}
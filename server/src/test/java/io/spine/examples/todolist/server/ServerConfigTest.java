@@ -0,0 +1,150 @@
+/*
+ * Copyright 2021, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.todolist.server;
+
+import io.spine.examples.todolist.server.ServerConfig.RequestExecutor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Paths;
+import java.time.Duration;
+
+import static com.google.common.truth.Truth.assertThat;
+import static com.google.common.truth.Truth8.assertThat;
+import static io.spine.examples.todolist.server.ServerConfig.CAPTURE_FILE;
+import static io.spine.examples.todolist.server.ServerConfig.KEEP_ALIVE_TIME;
+import static io.spine.examples.todolist.server.ServerConfig.MAX_CONCURRENT_CALLS;
+import static io.spine.examples.todolist.server.ServerConfig.REQUEST_EXECUTOR;
+import static io.spine.examples.todolist.server.ServerConfig.SHEDDING_THRESHOLD;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("ServerConfig should")
+class ServerConfigTest {
+
+    @AfterEach
+    void clearProperties() {
+        System.clearProperty(REQUEST_EXECUTOR);
+        System.clearProperty(MAX_CONCURRENT_CALLS);
+        System.clearProperty(KEEP_ALIVE_TIME);
+        System.clearProperty(SHEDDING_THRESHOLD);
+        System.clearProperty(CAPTURE_FILE);
+    }
+
+    @Test
+    @DisplayName("use the gRPC cached thread pool by default")
+    void cachedExecutor() {
+        assertThat(ServerConfig.defaults()
+                               .requestExecutor())
+                .isEqualTo(RequestExecutor.CACHED);
+    }
+
+    @Test
+    @DisplayName("read the executor from the system properties ignoring the case")
+    void executorFromProperties() {
+        System.setProperty(REQUEST_EXECUTOR, "bounded");
+        ServerConfig config = ServerConfig.fromSystemProperties();
+        assertThat(config.requestExecutor())
+                .isEqualTo(RequestExecutor.BOUNDED);
+    }
+
+    @Test
+    @DisplayName("not limit the concurrent calls by default")
+    void unlimitedCalls() {
+        assertThat(ServerConfig.defaults()
+                               .maxConcurrentCalls())
+                .isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("read the maximum number of concurrent calls from the system properties")
+    void maxConcurrentCallsFromProperties() {
+        System.setProperty(MAX_CONCURRENT_CALLS, "100");
+        ServerConfig config = ServerConfig.fromSystemProperties();
+        assertThat(config.maxConcurrentCalls())
+                .isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("read the keep-alive time in milliseconds from the system properties")
+    void keepAliveTimeFromProperties() {
+        System.setProperty(KEEP_ALIVE_TIME, "30000");
+        ServerConfig config = ServerConfig.fromSystemProperties();
+        assertThat(config.keepAliveTime())
+                .isEqualTo(Duration.ofSeconds(30));
+    }
+
+    @Test
+    @DisplayName("not shed the load by default")
+    void noShedding() {
+        assertThat(ServerConfig.defaults()
+                               .sheddingThreshold())
+                .isEqualTo(Duration.ZERO);
+    }
+
+    @Test
+    @DisplayName("read the shedding threshold in milliseconds from the system properties")
+    void sheddingThresholdFromProperties() {
+        System.setProperty(SHEDDING_THRESHOLD, "200");
+        ServerConfig config = ServerConfig.fromSystemProperties();
+        assertThat(config.sheddingThreshold())
+                .isEqualTo(Duration.ofMillis(200));
+    }
+
+    @Test
+    @DisplayName("not capture the commands by default")
+    void noCapture() {
+        assertThat(ServerConfig.defaults()
+                               .captureFile())
+                .isEmpty();
+    }
+
+    @Test
+    @DisplayName("read the capture file from the system properties")
+    void captureFileFromProperties() {
+        System.setProperty(CAPTURE_FILE, "commands.log");
+        ServerConfig config = ServerConfig.fromSystemProperties();
+        assertThat(config.captureFile())
+                .hasValue(Paths.get("commands.log"));
+    }
+
+    @Test
+    @DisplayName("not accept a non-positive number of executor threads")
+    void nonPositiveExecutorThreads() {
+        ServerConfig.Builder builder = ServerConfig.newBuilder();
+        assertThrows(IllegalArgumentException.class, () -> builder.setExecutorThreads(0));
+    }
+
+    @Test
+    @DisplayName("not accept the boss threads without the worker threads")
+    void bossThreadsOnly() {
+        ServerConfig.Builder builder = ServerConfig
+                .newBuilder()
+                .setBossThreads(1);
+        assertThrows(IllegalStateException.class, builder::build);
+    }
+}
@@ -0,0 +1,311 @@
+/*
+ * Copyright 2021, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.todolist.server;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.protobuf.Empty;
+import io.grpc.BindableService;
+import io.grpc.CallOptions;
+import io.grpc.ManagedChannel;
+import io.grpc.ManagedChannelBuilder;
+import io.grpc.MethodDescriptor;
+import io.grpc.ServerServiceDefinition;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.protobuf.ProtoUtils;
+import io.spine.base.Tests;
+import io.spine.client.ActorRequestFactory;
+import io.spine.client.EntityStateWithVersion;
+import io.spine.client.Query;
+import io.spine.client.QueryResponse;
+import io.spine.client.grpc.CommandServiceGrpc;
+import io.spine.core.Command;
+import io.spine.core.UserId;
+import io.spine.examples.todolist.server.delivery.ShardedDelivery;
+import io.spine.examples.todolist.server.tasks.TasksContextFactory;
+import io.spine.examples.todolist.tasks.Task;
+import io.spine.examples.todolist.tasks.TaskId;
+import io.spine.grpc.MemoizingObserver;
+import io.spine.server.BoundedContext;
+import io.spine.server.QueryService;
+import io.spine.server.ServerEnvironment;
+import io.spine.server.delivery.Delivery;
+import io.spine.server.storage.memory.InMemoryStorageFactory;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+
+import static com.google.common.truth.Truth.assertThat;
+import static com.google.common.truth.Truth8.assertThat;
+import static io.grpc.MethodDescriptor.generateFullMethodName;
+import static io.grpc.stub.ClientCalls.blockingUnaryCall;
+import static io.grpc.stub.ClientCalls.futureUnaryCall;
+import static io.grpc.stub.ServerCalls.asyncUnaryCall;
+import static io.spine.base.Identifier.newUuid;
+import static io.spine.client.ConnectionConstants.DEFAULT_CLIENT_SERVICE_PORT;
+import static io.spine.examples.todolist.testdata.TestTaskCommandFactory.createTaskInstance;
+import static io.spine.grpc.StreamObservers.memoizingObserver;
+import static io.spine.protobuf.AnyPacker.unpack;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+@DisplayName("Server should")
+class ServerTest {
+
+    private static final int PORT = DEFAULT_CLIENT_SERVICE_PORT + 10;
+    private static final Duration DRAIN_TIMEOUT = Duration.ofSeconds(10);
+    private static final Duration FLUSH_DELAY = Duration.ofMinutes(1);
+    private static final long AWAIT_SECONDS = 10;
+
+    private static final Empty EMPTY = Empty.getDefaultInstance();
+    private static final String SERVICE_NAME = "todolist.test.DrainTestService";
+    private static final MethodDescriptor<Empty, Empty> SLOW = method("Slow");
+    private static final MethodDescriptor<Empty, Empty> FAST = method("Fast");
+
+    private final CountDownLatch slowCallStarted = new CountDownLatch(1);
+    private final CountDownLatch slowCallReleased = new CountDownLatch(1);
+    private final ActorRequestFactory requestFactory = ActorRequestFactory
+            .newBuilder()
+            .setActor(UserId.newBuilder()
+                            .setValue(newUuid())
+                            .vBuild())
+            .build();
+
+    private BoundedContext context;
+    private Server server;
+    private ManagedChannel channel;
+    private @Nullable Thread drain;
+
+    @BeforeEach
+    void startServer() throws InterruptedException {
+        Delivery delivery = ShardedDelivery.create(InMemoryStorageFactory.newInstance(),
+                                                   1, 1, FLUSH_DELAY);
+        ServerEnvironment.when(Tests.class)
+                         .use(delivery);
+        context = TasksContextFactory.create();
+        server = Server.newServer(PORT, context, ServerConfig.defaults(), testService());
+        Thread serverThread = new Thread(() -> {
+            try {
+                server.start();
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        serverThread.setDaemon(true);
+        serverThread.start();
+        channel = ManagedChannelBuilder.forAddress("localhost", PORT)
+                                       .usePlaintext()
+                                       .build();
+        awaitStarted();
+    }
+
+    @AfterEach
+    void stopServer() throws InterruptedException {
+        slowCallReleased.countDown();
+        if (drain != null) {
+            drain.join(DRAIN_TIMEOUT.toMillis());
+        }
+        channel.shutdownNow();
+        server.shutdown();
+        ServerEnvironment.instance()
+                         .reset();
+    }
+
+    @Test
+    @DisplayName("complete the calls in flight while draining")
+    void completeInFlight() throws Exception {
+        ListenableFuture<Empty> slowCall = startSlowCall();
+        Thread draining = drainInBackground();
+        awaitRejection();
+
+        slowCallReleased.countDown();
+
+        assertThat(slowCall.get(AWAIT_SECONDS, SECONDS))
+                .isEqualTo(EMPTY);
+        draining.join(DRAIN_TIMEOUT.toMillis());
+        assertThat(draining.isAlive())
+                .isFalse();
+    }
+
+    @Test
+    @DisplayName("reject the new calls while draining")
+    void rejectNewCalls() throws Exception {
+        ListenableFuture<Empty> slowCall = startSlowCall();
+        drainInBackground();
+
+        Status.Code rejection = awaitRejection();
+
+        assertThat(rejection)
+                .isEqualTo(Status.Code.UNAVAILABLE);
+        assertThat(slowCall.isDone())
+                .isFalse();
+    }
+
+    @Test
+    @DisplayName("deliver the pending messages once drained")
+    void flushDelivery() {
+        TaskId taskId = TaskId.generate();
+        Command command = requestFactory.command()
+                                        .create(createTaskInstance(taskId));
+        CommandServiceGrpc.newBlockingStub(channel)
+                          .post(command);
+        assertThat(task(taskId))
+                .isEmpty();
+
+        server.drain(DRAIN_TIMEOUT);
+
+        assertThat(task(taskId))
+                .isPresent();
+    }
+
+    @Test
+    @DisplayName("close the resources once the pending messages are delivered")
+    void closeOnDrain() {
+        TaskId taskId = TaskId.generate();
+        Command command = requestFactory.command()
+                                        .create(createTaskInstance(taskId));
+        CommandServiceGrpc.newBlockingStub(channel)
+                          .post(command);
+        List<Optional<Task>> tasksOnClose = new ArrayList<>();
+        server.closeOnDrain(() -> tasksOnClose.add(task(taskId)));
+
+        server.drain(DRAIN_TIMEOUT);
+        server.drain(DRAIN_TIMEOUT);
+
+        assertThat(tasksOnClose)
+                .hasSize(1);
+        assertThat(tasksOnClose.get(0))
+                .isPresent();
+    }
+
+    private ListenableFuture<Empty> startSlowCall() throws InterruptedException {
+        ListenableFuture<Empty> result = futureUnaryCall(channel.newCall(SLOW, CallOptions.DEFAULT),
+                                                         EMPTY);
+        assertThat(slowCallStarted.await(AWAIT_SECONDS, SECONDS))
+                .isTrue();
+        return result;
+    }
+
+    private Thread drainInBackground() {
+        drain = new Thread(() -> server.drain(DRAIN_TIMEOUT));
+        drain.start();
+        return drain;
+    }
+
+    private void awaitStarted() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + SECONDS.toMillis(AWAIT_SECONDS);
+        while (true) {
+            try {
+                blockingUnaryCall(channel, FAST, CallOptions.DEFAULT, EMPTY);
+                return;
+            } catch (StatusRuntimeException e) {
+                if (System.currentTimeMillis() > deadline) {
+                    throw e;
+                }
+                Thread.sleep(10);
+            }
+        }
+    }
+
+    private Status.Code awaitRejection() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + SECONDS.toMillis(AWAIT_SECONDS);
+        while (System.currentTimeMillis() < deadline) {
+            try {
+                blockingUnaryCall(channel, FAST, CallOptions.DEFAULT, EMPTY);
+                Thread.sleep(10);
+            } catch (StatusRuntimeException e) {
+                return e.getStatus()
+                        .getCode();
+            }
+        }
+        throw new AssertionError("The new calls are still accepted.");
+    }
+
+    private Optional<Task> task(TaskId id) {
+        QueryService queryService = QueryService
+                .newBuilder()
+                .add(context)
+                .build();
+        Query query = requestFactory.query()
+                                    .select(Task.class)
+                                    .byId(id)
+                                    .build();
+        MemoizingObserver<QueryResponse> observer = memoizingObserver();
+        queryService.read(query, observer);
+        Optional<Task> result = observer.firstResponse()
+                                        .getMessageList()
+                                        .stream()
+                                        .map(EntityStateWithVersion::getState)
+                                        .map(state -> unpack(state, Task.class))
+                                        .findFirst();
+        return result;
+    }
+
+    /**
+     * Creates the service with a call which completes only once the test releases it, and
+     * a call which completes right away.
+     */
+    private BindableService testService() {
+        ServerServiceDefinition definition = ServerServiceDefinition
+                .builder(SERVICE_NAME)
+                .addMethod(SLOW, asyncUnaryCall((request, observer) -> {
+                    slowCallStarted.countDown();
+                    try {
+                        slowCallReleased.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread()
+                              .interrupt();
+                    }
+                    observer.onNext(EMPTY);
+                    observer.onCompleted();
+                }))
+                .addMethod(FAST, asyncUnaryCall((request, observer) -> {
+                    observer.onNext(EMPTY);
+                    observer.onCompleted();
+                }))
+                .build();
+        return () -> definition;
+    }
+
+    private static MethodDescriptor<Empty, Empty> method(String name) {
+        return MethodDescriptor
+                .<Empty, Empty>newBuilder()
+                .setType(MethodDescriptor.MethodType.UNARY)
+                .setFullMethodName(generateFullMethodName(SERVICE_NAME, name))
+                .setRequestMarshaller(ProtoUtils.marshaller(EMPTY))
+                .setResponseMarshaller(ProtoUtils.marshaller(EMPTY))
+                .build();
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright 2021, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.todolist.server.capture;
+
+import io.spine.core.Command;
+import io.spine.testing.client.TestActorRequestFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Optional;
+
+import static com.google.common.truth.Truth.assertThat;
+import static com.google.common.truth.Truth8.assertThat;
+import static io.spine.examples.todolist.testdata.TestTaskCommandFactory.completeTaskInstance;
+import static io.spine.examples.todolist.testdata.TestTaskCommandFactory.createTaskInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("Command log should")
+class CommandLogTest {
+
+    private final TestActorRequestFactory requests =
+            new TestActorRequestFactory(CommandLogTest.class);
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("read the commands in the order they were written")
+    void readWritten() throws IOException {
+        Path file = directory.resolve("commands.log");
+        Command first = requests.command()
+                                .create(createTaskInstance());
+        Command second = requests.command()
+                                 .create(completeTaskInstance(createTaskInstance().getId()));
+        Instant firstReceivedAt = Instant.ofEpochSecond(1_600_000_000, 123_456_000);
+        Instant secondReceivedAt = firstReceivedAt.plusMillis(15);
+        try (CommandLogWriter writer = CommandLogWriter.open(file)) {
+            writer.append(first, firstReceivedAt);
+            writer.append(second, secondReceivedAt);
+        }
+        try (CommandLogReader reader = CommandLogReader.open(file)) {
+            CapturedCommand firstRead = reader.next()
+                                              .get();
+            assertThat(firstRead.command())
+                    .isEqualTo(first);
+            assertThat(firstRead.receivedAt())
+                    .isEqualTo(firstReceivedAt);
+            CapturedCommand secondRead = reader.next()
+                                               .get();
+            assertThat(secondRead.command())
+                    .isEqualTo(second);
+            assertThat(secondRead.receivedAt())
+                    .isEqualTo(secondReceivedAt);
+            assertThat(reader.next())
+                    .isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("append the commands to the existing log")
+    void appendToExisting() throws IOException {
+        Path file = directory.resolve("commands.log");
+        Command first = requests.command()
+                                .create(createTaskInstance());
+        Command second = requests.command()
+                                 .create(createTaskInstance());
+        try (CommandLogWriter writer = CommandLogWriter.open(file)) {
+            writer.append(first, Instant.now());
+        }
+        try (CommandLogWriter writer = CommandLogWriter.open(file)) {
+            writer.append(second, Instant.now());
+        }
+        try (CommandLogReader reader = CommandLogReader.open(file)) {
+            assertThat(reader.next()
+                             .map(CapturedCommand::command))
+                    .hasValue(first);
+            assertThat(reader.next()
+                             .map(CapturedCommand::command))
+                    .hasValue(second);
+            assertThat(reader.next())
+                    .isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("skip the incomplete last record")
+    void skipIncompleteRecord() throws IOException {
+        Path file = directory.resolve("commands.log");
+        Command command = requests.command()
+                                  .create(createTaskInstance());
+        try (CommandLogWriter writer = CommandLogWriter.open(file)) {
+            writer.append(command, Instant.now());
+            writer.append(command, Instant.now());
+        }
+        byte[] content = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(content, content.length - 3));
+        try (CommandLogReader reader = CommandLogReader.open(file)) {
+            Optional<CapturedCommand> first = reader.next();
+            assertThat(first)
+                    .isPresent();
+            assertThat(reader.next())
+                    .isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("discard the incomplete last record before appending")
+    void appendAfterIncompleteRecord() throws IOException {
+        Path file = directory.resolve("commands.log");
+        Command first = requests.command()
+                                .create(createTaskInstance());
+        Command lost = requests.command()
+                               .create(createTaskInstance());
+        Command appended = requests.command()
+                                   .create(createTaskInstance());
+        try (CommandLogWriter writer = CommandLogWriter.open(file)) {
+            writer.append(first, Instant.now());
+            writer.append(lost, Instant.now());
+        }
+        byte[] content = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(content, content.length - 3));
+        try (CommandLogWriter writer = CommandLogWriter.open(file)) {
+            writer.append(appended, Instant.now());
+        }
+        try (CommandLogReader reader = CommandLogReader.open(file)) {
+            assertThat(reader.next()
+                             .map(CapturedCommand::command))
+                    .hasValue(first);
+            assertThat(reader.next()
+                             .map(CapturedCommand::command))
+                    .hasValue(appended);
+            assertThat(reader.next())
+                    .isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("not open a file which is not a command log")
+    void rejectOtherFiles() throws IOException {
+        Path file = directory.resolve("other.txt");
+        Files.write(file, new byte[]{1, 2, 3, 4, 5, 6});
+        assertThrows(IOException.class, () -> CommandLogReader.open(file));
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2021, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.todolist.server.delivery;
+
+import io.spine.server.delivery.CatchUpId;
+import io.spine.server.delivery.InboxMessage;
+import io.spine.server.delivery.InboxMessageStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.spine.base.Identifier.newUuid;
+import static io.spine.server.delivery.InboxMessageStatus.TO_CATCH_UP;
+import static io.spine.server.delivery.InboxMessageStatus.TO_DELIVER;
+
+@DisplayName("DeliveryProgress should")
+class DeliveryProgressTest {
+
+    @Test
+    @DisplayName("count only the events replayed by the catch-ups")
+    void countCatchUpEvents() {
+        DeliveryProgress progress = new DeliveryProgress();
+        CatchUpId id = CatchUpId
+                .newBuilder()
+                .setUuid(newUuid())
+                .setProjectionType("type.spine.io/spine.examples.todolist.TaskView")
+                .build();
+        progress.onCatchUpStarted(id);
+
+        progress.onMessage(message(TO_DELIVER));
+        progress.onMessage(message(TO_CATCH_UP));
+        progress.onMessage(message(TO_CATCH_UP));
+        progress.onMessage(message(TO_DELIVER));
+        progress.onCatchUpCompleted(id);
+
+        assertThat(progress.replayed())
+                .isEqualTo(2);
+    }
+
+    private static InboxMessage message(InboxMessageStatus status) {
+        InboxMessage result = InboxMessage
+                .newBuilder()
+                .setStatus(status)
+                .build();
+        return result;
+    }
+}
@@ -0,0 +1,218 @@
+/*
+ * Copyright 2021, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.todolist.server.delivery;
+
+import com.google.common.collect.ImmutableList;
+import io.spine.server.delivery.InboxMessage;
+import io.spine.server.delivery.ShardIndex;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static com.google.common.truth.Truth.assertThat;
+import static java.util.concurrent.Executors.newCachedThreadPool;
+import static java.util.concurrent.Executors.newSingleThreadScheduledExecutor;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+@DisplayName("ShardDeliveryExecutor should")
+class ShardDeliveryExecutorTest {
+
+    private static final ShardIndex FIRST = shard(0);
+    private static final ShardIndex SECOND = shard(1);
+    private static final Duration FLUSH_DELAY = Duration.ofMillis(200);
+
+    private final ExecutorService pool = newCachedThreadPool();
+    private final ScheduledExecutorService scheduler = newSingleThreadScheduledExecutor();
+    private final BlockingQueue<ShardIndex> delivered = new LinkedBlockingQueue<>();
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdownNow();
+        pool.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("deliver the shard which receives a message")
+    void deliverShard() throws InterruptedException {
+        ShardDeliveryExecutor executor = executor(delivered::add, Duration.ZERO);
+
+        executor.onMessage(messageTo(SECOND));
+
+        assertThat(delivered.poll(1, SECONDS))
+                .isEqualTo(SECOND);
+        assertThat(delivered.poll(100, MILLISECONDS))
+                .isNull();
+    }
+
+    @Test
+    @DisplayName("deliver the shard once again if a message arrives during its delivery")
+    void redeliverShard() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        ShardDeliveryExecutor executor = executor(index -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            started.countDown();
+            awaitUninterruptibly(release);
+            running.decrementAndGet();
+            delivered.add(index);
+        }, Duration.ZERO);
+
+        executor.onMessage(messageTo(FIRST));
+        assertThat(started.await(1, SECONDS))
+                .isTrue();
+        executor.onMessage(messageTo(FIRST));
+        executor.onMessage(messageTo(FIRST));
+        release.countDown();
+
+        assertThat(delivered.poll(1, SECONDS))
+                .isEqualTo(FIRST);
+        assertThat(delivered.poll(1, SECONDS))
+                .isEqualTo(FIRST);
+        assertThat(delivered.poll(100, MILLISECONDS))
+                .isNull();
+        assertThat(maxRunning.get())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("deliver the messages arriving within the flush delay in one pass")
+    void coalesceWithinDelay() throws InterruptedException {
+        ShardDeliveryExecutor executor = executor(delivered::add, FLUSH_DELAY);
+
+        for (int i = 0; i < 5; i++) {
+            executor.onMessage(messageTo(FIRST));
+            executor.onMessage(messageTo(SECOND));
+        }
+
+        long timeoutMillis = FLUSH_DELAY.toMillis() * 5;
+        ShardIndex firstDelivered = delivered.poll(timeoutMillis, MILLISECONDS);
+        ShardIndex secondDelivered = delivered.poll(timeoutMillis, MILLISECONDS);
+        assertThat(ImmutableList.of(firstDelivered, secondDelivered))
+                .containsExactly(FIRST, SECOND);
+        assertThat(delivered.poll(FLUSH_DELAY.toMillis() * 2, MILLISECONDS))
+                .isNull();
+    }
+
+    @Test
+    @DisplayName("deliver the shard once the flush delay passes")
+    void flushAfterDelay() throws InterruptedException {
+        ShardDeliveryExecutor executor = executor(delivered::add, FLUSH_DELAY);
+        long startedNanos = System.nanoTime();
+
+        executor.onMessage(messageTo(FIRST));
+        Thread.sleep(FLUSH_DELAY.toMillis() / 2);
+        executor.onMessage(messageTo(FIRST));
+
+        long timeoutMillis = FLUSH_DELAY.toMillis() * 5;
+        assertThat(delivered.poll(timeoutMillis, MILLISECONDS))
+                .isEqualTo(FIRST);
+        long elapsedNanos = System.nanoTime() - startedNanos;
+        assertThat(elapsedNanos)
+                .isAtLeast(FLUSH_DELAY.toNanos());
+        assertThat(elapsedNanos)
+                .isLessThan(MILLISECONDS.toNanos(timeoutMillis));
+        assertThat(delivered.poll(FLUSH_DELAY.toMillis() * 2, MILLISECONDS))
+                .isNull();
+    }
+
+    @Test
+    @DisplayName("deliver the shard once again after its delivery fails")
+    void retryFailure() throws InterruptedException {
+        AtomicInteger attempts = new AtomicInteger();
+        ShardDeliveryExecutor executor = executor(index -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw new IllegalStateException("The storage is unavailable.");
+            }
+            delivered.add(index);
+        }, Duration.ZERO);
+        long startedNanos = System.nanoTime();
+
+        executor.onMessage(messageTo(FIRST));
+
+        long timeoutMillis = ShardDeliveryExecutor.RETRY_DELAY.toMillis() * 3;
+        assertThat(delivered.poll(timeoutMillis, MILLISECONDS))
+                .isEqualTo(FIRST);
+        assertThat(System.nanoTime() - startedNanos)
+                .isAtLeast(ShardDeliveryExecutor.RETRY_DELAY.toNanos());
+        assertThat(attempts.get())
+                .isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("leave the messages in the inbox after the shutdown")
+    void shutdown() throws InterruptedException {
+        ShardDeliveryExecutor executor = executor(delivered::add, Duration.ZERO);
+
+        executor.shutdown(Duration.ofSeconds(1));
+        executor.onMessage(messageTo(FIRST));
+
+        assertThat(delivered.poll(100, MILLISECONDS))
+                .isNull();
+    }
+
+    private ShardDeliveryExecutor executor(Consumer<ShardIndex> delivery, Duration flushDelay) {
+        return new ShardDeliveryExecutor(delivery, pool, scheduler, flushDelay);
+    }
+
+    private static InboxMessage messageTo(ShardIndex index) {
+        InboxMessage result = InboxMessage
+                .newBuilder()
+                .setShardIndex(index)
+                .build();
+        return result;
+    }
+
+    private static ShardIndex shard(int index) {
+        ShardIndex result = ShardIndex
+                .newBuilder()
+                .setIndex(index)
+                .setOfTotal(2)
+                .vBuild();
+        return result;
+    }
+
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
+        }
+    }
+}
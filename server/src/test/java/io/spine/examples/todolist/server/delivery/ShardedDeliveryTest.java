@@ -0,0 +1,91 @@
+/*
+ * Copyright 2021, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.todolist.server.delivery;
+
+import io.spine.server.delivery.Delivery;
+import io.spine.server.storage.StorageFactory;
+import io.spine.server.storage.memory.InMemoryStorageFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("ShardedDelivery should")
+class ShardedDeliveryTest {
+
+    private final StorageFactory storage = InMemoryStorageFactory.newInstance();
+
+    @Test
+    @DisplayName("spread the messages across the given number of shards")
+    void shardCount() {
+        Delivery delivery = ShardedDelivery.create(storage, 4, 2);
+
+        assertThat(delivery.shardCount())
+                .isEqualTo(4);
+        ShardedDelivery.shutdown(delivery);
+    }
+
+    @Test
+    @DisplayName("not accept a non-positive number of shards")
+    void nonPositiveShards() {
+        assertThrows(IllegalArgumentException.class,
+                     () -> ShardedDelivery.create(storage, 0, 2));
+    }
+
+    @Test
+    @DisplayName("not accept a non-positive parallelism")
+    void nonPositiveParallelism() {
+        assertThrows(IllegalArgumentException.class,
+                     () -> ShardedDelivery.create(storage, 4, 0));
+    }
+
+    @Test
+    @DisplayName("not accept a negative flush delay")
+    void negativeFlushDelay() {
+        assertThrows(IllegalArgumentException.class,
+                     () -> ShardedDelivery.create(storage, 4, 2, Duration.ofMillis(-1)));
+    }
+
+    @Test
+    @DisplayName("flush the delivery after the shutdown")
+    void flushAfterShutdown() {
+        Delivery delivery = ShardedDelivery.create(storage, 4, 2, Duration.ofSeconds(1));
+
+        ShardedDelivery.shutdown(delivery);
+        ShardedDelivery.shutdown(delivery);
+        ShardedDelivery.flush(delivery);
+    }
+
+    @Test
+    @DisplayName("ignore the shutdown of a delivery it has not created")
+    void shutdownOther() {
+        ShardedDelivery.shutdown(Delivery.local());
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2021, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.todolist.server.metrics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+@DisplayName("MessageMetrics should")
+class MessageMetricsTest {
+
+    @Test
+    @DisplayName("count the posted and the rejected messages")
+    void countMessages() {
+        MessageMetrics metrics = new MessageMetrics();
+        metrics.onPosted();
+        metrics.onPosted();
+        metrics.onPosted();
+        metrics.onPosted();
+        metrics.onRejected();
+        assertThat(metrics.getCount())
+                .isEqualTo(4);
+        assertThat(metrics.getRejections())
+                .isEqualTo(1);
+        assertThat(metrics.getRejectionRate())
+                .isWithin(0.001)
+                .of(0.25);
+    }
+
+    @Test
+    @DisplayName("report the latencies in milliseconds")
+    void reportLatencies() {
+        MessageMetrics metrics = new MessageMetrics();
+        for (int i = 1; i <= 100; i++) {
+            metrics.recordLatency(MILLISECONDS.toNanos(i));
+        }
+        assertThat(metrics.getLatencyCount())
+                .isEqualTo(100);
+        assertThat(metrics.getP50Latency())
+                .isWithin(0.1)
+                .of(50);
+        assertThat(metrics.getMaxLatency())
+                .isWithin(0.1)
+                .of(100);
+    }
+
+    @Test
+    @DisplayName("keep the latencies between the reads")
+    void accumulateLatencies() {
+        MessageMetrics metrics = new MessageMetrics();
+        metrics.recordLatency(MILLISECONDS.toNanos(10));
+        assertThat(metrics.getLatencyCount())
+                .isEqualTo(1);
+        metrics.recordLatency(MILLISECONDS.toNanos(20));
+        assertThat(metrics.getLatencyCount())
+                .isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("drop the recorded values on reset")
+    void reset() {
+        MessageMetrics metrics = new MessageMetrics();
+        metrics.onPosted();
+        metrics.recordLatency(MILLISECONDS.toNanos(10));
+        metrics.reset();
+        assertThat(metrics.getCount())
+                .isEqualTo(0);
+        assertThat(metrics.getLatencyCount())
+                .isEqualTo(0);
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2021, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.todolist.server.storage;
+
+import io.spine.server.storage.StorageFactory;
+import io.spine.server.storage.memory.InMemoryStorageFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("CachingStorageFactory should")
+class CachingStorageFactoryTest {
+
+    @Test
+    @DisplayName("not accept a non-positive cache size")
+    void nonPositiveSize() {
+        StorageFactory storage = InMemoryStorageFactory.newInstance();
+        assertThrows(IllegalArgumentException.class,
+                     () -> CachingStorageFactory.wrap(storage, 0));
+    }
+
+    @Test
+    @DisplayName("record the cache statistics")
+    void recordStats() throws Exception {
+        CachingStorageFactory factory =
+                CachingStorageFactory.wrap(InMemoryStorageFactory.newInstance(), 10);
+        assertThat(factory.stats()
+                          .requestCount())
+                .isEqualTo(0);
+        factory.close();
+    }
+
+    @Test
+    @DisplayName("expose the cache statistics over JMX")
+    void exposeStats() throws Exception {
+        CachingStorageFactory factory =
+                CachingStorageFactory.wrap(InMemoryStorageFactory.newInstance(), 10);
+        MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = new ObjectName("io.spine.examples.todolist:type=Cache,name="
+                                                 + ObjectName.quote("aggregates"));
+        assertThat(mBeanServer.getAttribute(name, "RequestCount"))
+                .isEqualTo(0L);
+        assertThat(factory.metrics()
+                          .getHitRate())
+                .isEqualTo(1.0);
+
+        factory.close();
+        assertThat(mBeanServer.isRegistered(name))
+                .isFalse();
+    }
+
+    @Test
+    @DisplayName("not expose the statistics of two caches under the same name")
+    void uniqueStats() throws Exception {
+        CachingStorageFactory factory =
+                CachingStorageFactory.wrap(InMemoryStorageFactory.newInstance(), 10);
+
+        assertThrows(IllegalStateException.class,
+                     () -> CachingStorageFactory.wrap(InMemoryStorageFactory.newInstance(), 10));
+
+        factory.close();
+    }
+}
@@ -0,0 +1,224 @@
+/*
+ * Copyright 2021, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.todolist.server.stream;
+
+import com.google.common.collect.ImmutableList;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.spine.client.ActorRequestFactory;
+import io.spine.core.Command;
+import io.spine.core.UserId;
+import io.spine.examples.todolist.server.tasks.TasksContextFactory;
+import io.spine.examples.todolist.tasks.TaskId;
+import io.spine.examples.todolist.tasks.stream.TaskViewChunk;
+import io.spine.examples.todolist.tasks.stream.TaskViewStreamRequest;
+import io.spine.examples.todolist.tasks.view.TaskView;
+import io.spine.server.BoundedContext;
+import io.spine.server.CommandService;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static com.google.common.collect.ImmutableList.toImmutableList;
+import static com.google.common.truth.Truth.assertThat;
+import static io.spine.base.Identifier.newUuid;
+import static io.spine.examples.todolist.testdata.TestTaskCommandFactory.createTaskInstance;
+import static io.spine.grpc.StreamObservers.noOpObserver;
+
+@DisplayName("TaskViewStreamService should")
+class TaskViewStreamServiceTest {
+
+    private static final int TASK_COUNT = 5;
+    private static final int CHUNK_SIZE = 2;
+
+    private final ActorRequestFactory requestFactory = ActorRequestFactory
+            .newBuilder()
+            .setActor(UserId.newBuilder()
+                            .setValue(newUuid())
+                            .vBuild())
+            .build();
+
+    private ImmutableList<TaskId> tasks;
+    private TaskViewStreamService service;
+    private TestChunkObserver observer;
+
+    @BeforeEach
+    void setUp() {
+        BoundedContext context = TasksContextFactory.create();
+        CommandService commandService = CommandService
+                .newBuilder()
+                .add(context)
+                .build();
+        ImmutableList.Builder<TaskId> created = ImmutableList.builder();
+        for (int i = 0; i < TASK_COUNT; i++) {
+            TaskId id = TaskId.generate();
+            Command command = requestFactory.command()
+                                            .create(createTaskInstance(id));
+            commandService.post(command, noOpObserver());
+            created.add(id);
+        }
+        tasks = created.build();
+        service = new TaskViewStreamService(context);
+        observer = new TestChunkObserver();
+    }
+
+    @Test
+    @DisplayName("send all the task views page by page")
+    void sendAll() {
+        service.read(request(), observer);
+        observer.becomeReady();
+
+        assertThat(observer.chunks)
+                .hasSize(3);
+        assertThat(observer.completed)
+                .isTrue();
+        ImmutableList<TaskId> sent = observer.chunks
+                .stream()
+                .flatMap(chunk -> chunk.getTaskViewList()
+                                       .stream())
+                .map(TaskView::getId)
+                .collect(toImmutableList());
+        assertThat(sent)
+                .containsExactlyElementsIn(tasks);
+    }
+
+    @Test
+    @DisplayName("stop sending the task views once the call is cancelled")
+    void stopOnCancel() {
+        service.read(request(), observer);
+        observer.readyForOneChunk();
+        observer.becomeReady();
+
+        observer.cancel();
+        observer.becomeReady();
+
+        assertThat(observer.chunks)
+                .hasSize(1);
+        assertThat(observer.completed)
+                .isFalse();
+    }
+
+    private static TaskViewStreamRequest request() {
+        return TaskViewStreamRequest
+                .newBuilder()
+                .setChunkSize(CHUNK_SIZE)
+                .build();
+    }
+
+    /**
+     * Receives the chunks in place of the gRPC transport.
+     */
+    private static final class TestChunkObserver extends ServerCallStreamObserver<TaskViewChunk> {
+
+        private final List<TaskViewChunk> chunks = new CopyOnWriteArrayList<>();
+        private volatile boolean ready;
+        private volatile boolean oneChunk;
+        private volatile boolean completed;
+        private @Nullable Runnable onReady;
+        private @Nullable Runnable onCancel;
+
+        private void becomeReady() {
+            ready = true;
+            if (onReady != null) {
+                onReady.run();
+            }
+        }
+
+        private void readyForOneChunk() {
+            oneChunk = true;
+        }
+
+        private void cancel() {
+            ready = false;
+            if (onCancel != null) {
+                onCancel.run();
+            }
+        }
+
+        @Override
+        public boolean isReady() {
+            return ready;
+        }
+
+        @Override
+        public void onNext(TaskViewChunk value) {
+            chunks.add(value);
+            if (oneChunk) {
+                ready = false;
+                oneChunk = false;
+            }
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            throw new AssertionError(t);
+        }
+
+        @Override
+        public void onCompleted() {
+            completed = true;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return false;
+        }
+
+        @Override
+        public void setOnCancelHandler(Runnable onCancelHandler) {
+            onCancel = onCancelHandler;
+        }
+
+        @Override
+        public void setCompression(String compression) {
+            // Not used by the service.
+        }
+
+        @Override
+        public void setOnReadyHandler(Runnable onReadyHandler) {
+            onReady = onReadyHandler;
+        }
+
+        @Override
+        public void disableAutoInboundFlowControl() {
+            // Not used by the service.
+        }
+
+        @Override
+        public void request(int count) {
+            // Not used by the service.
+        }
+
+        @Override
+        public void setMessageCompression(boolean enable) {
+            // Not used by the service.
+        }
+    }
+}
@@ -0,0 +1,367 @@
+/*
+ * Copyright 2021, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.todolist.server.subscription;
+
+import io.grpc.stub.ServerCallStreamObserver;
+import io.spine.client.EntityStateUpdate;
+import io.spine.examples.todolist.tasks.TaskDescription;
+import io.spine.examples.todolist.tasks.TaskId;
+import io.spine.examples.todolist.tasks.subscription.TaskViewDelta;
+import io.spine.examples.todolist.tasks.view.TaskView;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.spine.examples.todolist.tasks.TaskPriority.HIGH;
+import static io.spine.protobuf.AnyPacker.pack;
+import static java.util.concurrent.Executors.newSingleThreadScheduledExecutor;
+
+@DisplayName("CoalescingSubscriber should")
+class CoalescingSubscriberTest {
+
+    private static final long NO_SCHEDULED_FLUSH = 60_000;
+    private static final long WINDOW_MILLIS = 100;
+    private static final long TIMEOUT_MILLIS = 5_000;
+
+    private final ScheduledExecutorService scheduler = newSingleThreadScheduledExecutor();
+    private final TestCallObserver observer = new TestCallObserver();
+    private final AtomicInteger unsubscribed = new AtomicInteger();
+
+    @AfterEach
+    void shutdownScheduler() {
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("send only the latest pending update of a task view")
+    void coalesce() {
+        CoalescingSubscriber subscriber = subscriber(NO_SCHEDULED_FLUSH);
+        TaskView view = taskView("Draft");
+        TaskId id = view.getId();
+        subscriber.onUpdate(id, update(view));
+        TaskView edited = withDescription(view, "Edited");
+        subscriber.onUpdate(id, update(edited));
+
+        subscriber.flush();
+
+        assertThat(observer.deltas)
+                .hasSize(1);
+        assertThat(observer.deltas.get(0)
+                                  .getView())
+                .isEqualTo(edited);
+    }
+
+    @Test
+    @DisplayName("send the pending updates once the coalescing window passes")
+    void sendAfterWindow() throws InterruptedException {
+        CoalescingSubscriber subscriber = subscriber(WINDOW_MILLIS);
+        TaskView view = taskView("Draft");
+        subscriber.onUpdate(view.getId(), update(view));
+
+        assertThat(observer.deltas)
+                .isEmpty();
+        awaitDeltas(1);
+        assertThat(observer.deltas)
+                .hasSize(1);
+    }
+
+    @Test
+    @DisplayName("keep the updates pending while the subscriber is not ready")
+    void backpressure() {
+        CoalescingSubscriber subscriber = subscriber(NO_SCHEDULED_FLUSH);
+        TaskView first = taskView("First");
+        TaskView second = taskView("Second");
+        subscriber.onUpdate(first.getId(), update(first));
+        subscriber.onUpdate(second.getId(), update(second));
+
+        observer.ready = false;
+        subscriber.flush();
+        assertThat(observer.deltas)
+                .isEmpty();
+
+        TaskView edited = withDescription(first, "Edited");
+        subscriber.onUpdate(first.getId(), update(edited));
+        observer.ready = true;
+        subscriber.flush();
+
+        assertThat(observer.deltas)
+                .hasSize(2);
+        assertThat(observer.deltas.get(0)
+                                  .getView())
+                .isEqualTo(edited);
+    }
+
+    @Test
+    @DisplayName("send only the changed fields of a known task view")
+    void sendDelta() {
+        CoalescingSubscriber subscriber = subscriber(NO_SCHEDULED_FLUSH);
+        TaskView view = taskView("Draft");
+        TaskId id = view.getId();
+        subscriber.onUpdate(id, update(view));
+        subscriber.flush();
+        TaskView prioritized = view.toBuilder()
+                                   .setPriority(HIGH)
+                                   .build();
+        subscriber.onUpdate(id, update(prioritized));
+        subscriber.flush();
+
+        assertThat(observer.deltas)
+                .hasSize(2);
+        assertThat(observer.deltas.get(1)
+                                  .getChanged()
+                                  .getPathsList())
+                .containsExactly("priority");
+    }
+
+    @Test
+    @DisplayName("not send a delta if the task view did not change")
+    void skipUnchanged() {
+        CoalescingSubscriber subscriber = subscriber(NO_SCHEDULED_FLUSH);
+        TaskView view = taskView("Draft");
+        subscriber.onUpdate(view.getId(), update(view));
+        subscriber.flush();
+        subscriber.onUpdate(view.getId(), update(view));
+        subscriber.flush();
+
+        assertThat(observer.deltas)
+                .hasSize(1);
+    }
+
+    @Test
+    @DisplayName("send the full state of a task view once its sent state is forgotten")
+    void fullAfterForgotten() {
+        CoalescingSubscriber subscriber =
+                new CoalescingSubscriber(observer, scheduler, NO_SCHEDULED_FLUSH,
+                                         unsubscribed::incrementAndGet, 1);
+        TaskView first = taskView("First");
+        TaskView second = taskView("Second");
+        subscriber.onUpdate(first.getId(), update(first));
+        subscriber.onUpdate(second.getId(), update(second));
+        subscriber.flush();
+
+        TaskView prioritized = first.toBuilder()
+                                    .setPriority(HIGH)
+                                    .build();
+        subscriber.onUpdate(first.getId(), update(prioritized));
+        subscriber.flush();
+
+        TaskViewDelta delta = observer.deltas.get(2);
+        assertThat(delta.getChanged()
+                        .getPathsCount())
+                .isEqualTo(TaskView.getDescriptor()
+                                   .getFields()
+                                   .size());
+        assertThat(delta.getView())
+                .isEqualTo(prioritized);
+    }
+
+    @Test
+    @DisplayName("send the removal of a task view")
+    void sendRemoval() {
+        CoalescingSubscriber subscriber = subscriber(NO_SCHEDULED_FLUSH);
+        TaskId id = TaskId.generate();
+        subscriber.onUpdate(id, noLongerMatching(id));
+        subscriber.flush();
+
+        assertThat(observer.deltas)
+                .containsExactly(TaskViewDiff.removal(id));
+    }
+
+    @Test
+    @DisplayName("not send the updates after the call is cancelled")
+    void cancel() {
+        CoalescingSubscriber subscriber = subscriber(NO_SCHEDULED_FLUSH);
+        TaskView view = taskView("Draft");
+        subscriber.onUpdate(view.getId(), update(view));
+        subscriber.cancel();
+        subscriber.flush();
+
+        assertThat(observer.deltas)
+                .isEmpty();
+    }
+
+    @Test
+    @DisplayName("cancel the subscription once after the call is cancelled")
+    void unsubscribeOnCancel() {
+        CoalescingSubscriber subscriber = subscriber(NO_SCHEDULED_FLUSH);
+        subscriber.cancel();
+        subscriber.cancel();
+
+        assertThat(unsubscribed.get())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("fail the call and cancel the subscription after the subscription fails")
+    void unsubscribeOnFailure() {
+        CoalescingSubscriber subscriber = subscriber(NO_SCHEDULED_FLUSH);
+        TaskView view = taskView("Draft");
+        subscriber.onUpdate(view.getId(), update(view));
+        IllegalStateException error = new IllegalStateException("The stand is unavailable.");
+        subscriber.fail(error);
+        subscriber.flush();
+
+        assertThat(observer.error)
+                .isSameInstanceAs(error);
+        assertThat(observer.deltas)
+                .isEmpty();
+        assertThat(unsubscribed.get())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("not fail the call after it is cancelled")
+    void noFailureAfterCancel() {
+        CoalescingSubscriber subscriber = subscriber(NO_SCHEDULED_FLUSH);
+        subscriber.cancel();
+        subscriber.fail(new IllegalStateException("The stand is unavailable."));
+
+        assertThat(observer.error)
+                .isNull();
+        assertThat(unsubscribed.get())
+                .isEqualTo(1);
+    }
+
+    private CoalescingSubscriber subscriber(long windowMillis) {
+        return new CoalescingSubscriber(observer, scheduler, windowMillis,
+                                        unsubscribed::incrementAndGet);
+    }
+
+    private void awaitDeltas(int count) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (observer.deltas.size() < count && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    private static TaskView taskView(String description) {
+        TaskView view = TaskView
+                .newBuilder()
+                .setId(TaskId.generate())
+                .build();
+        return withDescription(view, description);
+    }
+
+    private static TaskView withDescription(TaskView view, String description) {
+        TaskDescription value = TaskDescription
+                .newBuilder()
+                .setValue(description)
+                .build();
+        return view.toBuilder()
+                   .setDescription(value)
+                   .build();
+    }
+
+    private static EntityStateUpdate update(TaskView view) {
+        return EntityStateUpdate
+                .newBuilder()
+                .setId(pack(view.getId()))
+                .setState(pack(view))
+                .build();
+    }
+
+    private static EntityStateUpdate noLongerMatching(TaskId id) {
+        return EntityStateUpdate
+                .newBuilder()
+                .setId(pack(id))
+                .setNoLongerMatching(true)
+                .build();
+    }
+
+    /**
+     * Collects the deltas and the error sent to the subscriber, which is ready unless told
+     * otherwise.
+     */
+    private static final class TestCallObserver extends ServerCallStreamObserver<TaskViewDelta> {
+
+        private final List<TaskViewDelta> deltas = new CopyOnWriteArrayList<>();
+        private volatile boolean ready = true;
+        private volatile @Nullable Throwable error;
+
+        @Override
+        public boolean isReady() {
+            return ready;
+        }
+
+        @Override
+        public void onNext(TaskViewDelta value) {
+            deltas.add(value);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            error = t;
+        }
+
+        @Override
+        public void onCompleted() {
+            // Not called by the subscriber.
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return false;
+        }
+
+        @Override
+        public void setOnCancelHandler(Runnable onCancelHandler) {
+            // Not used by the subscriber.
+        }
+
+        @Override
+        public void setCompression(String compression) {
+            // Not used by the subscriber.
+        }
+
+        @Override
+        public void setOnReadyHandler(Runnable onReadyHandler) {
+            // Not used by the subscriber.
+        }
+
+        @Override
+        public void disableAutoInboundFlowControl() {
+            // Not used by the subscriber.
+        }
+
+        @Override
+        public void request(int count) {
+            // Not used by the subscriber.
+        }
+
+        @Override
+        public void setMessageCompression(boolean enable) {
+            // Not used by the subscriber.
+        }
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright 2021, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.todolist.server.subscription;
+
+import io.spine.examples.todolist.tasks.TaskDescription;
+import io.spine.examples.todolist.tasks.TaskId;
+import io.spine.examples.todolist.tasks.subscription.TaskViewDelta;
+import io.spine.examples.todolist.tasks.view.TaskView;
+import io.spine.testing.UtilityClassTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+import static com.google.common.truth.Truth8.assertThat;
+import static io.spine.base.Time.currentTime;
+import static io.spine.examples.todolist.server.subscription.TaskViewDiff.diff;
+import static io.spine.examples.todolist.tasks.TaskPriority.HIGH;
+import static io.spine.examples.todolist.tasks.TaskStatus.OPEN;
+
+@DisplayName("TaskViewDiff should")
+class TaskViewDiffTest extends UtilityClassTest<TaskViewDiff> {
+
+    TaskViewDiffTest() {
+        super(TaskViewDiff.class);
+    }
+
+    @Test
+    @DisplayName("list all the set fields of a task view unknown to the subscriber")
+    void newTaskView() {
+        TaskView view = taskView();
+
+        TaskViewDelta delta = diff(null, view).orElseThrow(AssertionError::new);
+
+        assertThat(delta.getId())
+                .isEqualTo(view.getId());
+        assertThat(delta.getChanged()
+                        .getPathsList())
+                .containsExactly("id", "description", "status");
+        assertThat(delta.getView())
+                .isEqualTo(view);
+    }
+
+    @Test
+    @DisplayName("list only the changed fields")
+    void changedFields() {
+        TaskView previous = taskView();
+        TaskView current = previous.toBuilder()
+                                   .setPriority(HIGH)
+                                   .setDueDate(currentTime())
+                                   .build();
+
+        TaskViewDelta delta = diff(previous, current).orElseThrow(AssertionError::new);
+
+        assertThat(delta.getChanged()
+                        .getPathsList())
+                .containsExactly("priority", "due_date");
+        TaskView expected = TaskView
+                .newBuilder()
+                .setPriority(HIGH)
+                .setDueDate(current.getDueDate())
+                .build();
+        assertThat(delta.getView())
+                .isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("list the cleared fields without setting them")
+    void clearedFields() {
+        TaskView previous = taskView().toBuilder()
+                                      .setDueDate(currentTime())
+                                      .build();
+        TaskView current = previous.toBuilder()
+                                   .clearDueDate()
+                                   .build();
+
+        TaskViewDelta delta = diff(previous, current).orElseThrow(AssertionError::new);
+
+        assertThat(delta.getChanged()
+                        .getPathsList())
+                .containsExactly("due_date");
+        assertThat(delta.getView()
+                        .hasDueDate())
+                .isFalse();
+    }
+
+    @Test
+    @DisplayName("produce no delta if the task view did not change")
+    void noChanges() {
+        TaskView view = taskView();
+
+        assertThat(diff(view, view.toBuilder()
+                                  .build()))
+                .isEmpty();
+    }
+
+    @Test
+    @DisplayName("list all the fields in a full delta")
+    void fullDelta() {
+        TaskView view = taskView();
+
+        TaskViewDelta delta = TaskViewDiff.full(view);
+
+        assertThat(delta.getChanged()
+                        .getPathsCount())
+                .isEqualTo(TaskView.getDescriptor()
+                                   .getFields()
+                                   .size());
+        assertThat(delta.getView())
+                .isEqualTo(view);
+    }
+
+    private static TaskView taskView() {
+        TaskDescription description = TaskDescription
+                .newBuilder()
+                .setValue("Water the plants")
+                .build();
+        return TaskView
+                .newBuilder()
+                .setId(TaskId.generate())
+                .setDescription(description)
+                .setStatus(OPEN)
+                .build();
+    }
+}
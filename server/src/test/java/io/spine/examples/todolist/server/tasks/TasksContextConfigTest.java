@@ -0,0 +1,181 @@
+/*
+ * Copyright 2021, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.todolist.server.tasks;
+
+import io.spine.examples.todolist.server.storage.CachingStorageFactory;
+import io.spine.server.aggregate.AggregateRepository;
+import io.spine.server.storage.StorageFactory;
+import io.spine.server.storage.memory.InMemoryStorageFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.spine.examples.todolist.server.tasks.TasksContextConfig.AGGREGATE_CACHE_SIZE;
+import static io.spine.examples.todolist.server.tasks.TasksContextConfig.DELIVERY_FLUSH_DELAY;
+import static io.spine.examples.todolist.server.tasks.TasksContextConfig.DELIVERY_SHARDS;
+import static io.spine.examples.todolist.server.tasks.TasksContextConfig.LIGHTWEIGHT_REJECTIONS;
+import static io.spine.examples.todolist.server.tasks.TasksContextConfig.METRICS;
+import static io.spine.examples.todolist.server.tasks.TasksContextConfig.SNAPSHOT_TRIGGER;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("TasksContextConfig should")
+class TasksContextConfigTest {
+
+    @AfterEach
+    void clearProperties() {
+        System.clearProperty(SNAPSHOT_TRIGGER);
+        System.clearProperty(AGGREGATE_CACHE_SIZE);
+        System.clearProperty(LIGHTWEIGHT_REJECTIONS);
+        System.clearProperty(DELIVERY_SHARDS);
+        System.clearProperty(DELIVERY_FLUSH_DELAY);
+        System.clearProperty(METRICS);
+    }
+
+    @Test
+    @DisplayName("use the framework snapshot trigger by default")
+    void defaultSnapshotTrigger() {
+        assertThat(TasksContextConfig.defaults()
+                                     .snapshotTrigger())
+                .isEqualTo(AggregateRepository.DEFAULT_SNAPSHOT_TRIGGER);
+    }
+
+    @Test
+    @DisplayName("read the snapshot trigger from the system properties")
+    void snapshotTriggerFromProperties() {
+        System.setProperty(SNAPSHOT_TRIGGER, "25");
+        TasksContextConfig config = TasksContextConfig.fromSystemProperties();
+        assertThat(config.snapshotTrigger())
+                .isEqualTo(25);
+    }
+
+    @Test
+    @DisplayName("not accept a non-positive snapshot trigger")
+    void nonPositiveSnapshotTrigger() {
+        TasksContextConfig.Builder builder = TasksContextConfig.newBuilder();
+        assertThrows(IllegalArgumentException.class, () -> builder.setSnapshotTrigger(0));
+    }
+
+    @Test
+    @DisplayName("not wrap the storage factory if the aggregate cache is disabled")
+    void cacheDisabled() {
+        StorageFactory storage = InMemoryStorageFactory.newInstance();
+        StorageFactory result = TasksContextConfig.defaults()
+                                                  .applyCache(storage);
+        assertThat(result)
+                .isSameInstanceAs(storage);
+    }
+
+    @Test
+    @DisplayName("wrap the storage factory if the aggregate cache is enabled")
+    void cacheEnabled() throws Exception {
+        System.setProperty(AGGREGATE_CACHE_SIZE, "1000");
+        StorageFactory storage = InMemoryStorageFactory.newInstance();
+        StorageFactory result = TasksContextConfig.fromSystemProperties()
+                                                  .applyCache(storage);
+        assertThat(result)
+                .isInstanceOf(CachingStorageFactory.class);
+        result.close();
+    }
+
+    @Test
+    @DisplayName("throw the rejections with the stack traces by default")
+    void rejectionsWithStackTraces() {
+        assertThat(TasksContextConfig.defaults()
+                                     .lightweightRejections())
+                .isFalse();
+    }
+
+    @Test
+    @DisplayName("read the rejection mode from the system properties")
+    void rejectionModeFromProperties() {
+        System.setProperty(LIGHTWEIGHT_REJECTIONS, "true");
+        TasksContextConfig config = TasksContextConfig.fromSystemProperties();
+        assertThat(config.lightweightRejections())
+                .isTrue();
+    }
+
+    @Test
+    @DisplayName("use the local delivery by default")
+    void localDelivery() {
+        assertThat(TasksContextConfig.defaults()
+                                     .deliveryShards())
+                .isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("read the number of delivery shards from the system properties")
+    void deliveryShardsFromProperties() {
+        System.setProperty(DELIVERY_SHARDS, "16");
+        TasksContextConfig config = TasksContextConfig.fromSystemProperties();
+        assertThat(config.deliveryShards())
+                .isEqualTo(16);
+    }
+
+    @Test
+    @DisplayName("not accept a non-positive delivery parallelism")
+    void nonPositiveParallelism() {
+        TasksContextConfig.Builder builder = TasksContextConfig.newBuilder();
+        assertThrows(IllegalArgumentException.class, () -> builder.setDeliveryParallelism(0));
+    }
+
+    @Test
+    @DisplayName("read the delivery flush delay from the system properties")
+    void flushDelayFromProperties() {
+        System.setProperty(DELIVERY_FLUSH_DELAY, "50");
+        TasksContextConfig config = TasksContextConfig.fromSystemProperties();
+        assertThat(config.deliveryFlushDelay())
+                .isEqualTo(Duration.ofMillis(50));
+    }
+
+    @Test
+    @DisplayName("not accept a negative delivery flush delay")
+    void negativeFlushDelay() {
+        TasksContextConfig.Builder builder = TasksContextConfig.newBuilder();
+        Duration delay = Duration.ofMillis(-1);
+        assertThrows(IllegalArgumentException.class, () -> builder.setDeliveryFlushDelay(delay));
+    }
+
+    @Test
+    @DisplayName("not record the metrics by default")
+    void noMetrics() {
+        assertThat(TasksContextConfig.defaults()
+                                     .metrics())
+                .isFalse();
+    }
+
+    @Test
+    @DisplayName("read the metrics option from the system properties")
+    void metricsFromProperties() {
+        System.setProperty(METRICS, "true");
+        TasksContextConfig config = TasksContextConfig.fromSystemProperties();
+        assertThat(config.metrics())
+                .isTrue();
+    }
+}
@@ -32,6 +32,7 @@ import io.spine.examples.todolist.tasks.LabelDetails;
 import io.spine.examples.todolist.tasks.LabelId;
 import io.spine.examples.todolist.tasks.TaskLabel;
 import io.spine.examples.todolist.tasks.command.CreateBasicLabel;
+import io.spine.examples.todolist.tasks.command.CreateLabel;
 import io.spine.examples.todolist.tasks.command.UpdateLabelDetails;
 import io.spine.examples.todolist.tasks.event.LabelCreated;
 import io.spine.examples.todolist.tasks.event.LabelDetailsUpdated;
@@ -87,6 +88,63 @@ class LabelAggregateTest extends ContextAwareTest {
         }
     }
 
+    @Nested
+    @DisplayName("interpret CreateLabel command and")
+    class CreateLabelCommand {
+
+        @Test
+        @DisplayName("produce LabelCreated event")
+        void produceEvent() {
+            CreateLabel createLabel = createLabel(LabelColor.GREEN);
+            context().receivesCommand(createLabel)
+                     .assertEvents()
+                     .withType(LabelCreated.class)
+                     .hasSize(1);
+        }
+
+        @Test
+        @DisplayName("create the label with the given color")
+        void createColoredLabel() {
+            CreateLabel createLabel = createLabel(LabelColor.GREEN);
+            assertCreated(createLabel, LabelColor.GREEN);
+        }
+
+        @Test
+        @DisplayName("create the label with the default color if the color is not set")
+        void createDefaultColorLabel() {
+            CreateLabel createLabel = createLabel(LabelColor.LC_UNDEFINED);
+            assertCreated(createLabel, LabelColor.DEFAULT);
+        }
+
+        private void assertCreated(CreateLabel createLabel, LabelColor color) {
+            LabelId labelId = createLabel.getLabelId();
+            TaskLabel expected = TaskLabel
+                    .newBuilder()
+                    .setId(labelId)
+                    .setTitle(createLabel.getDetails()
+                                         .getTitle())
+                    .setColor(color)
+                    .build();
+            context().receivesCommand(createLabel)
+                     .assertEntity(labelId, LabelAggregate.class)
+                     .hasStateThat()
+                     .isEqualTo(expected);
+        }
+
+        private CreateLabel createLabel(LabelColor color) {
+            LabelDetails details = LabelDetails
+                    .newBuilder()
+                    .setTitle("Colored label")
+                    .setColor(color)
+                    .build();
+            return CreateLabel
+                    .newBuilder()
+                    .setLabelId(LabelId.generate())
+                    .setDetails(details)
+                    .build();
+        }
+    }
+
     @Nested
     @DisplayName("interpret UpdateLabelDetails command and")
     class UpdateLabelDetailsCommand {
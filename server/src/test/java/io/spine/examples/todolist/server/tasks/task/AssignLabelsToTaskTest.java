@@ -0,0 +1,129 @@
+/*
+ * Copyright 2021, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.todolist.server.tasks.task;
+
+import com.google.common.collect.ImmutableList;
+import io.spine.examples.todolist.tasks.LabelId;
+import io.spine.examples.todolist.tasks.LabelIdsList;
+import io.spine.examples.todolist.tasks.command.AssignLabelsToTask;
+import io.spine.examples.todolist.tasks.command.CreateBasicTask;
+import io.spine.examples.todolist.tasks.command.DeleteTask;
+import io.spine.examples.todolist.tasks.event.LabelsAssignedToTask;
+import io.spine.examples.todolist.tasks.rejection.Rejections;
+import io.spine.examples.todolist.tasks.view.TaskView;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static io.spine.examples.todolist.testdata.TestTaskCommandFactory.createTaskInstance;
+import static io.spine.examples.todolist.testdata.TestTaskCommandFactory.deleteTaskInstance;
+import static io.spine.examples.todolist.testdata.TestTaskLabelsCommandFactory.assignLabelToTaskInstance;
+import static io.spine.examples.todolist.testdata.TestTaskLabelsCommandFactory.assignLabelsToTaskInstance;
+
+@DisplayName("AssignLabelsToTask command should be interpreted by TaskLabelsPart and")
+class AssignLabelsToTaskTest extends TaskCommandTestBase {
+
+    private LabelId first;
+    private LabelId second;
+
+    @BeforeEach
+    void createLabelIds() {
+        first = LabelId.generate();
+        second = LabelId.generate();
+    }
+
+    @Test
+    @DisplayName("produce a single LabelsAssignedToTask event")
+    void produceEvent() {
+        CreateBasicTask createTask = createTaskInstance(taskId());
+        AssignLabelsToTask assignLabels =
+                assignLabelsToTaskInstance(taskId(), ImmutableList.of(first, second));
+
+        context().receivesCommand(createTask)
+                 .receivesCommand(assignLabels)
+                 .assertEvents()
+                 .withType(LabelsAssignedToTask.class)
+                 .hasSize(1);
+    }
+
+    @Test
+    @DisplayName("assign all the labels to the task")
+    void assignLabels() {
+        CreateBasicTask createTask = createTaskInstance(taskId());
+        AssignLabelsToTask assignLabels =
+                assignLabelsToTaskInstance(taskId(), ImmutableList.of(first, second));
+
+        TaskView expected = TaskView
+                .newBuilder()
+                .setId(taskId())
+                .setLabelIdsList(labels(first, second))
+                .build();
+        isEqualToExpectedAfterReceiving(expected, createTask, assignLabels);
+    }
+
+    @Test
+    @DisplayName("not assign the same label twice")
+    void skipAssigned() {
+        CreateBasicTask createTask = createTaskInstance(taskId());
+        AssignLabelsToTask assignLabels =
+                assignLabelsToTaskInstance(taskId(), ImmutableList.of(first, second, first));
+
+        TaskView expected = TaskView
+                .newBuilder()
+                .setId(taskId())
+                .setLabelIdsList(labels(first, second))
+                .build();
+        isEqualToExpectedAfterReceiving(expected,
+                                        createTask,
+                                        assignLabelToTaskInstance(taskId(), first),
+                                        assignLabels);
+    }
+
+    @Test
+    @DisplayName("throw CannotAssignLabelsToTask rejection upon an attempt to " +
+            "assign the labels to the deleted task")
+    void cannotAssignToDeletedTask() {
+        CreateBasicTask createTask = createTaskInstance(taskId());
+        DeleteTask deleteTask = deleteTaskInstance(taskId());
+        AssignLabelsToTask assignLabels =
+                assignLabelsToTaskInstance(taskId(), ImmutableList.of(first, second));
+
+        context().receivesCommand(createTask)
+                 .receivesCommand(deleteTask)
+                 .receivesCommand(assignLabels)
+                 .assertEvents()
+                 .withType(Rejections.CannotAssignLabelsToTask.class)
+                 .hasSize(1);
+    }
+
+    private static LabelIdsList labels(LabelId... ids) {
+        return LabelIdsList
+                .newBuilder()
+                .addAllIds(ImmutableList.copyOf(ids))
+                .build();
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2021, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.todolist.server.tasks.task;
+
+import io.spine.examples.todolist.tasks.LabelId;
+import io.spine.examples.todolist.tasks.LabelIdsList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+
+@DisplayName("AssignedLabels should")
+class LabelIndexTest {
+
+    private LabelId first;
+    private AssignedLabels index;
+    private LabelIdsList state;
+
+    @BeforeEach
+    void setUp() {
+        first = LabelId.generate();
+        index = new AssignedLabels();
+        state = LabelIdsList
+                .newBuilder()
+                .addIds(first)
+                .build();
+    }
+
+    @Test
+    @DisplayName("reuse the index for the same list")
+    void reuseForSameList() {
+        LabelIdSet labels = index.of(state);
+
+        assertThat(index.of(state)).isSameInstanceAs(labels);
+    }
+
+    @Test
+    @DisplayName("follow the list through the transactions")
+    void followTransactions() {
+        LabelIdSet labels = index.of(state);
+        LabelId second = LabelId.generate();
+        LabelIdsList.Builder builder = state.toBuilder();
+        index.of(builder)
+             .addTo(builder, second);
+        LabelIdsList committed = builder.build();
+
+        LabelIdsList.Builder next = committed.toBuilder();
+        LabelIdSet nextLabels = index.of(next);
+
+        assertThat(nextLabels).isSameInstanceAs(labels);
+        assertThat(nextLabels.contains(second)).isTrue();
+    }
+
+    @Test
+    @DisplayName("rebuild the index if the changed list is discarded")
+    void rebuildOnRollback() {
+        LabelIdsList.Builder builder = state.toBuilder();
+        LabelId discarded = LabelId.generate();
+        index.of(builder)
+             .addTo(builder, discarded);
+
+        LabelIdSet labels = index.of(state.toBuilder());
+
+        assertThat(labels.contains(discarded)).isFalse();
+        assertThat(labels.contains(first)).isTrue();
+    }
+
+    @Test
+    @DisplayName("rebuild the index for a different state")
+    void rebuildForOtherState() {
+        index.of(state);
+        LabelId other = LabelId.generate();
+        LabelIdsList restored = LabelIdsList
+                .newBuilder()
+                .addIds(other)
+                .build();
+
+        LabelIdSet labels = index.of(restored);
+
+        assertThat(labels.contains(other)).isTrue();
+        assertThat(labels.contains(first)).isFalse();
+    }
+}
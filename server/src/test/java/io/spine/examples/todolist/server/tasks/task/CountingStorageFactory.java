@@ -0,0 +1,103 @@
+/*
+ * Copyright 2021, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.todolist.server.tasks.task;
+
+import io.spine.server.ContextSpec;
+import io.spine.server.aggregate.Aggregate;
+import io.spine.server.aggregate.AggregateStorage;
+import io.spine.server.delivery.CatchUpStorage;
+import io.spine.server.delivery.InboxStorage;
+import io.spine.server.entity.Entity;
+import io.spine.server.projection.CountingProjectionStorage;
+import io.spine.server.projection.Projection;
+import io.spine.server.projection.ProjectionStorage;
+import io.spine.server.storage.RecordStorage;
+import io.spine.server.storage.StorageFactory;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A {@link StorageFactory} which counts the records written to the projection storages.
+ */
+final class CountingStorageFactory implements StorageFactory {
+
+    private final StorageFactory delegate;
+    private final ConcurrentMap<Class<?>, AtomicInteger> writes = new ConcurrentHashMap<>();
+
+    CountingStorageFactory(StorageFactory delegate) {
+        this.delegate = delegate;
+    }
+
+    /**
+     * Returns the number of the records written to the storage of the given projections.
+     */
+    int writes(Class<? extends Projection<?, ?, ?>> projectionClass) {
+        return counter(projectionClass).get();
+    }
+
+    private AtomicInteger counter(Class<?> projectionClass) {
+        return writes.computeIfAbsent(projectionClass, cls -> new AtomicInteger());
+    }
+
+    @Override
+    public <I> AggregateStorage<I>
+    createAggregateStorage(ContextSpec context,
+                           Class<? extends Aggregate<I, ?, ?>> aggregateClass) {
+        return delegate.createAggregateStorage(context, aggregateClass);
+    }
+
+    @Override
+    public <I> RecordStorage<I>
+    createRecordStorage(ContextSpec context, Class<? extends Entity<I, ?>> entityClass) {
+        return delegate.createRecordStorage(context, entityClass);
+    }
+
+    @Override
+    public <I> ProjectionStorage<I>
+    createProjectionStorage(ContextSpec context,
+                            Class<? extends Projection<I, ?, ?>> projectionClass) {
+        ProjectionStorage<I> storage = delegate.createProjectionStorage(context, projectionClass);
+        return new CountingProjectionStorage<>(storage, projectionClass, counter(projectionClass));
+    }
+
+    @Override
+    public InboxStorage createInboxStorage(boolean multitenant) {
+        return delegate.createInboxStorage(multitenant);
+    }
+
+    @Override
+    public CatchUpStorage createCatchUpStorage(boolean multitenant) {
+        return delegate.createCatchUpStorage(multitenant);
+    }
+
+    @Override
+    public void close() throws Exception {
+        delegate.close();
+    }
+}
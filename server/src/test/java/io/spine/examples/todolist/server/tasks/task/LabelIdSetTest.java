@@ -0,0 +1,98 @@
+/*
+ * Copyright 2021, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.todolist.server.tasks.task;
+
+import com.google.common.collect.ImmutableList;
+import io.spine.examples.todolist.tasks.LabelId;
+import io.spine.examples.todolist.tasks.LabelIdsList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+
+@DisplayName("LabelIdSet should")
+class LabelIdSetTest {
+
+    private LabelId first;
+    private LabelId second;
+    private LabelIdsList.Builder list;
+    private LabelIdSet labels;
+
+    @BeforeEach
+    void setUp() {
+        first = LabelId.generate();
+        second = LabelId.generate();
+        list = LabelIdsList
+                .newBuilder()
+                .addIds(first)
+                .addIds(second);
+        labels = LabelIdSet.of(list.getIdsList());
+    }
+
+    @Test
+    @DisplayName("contain the indexed labels")
+    void containIndexed() {
+        assertThat(labels.contains(first)).isTrue();
+        assertThat(labels.contains(second)).isTrue();
+        assertThat(labels.contains(LabelId.generate())).isFalse();
+    }
+
+    @Test
+    @DisplayName("append a new label to the list")
+    void appendNew() {
+        LabelId third = LabelId.generate();
+
+        assertThat(labels.addTo(list, third)).isTrue();
+        assertThat(labels.contains(third)).isTrue();
+        assertThat(list.getIdsList()).containsExactly(first, second, third)
+                                     .inOrder();
+    }
+
+    @Test
+    @DisplayName("not duplicate an assigned label")
+    void notDuplicate() {
+        assertThat(labels.addTo(list, first)).isFalse();
+        assertThat(list.getIdsList()).containsExactly(first, second)
+                                     .inOrder();
+    }
+
+    @Test
+    @DisplayName("remove a label from the list")
+    void removeAssigned() {
+        assertThat(labels.removeFrom(list, first)).isTrue();
+        assertThat(labels.contains(first)).isFalse();
+        assertThat(list.getIdsList()).containsExactly(second);
+    }
+
+    @Test
+    @DisplayName("ignore the removal of a label which is not assigned")
+    void ignoreAbsent() {
+        assertThat(labels.removeFrom(list, LabelId.generate())).isFalse();
+        assertThat(list.getIdsList()).isEqualTo(ImmutableList.of(first, second));
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2021, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.todolist.server.tasks.task;
+
+import io.spine.examples.todolist.tasks.CompleteTaskRejected;
+import io.spine.examples.todolist.tasks.RejectedTaskCommandDetails;
+import io.spine.examples.todolist.tasks.TaskId;
+import io.spine.examples.todolist.tasks.rejection.CannotCompleteTask;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.spine.examples.todolist.server.tasks.task.RejectionMode.FULL;
+import static io.spine.examples.todolist.server.tasks.task.RejectionMode.LIGHTWEIGHT;
+
+@DisplayName("RejectionMode should")
+class RejectionModeTest {
+
+    @Test
+    @DisplayName("keep the stack trace of a rejection in the full mode")
+    void keepStackTrace() {
+        CannotCompleteTask rejection = FULL.prepare(rejection());
+        assertThat(rejection.getStackTrace()).isNotEmpty();
+    }
+
+    @Test
+    @DisplayName("drop the stack trace of a rejection in the lightweight mode")
+    void dropStackTrace() {
+        CannotCompleteTask rejection = LIGHTWEIGHT.prepare(rejection());
+        assertThat(rejection.getStackTrace()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("be obtained by the configuration flag")
+    void byFlag() {
+        assertThat(RejectionMode.of(true)).isEqualTo(LIGHTWEIGHT);
+        assertThat(RejectionMode.of(false)).isEqualTo(FULL);
+    }
+
+    private static CannotCompleteTask rejection() {
+        RejectedTaskCommandDetails commandDetails = RejectedTaskCommandDetails
+                .newBuilder()
+                .setTaskId(TaskId.generate())
+                .build();
+        CompleteTaskRejected details = CompleteTaskRejected
+                .newBuilder()
+                .setCommandDetails(commandDetails)
+                .build();
+        return CannotCompleteTask
+                .newBuilder()
+                .setRejectionDetails(details)
+                .build();
+    }
+}
@@ -39,11 +39,11 @@ import io.spine.examples.todolist.tasks.TaskCreation;
 import io.spine.examples.todolist.tasks.TaskDescription;
 import io.spine.examples.todolist.tasks.TaskPriority;
 import io.spine.examples.todolist.tasks.command.AddLabels;
-import io.spine.examples.todolist.tasks.command.AssignLabelToTask;
+import io.spine.examples.todolist.tasks.command.AssignLabelsToTask;
 import io.spine.examples.todolist.tasks.command.CancelTaskCreation;
 import io.spine.examples.todolist.tasks.command.CompleteTaskCreation;
-import io.spine.examples.todolist.tasks.command.CreateBasicLabel;
 import io.spine.examples.todolist.tasks.command.CreateDraft;
+import io.spine.examples.todolist.tasks.command.CreateLabel;
 import io.spine.examples.todolist.tasks.command.FinalizeDraft;
 import io.spine.examples.todolist.tasks.command.SkipLabels;
 import io.spine.examples.todolist.tasks.command.UpdateLabelDetails;
@@ -275,12 +275,12 @@ class TaskCreationWizardTest {
                     .vBuild();
             context().receivesCommand(cmd);
             CommandSubject assertCommands = context().assertCommands();
-            assertCommands.withType(AssignLabelToTask.class)
-                          .hasSize(3);
-            assertCommands.withType(CreateBasicLabel.class)
+            assertCommands.withType(AssignLabelsToTask.class)
                           .hasSize(1);
-            assertCommands.withType(UpdateLabelDetails.class)
+            assertCommands.withType(CreateLabel.class)
                           .hasSize(1);
+            assertCommands.withType(UpdateLabelDetails.class)
+                          .hasSize(0);
         }
 
         @Test
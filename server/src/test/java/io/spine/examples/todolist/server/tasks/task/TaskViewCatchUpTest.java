@@ -0,0 +1,91 @@
+/*
+ * Copyright 2021, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.todolist.server.tasks.task;
+
+import io.spine.examples.todolist.tasks.view.TaskView;
+import io.spine.server.delivery.CatchUp;
+import io.spine.server.delivery.CatchUpId;
+import io.spine.server.delivery.CatchUpStatus;
+import io.spine.server.delivery.CatchUpStorage;
+import io.spine.server.storage.memory.InMemoryStorageFactory;
+import io.spine.type.TypeUrl;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.spine.base.Identifier.newUuid;
+
+@DisplayName("TaskViewCatchUp should")
+class TaskViewCatchUpTest {
+
+    private final CatchUpStorage storage = InMemoryStorageFactory
+            .newInstance()
+            .createCatchUpStorage(false);
+    private final TaskViewCatchUp catchUp =
+            new TaskViewCatchUp(new TaskViewRepository(), () -> storage);
+
+    @Test
+    @DisplayName("rebuild the task views if no catch-up is recorded")
+    void notRecorded() {
+        assertThat(catchUp.isInProgress())
+                .isFalse();
+    }
+
+    @Test
+    @DisplayName("rebuild the task views once again after a finished catch-up")
+    void finished() {
+        record(CatchUpStatus.COMPLETED);
+
+        assertThat(catchUp.isInProgress())
+                .isFalse();
+    }
+
+    @Test
+    @DisplayName("not start a new catch-up while the previous one is not finished")
+    void unfinished() {
+        record(CatchUpStatus.COMPLETED);
+        record(CatchUpStatus.IN_PROGRESS);
+
+        assertThat(catchUp.isInProgress())
+                .isTrue();
+    }
+
+    private void record(CatchUpStatus status) {
+        CatchUpId id = CatchUpId
+                .newBuilder()
+                .setUuid(newUuid())
+                .setProjectionType(TypeUrl.of(TaskView.class)
+                                          .value())
+                .build();
+        CatchUp record = CatchUp
+                .newBuilder()
+                .setId(id)
+                .setStatus(status)
+                .build();
+        storage.write(id, record);
+    }
+}
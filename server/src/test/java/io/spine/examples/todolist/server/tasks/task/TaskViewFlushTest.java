@@ -0,0 +1,113 @@
+/*
+ * Copyright 2021, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.todolist.server.tasks.task;
+
+import io.spine.base.Tests;
+import io.spine.client.ActorRequestFactory;
+import io.spine.core.CommandMessage;
+import io.spine.core.UserId;
+import io.spine.examples.todolist.server.delivery.ShardedDelivery;
+import io.spine.examples.todolist.server.tasks.TasksContextFactory;
+import io.spine.examples.todolist.tasks.TaskId;
+import io.spine.server.BoundedContext;
+import io.spine.server.CommandService;
+import io.spine.server.ServerEnvironment;
+import io.spine.server.delivery.Delivery;
+import io.spine.server.storage.memory.InMemoryStorageFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.spine.base.Identifier.newUuid;
+import static io.spine.examples.todolist.testdata.TestTaskCommandFactory.createTaskInstance;
+import static io.spine.examples.todolist.testdata.TestTaskCommandFactory.updateTaskDueDateInstance;
+import static io.spine.grpc.StreamObservers.noOpObserver;
+
+@DisplayName("Task views delivered with the flush delay should")
+class TaskViewFlushTest {
+
+    /**
+     * The delay long enough for the test to flush the delivery by itself.
+     */
+    private static final Duration FLUSH_DELAY = Duration.ofMinutes(1);
+
+    private final ActorRequestFactory requestFactory = ActorRequestFactory
+            .newBuilder()
+            .setActor(UserId.newBuilder()
+                            .setValue(newUuid())
+                            .vBuild())
+            .build();
+
+    private CountingStorageFactory storage;
+    private Delivery delivery;
+    private CommandService commandService;
+
+    @BeforeEach
+    void setUp() {
+        storage = new CountingStorageFactory(InMemoryStorageFactory.newInstance());
+        delivery = ShardedDelivery.create(storage, 1, 1, FLUSH_DELAY);
+        ServerEnvironment.when(Tests.class)
+                         .use(storage)
+                         .use(delivery);
+        BoundedContext context = TasksContextFactory.create();
+        commandService = CommandService
+                .newBuilder()
+                .add(context)
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        ShardedDelivery.shutdown(delivery);
+        ServerEnvironment.instance()
+                         .reset();
+    }
+
+    @Test
+    @DisplayName("store a task view once for all the events collected within the delay")
+    void storeOncePerBatch() {
+        TaskId task = TaskId.generate();
+        post(createTaskInstance(task));
+        post(updateTaskDueDateInstance(task));
+        assertThat(storage.writes(TaskViewProjection.class))
+                .isEqualTo(0);
+
+        ShardedDelivery.flush(delivery);
+
+        assertThat(storage.writes(TaskViewProjection.class))
+                .isEqualTo(1);
+    }
+
+    private void post(CommandMessage message) {
+        commandService.post(requestFactory.command()
+                                          .create(message), noOpObserver());
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2021, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.todolist.server.tasks.task;
+
+import io.spine.examples.todolist.server.tasks.TasksContextConfig;
+import io.spine.examples.todolist.server.tasks.TasksContextFactory;
+import io.spine.examples.todolist.tasks.LabelColor;
+import io.spine.examples.todolist.tasks.LabelDetails;
+import io.spine.examples.todolist.tasks.LabelId;
+import io.spine.examples.todolist.tasks.TaskId;
+import io.spine.examples.todolist.tasks.command.CreateBasicLabel;
+import io.spine.examples.todolist.tasks.command.UpdateLabelDetails;
+import io.spine.examples.todolist.tasks.view.LabelView;
+import io.spine.examples.todolist.tasks.view.TaskView;
+import io.spine.server.BoundedContextBuilder;
+import io.spine.testing.server.blackbox.ContextAwareTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.spine.examples.todolist.testdata.TestLabelCommandFactory.createLabelInstance;
+import static io.spine.examples.todolist.testdata.TestLabelCommandFactory.updateLabelDetailsInstance;
+import static io.spine.examples.todolist.testdata.TestTaskCommandFactory.createTaskInstance;
+import static io.spine.examples.todolist.testdata.TestTaskLabelsCommandFactory.assignLabelToTaskInstance;
+import static io.spine.examples.todolist.testdata.TestTaskLabelsCommandFactory.removeLabelFromTaskInstance;
+
+@DisplayName("Task view projection with embedded label details should")
+class TaskViewLabelDetailsTest extends ContextAwareTest {
+
+    private TaskId firstTask;
+    private TaskId secondTask;
+    private CreateBasicLabel createLabel;
+    private LabelId labelId;
+
+    @Override
+    protected BoundedContextBuilder contextBuilder() {
+        TasksContextConfig config = TasksContextConfig
+                .newBuilder()
+                .setEmbedLabelDetails(true)
+                .build();
+        return TasksContextFactory.builder(config);
+    }
+
+    @BeforeEach
+    void setUp() {
+        firstTask = TaskId.generate();
+        secondTask = TaskId.generate();
+        createLabel = createLabelInstance();
+        labelId = createLabel.getLabelId();
+        context().receivesCommand(createTaskInstance(firstTask))
+                 .receivesCommand(createTaskInstance(secondTask))
+                 .receivesCommand(createLabel);
+    }
+
+    @Test
+    @DisplayName("embed the details of an assigned label")
+    void embedAssignedLabel() {
+        context().receivesCommand(assignLabelToTaskInstance(firstTask, labelId));
+
+        LabelView expected = LabelView
+                .newBuilder()
+                .setId(labelId)
+                .setTitle(createLabel.getLabelTitle())
+                .setColor(LabelColor.DEFAULT)
+                .build();
+        assertLabels(firstTask, expected);
+    }
+
+    @Test
+    @DisplayName("update the details of the label in all the tasks with this label")
+    void updateLabelDetails() {
+        LabelDetails createdDetails = LabelDetails
+                .newBuilder()
+                .setTitle(createLabel.getLabelTitle())
+                .setColor(LabelColor.DEFAULT)
+                .build();
+        LabelDetails newDetails = LabelDetails
+                .newBuilder()
+                .setTitle("Updated title")
+                .setColor(LabelColor.GREEN)
+                .build();
+        UpdateLabelDetails updateDetails =
+                updateLabelDetailsInstance(labelId, createdDetails, newDetails);
+        context().receivesCommand(assignLabelToTaskInstance(firstTask, labelId))
+                 .receivesCommand(assignLabelToTaskInstance(secondTask, labelId))
+                 .receivesCommand(updateDetails);
+
+        LabelView expected = LabelView
+                .newBuilder()
+                .setId(labelId)
+                .setTitle(newDetails.getTitle())
+                .setColor(newDetails.getColor())
+                .build();
+        assertLabels(firstTask, expected);
+        assertLabels(secondTask, expected);
+    }
+
+    @Test
+    @DisplayName("remove the details of a removed label")
+    void removeLabel() {
+        context().receivesCommand(assignLabelToTaskInstance(firstTask, labelId))
+                 .receivesCommand(removeLabelFromTaskInstance(firstTask, labelId));
+
+        assertLabels(firstTask);
+    }
+
+    private void assertLabels(TaskId task, LabelView... expected) {
+        TaskView view = (TaskView) context().assertEntity(task, TaskViewProjection.class)
+                                            .actual()
+                                            .state();
+        assertThat(view.getLabelList())
+                .containsExactlyElementsIn(expected);
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2021, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.todolist.server.trace;
+
+import com.google.common.collect.ImmutableList;
+import com.google.protobuf.Struct;
+import com.google.protobuf.Value;
+import com.google.protobuf.util.JsonFormat;
+import io.spine.base.Identifier;
+import io.spine.core.MessageId;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+
+import static com.google.common.truth.Truth.assertThat;
+
+@DisplayName("OtlpJson should")
+class OtlpJsonTest {
+
+    private static final long EPOCH_OFFSET_NANOS = 1_000;
+
+    @Test
+    @DisplayName("write a span of the signal and a span of each receiver")
+    void writeSpans() throws IOException {
+        Span span = span("TaskView");
+
+        List<Value> spans = spans(write(span));
+
+        assertThat(spans)
+                .hasSize(2);
+        Struct receiverSpan = spans.get(1)
+                                   .getStructValue();
+        assertThat(receiverSpan.getFieldsOrThrow("name")
+                               .getStringValue())
+                .isEqualTo("TaskView handles TaskCreated");
+        assertThat(receiverSpan.getFieldsOrThrow("parentSpanId"))
+                .isEqualTo(spans.get(0)
+                                .getStructValue()
+                                .getFieldsOrThrow("spanId"));
+        assertThat(receiverSpan.getFieldsOrThrow("startTimeUnixNano")
+                               .getStringValue())
+                .isEqualTo(String.valueOf(10 + EPOCH_OFFSET_NANOS));
+    }
+
+    @Test
+    @DisplayName("escape the quotes, the backslashes and the control characters")
+    void escape() throws IOException {
+        String receiverType = "Task\"View\\\n\r\t\b\f" + (char) 0x01 + (char) 0x1f;
+        Span span = span(receiverType);
+
+        String json = write(span);
+
+        assertThat(json.chars()
+                       .noneMatch(c -> c < 0x20))
+                .isTrue();
+        assertThat(json)
+                .contains("\\u0001");
+        assertThat(json)
+                .contains("\\u001f");
+        Struct receiverSpan = spans(json).get(1)
+                                         .getStructValue();
+        assertThat(receiverSpan.getFieldsOrThrow("name")
+                               .getStringValue())
+                .isEqualTo(receiverType + " handles TaskCreated");
+    }
+
+    private static String write(Span span) throws IOException {
+        StringBuilder out = new StringBuilder();
+        new OtlpJson(EPOCH_OFFSET_NANOS).write(ImmutableList.of(span), out);
+        return out.toString();
+    }
+
+    private static List<Value> spans(String json) throws IOException {
+        Struct.Builder root = Struct.newBuilder();
+        JsonFormat.parser()
+                  .merge(json, root);
+        Struct resourceSpans = first(root.getFieldsOrThrow("resourceSpans"));
+        Struct scopeSpans = first(resourceSpans.getFieldsOrThrow("scopeSpans"));
+        return scopeSpans.getFieldsOrThrow("spans")
+                         .getListValue()
+                         .getValuesList();
+    }
+
+    private static Struct first(Value list) {
+        return list.getListValue()
+                   .getValues(0)
+                   .getStructValue();
+    }
+
+    private static Span span(String receiverType) {
+        MessageId id = MessageId
+                .newBuilder()
+                .setId(Identifier.pack(Identifier.newUuid()))
+                .build();
+        return new Span("Tasks", id, "TaskCreated", null, id, id, receiverType, 10, 20);
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2021, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.todolist.server.trace;
+
+import io.spine.base.Identifier;
+import io.spine.core.MessageId;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("SpanBuffer should")
+class SpanBufferTest {
+
+    @Test
+    @DisplayName("return the spans in the recording order")
+    void keepOrder() {
+        SpanBuffer buffer = new SpanBuffer(3);
+        Span first = span(1);
+        Span second = span(2);
+        buffer.add(first);
+        buffer.add(second);
+        assertThat(buffer.snapshot())
+                .containsExactly(first, second)
+                .inOrder();
+    }
+
+    @Test
+    @DisplayName("overwrite the oldest spans once full")
+    void overwriteOldest() {
+        SpanBuffer buffer = new SpanBuffer(2);
+        Span first = span(1);
+        Span second = span(2);
+        Span third = span(3);
+        buffer.add(first);
+        buffer.add(second);
+        buffer.add(third);
+        assertThat(buffer.snapshot())
+                .containsExactly(second, third)
+                .inOrder();
+    }
+
+    @Test
+    @DisplayName("not accept a non-positive capacity")
+    void nonPositiveCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new SpanBuffer(0));
+    }
+
+    private static Span span(long nanos) {
+        MessageId id = MessageId
+                .newBuilder()
+                .setId(Identifier.pack(Identifier.newUuid()))
+                .build();
+        return new Span("Tasks", id, "TaskCreated", null, id, id, "TaskView", nanos, nanos);
+    }
+}
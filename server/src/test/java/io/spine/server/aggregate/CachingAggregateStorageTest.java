@@ -0,0 +1,239 @@
+/*
+ * Copyright 2021, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.aggregate;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.protobuf.Timestamp;
+import com.google.protobuf.util.Timestamps;
+import io.spine.core.Event;
+import io.spine.core.EventContext;
+import io.spine.core.EventId;
+import io.spine.core.Version;
+import io.spine.examples.todolist.tasks.LabelId;
+import io.spine.examples.todolist.tasks.TaskLabel;
+import io.spine.server.ContextSpec;
+import io.spine.server.aggregate.CachingAggregateStorage.CacheKey;
+import io.spine.server.storage.memory.InMemoryStorageFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collection;
+import java.util.Optional;
+
+import static com.google.common.collect.Iterables.getOnlyElement;
+import static com.google.common.truth.Truth.assertThat;
+import static com.google.common.truth.Truth8.assertThat;
+import static io.spine.protobuf.AnyPacker.pack;
+
+@DisplayName("CachingAggregateStorage should")
+class CachingAggregateStorageTest {
+
+    private static final int BATCH_SIZE = 10;
+
+    private final LabelId id = LabelId.generate();
+    private Cache<CacheKey, AggregateHistory> cache;
+    private CachingAggregateStorage<LabelId> storage;
+
+    @BeforeEach
+    void setUp() {
+        cache = CacheBuilder
+                .newBuilder()
+                .recordStats()
+                .build();
+        AggregateStorage<LabelId> delegate = InMemoryStorageFactory
+                .newInstance()
+                .createAggregateStorage(ContextSpec.singleTenant("Tests"), TestAggregate.class);
+        storage = new CachingAggregateStorage<>(delegate, TestAggregate.class, cache);
+    }
+
+    @Test
+    @DisplayName("read the cached history")
+    void hit() {
+        storage.writeRecord(id, eventRecord(1));
+
+        Optional<AggregateHistory> missed = read();
+        Optional<AggregateHistory> hit = read();
+
+        assertThat(cache.stats()
+                        .missCount())
+                .isEqualTo(1);
+        assertThat(cache.stats()
+                        .hitCount())
+                .isEqualTo(1);
+        assertThat(hit)
+                .isEqualTo(missed);
+    }
+
+    @Test
+    @DisplayName("append the records of the consecutive versions to the cached history")
+    void appendConsecutive() {
+        storage.writeRecord(id, eventRecord(1));
+        read();
+        storage.writeRecord(id, eventRecord(2));
+        storage.writeRecord(id, eventRecord(3));
+
+        assertThat(cachedHistory().getEventList())
+                .containsExactly(event(1), event(2), event(3))
+                .inOrder();
+        assertThat(read().get()
+                         .getEventList())
+                .containsExactly(event(1), event(2), event(3))
+                .inOrder();
+    }
+
+    @Test
+    @DisplayName("discard the cached history if a version is skipped")
+    void invalidateOnGap() {
+        storage.writeRecord(id, eventRecord(1));
+        read();
+        storage.writeRecord(id, eventRecord(3));
+
+        assertThat(cachedHistories())
+                .isEmpty();
+    }
+
+    @Test
+    @DisplayName("start the cached history from a written snapshot")
+    void resetOnSnapshot() {
+        storage.writeRecord(id, eventRecord(1));
+        read();
+        Snapshot snapshot = snapshot(2);
+        storage.writeRecord(id, snapshotRecord(snapshot));
+
+        AggregateHistory cached = cachedHistory();
+        assertThat(cached.getSnapshot())
+                .isEqualTo(snapshot);
+        assertThat(cached.getEventList())
+                .isEmpty();
+
+        storage.writeRecord(id, eventRecord(3));
+        assertThat(cachedHistory().getEventList())
+                .containsExactly(event(3));
+    }
+
+    @Test
+    @DisplayName("discard the cached histories when truncated")
+    void invalidateOnTruncate() {
+        storage.writeRecord(id, eventRecord(1));
+        read();
+
+        storage.truncate(0);
+
+        assertThat(cachedHistories())
+                .isEmpty();
+    }
+
+    private Optional<AggregateHistory> read() {
+        return storage.read(new AggregateReadRequest<>(id, BATCH_SIZE));
+    }
+
+    private Collection<AggregateHistory> cachedHistories() {
+        return cache.asMap()
+                    .values();
+    }
+
+    private AggregateHistory cachedHistory() {
+        return getOnlyElement(cachedHistories());
+    }
+
+    private static AggregateEventRecord eventRecord(int version) {
+        AggregateEventRecord result = AggregateEventRecord
+                .newBuilder()
+                .setTimestamp(time(version))
+                .setEvent(event(version))
+                .build();
+        return result;
+    }
+
+    private static AggregateEventRecord snapshotRecord(Snapshot snapshot) {
+        AggregateEventRecord result = AggregateEventRecord
+                .newBuilder()
+                .setTimestamp(snapshot.getTimestamp())
+                .setSnapshot(snapshot)
+                .build();
+        return result;
+    }
+
+    /**
+     * Creates an event of the given version with the same ID for the same version.
+     */
+    private static Event event(int version) {
+        Timestamp time = time(version);
+        EventId id = EventId
+                .newBuilder()
+                .setValue("event-" + version)
+                .build();
+        EventContext context = EventContext
+                .newBuilder()
+                .setTimestamp(time)
+                .setVersion(version(version))
+                .build();
+        Event result = Event
+                .newBuilder()
+                .setId(id)
+                .setMessage(pack(time))
+                .setContext(context)
+                .build();
+        return result;
+    }
+
+    private static Snapshot snapshot(int version) {
+        Snapshot result = Snapshot
+                .newBuilder()
+                .setState(pack(TaskLabel.getDefaultInstance()))
+                .setVersion(version(version))
+                .setTimestamp(time(version))
+                .build();
+        return result;
+    }
+
+    private static Version version(int number) {
+        Version result = Version
+                .newBuilder()
+                .setNumber(number)
+                .setTimestamp(time(number))
+                .build();
+        return result;
+    }
+
+    private static Timestamp time(int version) {
+        return Timestamps.fromSeconds(version);
+    }
+
+    /**
+     * The aggregate whose histories are stored in the tests.
+     */
+    private static final class TestAggregate
+            extends Aggregate<LabelId, TaskLabel, TaskLabel.Builder> {
+
+        private TestAggregate(LabelId id) {
+            super(id);
+        }
+    }
+}
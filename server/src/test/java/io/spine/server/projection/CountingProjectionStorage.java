@@ -0,0 +1,97 @@
+/*
+ * Copyright 2021, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.server.projection;
+
+import com.google.protobuf.Timestamp;
+import io.spine.server.entity.storage.EntityRecordWithColumns;
+import io.spine.server.storage.RecordStorage;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * A {@link ProjectionStorage} which counts the records written to the wrapped storage.
+ *
+ * <p>The class resides in the framework package to delegate to the protected API of
+ * the wrapped storage.
+ *
+ * @param <I>
+ *         the type of the projection IDs
+ */
+public final class CountingProjectionStorage<I> extends ProjectionStorage<I> {
+
+    private final ProjectionStorage<I> delegate;
+    private final AtomicInteger writes;
+
+    /**
+     * Creates a new storage.
+     *
+     * @param delegate
+     *         the storage which stores the projections
+     * @param projectionClass
+     *         the class of the stored projections
+     * @param writes
+     *         the counter of the written records
+     */
+    public CountingProjectionStorage(ProjectionStorage<I> delegate,
+                                     Class<? extends Projection<I, ?, ?>> projectionClass,
+                                     AtomicInteger writes) {
+        super(projectionClass, delegate.isMultitenant());
+        this.delegate = checkNotNull(delegate);
+        this.writes = checkNotNull(writes);
+    }
+
+    @Override
+    protected void writeRecord(I id, EntityRecordWithColumns record) {
+        writes.incrementAndGet();
+        super.writeRecord(id, record);
+    }
+
+    @Override
+    protected void writeRecords(Map<I, EntityRecordWithColumns> records) {
+        writes.addAndGet(records.size());
+        super.writeRecords(records);
+    }
+
+    @Override
+    public void writeLastHandledEventTime(Timestamp time) {
+        delegate.writeLastHandledEventTime(time);
+    }
+
+    @Override
+    public @Nullable Timestamp readLastHandledEventTime() {
+        return delegate.readLastHandledEventTime();
+    }
+
+    @Override
+    protected RecordStorage<I> recordStorage() {
+        return delegate.recordStorage();
+    }
+}
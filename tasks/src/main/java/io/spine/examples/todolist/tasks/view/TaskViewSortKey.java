@@ -0,0 +1,83 @@
+/*
+ * Copyright 2021, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.examples.todolist.tasks.view;
+
+import com.google.protobuf.Timestamp;
+import io.spine.examples.todolist.tasks.TaskId;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.lang.String.format;
+import static java.util.Locale.ROOT;
+
+/**
+ * The key ordering the {@linkplain TaskView task views} by the due date and then by the ID.
+ *
+ * <p>The storage orders the task views by a single column, so the key packs both values into
+ * a string which sorts lexicographically in the same order. The key of a task view is stored as
+ * the {@code sortKey} column, and a client pages through the task views starting after the key of
+ * the last returned one.
+ */
+public final class TaskViewSortKey {
+
+    /**
+     * The name of the entity column storing the key.
+     */
+    public static final String COLUMN = "sortKey";
+
+    /**
+     * Shifts the seconds of the earliest valid {@code Timestamp} to zero.
+     */
+    private static final long SECONDS_OFFSET = 62_135_596_800L;
+
+    /** Prevents instantiation of this utility class. */
+    private TaskViewSortKey() {
+    }
+
+    /**
+     * Creates the sort key of a task view.
+     *
+     * @param dueDate
+     *         the due date of the task, which may be unset
+     * @param id
+     *         the ID of the task
+     * @return the key which orders the task views by the due date and then by the ID
+     */
+    public static String of(Timestamp dueDate, TaskId id) {
+        checkNotNull(dueDate);
+        checkNotNull(id);
+        return format(ROOT, "%012d.%09d/%s",
+                      dueDate.getSeconds() + SECONDS_OFFSET, dueDate.getNanos(), id.getUuid());
+    }
+
+    /**
+     * Creates the sort key of the given task view.
+     */
+    public static String of(TaskView view) {
+        checkNotNull(view);
+        return of(view.getDueDate(), view.getId());
+    }
+}
@@ -29,6 +29,7 @@ package io.spine.examples.todolist.testdata;
 import io.spine.examples.todolist.tasks.LabelId;
 import io.spine.examples.todolist.tasks.TaskId;
 import io.spine.examples.todolist.tasks.command.AssignLabelToTask;
+import io.spine.examples.todolist.tasks.command.AssignLabelsToTask;
 import io.spine.examples.todolist.tasks.command.RemoveLabelFromTask;
 
 import static io.spine.examples.todolist.testdata.TestTaskCommandFactory.LABEL_ID;
@@ -66,6 +67,21 @@ public final class TestTaskLabelsCommandFactory {
         return result;
     }
 
+    /**
+     * Provides a pre-configured {@link AssignLabelsToTask} command instance.
+     *
+     * @return the {@code AssignLabelsToTask} instance
+     */
+    public static AssignLabelsToTask assignLabelsToTaskInstance(TaskId taskId,
+                                                                Iterable<LabelId> labelIds) {
+        AssignLabelsToTask result = AssignLabelsToTask
+                .newBuilder()
+                .setId(taskId)
+                .addAllLabelId(labelIds)
+                .vBuild();
+        return result;
+    }
+
     /**
      * Provides a pre-configured {@link RemoveLabelFromTask} command instance.
      *